@@ -1,20 +1,84 @@
 package com.library.manager.application.ports.driven;
 
 import com.library.manager.domain.Book;
+import com.library.manager.domain.valueobjects.BookChangeCursor;
+import com.library.manager.domain.valueobjects.BookFacets;
 import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.BookSuggestionField;
+import com.library.manager.domain.valueobjects.BookVersion;
 import com.library.manager.domain.valueobjects.PaginatedResult;
 import com.library.manager.domain.valueobjects.PaginationQuery;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface BookRepositoryPort {
 
     Book save(Book Book);
 
+    /**
+     * Inserts all books in as few round trips as possible.
+     *
+     * @return the inserted books with their generated IDs
+     */
+    List<Book> saveAll(List<Book> books);
+
+    /**
+     * Overwrites the editable fields and {@code updatedAt} of a book in a single statement, keeping its active flag
+     * and creation date.
+     *
+     * @return the book as stored, or empty when no book has the given ID
+     */
+    Optional<Book> update(Book book);
+
+    /**
+     * Marks the book as inactive in a single statement.
+     *
+     * @return {@code false} when no book has the given ID
+     */
+    boolean deactivate(Long bookId, LocalDateTime updatedAt);
+
     Optional<Book> findById(Long bookId);
 
     Optional<Book> findActiveById(Long bookId);
 
+    /**
+     * Loads the active books among {@code bookIds} with a single query, in no particular order.
+     */
+    List<Book> findActiveByIds(Collection<Long> bookIds);
+
+    /**
+     * Version of the book collection as a whole, changed after every committed write. Answered without querying.
+     */
+    BookVersion getCollectionVersion();
+
     PaginatedResult<Book> findAllWithFilters(BookFilter filter, PaginationQuery paginationQuery);
 
+    /**
+     * Counts the books matching the filter per genre and per publication decade with a single grouped query.
+     */
+    BookFacets countFacets(BookFilter filter);
+
+    /**
+     * Values of the field among active books that start with {@code prefix}, ignoring case and accents, most frequent
+     * first. Answered from memory, without querying.
+     */
+    List<BookSuggestion> suggest(BookSuggestionField field, String prefix, int limit);
+
+    /**
+     * Hands every book matching the filter to {@code action}, ordered by ID, reading them from a forward-only cursor
+     * so that memory use does not grow with the number of books.
+     */
+    void forEachWithFilters(BookFilter filter, Consumer<Book> action);
+
+    /**
+     * Books changed after {@code cursor} (from the start when null) and no later than {@code until}, active or not,
+     * ordered by {@code updatedAt} and ID. At most {@code limit} books are returned.
+     */
+    List<Book> findChangedAfter(BookChangeCursor cursor, LocalDateTime until, int limit);
+
 }
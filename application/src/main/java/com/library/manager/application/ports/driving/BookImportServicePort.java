@@ -0,0 +1,14 @@
+package com.library.manager.application.ports.driving;
+
+import com.library.manager.domain.valueobjects.BookImportResult;
+import com.library.manager.domain.valueobjects.BookImportRow;
+
+import java.util.stream.Stream;
+
+public interface BookImportServicePort {
+
+    /**
+     * Inserts the valid rows in batches as they are consumed from the stream and reports the rejected ones.
+     */
+    BookImportResult importBooks(Stream<BookImportRow> rows);
+}
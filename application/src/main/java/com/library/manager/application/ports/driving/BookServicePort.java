@@ -1,19 +1,40 @@
 package com.library.manager.application.ports.driving;
 
 import com.library.manager.domain.Book;
+import com.library.manager.domain.valueobjects.BookChangePage;
+import com.library.manager.domain.valueobjects.BookFacets;
 import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookLookupResult;
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.BookSuggestionField;
+import com.library.manager.domain.valueobjects.BookVersion;
 import com.library.manager.domain.valueobjects.PaginatedResult;
 import com.library.manager.domain.valueobjects.PaginationQuery;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface BookServicePort {
 
     Book save(Book book);
 
     Book findActiveById(Long bookId);
 
+    BookLookupResult findActiveByIds(List<Long> bookIds);
+
+    BookVersion getCollectionVersion();
+
     Book update(Book book);
 
     void deactivate(Long bookId);
 
     PaginatedResult<Book> getAllWithFilters(BookFilter filter, PaginationQuery paginationQuery);
+
+    BookFacets getFacets(BookFilter filter);
+
+    List<BookSuggestion> suggest(BookSuggestionField field, String prefix, int limit);
+
+    void exportWithFilters(BookFilter filter, Consumer<Book> action);
+
+    BookChangePage getChanges(String after, int limit);
 }
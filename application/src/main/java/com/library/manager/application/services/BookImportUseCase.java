@@ -0,0 +1,121 @@
+package com.library.manager.application.services;
+
+import com.library.manager.application.ports.driven.BookRepositoryPort;
+import com.library.manager.application.ports.driving.BookImportServicePort;
+import com.library.manager.domain.Book;
+import com.library.manager.domain.events.BookImportEvent;
+import com.library.manager.domain.valueobjects.BookImportError;
+import com.library.manager.domain.valueobjects.BookImportResult;
+import com.library.manager.domain.valueobjects.BookImportRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Imports books in batches. Once the import has stored at least one book, a {@link BookImportEvent} is published
+ * instead of one event per book.
+ */
+@Slf4j
+public class BookImportUseCase implements BookImportServicePort {
+
+    private final BookRepositoryPort bookRepositoryPort;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int batchSize;
+
+    public BookImportUseCase(BookRepositoryPort bookRepositoryPort, ApplicationEventPublisher eventPublisher,
+                             int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Import batch size must be at least 1.");
+        }
+        this.bookRepositoryPort = bookRepositoryPort;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public BookImportResult importBooks(Stream<BookImportRow> rows) {
+        Progress progress = new Progress();
+        List<BookImportRow> batch = new ArrayList<>(batchSize);
+
+        Iterator<BookImportRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            BookImportRow row = iterator.next();
+            progress.processed++;
+
+            if (!row.isValid()) {
+                progress.reject(row.row(), row.error());
+                continue;
+            }
+
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                insert(batch, progress);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch, progress);
+        }
+        if (progress.imported > 0) {
+            eventPublisher.publishEvent(new BookImportEvent(progress.imported, Book.now()));
+        }
+
+        return new BookImportResult(progress.processed, progress.imported, progress.failed, progress.errors);
+    }
+
+    /**
+     * Inserts the batch in one go; if the database rejects it, retries row by row to find the offending rows.
+     */
+    private void insert(List<BookImportRow> batch, Progress progress) {
+        LocalDateTime now = Book.now();
+        List<Book> books = batch.stream().map(row -> prepare(row.book(), now)).toList();
+
+        try {
+            progress.imported += bookRepositoryPort.saveAll(books).size();
+            return;
+        } catch (RuntimeException ex) {
+            log.warn("Import batch of {} rows failed, retrying row by row: {}", batch.size(), ex.getMessage());
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                progress.imported += bookRepositoryPort.saveAll(List.of(books.get(i))).size();
+            } catch (RuntimeException ex) {
+                progress.reject(batch.get(i).row(), ex.getMessage());
+            }
+        }
+    }
+
+    private static Book prepare(Book book, LocalDateTime now) {
+        book.setId(null);
+        book.setActive(true);
+        book.setCreatedAt(now);
+        book.setUpdatedAt(now);
+        return book;
+    }
+
+    private static final class Progress {
+
+        private long processed;
+
+        private long imported;
+
+        private long failed;
+
+        private final List<BookImportError> errors = new ArrayList<>();
+
+        private void reject(long row, String message) {
+            failed++;
+            if (errors.size() < BookImportResult.MAX_REPORTED_ERRORS) {
+                errors.add(new BookImportError(row, message));
+            }
+        }
+    }
+}
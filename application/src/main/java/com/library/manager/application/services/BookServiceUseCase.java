@@ -4,28 +4,70 @@ import com.library.manager.application.exceptions.BookNotFoundException;
 import com.library.manager.application.ports.driven.BookRepositoryPort;
 import com.library.manager.application.ports.driving.BookServicePort;
 import com.library.manager.domain.Book;
+import com.library.manager.domain.events.BookEvent;
+import com.library.manager.domain.valueobjects.BookChange;
+import com.library.manager.domain.valueobjects.BookChangeCursor;
+import com.library.manager.domain.valueobjects.BookChangePage;
+import com.library.manager.domain.valueobjects.BookFacets;
 import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookLookupResult;
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.BookSuggestionField;
+import com.library.manager.domain.valueobjects.BookVersion;
 import com.library.manager.domain.valueobjects.PaginatedResult;
 import com.library.manager.domain.valueobjects.PaginationQuery;
 import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Service;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-
-@Service
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Book use cases. Every successful write is published as a {@link BookEvent} after the repository call has returned,
+ * that is, once the change has been committed. Caching is added around it by the boot module.
+ */
 @RequiredArgsConstructor
 public class BookServiceUseCase implements BookServicePort {
 
+    /**
+     * Largest number of distinct IDs resolved by one {@link #findActiveByIds} call, keeping the IN list bounded.
+     */
+    public static final int MAX_LOOKUP_IDS = 200;
+
+    /**
+     * Largest page of the change feed.
+     */
+    public static final int MAX_CHANGES_PAGE_SIZE = 1000;
+
+    /**
+     * Changes younger than this are held back from the feed. {@code updatedAt} is set before the write commits, so a
+     * slow transaction could otherwise commit a change older than a cursor already handed out, and it would be missed.
+     */
+    public static final Duration CHANGES_SETTLE_WINDOW = Duration.ofSeconds(5);
+
     private final BookRepositoryPort bookRepositoryPort;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     public Book save(Book book) {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = Book.now();
         book.setActive(true);
         book.setCreatedAt(now);
         book.setUpdatedAt(now);
 
-        return bookRepositoryPort.save(book);
+        Book saved = bookRepositoryPort.save(book);
+        eventPublisher.publishEvent(BookEvent.created(saved));
+
+        return saved;
     }
 
     @Override
@@ -36,27 +78,60 @@ public class BookServiceUseCase implements BookServicePort {
                 .orElseThrow(() -> new BookNotFoundException(bookId));
     }
 
+    @Override
+    public BookLookupResult findActiveByIds(List<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one book ID is required");
+        }
+        bookIds.forEach(this::validateId);
+
+        Set<Long> requestedIds = new LinkedHashSet<>(bookIds);
+        if (requestedIds.size() > MAX_LOOKUP_IDS) {
+            throw new IllegalArgumentException("Cannot look up more than " + MAX_LOOKUP_IDS + " books at once");
+        }
+
+        Map<Long, Book> booksById = bookRepositoryPort.findActiveByIds(requestedIds).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        List<Book> books = new ArrayList<>(booksById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long bookId : requestedIds) {
+            Book book = booksById.get(bookId);
+            if (book != null) {
+                books.add(book);
+            } else {
+                missingIds.add(bookId);
+            }
+        }
+        return new BookLookupResult(books, missingIds);
+    }
+
+    @Override
+    public BookVersion getCollectionVersion() {
+        return bookRepositoryPort.getCollectionVersion();
+    }
+
     @Override
     public Book update(Book book) {
         validateId(book.getId());
-        Book bookOld = getBookIfExist(book.getId());
+        book.setUpdatedAt(Book.now());
 
-        book.setActive(bookOld.getActive());
-        book.setCreatedAt(bookOld.getCreatedAt());
-        book.setUpdatedAt(LocalDateTime.now());
+        Book updated = bookRepositoryPort.update(book)
+                .orElseThrow(() -> new BookNotFoundException(book.getId()));
+        eventPublisher.publishEvent(BookEvent.updated(updated));
 
-        return bookRepositoryPort.save(book);
+        return updated;
     }
 
     @Override
     public void deactivate(Long bookId) {
         validateId(bookId);
-        Book book = getBookIfExist(bookId);
 
-        book.setActive(false);
-        book.setUpdatedAt(LocalDateTime.now());
-
-        bookRepositoryPort.save(book);
+        LocalDateTime now = Book.now();
+        if (!bookRepositoryPort.deactivate(bookId, now)) {
+            throw new BookNotFoundException(bookId);
+        }
+        eventPublisher.publishEvent(BookEvent.deactivated(bookId, now));
     }
 
     @Override
@@ -64,14 +139,60 @@ public class BookServiceUseCase implements BookServicePort {
         return bookRepositoryPort.findAllWithFilters(filter, paginationQuery);
     }
 
+    @Override
+    public BookFacets getFacets(BookFilter filter) {
+        return bookRepositoryPort.countFacets(filter);
+    }
+
+    /**
+     * A blank prefix suggests nothing.
+     */
+    @Override
+    public List<BookSuggestion> suggest(BookSuggestionField field, String prefix, int limit) {
+        if (field == null) {
+            throw new IllegalArgumentException("Suggestion field cannot be null");
+        }
+        if (limit < 1 || limit > BookSuggestion.MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Suggestion limit must be between 1 and " + BookSuggestion.MAX_SUGGESTIONS);
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+
+        return bookRepositoryPort.suggest(field, prefix, limit);
+    }
+
+    @Override
+    public void exportWithFilters(BookFilter filter, Consumer<Book> action) {
+        bookRepositoryPort.forEachWithFilters(filter, action);
+    }
+
+    @Override
+    public BookChangePage getChanges(String after, int limit) {
+        if (limit < 1 || limit > MAX_CHANGES_PAGE_SIZE) {
+            throw new IllegalArgumentException("Change page size must be between 1 and " + MAX_CHANGES_PAGE_SIZE);
+        }
+
+        BookChangeCursor cursor = after == null ? null : BookChangeCursor.decode(after);
+        LocalDateTime until = Book.now().minus(CHANGES_SETTLE_WINDOW);
+
+        // One extra row tells whether there is more to read
+        List<Book> books = bookRepositoryPort.findChangedAfter(cursor, until, limit + 1);
+        boolean hasMore = books.size() > limit;
+        List<Book> page = hasMore ? books.subList(0, limit) : books;
+
+        String nextCursor = after;
+        if (!page.isEmpty()) {
+            Book last = page.get(page.size() - 1);
+            nextCursor = new BookChangeCursor(last.getUpdatedAt(), last.getId()).encode();
+        }
+
+        return new BookChangePage(page.stream().map(BookChange::of).toList(), nextCursor, hasMore);
+    }
+
     private void validateId(Long bookId) {
         if (bookId == null) {
             throw new IllegalArgumentException("Book ID cannot be null");
         }
     }
-
-    private Book getBookIfExist(Long bookId){
-        return bookRepositoryPort.findById(bookId)
-                .orElseThrow(() -> new BookNotFoundException(bookId));
-    }
 }
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Data
 @NoArgsConstructor
@@ -31,4 +32,12 @@ public class Book {
 
     private Boolean active;
 
+    /**
+     * The current time at the precision {@code createdAt} and {@code updatedAt} are stored with (microseconds), so
+     * the value sent in a response or an event is the one read back later.
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
 }
@@ -0,0 +1,30 @@
+package com.library.manager.domain.events;
+
+import com.library.manager.domain.Book;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by the book use case once a write has been stored. Created and updated events carry the book as stored;
+ * a deactivation only carries its ID.
+ */
+public record BookEvent(Type type, Long bookId, LocalDateTime occurredAt, Book book) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DEACTIVATED
+    }
+
+    public static BookEvent created(Book book) {
+        return new BookEvent(Type.CREATED, book.getId(), book.getUpdatedAt(), book);
+    }
+
+    public static BookEvent updated(Book book) {
+        return new BookEvent(Type.UPDATED, book.getId(), book.getUpdatedAt(), book);
+    }
+
+    public static BookEvent deactivated(Long bookId, LocalDateTime deactivatedAt) {
+        return new BookEvent(Type.DEACTIVATED, bookId, deactivatedAt, null);
+    }
+}
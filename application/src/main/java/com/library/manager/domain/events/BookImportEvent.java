@@ -0,0 +1,11 @@
+package com.library.manager.domain.events;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by the import use case once an import has stored at least one book. The imported books are not published
+ * one by one: an import can hold far more books than a subscriber would keep up with, so listeners resynchronize
+ * instead.
+ */
+public record BookImportEvent(long imported, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,22 @@
+package com.library.manager.domain.valueobjects;
+
+import com.library.manager.domain.Book;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the change feed: the current state of a book that was created or updated, or a tombstone (no book)
+ * for one that was deactivated since the client last synced.
+ */
+public record BookChange(Long bookId, LocalDateTime changedAt, Book book) {
+
+    public static BookChange of(Book book) {
+        return Boolean.TRUE.equals(book.getActive())
+                ? new BookChange(book.getId(), book.getUpdatedAt(), book)
+                : new BookChange(book.getId(), book.getUpdatedAt(), null);
+    }
+
+    public boolean isTombstone() {
+        return book == null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.library.manager.domain.valueobjects;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the change feed: the {@code updatedAt} and ID of the last change handed out. Changes are read in that
+ * order, so the next page starts strictly after it. Clients only see the opaque token produced by {@link #encode()}.
+ */
+public record BookChangeCursor(LocalDateTime updatedAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public BookChangeCursor {
+        if (updatedAt == null || id == null) {
+            throw new IllegalArgumentException("Change cursor needs both an update time and an ID");
+        }
+    }
+
+    public String encode() {
+        String raw = updatedAt + SEPARATOR + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookChangeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 2);
+
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed change cursor");
+            }
+
+            return new BookChangeCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid change cursor: " + token, ex);
+        }
+    }
+}
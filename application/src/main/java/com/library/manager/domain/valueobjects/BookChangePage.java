@@ -0,0 +1,14 @@
+package com.library.manager.domain.valueobjects;
+
+import java.util.List;
+
+/**
+ * A page of the change feed in {@code updatedAt} order. {@code nextCursor} resumes right after the last change and is
+ * returned even when the page is empty, so a client can keep polling with the last cursor it received.
+ */
+public record BookChangePage(List<BookChange> changes, String nextCursor, boolean hasMore) {
+
+    public BookChangePage {
+        changes = List.copyOf(changes);
+    }
+}
@@ -0,0 +1,55 @@
+package com.library.manager.domain.valueobjects;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page, used to request the next one with a keyset (seek) query.
+ * Clients only see the opaque token produced by {@link #encode()}.
+ */
+public record BookCursor(String sortBy, String sortDirection, Long id, String sortValue) {
+
+    private static final String SEPARATOR = "|";
+    private static final String NULL_MARKER = "~";
+    private static final String VALUE_MARKER = "=";
+
+    public BookCursor {
+        if (sortBy == null || sortBy.isBlank()) {
+            throw new IllegalArgumentException("Cursor sort field cannot be empty");
+        }
+
+        if (id == null) {
+            throw new IllegalArgumentException("Cursor ID cannot be null");
+        }
+
+        sortDirection = "desc".equalsIgnoreCase(sortDirection) ? "desc" : "asc";
+    }
+
+    public boolean isDescending() {
+        return "desc".equals(sortDirection);
+    }
+
+    public String encode() {
+        String value = sortValue == null ? NULL_MARKER : VALUE_MARKER + sortValue;
+        String raw = String.join(SEPARATOR, sortBy, sortDirection, String.valueOf(id), value);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+
+            if (parts.length != 4 || !(parts[3].equals(NULL_MARKER) || parts[3].startsWith(VALUE_MARKER))) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+
+            String value = parts[3].equals(NULL_MARKER) ? null : parts[3].substring(VALUE_MARKER.length());
+
+            return new BookCursor(parts[0], parts[1], Long.valueOf(parts[2]), value);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid pagination cursor: " + token, ex);
+        }
+    }
+}
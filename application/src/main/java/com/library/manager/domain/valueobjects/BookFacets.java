@@ -0,0 +1,36 @@
+package com.library.manager.domain.valueobjects;
+
+import com.library.manager.domain.BookGenre;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Number of books per genre and per publication decade among those matching a filter. The genre counts ignore the
+ * filter's own genre, so that every alternative genre can be offered with its count; the decade counts apply it.
+ *
+ * @param genres      books per genre, in declaration order; genres without books are absent
+ * @param decades     books per decade, keyed by its first year (1990 for 1990-1999), oldest first
+ * @param withoutYear books with no publication year, left out of {@code decades}
+ */
+public record BookFacets(Map<BookGenre, Long> genres, SortedMap<Integer, Long> decades, long withoutYear) {
+
+    public static final BookFacets EMPTY = new BookFacets(Map.of(), new TreeMap<>(), 0);
+
+    public BookFacets {
+        EnumMap<BookGenre, Long> genreCounts = new EnumMap<>(BookGenre.class);
+        genreCounts.putAll(genres);
+        genres = Collections.unmodifiableMap(genreCounts);
+        decades = Collections.unmodifiableSortedMap(new TreeMap<>(decades));
+    }
+
+    /**
+     * First year of the decade {@code year} belongs to, also for years before the common era.
+     */
+    public static int decadeOf(int year) {
+        return Math.floorDiv(year, 10) * 10;
+    }
+}
@@ -0,0 +1,4 @@
+package com.library.manager.domain.valueobjects;
+
+public record BookImportError(long row, String message) {
+}
@@ -0,0 +1,16 @@
+package com.library.manager.domain.valueobjects;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} holds at most {@link #MAX_REPORTED_ERRORS} entries so that a file full of
+ * bad rows cannot exhaust memory; {@code failed} always has the full count.
+ */
+public record BookImportResult(long processed, long imported, long failed, List<BookImportError> errors) {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    public BookImportResult {
+        errors = List.copyOf(errors);
+    }
+}
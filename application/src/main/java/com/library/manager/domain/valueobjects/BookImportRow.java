@@ -0,0 +1,25 @@
+package com.library.manager.domain.valueobjects;
+
+import com.library.manager.domain.Book;
+
+/**
+ * One row of an import file: either a parsed book or the reason it could not be parsed.
+ *
+ * @param row   1-based position of the row in the file
+ * @param book  the parsed book, {@code null} when {@code error} is set
+ * @param error why the row was rejected, {@code null} when {@code book} is set
+ */
+public record BookImportRow(long row, Book book, String error) {
+
+    public static BookImportRow valid(long row, Book book) {
+        return new BookImportRow(row, book, null);
+    }
+
+    public static BookImportRow invalid(long row, String error) {
+        return new BookImportRow(row, null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
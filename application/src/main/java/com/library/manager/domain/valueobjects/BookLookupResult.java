@@ -0,0 +1,16 @@
+package com.library.manager.domain.valueobjects;
+
+import com.library.manager.domain.Book;
+
+import java.util.List;
+
+/**
+ * Outcome of a multi-get: the books found, in the order their IDs were requested, and the IDs that matched no book.
+ */
+public record BookLookupResult(List<Book> books, List<Long> missingIds) {
+
+    public BookLookupResult {
+        books = List.copyOf(books);
+        missingIds = List.copyOf(missingIds);
+    }
+}
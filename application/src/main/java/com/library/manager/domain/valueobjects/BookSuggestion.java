@@ -0,0 +1,12 @@
+package com.library.manager.domain.valueobjects;
+
+/**
+ * A title or author completing what the user has typed so far, with the number of active books that have it.
+ */
+public record BookSuggestion(String text, long count) {
+
+    /**
+     * Largest number of suggestions returned for one prefix.
+     */
+    public static final int MAX_SUGGESTIONS = 10;
+}
@@ -0,0 +1,21 @@
+package com.library.manager.domain.valueobjects;
+
+/**
+ * Book field whose values are suggested while typing.
+ */
+public enum BookSuggestionField {
+
+    TITLE,
+    AUTHOR;
+
+    public static BookSuggestionField fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Suggestion field is required");
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid suggestion field: " + value);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.library.manager.domain.valueobjects;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Validator for conditional reads: a tag that changes whenever the data it describes changes, and when that last
+ * happened. Lets a client that already holds the current data be answered without loading or rendering it again.
+ */
+public record BookVersion(String tag, LocalDateTime lastModified) {
+
+    public BookVersion {
+        if (tag == null || tag.isBlank()) {
+            throw new IllegalArgumentException("Version tag cannot be empty");
+        }
+
+        if (lastModified == null) {
+            throw new IllegalArgumentException("Version last modification time cannot be null");
+        }
+    }
+
+    /**
+     * Version of a single book: every write sets a new {@code updatedAt}, so it identifies the stored row state.
+     */
+    public static BookVersion ofBook(Long bookId, LocalDateTime updatedAt) {
+        // Microseconds, the precision the column keeps
+        long updatedAtMicros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + updatedAt.getNano() / 1_000;
+
+        return new BookVersion(bookId + "-" + Long.toHexString(updatedAtMicros), updatedAt);
+    }
+
+    /**
+     * Version of the whole book collection: {@code epoch} tells apart counters that restarted from zero.
+     */
+    public static BookVersion ofCollection(long epoch, long revision, LocalDateTime lastModified) {
+        return new BookVersion("books-" + Long.toHexString(epoch) + "-" + Long.toHexString(revision), lastModified);
+    }
+
+    /**
+     * {@link #lastModified()} as epoch milliseconds; timestamps are stored in the server's time zone.
+     */
+    public long lastModifiedEpochMilli() {
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,31 @@
+package com.library.manager.domain.valueobjects;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * How the total number of matching elements is obtained for a paginated listing.
+ */
+public enum CountMode {
+
+    /** A COUNT query runs together with every page. */
+    EXACT,
+
+    /** The total comes from a short-lived cache keyed by filter; it may lag behind recent writes. */
+    ESTIMATED,
+
+    /** No total is computed; only whether a next page exists. */
+    NONE;
+
+    public static CountMode fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid count mode: " + value + ". Accepted values are "
+                    + Arrays.stream(values()).map(Enum::name).collect(Collectors.joining(", ")));
+        }
+    }
+}
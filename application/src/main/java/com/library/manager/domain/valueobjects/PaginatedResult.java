@@ -2,11 +2,31 @@ package com.library.manager.domain.valueobjects;
 
 import java.util.List;
 
+/**
+ * One page of results. When the listing was requested with {@link CountMode#NONE} the totals are
+ * {@link #UNKNOWN_TOTAL} and only {@link #hasNext()} tells whether more elements exist.
+ */
 public record PaginatedResult<T>(
         List<T> content,
         long totalElements,
         int totalPages,
         int pageNumber,
-        int pageSize
+        int pageSize,
+        boolean hasNext,
+        String nextCursor
 ) {
-}
\ No newline at end of file
+
+    public static final int UNKNOWN_TOTAL = -1;
+
+    public PaginatedResult(List<T> content, long totalElements, int totalPages, int pageNumber, int pageSize) {
+        this(content, totalElements, totalPages, pageNumber, pageSize, pageNumber + 1 < totalPages, null);
+    }
+
+    public boolean isTotalKnown() {
+        return totalElements != UNKNOWN_TOTAL;
+    }
+
+    public PaginatedResult<T> withNextCursor(String cursor) {
+        return new PaginatedResult<>(content, totalElements, totalPages, pageNumber, pageSize, hasNext, cursor);
+    }
+}
@@ -1,7 +1,8 @@
 package com.library.manager.domain.valueobjects;
 
 
-public record PaginationQuery(int page, int pageSize, String sortBy, String sortDirection) {
+public record PaginationQuery(int page, int pageSize, String sortBy, String sortDirection, String after,
+                              CountMode countMode) {
 
     public PaginationQuery {
         if (page < 0) {
@@ -19,9 +20,33 @@ public record PaginationQuery(int page, int pageSize, String sortBy, String sort
         if (sortDirection == null || sortDirection.isBlank()) {
             sortDirection = "asc";
         }
+
+        if (after != null && after.isBlank()) {
+            after = null;
+        }
+
+        if (countMode == null) {
+            countMode = CountMode.EXACT;
+        }
+    }
+
+    public PaginationQuery(int page, int pageSize, String sortBy, String sortDirection, String after) {
+        this(page, pageSize, sortBy, sortDirection, after, CountMode.EXACT);
+    }
+
+    public PaginationQuery(int page, int pageSize, String sortBy, String sortDirection) {
+        this(page, pageSize, sortBy, sortDirection, null);
     }
 
     public PaginationQuery(int page, int pageSize) {
         this(page, pageSize, "title", "asc");
     }
-}
\ No newline at end of file
+
+    /**
+     * Cursor (keyset) mode: the page starts right after the position encoded in {@link #after()}
+     * instead of skipping {@code page * pageSize} rows.
+     */
+    public boolean hasCursor() {
+        return after != null;
+    }
+}
@@ -0,0 +1,168 @@
+package com.library.manager.application.services;
+
+import com.library.manager.application.ports.driven.BookRepositoryPort;
+import com.library.manager.domain.Book;
+import com.library.manager.domain.events.BookImportEvent;
+import com.library.manager.domain.valueobjects.BookImportError;
+import com.library.manager.domain.valueobjects.BookImportResult;
+import com.library.manager.domain.valueobjects.BookImportRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookImportUseCase Tests")
+class BookImportUseCaseTest {
+
+    @Mock
+    private BookRepositoryPort bookRepositoryPort;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BookImportUseCase bookImportUseCase;
+
+    @BeforeEach
+    void setUp() {
+        bookImportUseCase = new BookImportUseCase(bookRepositoryPort, eventPublisher, 2);
+    }
+
+    private static BookImportRow validRow(long row, String title) {
+        Book book = new Book();
+        book.setId(99L);
+        book.setTitle(title);
+        book.setAuthor("Author");
+        return BookImportRow.valid(row, book);
+    }
+
+    @Nested
+    @DisplayName("importBooks() method tests")
+    class ImportBooksTests {
+
+        @Test
+        @DisplayName("Should insert valid rows in batches of the configured size")
+        void shouldInsertInBatches() {
+            // Arrange
+            when(bookRepositoryPort.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            BookImportResult result = bookImportUseCase.importBooks(Stream.of(
+                    validRow(1, "One"), validRow(2, "Two"), validRow(3, "Three")));
+
+            // Assert
+            assertEquals(3, result.processed());
+            assertEquals(3, result.imported());
+            assertEquals(0, result.failed());
+            verify(bookRepositoryPort, times(1)).saveAll(argThat(books -> books.size() == 2));
+            verify(bookRepositoryPort, times(1)).saveAll(argThat(books -> books.size() == 1));
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof BookImportEvent imported && imported.imported() == 3));
+        }
+
+        @Test
+        @DisplayName("Should insert books as new active books")
+        void shouldPrepareBooks() {
+            // Arrange
+            when(bookRepositoryPort.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            bookImportUseCase.importBooks(Stream.of(validRow(1, "One")));
+
+            // Assert
+            verify(bookRepositoryPort).saveAll(argThat(books -> {
+                Book book = books.get(0);
+                return book.getId() == null && book.getActive() && book.getCreatedAt() != null
+                        && book.getCreatedAt().equals(book.getUpdatedAt());
+            }));
+        }
+
+        @Test
+        @DisplayName("Should report invalid rows without sending them to the repository")
+        void shouldReportInvalidRows() {
+            // Arrange
+            when(bookRepositoryPort.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            BookImportResult result = bookImportUseCase.importBooks(Stream.of(
+                    validRow(1, "One"), BookImportRow.invalid(2, "title: must not be null")));
+
+            // Assert
+            assertEquals(2, result.processed());
+            assertEquals(1, result.imported());
+            assertEquals(1, result.failed());
+            assertEquals(List.of(new BookImportError(2, "title: must not be null")), result.errors());
+        }
+
+        @Test
+        @DisplayName("Should retry a failed batch row by row")
+        void shouldRetryFailedBatchRowByRow() {
+            // Arrange
+            when(bookRepositoryPort.saveAll(anyList())).thenAnswer(invocation -> {
+                List<Book> books = invocation.getArgument(0);
+                if (books.stream().anyMatch(book -> "Bad".equals(book.getTitle()))) {
+                    throw new IllegalStateException("value too long");
+                }
+                return books;
+            });
+
+            // Act
+            BookImportResult result = bookImportUseCase.importBooks(Stream.of(
+                    validRow(1, "Good"), validRow(2, "Bad")));
+
+            // Assert
+            assertEquals(1, result.imported());
+            assertEquals(1, result.failed());
+            assertEquals(List.of(new BookImportError(2, "value too long")), result.errors());
+            verify(bookRepositoryPort, times(3)).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Should cap the number of reported errors but keep counting failures")
+        void shouldCapReportedErrors() {
+            // Arrange
+            int rows = BookImportResult.MAX_REPORTED_ERRORS + 5;
+
+            // Act
+            BookImportResult result = bookImportUseCase.importBooks(LongStream.rangeClosed(1, rows)
+                    .mapToObj(row -> BookImportRow.invalid(row, "invalid")));
+
+            // Assert
+            assertEquals(rows, result.failed());
+            assertEquals(BookImportResult.MAX_REPORTED_ERRORS, result.errors().size());
+            verify(bookRepositoryPort, never()).saveAll(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should handle an empty file")
+        void shouldHandleEmptyFile() {
+            // Act
+            BookImportResult result = bookImportUseCase.importBooks(Stream.empty());
+
+            // Assert
+            assertEquals(new BookImportResult(0, 0, 0, List.of()), result);
+            verifyNoInteractions(bookRepositoryPort);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject batch sizes below one")
+    void shouldRejectInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BookImportUseCase(bookRepositoryPort, eventPublisher, 0));
+    }
+}
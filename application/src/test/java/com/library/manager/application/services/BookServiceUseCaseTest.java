@@ -4,7 +4,14 @@ import com.library.manager.application.exceptions.BookNotFoundException;
 import com.library.manager.application.ports.driven.BookRepositoryPort;
 import com.library.manager.domain.Book;
 import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.events.BookEvent;
+import com.library.manager.domain.valueobjects.BookChange;
+import com.library.manager.domain.valueobjects.BookChangeCursor;
+import com.library.manager.domain.valueobjects.BookChangePage;
 import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookLookupResult;
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.BookSuggestionField;
 import com.library.manager.domain.valueobjects.PaginatedResult;
 import com.library.manager.domain.valueobjects.PaginationQuery;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,17 +19,26 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +48,9 @@ class BookServiceUseCaseTest {
     @Mock
     private BookRepositoryPort bookRepositoryPort;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BookServiceUseCase bookServiceUseCase;
 
@@ -84,6 +103,19 @@ class BookServiceUseCaseTest {
             verify(bookRepositoryPort, times(1)).save(newBook);
         }
 
+        @Test
+        @DisplayName("Should publish a created event with the saved book")
+        void shouldPublishCreatedEvent() {
+            // Arrange
+            when(bookRepositoryPort.save(any(Book.class))).thenReturn(testBook);
+
+            // Act
+            bookServiceUseCase.save(new Book());
+
+            // Assert
+            verify(eventPublisher).publishEvent(BookEvent.created(testBook));
+        }
+
         @Test
         @DisplayName("Should set createdAt and updatedAt timestamps")
         void shouldSetTimestamps() {
@@ -193,6 +225,64 @@ class BookServiceUseCaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("findActiveByIds() method tests")
+    class FindActiveByIdsTests {
+
+        private Book book(Long id) {
+            Book book = new Book();
+            book.setId(id);
+            return book;
+        }
+
+        @Test
+        @DisplayName("Should return books in request order and report missing IDs")
+        void shouldPreserveOrderAndReportMissing() {
+            // Arrange
+            Book book3 = book(3L);
+            Book book12 = book(12L);
+            when(bookRepositoryPort.findActiveByIds(any())).thenReturn(List.of(book3, book12));
+
+            // Act
+            BookLookupResult result = bookServiceUseCase.findActiveByIds(List.of(12L, 999L, 3L));
+
+            // Assert
+            assertEquals(List.of(book12, book3), result.books());
+            assertEquals(List.of(999L), result.missingIds());
+        }
+
+        @Test
+        @DisplayName("Should query each distinct ID once with a single repository call")
+        void shouldDeduplicateIds() {
+            // Arrange
+            when(bookRepositoryPort.findActiveByIds(any())).thenReturn(List.of(testBook));
+
+            // Act
+            BookLookupResult result = bookServiceUseCase.findActiveByIds(List.of(1L, 1L, 2L, 1L));
+
+            // Assert
+            assertEquals(List.of(testBook), result.books());
+            assertEquals(List.of(2L), result.missingIds());
+            verify(bookRepositoryPort, times(1)).findActiveByIds(argThat(ids -> List.copyOf(ids).equals(List.of(1L, 2L))));
+        }
+
+        @Test
+        @DisplayName("Should reject empty, null or too many IDs")
+        void shouldRejectInvalidIds() {
+            // Arrange
+            List<Long> tooMany = LongStream.rangeClosed(1, BookServiceUseCase.MAX_LOOKUP_IDS + 1).boxed().toList();
+            List<Long> withNull = new ArrayList<>(List.of(1L));
+            withNull.add(null);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> bookServiceUseCase.findActiveByIds(List.of()));
+            assertThrows(IllegalArgumentException.class, () -> bookServiceUseCase.findActiveByIds(null));
+            assertThrows(IllegalArgumentException.class, () -> bookServiceUseCase.findActiveByIds(withNull));
+            assertThrows(IllegalArgumentException.class, () -> bookServiceUseCase.findActiveByIds(tooMany));
+            verify(bookRepositoryPort, never()).findActiveByIds(any());
+        }
+    }
+
     @Nested
     @DisplayName("update() method tests")
     class UpdateTests {
@@ -207,17 +297,17 @@ class BookServiceUseCaseTest {
             bookToUpdate.setAuthor("Updated Author");
             bookToUpdate.setBookGenre(BookGenre.HISTORICAL_FICTION);
 
-            when(bookRepositoryPort.findById(1L)).thenReturn(Optional.of(testBook));
-            when(bookRepositoryPort.save(any(Book.class))).thenReturn(bookToUpdate);
+            when(bookRepositoryPort.update(any(Book.class))).thenReturn(Optional.of(testBook));
 
             // Act
             Book result = bookServiceUseCase.update(bookToUpdate);
 
             // Assert
-            assertNotNull(result);
+            assertEquals(testBook, result);
             assertNotNull(bookToUpdate.getUpdatedAt());
-            verify(bookRepositoryPort, times(1)).findById(1L);
-            verify(bookRepositoryPort, times(1)).save(bookToUpdate);
+            verify(bookRepositoryPort, times(1)).update(bookToUpdate);
+            verify(bookRepositoryPort, never()).findById(anyLong());
+            verify(bookRepositoryPort, never()).save(any(Book.class));
         }
 
         @Test
@@ -230,8 +320,7 @@ class BookServiceUseCaseTest {
             bookToUpdate.setAuthor("Updated Author");
             bookToUpdate.setBookGenre(BookGenre.ROMANCE);
 
-            when(bookRepositoryPort.findById(1L)).thenReturn(Optional.of(testBook));
-            when(bookRepositoryPort.save(any(Book.class))).thenReturn(bookToUpdate);
+            when(bookRepositoryPort.update(any(Book.class))).thenReturn(Optional.of(bookToUpdate));
 
             LocalDateTime beforeUpdate = LocalDateTime.now().minusSeconds(1);
 
@@ -254,12 +343,27 @@ class BookServiceUseCaseTest {
             bookToUpdate.setId(999L);
             bookToUpdate.setTitle("Updated Title");
 
-            when(bookRepositoryPort.findById(999L)).thenReturn(Optional.empty());
+            when(bookRepositoryPort.update(bookToUpdate)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThrows(BookNotFoundException.class, () -> bookServiceUseCase.update(bookToUpdate));
-            verify(bookRepositoryPort, times(1)).findById(999L);
-            verify(bookRepositoryPort, never()).save(any(Book.class));
+            verify(bookRepositoryPort, times(1)).update(bookToUpdate);
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should publish an updated event with the stored book")
+        void shouldPublishUpdatedEvent() {
+            // Arrange
+            Book bookToUpdate = new Book();
+            bookToUpdate.setId(1L);
+            when(bookRepositoryPort.update(bookToUpdate)).thenReturn(Optional.of(testBook));
+
+            // Act
+            bookServiceUseCase.update(bookToUpdate);
+
+            // Assert
+            verify(eventPublisher).publishEvent(BookEvent.updated(testBook));
         }
 
         @Test
@@ -276,8 +380,7 @@ class BookServiceUseCaseTest {
             );
 
             assertEquals("Book ID cannot be null", exception.getMessage());
-            verify(bookRepositoryPort, never()).findById(anyLong());
-            verify(bookRepositoryPort, never()).save(any(Book.class));
+            verify(bookRepositoryPort, never()).update(any(Book.class));
         }
     }
 
@@ -290,17 +393,15 @@ class BookServiceUseCaseTest {
         void shouldDeactivateBookSuccessfully() {
             // Arrange
             Long bookId = 1L;
-            when(bookRepositoryPort.findById(bookId)).thenReturn(Optional.of(testBook));
-            when(bookRepositoryPort.save(any(Book.class))).thenReturn(testBook);
+            when(bookRepositoryPort.deactivate(eq(bookId), any(LocalDateTime.class))).thenReturn(true);
 
             // Act
             bookServiceUseCase.deactivate(bookId);
 
             // Assert
-            assertFalse(testBook.getActive(), "Book should be marked as inactive");
-            assertNotNull(testBook.getUpdatedAt());
-            verify(bookRepositoryPort, times(1)).findById(bookId);
-            verify(bookRepositoryPort, times(1)).save(testBook);
+            verify(bookRepositoryPort, times(1)).deactivate(eq(bookId), any(LocalDateTime.class));
+            verify(bookRepositoryPort, never()).findById(anyLong());
+            verify(bookRepositoryPort, never()).save(any(Book.class));
         }
 
         @Test
@@ -308,8 +409,7 @@ class BookServiceUseCaseTest {
         void shouldUpdateTimestampWhenDeactivating() {
             // Arrange
             Long bookId = 1L;
-            when(bookRepositoryPort.findById(bookId)).thenReturn(Optional.of(testBook));
-            when(bookRepositoryPort.save(any(Book.class))).thenReturn(testBook);
+            when(bookRepositoryPort.deactivate(eq(bookId), any(LocalDateTime.class))).thenReturn(true);
 
             LocalDateTime beforeDeactivate = LocalDateTime.now().minusSeconds(1);
 
@@ -319,9 +419,8 @@ class BookServiceUseCaseTest {
             LocalDateTime afterDeactivate = LocalDateTime.now().plusSeconds(1);
 
             // Assert
-            assertNotNull(testBook.getUpdatedAt());
-            assertTrue(testBook.getUpdatedAt().isAfter(beforeDeactivate));
-            assertTrue(testBook.getUpdatedAt().isBefore(afterDeactivate));
+            verify(bookRepositoryPort).deactivate(eq(bookId), argThat(updatedAt ->
+                    updatedAt.isAfter(beforeDeactivate) && updatedAt.isBefore(afterDeactivate)));
         }
 
         @Test
@@ -329,12 +428,27 @@ class BookServiceUseCaseTest {
         void shouldThrowExceptionWhenBookDoesNotExist() {
             // Arrange
             Long bookId = 999L;
-            when(bookRepositoryPort.findById(bookId)).thenReturn(Optional.empty());
+            when(bookRepositoryPort.deactivate(eq(bookId), any(LocalDateTime.class))).thenReturn(false);
 
             // Act & Assert
             assertThrows(BookNotFoundException.class, () -> bookServiceUseCase.deactivate(bookId));
-            verify(bookRepositoryPort, times(1)).findById(bookId);
-            verify(bookRepositoryPort, never()).save(any(Book.class));
+            verify(bookRepositoryPort, times(1)).deactivate(eq(bookId), any(LocalDateTime.class));
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should publish a deactivated event stamped like the stored row")
+        void shouldPublishDeactivatedEvent() {
+            // Arrange
+            when(bookRepositoryPort.deactivate(eq(1L), any(LocalDateTime.class))).thenReturn(true);
+
+            // Act
+            bookServiceUseCase.deactivate(1L);
+
+            // Assert
+            ArgumentCaptor<LocalDateTime> deactivatedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(bookRepositoryPort).deactivate(eq(1L), deactivatedAt.capture());
+            verify(eventPublisher).publishEvent(BookEvent.deactivated(1L, deactivatedAt.getValue()));
         }
 
         @Test
@@ -347,8 +461,88 @@ class BookServiceUseCaseTest {
             );
 
             assertEquals("Book ID cannot be null", exception.getMessage());
-            verify(bookRepositoryPort, never()).findById(anyLong());
-            verify(bookRepositoryPort, never()).save(any(Book.class));
+            verify(bookRepositoryPort, never()).deactivate(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("getChanges() method tests")
+    class GetChangesTests {
+
+        private Book changed(long id, boolean active) {
+            Book book = new Book();
+            book.setId(id);
+            book.setActive(active);
+            book.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(id));
+            return book;
+        }
+
+        @Test
+        @DisplayName("Should return upserts and tombstones with a cursor after the last change")
+        void shouldReturnUpsertsAndTombstones() {
+            // Arrange
+            Book active = changed(1L, true);
+            Book deactivated = changed(2L, false);
+            when(bookRepositoryPort.findChangedAfter(isNull(), any(LocalDateTime.class), eq(3)))
+                    .thenReturn(List.of(active, deactivated));
+
+            // Act
+            BookChangePage page = bookServiceUseCase.getChanges(null, 2);
+
+            // Assert
+            assertEquals(List.of(BookChange.of(active), BookChange.of(deactivated)), page.changes());
+            assertFalse(page.changes().get(0).isTombstone());
+            assertTrue(page.changes().get(1).isTombstone());
+            assertFalse(page.hasMore());
+            assertEquals(new BookChangeCursor(deactivated.getUpdatedAt(), 2L),
+                    BookChangeCursor.decode(page.nextCursor()));
+        }
+
+        @Test
+        @DisplayName("Should resume after the cursor and report more changes")
+        void shouldResumeAfterCursor() {
+            // Arrange
+            BookChangeCursor cursor = new BookChangeCursor(LocalDateTime.of(2024, 1, 1, 12, 0), 9L);
+            when(bookRepositoryPort.findChangedAfter(eq(cursor), any(LocalDateTime.class), eq(2)))
+                    .thenReturn(List.of(changed(10L, true), changed(11L, true)));
+
+            // Act
+            BookChangePage page = bookServiceUseCase.getChanges(cursor.encode(), 1);
+
+            // Assert
+            assertEquals(1, page.changes().size());
+            assertTrue(page.hasMore());
+            assertEquals(10L, BookChangeCursor.decode(page.nextCursor()).id());
+        }
+
+        @Test
+        @DisplayName("Should keep the cursor when nothing changed and hold back recent changes")
+        void shouldKeepCursorWhenNothingChanged() {
+            // Arrange
+            String after = new BookChangeCursor(LocalDateTime.of(2024, 1, 1, 12, 0), 9L).encode();
+            when(bookRepositoryPort.findChangedAfter(any(), any(LocalDateTime.class), anyInt())).thenReturn(List.of());
+            LocalDateTime before = Book.now();
+
+            // Act
+            BookChangePage page = bookServiceUseCase.getChanges(after, 10);
+
+            // Assert
+            assertEquals(after, page.nextCursor());
+            assertTrue(page.changes().isEmpty());
+            verify(bookRepositoryPort).findChangedAfter(any(), argThat(until ->
+                    !until.isAfter(LocalDateTime.now().minus(BookServiceUseCase.CHANGES_SETTLE_WINDOW))
+                            && !until.isBefore(before.minus(BookServiceUseCase.CHANGES_SETTLE_WINDOW))
+                            && until.getNano() % 1_000 == 0), eq(11));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid limits and cursors")
+        void shouldRejectInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> bookServiceUseCase.getChanges(null, 0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> bookServiceUseCase.getChanges(null, BookServiceUseCase.MAX_CHANGES_PAGE_SIZE + 1));
+            assertThrows(IllegalArgumentException.class, () -> bookServiceUseCase.getChanges("garbage", 10));
+            verifyNoInteractions(bookRepositoryPort);
         }
     }
 
@@ -491,4 +685,69 @@ class BookServiceUseCaseTest {
             verify(bookRepositoryPort, times(1)).findAllWithFilters(filter, pagination);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("exportWithFilters() method tests")
+    class ExportWithFiltersTests {
+
+        @Test
+        @DisplayName("Should hand every book read by the repository to the action")
+        void shouldStreamBooksFromRepository() {
+            // Arrange
+            BookFilter filter = new BookFilter("Test", null, null, true);
+            List<Book> exported = new ArrayList<>();
+            doAnswer(invocation -> {
+                Consumer<Book> action = invocation.getArgument(1);
+                action.accept(testBook);
+                return null;
+            }).when(bookRepositoryPort).forEachWithFilters(eq(filter), any());
+
+            // Act
+            bookServiceUseCase.exportWithFilters(filter, exported::add);
+
+            // Assert
+            assertEquals(List.of(testBook), exported);
+            verify(bookRepositoryPort, times(1)).forEachWithFilters(eq(filter), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("suggest() method tests")
+    class SuggestTests {
+
+        @Test
+        @DisplayName("Should return the repository suggestions")
+        void shouldDelegateToRepository() {
+            // Arrange
+            List<BookSuggestion> suggestions = List.of(new BookSuggestion("Test Book", 2));
+            when(bookRepositoryPort.suggest(BookSuggestionField.TITLE, "tes", 5)).thenReturn(suggestions);
+
+            // Act
+            List<BookSuggestion> result = bookServiceUseCase.suggest(BookSuggestionField.TITLE, "tes", 5);
+
+            // Assert
+            assertEquals(suggestions, result);
+        }
+
+        @Test
+        @DisplayName("Should suggest nothing for a blank prefix")
+        void shouldIgnoreBlankPrefix() {
+            // Act & Assert
+            assertTrue(bookServiceUseCase.suggest(BookSuggestionField.AUTHOR, " ", 5).isEmpty());
+            assertTrue(bookServiceUseCase.suggest(BookSuggestionField.AUTHOR, null, 5).isEmpty());
+            verifyNoInteractions(bookRepositoryPort);
+        }
+
+        @Test
+        @DisplayName("Should reject a missing field or a limit out of range")
+        void shouldRejectInvalidArguments() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> bookServiceUseCase.suggest(null, "tes", 5));
+            assertThrows(IllegalArgumentException.class,
+                    () -> bookServiceUseCase.suggest(BookSuggestionField.TITLE, "tes", 0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> bookServiceUseCase.suggest(BookSuggestionField.TITLE, "tes", BookSuggestion.MAX_SUGGESTIONS + 1));
+            verifyNoInteractions(bookRepositoryPort);
+        }
+    }
+}
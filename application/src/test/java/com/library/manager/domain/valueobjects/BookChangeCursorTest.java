@@ -0,0 +1,51 @@
+package com.library.manager.domain.valueobjects;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookChangeCursor Record Tests")
+class BookChangeCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip update time to the microsecond and ID")
+    void shouldRoundTrip() {
+        // Arrange
+        BookChangeCursor cursor = new BookChangeCursor(LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_000), 42L);
+
+        // Act
+        BookChangeCursor decoded = BookChangeCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens")
+    void shouldRejectMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> BookChangeCursor.decode(""));
+        assertThrows(IllegalArgumentException.class, () -> BookChangeCursor.decode("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> BookChangeCursor.decode(encode("2024-01-01T12:00")));
+        assertThrows(IllegalArgumentException.class, () -> BookChangeCursor.decode(encode("yesterday|1")));
+    }
+
+    @Test
+    @DisplayName("Should reject a token without an ID")
+    void shouldRejectTokenWithoutId() {
+        // Arrange
+        String token = encode("2024-01-01T12:00|");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> BookChangeCursor.decode(token));
+        assertThrows(IllegalArgumentException.class, () -> new BookChangeCursor(null, 1L));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,135 @@
+package com.library.manager.domain.valueobjects;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookCursor Record Tests")
+class BookCursorTest {
+
+    @Nested
+    @DisplayName("Constructor validation")
+    class ConstructorTests {
+
+        @Test
+        @DisplayName("Should normalize sort direction")
+        void shouldNormalizeSortDirection() {
+            // Act
+            BookCursor descending = new BookCursor("title", "DESC", 1L, "A");
+            BookCursor ascending = new BookCursor("title", null, 1L, "A");
+
+            // Assert
+            assertEquals("desc", descending.sortDirection());
+            assertTrue(descending.isDescending());
+            assertEquals("asc", ascending.sortDirection());
+            assertFalse(ascending.isDescending());
+        }
+
+        @Test
+        @DisplayName("Should reject empty sort field")
+        void shouldRejectEmptySortField() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> new BookCursor(" ", "asc", 1L, "A"));
+        }
+
+        @Test
+        @DisplayName("Should reject null ID")
+        void shouldRejectNullId() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> new BookCursor("title", "asc", null, "A"));
+        }
+    }
+
+    @Nested
+    @DisplayName("encode() / decode() round trip")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("Should round trip a cursor with value")
+        void shouldRoundTripWithValue() {
+            // Arrange
+            BookCursor cursor = new BookCursor("title", "asc", 42L, "Cien años | de soledad");
+
+            // Act
+            BookCursor decoded = BookCursor.decode(cursor.encode());
+
+            // Assert
+            assertEquals(cursor, decoded);
+        }
+
+        @Test
+        @DisplayName("Should round trip a cursor with null value")
+        void shouldRoundTripWithNullValue() {
+            // Arrange
+            BookCursor cursor = new BookCursor("publicationYear", "desc", 7L, null);
+
+            // Act
+            BookCursor decoded = BookCursor.decode(cursor.encode());
+
+            // Assert
+            assertEquals(cursor, decoded);
+            assertNull(decoded.sortValue());
+        }
+
+        @Test
+        @DisplayName("Should distinguish empty value from null value")
+        void shouldDistinguishEmptyFromNull() {
+            // Arrange
+            BookCursor cursor = new BookCursor("title", "asc", 3L, "");
+
+            // Act
+            BookCursor decoded = BookCursor.decode(cursor.encode());
+
+            // Assert
+            assertEquals("", decoded.sortValue());
+        }
+
+        @Test
+        @DisplayName("Should produce URL safe tokens")
+        void shouldProduceUrlSafeTokens() {
+            // Act
+            String token = new BookCursor("title", "asc", 1L, "???>>>").encode();
+
+            // Assert
+            assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        }
+    }
+
+    @Nested
+    @DisplayName("decode() error handling")
+    class DecodeErrorTests {
+
+        @Test
+        @DisplayName("Should reject tokens that are not Base64")
+        void shouldRejectInvalidBase64() {
+            // Act & Assert
+            IllegalArgumentException exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> BookCursor.decode("not base64!")
+            );
+            assertTrue(exception.getMessage().startsWith("Invalid pagination cursor"));
+        }
+
+        @Test
+        @DisplayName("Should reject tokens with missing parts")
+        void shouldRejectMissingParts() {
+            // Arrange
+            String token = java.util.Base64.getUrlEncoder().encodeToString("title|asc".getBytes());
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> BookCursor.decode(token));
+        }
+
+        @Test
+        @DisplayName("Should reject tokens with non numeric ID")
+        void shouldRejectNonNumericId() {
+            // Arrange
+            String token = java.util.Base64.getUrlEncoder().encodeToString("title|asc|x|=A".getBytes());
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> BookCursor.decode(token));
+        }
+    }
+}
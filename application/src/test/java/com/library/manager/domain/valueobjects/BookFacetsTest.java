@@ -0,0 +1,63 @@
+package com.library.manager.domain.valueobjects;
+
+import com.library.manager.domain.BookGenre;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookFacets Record Tests")
+class BookFacetsTest {
+
+    @Nested
+    @DisplayName("Constructor tests")
+    class ConstructorTests {
+
+        @Test
+        @DisplayName("Should keep genres in declaration order and decades oldest first")
+        void shouldOrderCounts() {
+            // Act
+            BookFacets facets = new BookFacets(
+                    Map.of(BookGenre.OTHER, 1L, BookGenre.FICTION, 2L, BookGenre.MYSTERY, 3L),
+                    new TreeMap<>(Map.of(2000, 4L, 1950, 5L)),
+                    6L);
+
+            // Assert
+            assertEquals(List.of(BookGenre.FICTION, BookGenre.MYSTERY, BookGenre.OTHER),
+                    List.copyOf(facets.genres().keySet()));
+            assertEquals(List.of(1950, 2000), List.copyOf(facets.decades().keySet()));
+            assertEquals(6L, facets.withoutYear());
+        }
+
+        @Test
+        @DisplayName("Should not be modifiable")
+        void shouldBeUnmodifiable() {
+            // Arrange
+            BookFacets facets = new BookFacets(Map.of(), new TreeMap<>(), 0L);
+
+            // Act & Assert
+            assertThrows(UnsupportedOperationException.class, () -> facets.genres().put(BookGenre.FICTION, 1L));
+            assertThrows(UnsupportedOperationException.class, () -> facets.decades().put(1990, 1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("decadeOf() method tests")
+    class DecadeOfTests {
+
+        @Test
+        @DisplayName("Should return the first year of the decade")
+        void shouldRoundDownToDecade() {
+            // Act & Assert
+            assertEquals(1990, BookFacets.decadeOf(1990));
+            assertEquals(1990, BookFacets.decadeOf(1999));
+            assertEquals(2000, BookFacets.decadeOf(2000));
+            assertEquals(-10, BookFacets.decadeOf(-5));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.library.manager.domain.valueobjects;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookVersion Record Tests")
+class BookVersionTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_000);
+
+    @Nested
+    @DisplayName("ofBook() method tests")
+    class OfBookTests {
+
+        @Test
+        @DisplayName("Should change with the ID and with each microsecond of updatedAt")
+        void shouldChangeWithIdAndUpdatedAt() {
+            // Act
+            BookVersion version = BookVersion.ofBook(1L, UPDATED_AT);
+
+            // Assert
+            assertEquals(version, BookVersion.ofBook(1L, UPDATED_AT));
+            assertNotEquals(version.tag(), BookVersion.ofBook(2L, UPDATED_AT).tag());
+            assertNotEquals(version.tag(), BookVersion.ofBook(1L, UPDATED_AT.plusNanos(1_000)).tag());
+            assertEquals(UPDATED_AT, version.lastModified());
+        }
+    }
+
+    @Nested
+    @DisplayName("ofCollection() method tests")
+    class OfCollectionTests {
+
+        @Test
+        @DisplayName("Should tell apart revisions and restarts")
+        void shouldChangeWithEpochAndRevision() {
+            // Act
+            BookVersion version = BookVersion.ofCollection(100L, 1L, UPDATED_AT);
+
+            // Assert
+            assertNotEquals(version.tag(), BookVersion.ofCollection(100L, 2L, UPDATED_AT).tag());
+            assertNotEquals(version.tag(), BookVersion.ofCollection(200L, 1L, UPDATED_AT).tag());
+        }
+    }
+
+    @Test
+    @DisplayName("Should convert lastModified from the server time zone to epoch milliseconds")
+    void shouldConvertLastModified() {
+        // Act
+        long epochMilli = BookVersion.ofBook(1L, UPDATED_AT).lastModifiedEpochMilli();
+
+        // Assert
+        assertEquals(UPDATED_AT.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), epochMilli);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty tag or a missing lastModified")
+    void shouldRejectInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> new BookVersion(" ", UPDATED_AT));
+        assertThrows(IllegalArgumentException.class, () -> new BookVersion("1-a", null));
+    }
+}
@@ -340,4 +340,77 @@ class PaginationQueryTest {
             assertTrue(toString.contains("sortDirection=ASC"));
         }
     }
+
+    @Nested
+    @DisplayName("Cursor parameter")
+    class CursorTests {
+
+        @Test
+        @DisplayName("Should not be in cursor mode when created without cursor")
+        void shouldNotHaveCursorByDefault() {
+            // Act
+            PaginationQuery query = new PaginationQuery(0, 10, "title", "ASC");
+
+            // Assert
+            assertNull(query.after());
+            assertFalse(query.hasCursor());
+        }
+
+        @Test
+        @DisplayName("Should keep cursor when provided")
+        void shouldKeepCursor() {
+            // Act
+            PaginationQuery query = new PaginationQuery(0, 10, "title", "ASC", "abc");
+
+            // Assert
+            assertEquals("abc", query.after());
+            assertTrue(query.hasCursor());
+        }
+
+        @Test
+        @DisplayName("Should normalize blank cursor to null")
+        void shouldNormalizeBlankCursor() {
+            // Act
+            PaginationQuery query = new PaginationQuery(0, 10, "title", "ASC", "   ");
+
+            // Assert
+            assertNull(query.after());
+            assertFalse(query.hasCursor());
+        }
+    }
+
+    @Nested
+    @DisplayName("Count mode parameter")
+    class CountModeTests {
+
+        @Test
+        @DisplayName("Should default to exact count mode")
+        void shouldDefaultToExact() {
+            // Act
+            PaginationQuery query = new PaginationQuery(0, 10, "title", "ASC", null, null);
+
+            // Assert
+            assertEquals(CountMode.EXACT, query.countMode());
+        }
+
+        @Test
+        @DisplayName("Should parse count mode values case-insensitively")
+        void shouldParseCountMode() {
+            // Assert
+            assertEquals(CountMode.EXACT, CountMode.fromValue(null));
+            assertEquals(CountMode.EXACT, CountMode.fromValue(" "));
+            assertEquals(CountMode.ESTIMATED, CountMode.fromValue("estimated"));
+            assertEquals(CountMode.NONE, CountMode.fromValue("NONE"));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown count mode values")
+        void shouldRejectUnknownCountMode() {
+            // Act & Assert
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> CountMode.fromValue("approx"));
+            assertEquals("Invalid count mode: approx. Accepted values are EXACT, ESTIMATED, NONE",
+                    exception.getMessage());
+        }
+    }
 }
@@ -0,0 +1,94 @@
+package com.library.manager.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Compares a JMH JSON result file with the committed baseline and prints the change of every benchmark. Exits with
+ * status 1 when a benchmark got slower than the baseline by more than {@code benchmarks.threshold} percent
+ * (10 by default); benchmarks missing from either file are listed but do not fail the comparison.
+ * <pre>
+ * java -cp ... com.library.manager.benchmarks.BaselineComparison baseline/jmh-baseline.json target/jmh-result.json
+ * </pre>
+ */
+public final class BaselineComparison {
+
+    private static final double THRESHOLD = Double.parseDouble(System.getProperty("benchmarks.threshold", "10"));
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <result.json>");
+            System.exit(2);
+        }
+
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> current = read(new File(args[1]));
+        int regressions = 0;
+
+        System.out.printf("%-70s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s%n", entry.getKey(), "-", after.value(), "new");
+                continue;
+            }
+
+            double change = (after.value() - before.value()) / before.value() * 100;
+            // Positive when slower, whichever way the mode measures
+            double slowdown = after.higherIsBetter() ? -change : change;
+            boolean regressed = slowdown > THRESHOLD;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%% %s%s%n", entry.getKey(), before.value(), after.value(),
+                    change, after.unit(), regressed ? "  REGRESSION" : "");
+        }
+        baseline.keySet().stream()
+                .filter(name -> !current.containsKey(name))
+                .forEach(name -> System.out.printf("%-70s %14.3f %14s %9s%n", name, baseline.get(name).value(),
+                        "-", "missing"));
+
+        if (regressions > 0) {
+            System.out.printf("%n%d benchmark(s) more than %.0f%% slower than the baseline%n", regressions, THRESHOLD);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            JsonNode metric = run.path("primaryMetric");
+            scores.put(name(run), new Score(metric.path("score").asDouble(), metric.path("scoreUnit").asText(),
+                    "thrpt".equals(run.path("mode").asText())));
+        }
+        return scores;
+    }
+
+    private static String name(JsonNode run) {
+        String benchmark = run.path("benchmark").asText().replace(BaselineComparison.class.getPackageName() + ".", "");
+        JsonNode params = run.path("params");
+        if (params.isMissingNode() || params.isEmpty()) {
+            return benchmark;
+        }
+
+        Map<String, String> values = new LinkedHashMap<>();
+        params.fields().forEachRemaining(param -> values.put(param.getKey(), param.getValue().asText()));
+        return values.entrySet().stream()
+                .map(param -> param.getKey() + "=" + param.getValue())
+                .collect(Collectors.joining(",", benchmark + " [", "]"));
+    }
+
+    private record Score(double value, String unit, boolean higherIsBetter) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.library.manager.benchmarks;
+
+import com.library.manager.application.ports.driven.BookRepositoryPort;
+import com.library.manager.domain.Book;
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.driven.repositories.BookJpaRepository;
+import com.library.manager.driven.repositories.models.BookEntity;
+import com.library.manager.driven.repositories.models.BookRow;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A page of 20 books and its COUNT for common filter shapes, read with the per-shape JPQL of
+ * {@link BookJpaRepository#findAllWithFilters(BookFilter, Pageable)} and with the single SpEL query it replaced, where
+ * every criterion is an {@code :x IS NULL OR ...} branch. Both run in a read-only transaction against the same
+ * in-memory H2 catalogue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookFilterQueryBenchmark {
+
+    private static final int INSERT_CHUNK = 1000;
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20,
+            Sort.by(Sort.Direction.ASC, "title").and(Sort.by(Sort.Direction.ASC, "id")));
+
+    @Param({"10000"})
+    int catalogueSize;
+
+    @Param({"active", "genre", "title", "author+genre"})
+    String shape;
+
+    private ConfigurableApplicationContext context;
+
+    private BookJpaRepository bookJpaRepository;
+
+    private SpelFilterRepository spelFilterRepository;
+
+    private TransactionTemplate readOnly;
+
+    private BookFilter filter;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:filter-benchmarks;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.open-in-view=false",
+                        "--spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "--library.sql.cache.enabled=false");
+
+        BookRepositoryPort bookRepositoryPort = context.getBean(BookRepositoryPort.class);
+        List<Book> books = BookFixtures.books(catalogueSize, 42);
+        for (int from = 0; from < books.size(); from += INSERT_CHUNK) {
+            bookRepositoryPort.saveAll(books.subList(from, Math.min(from + INSERT_CHUNK, books.size())));
+        }
+
+        bookJpaRepository = context.getBean(BookJpaRepository.class);
+        spelFilterRepository = context.getBean(SpelFilterRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        filter = switch (shape) {
+            case "active" -> new BookFilter(null, null, null, true);
+            case "genre" -> new BookFilter(null, null, BookGenre.FANTASY, true);
+            case "title" -> new BookFilter("storm", null, null, true);
+            case "author+genre" -> new BookFilter(null, "austen", BookGenre.FANTASY, true);
+            default -> throw new IllegalArgumentException("Unknown shape: " + shape);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<BookRow> perShapeQuery() {
+        return readOnly.execute(status -> bookJpaRepository.findAllWithFilters(filter, FIRST_PAGE));
+    }
+
+    @Benchmark
+    public Page<BookRow> spelQuery() {
+        return readOnly.execute(status -> spelFilterRepository.findAllWithFilters(filter, FIRST_PAGE));
+    }
+
+    /**
+     * The listing query as it was before the per-shape queries, selecting the same rows.
+     */
+    interface SpelFilterRepository extends Repository<BookEntity, Long> {
+
+        @Query("""
+            SELECT new com.library.manager.driven.repositories.models.BookRow(
+                b.id, b.title, b.author, b.bookGenre, b.pages, b.publicationYear, b.createdAt, b.updatedAt, b.active)
+            FROM BookEntity b
+            WHERE (:#{#filter.active} IS NULL OR b.active = :#{#filter.active})
+            AND (:#{#filter.title} IS NULL OR b.titleNormalized LIKE CONCAT('%',
+                :#{T(com.library.manager.driven.repositories.search.SearchTextNormalizer).normalize(#filter.title)}, '%'))
+            AND (:#{#filter.author} IS NULL OR b.authorNormalized LIKE CONCAT('%',
+                :#{T(com.library.manager.driven.repositories.search.SearchTextNormalizer).normalize(#filter.author)}, '%'))
+            AND (:#{#filter.bookGenre} IS NULL OR b.bookGenre = :#{#filter.bookGenre})
+            """)
+        Page<BookRow> findAllWithFilters(BookFilter filter, Pageable pageable);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackages = {
+            "com.library.manager.application",
+            "com.library.manager.driven.repositories"
+    })
+    @EnableJpaRepositories(basePackageClasses = BookFilterQueryBenchmark.class, considerNestedRepositories = true)
+    static class BenchmarkConfiguration {
+    }
+}
@@ -0,0 +1,64 @@
+package com.library.manager.benchmarks;
+
+import com.library.manager.domain.Book;
+import com.library.manager.domain.BookGenre;
+import com.library.manager.driven.repositories.models.BookRow;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic books for the benchmarks: the same seed always yields the same catalogue, so runs stay comparable.
+ */
+final class BookFixtures {
+
+    private static final String[] TITLE_WORDS = {
+            "Shadow", "River", "Kingdom", "Silent", "Garden", "Winter", "Empire", "Lost", "Crown", "Ocean",
+            "Memory", "Night", "Fire", "Glass", "Stone", "Letters", "Journey", "Secret", "Summer", "Storm"
+    };
+
+    private static final String[] AUTHORS = {
+            "Ursula K. Le Guin", "Gabriel García Márquez", "Jane Austen", "Haruki Murakami", "Chinua Achebe",
+            "Agatha Christie", "Isabel Allende", "J.R.R. Tolkien", "Toni Morrison", "Italo Calvino"
+    };
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private BookFixtures() {
+    }
+
+    static List<Book> books(int count, long seed) {
+        Random random = new Random(seed);
+        BookGenre[] genres = BookGenre.values();
+        List<Book> books = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = EPOCH.plusMinutes(i);
+            books.add(Book.builder()
+                    .author(AUTHORS[random.nextInt(AUTHORS.length)])
+                    .title(TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " of the "
+                            + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " " + i)
+                    .bookGenre(genres[random.nextInt(genres.length)])
+                    .pages(80 + random.nextInt(900))
+                    .publicationYear(1850 + random.nextInt(175))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .active(random.nextInt(10) != 0)
+                    .build());
+        }
+        return books;
+    }
+
+    static List<BookRow> rows(int count, long seed) {
+        List<BookRow> rows = new ArrayList<>(count);
+        long id = 1;
+
+        for (Book book : books(count, seed)) {
+            rows.add(new BookRow(id++, book.getTitle(), book.getAuthor(), book.getBookGenre(), book.getPages(),
+                    book.getPublicationYear(), book.getCreatedAt(), book.getUpdatedAt(), book.getActive()));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,70 @@
+package com.library.manager.benchmarks;
+
+import com.library.manager.domain.Book;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.PaginatedResult;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import com.library.manager.driven.repositories.mappers.BookEntityMapper;
+import com.library.manager.driven.repositories.models.BookRow;
+import com.library.manager.driving.controllers.mappers.BookMapper;
+import com.library.manager.driving.controllers.models.BooksResponse;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The mapping chain every listing and detail request runs: a page of {@link BookRow}s to domain {@link Book}s in
+ * the repository adapter, then to the {@link BooksResponse} (with its HATEOAS links) in the REST adapter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    int pageSize;
+
+    private final BookEntityMapper bookEntityMapper = Mappers.getMapper(BookEntityMapper.class);
+
+    private final BookMapper bookMapper = Mappers.getMapper(BookMapper.class);
+
+    private BookFilter filter;
+
+    private PaginationQuery query;
+
+    private Page<BookRow> rowPage;
+
+    private PaginatedResult<Book> domainPage;
+
+    @Setup
+    public void setUp() {
+        List<BookRow> rows = BookFixtures.rows(pageSize, 42);
+        rowPage = new PageImpl<>(rows, PageRequest.of(2, pageSize), 10_000);
+        domainPage = bookEntityMapper.toBookPaginatedResult(rowPage);
+        filter = new BookFilter(null, null, null, true);
+        query = new PaginationQuery(2, pageSize);
+    }
+
+    @Benchmark
+    public PaginatedResult<Book> entityToDomain() {
+        return bookEntityMapper.toBookPaginatedResult(rowPage);
+    }
+
+    @Benchmark
+    public BooksResponse domainToResponse() {
+        return bookMapper.toResponse(domainPage, filter, query);
+    }
+
+    @Benchmark
+    public BooksResponse entityToResponse() {
+        return bookMapper.toResponse(bookEntityMapper.toBookPaginatedResult(rowPage), filter, query);
+    }
+}
@@ -0,0 +1,55 @@
+package com.library.manager.benchmarks;
+
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.CountMode;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import com.library.manager.driven.repositories.mappers.PaginationEntityMapper;
+import com.library.manager.driving.controllers.mappers.BookMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning the query parameters of {@code GET /v1/books} into a {@link BookFilter}, a {@link PaginationQuery} and the
+ * {@link Pageable} handed to Spring Data, the way the REST and repository adapters do on every listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookQueryBenchmark {
+
+    // Non-final, so the JIT cannot fold the constructors away
+    private String author = "  Tolkien ";
+
+    private String title = "";
+
+    private String genre = "fantasy";
+
+    private String count = "estimated";
+
+    private final BookMapper bookMapper = Mappers.getMapper(BookMapper.class);
+
+    private final PaginationEntityMapper paginationEntityMapper = Mappers.getMapper(PaginationEntityMapper.class);
+
+    @Benchmark
+    public BookFilter filter() {
+        return bookMapper.toFilter(author, title, BookGenre.valueOf(genre.toUpperCase()));
+    }
+
+    @Benchmark
+    public PaginationQuery paginationQuery() {
+        return new PaginationQuery(1, 20, "title", "asc", null, CountMode.fromValue(count));
+    }
+
+    @Benchmark
+    public Pageable pageable() {
+        return paginationEntityMapper.toPageable(new PaginationQuery(1, 20, "title", "asc", null,
+                CountMode.fromValue(count)));
+    }
+}
@@ -0,0 +1,127 @@
+package com.library.manager.benchmarks;
+
+import com.library.manager.application.ports.driven.BookRepositoryPort;
+import com.library.manager.domain.Book;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.driven.repositories.BookJpaRepository;
+import com.library.manager.driven.repositories.mappers.BookEntityMapper;
+import com.library.manager.driven.repositories.models.BookEntity;
+import com.library.manager.driven.repositories.models.BookRow;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A page of active books read into domain {@link Book}s, once through managed {@link BookEntity} instances (as before
+ * the projections) and once through {@link BookRow}s selected with a constructor expression. Both run in a read-only
+ * transaction against the same in-memory H2 catalogue, without the second-level cache; add {@code -prof gc} to
+ * compare the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookReadPathBenchmark {
+
+    private static final int INSERT_CHUNK = 1000;
+
+    private static final BookFilter ACTIVE = new BookFilter(null, null, null, true);
+
+    @Param({"10000"})
+    int catalogueSize;
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    private ConfigurableApplicationContext context;
+
+    private BookJpaRepository bookJpaRepository;
+
+    private EntityReadRepository entityReadRepository;
+
+    private BookEntityMapper bookEntityMapper;
+
+    private TransactionTemplate readOnly;
+
+    private Pageable page;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:read-path-benchmarks;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.open-in-view=false",
+                        "--spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "--library.sql.cache.enabled=false");
+
+        BookRepositoryPort bookRepositoryPort = context.getBean(BookRepositoryPort.class);
+        List<Book> books = BookFixtures.books(catalogueSize, 42);
+        for (int from = 0; from < books.size(); from += INSERT_CHUNK) {
+            bookRepositoryPort.saveAll(books.subList(from, Math.min(from + INSERT_CHUNK, books.size())));
+        }
+
+        bookJpaRepository = context.getBean(BookJpaRepository.class);
+        entityReadRepository = context.getBean(EntityReadRepository.class);
+        bookEntityMapper = context.getBean(BookEntityMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        page = PageRequest.of(1, pageSize, Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Book> pageOfEntities() {
+        return readOnly.execute(status -> entityReadRepository.findByActiveTrue(page)
+                .map(bookEntityMapper::toDomain)
+                .getContent());
+    }
+
+    @Benchmark
+    public List<Book> pageOfRows() {
+        return readOnly.execute(status -> bookJpaRepository.findSliceWithFilters(ACTIVE, page)
+                .map(bookEntityMapper::toDomain)
+                .getContent());
+    }
+
+    /**
+     * The entity read the listing path used before the projections.
+     */
+    interface EntityReadRepository extends Repository<BookEntity, Long> {
+
+        Slice<BookEntity> findByActiveTrue(Pageable pageable);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackages = {
+            "com.library.manager.application",
+            "com.library.manager.driven.repositories"
+    })
+    @EnableJpaRepositories(basePackageClasses = BookReadPathBenchmark.class, considerNestedRepositories = true)
+    static class BenchmarkConfiguration {
+    }
+}
@@ -0,0 +1,113 @@
+package com.library.manager.benchmarks;
+
+import com.library.manager.application.ports.driven.BookRepositoryPort;
+import com.library.manager.domain.Book;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.PaginatedResult;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BookRepositoryPort} reads of a few hot books by ID and of a first listing page, with Hibernate's second-level
+ * and query cache and without them, against the same in-memory H2 catalogue. {@code updateThenReadById} writes the
+ * book before reading it, so the cached path also pays for its invalidation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookSecondLevelCacheBenchmark {
+
+    private static final int INSERT_CHUNK = 1000;
+
+    private static final int HOT_BOOKS = 100;
+
+    private static final BookFilter ACTIVE = new BookFilter(null, null, null, true);
+
+    private static final PaginationQuery FIRST_PAGE = new PaginationQuery(0, 20, "title", "asc");
+
+    @Param({"10000"})
+    int catalogueSize;
+
+    @Param({"true", "false"})
+    boolean secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+
+    private BookRepositoryPort bookRepositoryPort;
+
+    private List<Book> hotBooks;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:cache-benchmarks;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.open-in-view=false",
+                        "--spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "--library.sql.cache.enabled=" + secondLevelCache);
+
+        bookRepositoryPort = context.getBean(BookRepositoryPort.class);
+        List<Book> books = BookFixtures.books(catalogueSize, 42);
+        hotBooks = new ArrayList<>(HOT_BOOKS);
+        for (int from = 0; from < books.size(); from += INSERT_CHUNK) {
+            for (Book saved : bookRepositoryPort.saveAll(books.subList(from, Math.min(from + INSERT_CHUNK, books.size())))) {
+                if (saved.getActive() && hotBooks.size() < HOT_BOOKS) {
+                    hotBooks.add(saved);
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Book> hotBookById() {
+        return bookRepositoryPort.findActiveById(randomHotBook().getId());
+    }
+
+    @Benchmark
+    public PaginatedResult<Book> firstPage() {
+        return bookRepositoryPort.findAllWithFilters(ACTIVE, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Optional<Book> updateThenReadById() {
+        Book book = randomHotBook();
+        bookRepositoryPort.update(book);
+        return bookRepositoryPort.findActiveById(book.getId());
+    }
+
+    private Book randomHotBook() {
+        return hotBooks.get(ThreadLocalRandom.current().nextInt(hotBooks.size()));
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackages = {
+            "com.library.manager.application",
+            "com.library.manager.driven.repositories"
+    })
+    static class BenchmarkConfiguration {
+    }
+}
@@ -0,0 +1,123 @@
+package com.library.manager.benchmarks;
+
+import com.library.manager.application.exceptions.BookNotFoundException;
+import com.library.manager.application.ports.driven.BookRepositoryPort;
+import com.library.manager.application.ports.driving.BookServicePort;
+import com.library.manager.domain.Book;
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.CountMode;
+import com.library.manager.domain.valueobjects.PaginatedResult;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BookServicePort} calls against an in-memory H2 catalogue, through the real use case, repository adapter,
+ * Hibernate and JDBC. Neither the Spring cache nor the second-level cache is enabled here, so every call reaches the
+ * database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookServiceBenchmark {
+
+    private static final int INSERT_CHUNK = 1000;
+
+    private static final BookFilter ACTIVE = new BookFilter(null, null, null, true);
+
+    private static final BookFilter BY_TITLE = new BookFilter("storm", null, null, true);
+
+    private static final BookFilter BY_GENRE = new BookFilter(null, null, BookGenre.FANTASY, true);
+
+    @Param({"10000"})
+    int catalogueSize;
+
+    private ConfigurableApplicationContext context;
+
+    private BookServicePort bookServicePort;
+
+    private long[] ids;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.open-in-view=false",
+                        "--spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "--library.sql.cache.enabled=false");
+
+        BookRepositoryPort bookRepositoryPort = context.getBean(BookRepositoryPort.class);
+        List<Book> books = BookFixtures.books(catalogueSize, 42);
+        ids = new long[books.size()];
+        for (int from = 0; from < books.size(); from += INSERT_CHUNK) {
+            List<Book> saved = bookRepositoryPort.saveAll(books.subList(from, Math.min(from + INSERT_CHUNK, books.size())));
+            for (int i = 0; i < saved.size(); i++) {
+                ids[from + i] = saved.get(i).getId();
+            }
+        }
+
+        bookServicePort = context.getBean(BookServicePort.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Book findById() {
+        try {
+            return bookServicePort.findActiveById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+        } catch (BookNotFoundException ex) {
+            // Inactive book: the lookup still ran
+            return null;
+        }
+    }
+
+    @Benchmark
+    public PaginatedResult<Book> firstPage() {
+        return bookServicePort.getAllWithFilters(ACTIVE, new PaginationQuery(1, 20, "title", "asc"));
+    }
+
+    @Benchmark
+    public PaginatedResult<Book> deepOffsetPage() {
+        return bookServicePort.getAllWithFilters(ACTIVE, new PaginationQuery(400, 20, "title", "asc"));
+    }
+
+    @Benchmark
+    public PaginatedResult<Book> titleSearch() {
+        return bookServicePort.getAllWithFilters(BY_TITLE, new PaginationQuery(1, 20, "title", "asc"));
+    }
+
+    @Benchmark
+    public PaginatedResult<Book> genreWithoutCount() {
+        return bookServicePort.getAllWithFilters(BY_GENRE,
+                new PaginationQuery(1, 20, "title", "asc", null, CountMode.NONE));
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackages = {
+            "com.library.manager.application",
+            "com.library.manager.driven.repositories"
+    })
+    static class BenchmarkConfiguration {
+    }
+}
@@ -0,0 +1,60 @@
+package com.library.manager.benchmarks;
+
+import com.library.manager.domain.Book;
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.BookSuggestionField;
+import com.library.manager.driven.repositories.search.BookSuggestionIndex;
+import com.library.manager.driven.repositories.search.IndexedBook;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Title and author completions from the {@link BookSuggestionIndex} of 100,000 books, for short and longer prefixes,
+ * and the cost of re-indexing one updated book.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookSuggestionBenchmark {
+
+    private static final int BOOKS = 100_000;
+
+    @Param({"s", "shadow of the w"})
+    private String titlePrefix;
+
+    private final BookSuggestionIndex suggestionIndex = new BookSuggestionIndex();
+
+    private long updates;
+
+    @Setup
+    public void setUp() {
+        List<IndexedBook> indexedBooks = new ArrayList<>(BOOKS);
+        long id = 1;
+        for (Book book : BookFixtures.books(BOOKS, 42)) {
+            indexedBooks.add(new IndexedBook(id++, book.getTitle(), book.getAuthor()));
+        }
+        suggestionIndex.rebuild(indexedBooks);
+    }
+
+    @Benchmark
+    public List<BookSuggestion> suggestTitles() {
+        return suggestionIndex.suggest(BookSuggestionField.TITLE, titlePrefix, BookSuggestion.MAX_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public List<BookSuggestion> suggestAuthors() {
+        return suggestionIndex.suggest(BookSuggestionField.AUTHOR, "ga", BookSuggestion.MAX_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public void updateBook() {
+        long id = updates++ % BOOKS + 1;
+        suggestionIndex.index(new IndexedBook(id, "Storm of the Crown " + id, "Jane Austen"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.library.manager.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import com.library.manager.driven.repositories.mappers.BookEntityMapper;
+import com.library.manager.driving.controllers.mappers.BookMapper;
+import com.library.manager.driving.controllers.models.BooksResponse;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a {@link BooksResponse} as JSON with an {@link ObjectMapper} configured as Spring Boot configures the one
+ * used by the message converters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BooksResponseSerializationBenchmark {
+
+    @Param({"1", "10", "100"})
+    int pageSize;
+
+    private ObjectWriter writer;
+
+    private BooksResponse response;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .build()
+                .writerFor(BooksResponse.class);
+
+        BookEntityMapper bookEntityMapper = Mappers.getMapper(BookEntityMapper.class);
+        BookMapper bookMapper = Mappers.getMapper(BookMapper.class);
+        response = bookMapper.toResponse(bookEntityMapper.toBookPaginatedResult(
+                new PageImpl<>(BookFixtures.rows(pageSize, 42), PageRequest.of(2, pageSize), 10_000)),
+                new BookFilter(null, null, null, true), new PaginationQuery(2, pageSize));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
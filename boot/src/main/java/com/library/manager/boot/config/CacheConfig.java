@@ -0,0 +1,45 @@
+package com.library.manager.boot.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.library.manager.application.ports.driven.BookRepositoryPort;
+import com.library.manager.application.ports.driving.BookImportServicePort;
+import com.library.manager.application.ports.driving.BookServicePort;
+import com.library.manager.application.services.BookImportUseCase;
+import com.library.manager.application.services.BookServiceUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the book use cases behind {@link CachingBookService} and {@link CachingBookImportService}. Single books use
+ * {@code spring.cache.caffeine.spec}; listing pages are larger and invalidated on every write, so they get their own,
+ * smaller spec. Hit, miss and eviction counts are published as {@code cache.*} metrics through the actuator.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public BookServicePort bookServicePort(BookRepositoryPort bookRepositoryPort,
+                                           ApplicationEventPublisher eventPublisher) {
+        return new CachingBookService(new BookServiceUseCase(bookRepositoryPort, eventPublisher));
+    }
+
+    @Bean
+    public BookImportServicePort bookImportServicePort(BookRepositoryPort bookRepositoryPort,
+                                                       ApplicationEventPublisher eventPublisher,
+                                                       @Value("${library.import.batch-size:500}") int batchSize) {
+        return new CachingBookImportService(new BookImportUseCase(bookRepositoryPort, eventPublisher, batchSize));
+    }
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> bookPagesCacheCustomizer(
+            @Value("${library.cache.book-pages.spec:maximumSize=500,expireAfterWrite=1m,recordStats}") String spec) {
+        return cacheManager -> cacheManager.registerCustomCache(
+                CachingBookService.BOOK_PAGES_CACHE, Caffeine.from(spec).build());
+    }
+}
@@ -0,0 +1,26 @@
+package com.library.manager.boot.config;
+
+import com.library.manager.application.ports.driving.BookImportServicePort;
+import com.library.manager.domain.valueobjects.BookImportResult;
+import com.library.manager.domain.valueobjects.BookImportRow;
+import org.springframework.cache.annotation.CacheEvict;
+
+import java.util.stream.Stream;
+
+/**
+ * Clears the listing pages cached by {@link CachingBookService} once an import has inserted its books.
+ */
+public class CachingBookImportService implements BookImportServicePort {
+
+    private final BookImportServicePort delegate;
+
+    public CachingBookImportService(BookImportServicePort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CachingBookService.BOOK_PAGES_CACHE, allEntries = true)
+    public BookImportResult importBooks(Stream<BookImportRow> rows) {
+        return delegate.importBooks(rows);
+    }
+}
@@ -0,0 +1,113 @@
+package com.library.manager.boot.config;
+
+import com.library.manager.application.ports.driving.BookServicePort;
+import com.library.manager.domain.Book;
+import com.library.manager.domain.valueobjects.BookChangePage;
+import com.library.manager.domain.valueobjects.BookFacets;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookLookupResult;
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.BookSuggestionField;
+import com.library.manager.domain.valueobjects.BookVersion;
+import com.library.manager.domain.valueobjects.PaginatedResult;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Caches in front of the book use cases, which know nothing about them. Evictions run only when the delegate returns,
+ * that is, once the write has been committed.
+ */
+public class CachingBookService implements BookServicePort {
+
+    /**
+     * Active books by ID. Entries are evicted by ID when that book is updated or deactivated.
+     */
+    public static final String BOOKS_CACHE = "books";
+
+    /**
+     * Listing pages keyed by filter and pagination query, and the facet counts of each filter. Any write may move
+     * books between pages or change a count, so every write clears it.
+     */
+    public static final String BOOK_PAGES_CACHE = "bookPages";
+
+    private final BookServicePort delegate;
+
+    public CachingBookService(BookServicePort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = BOOK_PAGES_CACHE, allEntries = true)
+    public Book save(Book book) {
+        return delegate.save(book);
+    }
+
+    @Override
+    @Cacheable(cacheNames = BOOKS_CACHE, key = "#bookId", condition = "#bookId != null")
+    public Book findActiveById(Long bookId) {
+        return delegate.findActiveById(bookId);
+    }
+
+    @Override
+    public BookLookupResult findActiveByIds(List<Long> bookIds) {
+        return delegate.findActiveByIds(bookIds);
+    }
+
+    @Override
+    public BookVersion getCollectionVersion() {
+        return delegate.getCollectionVersion();
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = BOOKS_CACHE, key = "#book.id", condition = "#book.id != null"),
+            @CacheEvict(cacheNames = BOOK_PAGES_CACHE, allEntries = true)
+    })
+    public Book update(Book book) {
+        return delegate.update(book);
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = BOOKS_CACHE, key = "#bookId", condition = "#bookId != null"),
+            @CacheEvict(cacheNames = BOOK_PAGES_CACHE, allEntries = true)
+    })
+    public void deactivate(Long bookId) {
+        delegate.deactivate(bookId);
+    }
+
+    @Override
+    @Cacheable(cacheNames = BOOK_PAGES_CACHE, key = "{#filter, #paginationQuery}")
+    public PaginatedResult<Book> getAllWithFilters(BookFilter filter, PaginationQuery paginationQuery) {
+        return delegate.getAllWithFilters(filter, paginationQuery);
+    }
+
+    @Override
+    @Cacheable(cacheNames = BOOK_PAGES_CACHE, key = "{'facets', #filter}")
+    public BookFacets getFacets(BookFilter filter) {
+        return delegate.getFacets(filter);
+    }
+
+    /**
+     * Not cached: suggestions are already answered from memory.
+     */
+    @Override
+    public List<BookSuggestion> suggest(BookSuggestionField field, String prefix, int limit) {
+        return delegate.suggest(field, prefix, limit);
+    }
+
+    @Override
+    public void exportWithFilters(BookFilter filter, Consumer<Book> action) {
+        delegate.exportWithFilters(filter, action);
+    }
+
+    @Override
+    public BookChangePage getChanges(String after, int limit) {
+        return delegate.getChanges(after, limit);
+    }
+}
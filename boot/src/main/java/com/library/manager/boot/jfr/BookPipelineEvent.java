@@ -0,0 +1,56 @@
+package com.library.manager.boot.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * One stage of a book request, recorded by Java Flight Recorder. Each stage is its own event type so its threshold can
+ * be tuned separately; all of them carry the operation and whichever filter and page criteria it was given (empty or
+ * -1 when not applicable). Stack traces are off to keep a continuous recording cheap: the thread and the nesting of
+ * the stages in time already locate the slow phase.
+ */
+@Category({"Library Manager", "Book Requests"})
+@StackTrace(false)
+abstract class BookPipelineEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Book ID")
+    long bookId = -1;
+
+    @Label("Title")
+    String title;
+
+    @Label("Author")
+    String author;
+
+    @Label("Genre")
+    String genre;
+
+    @Label("Active")
+    String active;
+
+    @Label("Page")
+    int page = -1;
+
+    @Label("Page Size")
+    int pageSize = -1;
+
+    @Label("Sort By")
+    String sortBy;
+
+    @Label("Sort Direction")
+    String sortDirection;
+
+    @Label("Count Mode")
+    String countMode;
+
+    @Label("Cursor")
+    boolean cursor;
+}
@@ -0,0 +1,13 @@
+package com.library.manager.boot.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("com.library.manager.Controller")
+@Label("Controller")
+@Description("A request handled by a REST or web controller method")
+@Threshold("10 ms")
+class ControllerEvent extends BookPipelineEvent {
+}
@@ -0,0 +1,27 @@
+package com.library.manager.boot.jfr;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Swaps Spring MVC's JSON converter for {@link SerializationEventsConverter}, keeping its object mapper and media types.
+ */
+@Configuration
+public class FlightRecorderConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jackson
+                    && !(jackson instanceof SerializationEventsConverter)) {
+                SerializationEventsConverter recording = new SerializationEventsConverter(jackson.getObjectMapper());
+                recording.setSupportedMediaTypes(jackson.getSupportedMediaTypes());
+                converters.set(i, recording);
+            }
+        }
+    }
+}
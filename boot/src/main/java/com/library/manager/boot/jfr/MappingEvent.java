@@ -0,0 +1,13 @@
+package com.library.manager.boot.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("com.library.manager.Mapping")
+@Label("Mapping")
+@Description("A call into a MapStruct mapper")
+@Threshold("1 ms")
+class MappingEvent extends BookPipelineEvent {
+}
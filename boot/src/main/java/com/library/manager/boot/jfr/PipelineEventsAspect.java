@@ -0,0 +1,118 @@
+package com.library.manager.boot.jfr;
+
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.CodeSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Emits a JFR event around each stage of a book request: the controller method, the call through
+ * {@code BookServicePort}, the call through {@code BookRepositoryPort} and every mapper call. JSON serialization is
+ * recorded by {@link SerializationEventsConverter}. When no recording is running, or a call finishes under the
+ * threshold of its event, nothing is described or committed, so the cost is a timestamp on entry and exit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class PipelineEventsAspect {
+
+    @Around("execution(public * *(..)) && (within(com.library.manager.driving.controllers.adapters..*)"
+            + " || within(com.library.manager.driving.web.controllers..*))")
+    public Object recordController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new ControllerEvent(), joinPoint);
+    }
+
+    @Around("execution(public * com.library.manager.application.ports.driving.BookServicePort.*(..))")
+    public Object recordService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new ServiceEvent(), joinPoint);
+    }
+
+    @Around("execution(public * com.library.manager.application.ports.driven.BookRepositoryPort.*(..))")
+    public Object recordRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new RepositoryEvent(), joinPoint);
+    }
+
+    @Around("execution(public * *(..)) && (within(com.library.manager.driving.controllers.mappers..*)"
+            + " || within(com.library.manager.driven.repositories.mappers..*))")
+    public Object recordMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new MappingEvent(), joinPoint);
+    }
+
+    private static Object record(BookPipelineEvent event, ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                describe(event, joinPoint);
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Fills the operation and the criteria from the arguments: a {@link BookFilter} or a {@link PaginationQuery}
+     * wherever the call has one, otherwise the controller parameters by name.
+     */
+    static void describe(BookPipelineEvent event, ProceedingJoinPoint joinPoint) {
+        event.operation = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName().replace("Impl", "")
+                + "." + joinPoint.getSignature().getName();
+
+        String[] names = ((CodeSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < args.length; i++) {
+            Object value = args[i] instanceof Optional<?> optional ? optional.orElse(null) : args[i];
+            if (value instanceof BookFilter filter) {
+                event.title = filter.title();
+                event.author = filter.author();
+                event.genre = filter.bookGenre() != null ? filter.bookGenre().name() : null;
+                event.active = String.valueOf(filter.active());
+            } else if (value instanceof PaginationQuery query) {
+                event.page = query.page();
+                event.pageSize = query.pageSize();
+                event.sortBy = query.sortBy();
+                event.sortDirection = query.sortDirection();
+                event.countMode = query.countMode().name();
+                event.cursor = query.hasCursor();
+            } else if (value != null && names != null) {
+                describeParameter(event, names[i], value);
+            }
+        }
+    }
+
+    private static void describeParameter(BookPipelineEvent event, String name, Object value) {
+        switch (name) {
+            case "id", "bookId" -> event.bookId = value instanceof Number number ? number.longValue() : -1;
+            case "title" -> event.title = value.toString();
+            case "author" -> event.author = value.toString();
+            case "genre" -> event.genre = value.toString();
+            case "active" -> event.active = value.toString();
+            case "page" -> event.page = value instanceof Number number ? number.intValue() : -1;
+            case "pageSize", "size" -> event.pageSize = value instanceof Number number ? number.intValue() : -1;
+            case "sortBy" -> event.sortBy = value.toString();
+            case "sortDirection", "sortDir" -> event.sortDirection = value.toString();
+            case "count" -> event.countMode = value.toString();
+            case "after" -> event.cursor = true;
+            default -> {
+                // Not a filter or page criterion
+            }
+        }
+    }
+}
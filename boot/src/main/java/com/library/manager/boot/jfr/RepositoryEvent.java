@@ -0,0 +1,13 @@
+package com.library.manager.boot.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("com.library.manager.Repository")
+@Label("Repository Query")
+@Description("A call through BookRepositoryPort, including its SQL")
+@Threshold("5 ms")
+class RepositoryEvent extends BookPipelineEvent {
+}
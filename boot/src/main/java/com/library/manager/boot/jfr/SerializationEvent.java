@@ -0,0 +1,13 @@
+package com.library.manager.boot.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("com.library.manager.Serialization")
+@Label("Serialization")
+@Description("A response body written as JSON")
+@Threshold("1 ms")
+class SerializationEvent extends BookPipelineEvent {
+}
@@ -0,0 +1,52 @@
+package com.library.manager.boot.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.manager.driving.controllers.models.BooksResponse;
+import com.library.manager.driving.controllers.models.Pagination;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * The JSON converter, emitting a {@link SerializationEvent} for every response body it writes. The operation is the
+ * type written; for a listing the page and page size are taken from its pagination.
+ */
+class SerializationEventsConverter extends MappingJackson2HttpMessageConverter {
+
+    SerializationEventsConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        SerializationEvent event = new SerializationEvent();
+        if (!event.isEnabled()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        event.begin();
+        String outcome = "success";
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } catch (IOException | RuntimeException ex) {
+            outcome = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = object.getClass().getSimpleName();
+                event.outcome = outcome;
+                if (object instanceof BooksResponse books && books.getPagination() != null) {
+                    Pagination pagination = books.getPagination();
+                    event.page = pagination.getNumber() != null ? pagination.getNumber() : -1;
+                    event.pageSize = pagination.getSize() != null ? pagination.getSize() : -1;
+                }
+                event.commit();
+            }
+        }
+    }
+}
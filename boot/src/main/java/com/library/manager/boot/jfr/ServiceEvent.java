@@ -0,0 +1,13 @@
+package com.library.manager.boot.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("com.library.manager.Service")
+@Label("Service Call")
+@Description("A call through BookServicePort")
+@Threshold("5 ms")
+class ServiceEvent extends BookPipelineEvent {
+}
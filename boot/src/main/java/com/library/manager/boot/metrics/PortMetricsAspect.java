@@ -0,0 +1,118 @@
+package com.library.manager.boot.metrics;
+
+import com.library.manager.application.exceptions.BookNotFoundException;
+import com.library.manager.application.ports.driving.BookServicePort;
+import com.library.manager.domain.valueobjects.BookFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Times every call that crosses a port, and every call into a mapper, so the latency of a request can be split
+ * between the use case, the repository adapter and the mapping in between (the controllers themselves are timed by
+ * Spring MVC as {@code http.server.requests}).
+ * <ul>
+ *     <li>{@code library.port.calls}: tagged with the port, the operation (method name), the shape of the
+ *     {@link BookFilter} argument (which criteria are set, never their values) and the outcome.</li>
+ *     <li>{@code library.mapping}: tagged with the mapper and the operation.</li>
+ * </ul>
+ * Runs outside the caching and transaction advice, so calls answered from the cache are timed as well.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PortMetricsAspect {
+
+    static final String PORT_CALLS = "library.port.calls";
+
+    static final String MAPPING = "library.mapping";
+
+    private static final String NOT_APPLICABLE = "n/a";
+
+    private final MeterRegistry meterRegistry;
+
+    public PortMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.library.manager.application.ports.driving.BookServicePort.*(..))"
+            + " || execution(public * com.library.manager.application.ports.driven.BookRepositoryPort.*(..))")
+    public Object timePortCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = result instanceof Optional<?> optional && optional.isEmpty() ? "not_found" : "success";
+            return result;
+        } catch (BookNotFoundException ex) {
+            outcome = "not_found";
+            throw ex;
+        } catch (IllegalArgumentException ex) {
+            outcome = "invalid";
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(PORT_CALLS)
+                    .description("Calls through BookServicePort and BookRepositoryPort")
+                    .tag("port", port(joinPoint.getTarget()))
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .tag("filter", filterShape(joinPoint.getArgs()))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Around("execution(public * *(..)) && (within(com.library.manager.driving.controllers.mappers..*)"
+            + " || within(com.library.manager.driven.repositories.mappers..*))")
+    public Object timeMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            sample.stop(Timer.builder(MAPPING)
+                    .description("Calls into the MapStruct mappers")
+                    .tag("mapper", AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName().replace("Impl", ""))
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String port(Object target) {
+        return target instanceof BookServicePort ? "BookServicePort" : "BookRepositoryPort";
+    }
+
+    /**
+     * Criteria set on the filter argument, e.g. {@code title+genre}; {@code none} for an empty filter and
+     * {@code n/a} for operations that take no filter. Bounded to a handful of values whatever the input.
+     */
+    static String filterShape(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof BookFilter filter) {
+                List<String> criteria = new ArrayList<>();
+                if (filter.title() != null) {
+                    criteria.add("title");
+                }
+                if (filter.author() != null) {
+                    criteria.add("author");
+                }
+                if (filter.bookGenre() != null) {
+                    criteria.add("genre");
+                }
+                if (!filter.active()) {
+                    criteria.add("inactive");
+                }
+                return criteria.isEmpty() ? "none" : String.join("+", criteria);
+            }
+        }
+        return NOT_APPLICABLE;
+    }
+}
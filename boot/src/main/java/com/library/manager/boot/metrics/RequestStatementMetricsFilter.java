@@ -0,0 +1,153 @@
+package com.library.manager.boot.metrics;
+
+import com.library.manager.driven.repositories.metrics.StatementScope;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements each HTTP request runs, and the time spent in them, as {@code library.http.statements}
+ * and {@code library.http.statement.time}, tagged with the method and the URI template. The same figures are sent to
+ * the client in a {@code Server-Timing: db;dur=<ms>;desc="statements: <n>"} header, added just before the response
+ * is committed, so browser dev tools show the database share of each request.
+ * <p>
+ * When one statement runs {@code library.metrics.repeated-statements} times or more within a request, the request
+ * likely loads rows one by one (N+1): it is counted as {@code library.http.repeated.statements} and logged with the
+ * statement. Work handed off to another thread, such as streamed exports, is not attributed to the request.
+ */
+@Slf4j
+@Component
+public class RequestStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    private final int repeatedStatements;
+
+    public RequestStatementMetricsFilter(MeterRegistry meterRegistry,
+                                         @Value("${library.metrics.repeated-statements:10}") int repeatedStatements) {
+        this.meterRegistry = meterRegistry;
+        this.repeatedStatements = repeatedStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StatementScope.begin();
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response);
+        try {
+            chain.doFilter(request, timedResponse);
+            timedResponse.addServerTiming();
+        } finally {
+            record(request, StatementScope.end());
+        }
+    }
+
+    private void record(HttpServletRequest request, StatementScope.Summary summary) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+        DistributionSummary.builder("library.http.statements")
+                .description("SQL statements run per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(summary.statements());
+        Timer.builder("library.http.statement.time")
+                .description("Time spent running SQL statements per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(summary.elapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (summary.repetitions() >= repeatedStatements) {
+            Counter.builder("library.http.repeated.statements")
+                    .description("HTTP requests that ran the same SQL statement repeatedly, a likely N+1")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} ran the same statement {} times, a likely N+1: {}", request.getMethod(), uri,
+                    summary.repetitions(), summary.mostRepeated());
+        }
+    }
+
+    /**
+     * Adds the header the first time the body is about to be written, since headers set after that are lost; or at
+     * the end of the request when there is no body.
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private boolean added;
+
+        private ServerTimingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        private void addServerTiming() {
+            if (added || isCommitted()) {
+                return;
+            }
+            added = true;
+            StatementScope.Summary summary = StatementScope.current();
+            addHeader(SERVER_TIMING, String.format(Locale.ROOT, "db;dur=%.1f;desc=\"statements: %d\"",
+                    summary.elapsedNanos() / 1_000_000.0, summary.statements()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
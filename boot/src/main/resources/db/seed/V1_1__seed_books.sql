@@ -2,19 +2,15 @@
  * Author:  Napoleon Avila Ochoa
  * Created: 04/12/2025
  */
-DROP TABLE IF EXISTS BOOK;
 
-CREATE TABLE IF NOT EXISTS BOOK (
-    ID INT AUTO_INCREMENT PRIMARY KEY,
-    TITLE VARCHAR(255) NOT NULL,
-    AUTHOR VARCHAR(255) NOT NULL,
-    GENRE VARCHAR(150) NOT NULL,
-    PAGES INT NOT NULL DEFAULT 1,
-    ACTIVE BOOLEAN DEFAULT TRUE NOT NULL,
-    CREATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
-    UPDATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
-    PUBLICATION_YEAR INT
-);
+-- ============================================================
+-- IDS DE LOS DATOS INICIALES
+-- Consecutivos desde 1 con una secuencia temporal; BOOK_SEQ continúa
+-- tras el último al final del script.
+-- ============================================================
+
+CREATE SEQUENCE BOOK_SEED_SEQ START WITH 1;
+ALTER TABLE BOOK ALTER COLUMN ID SET DEFAULT NEXT VALUE FOR BOOK_SEED_SEQ;
 
 
 -- ============================================================
@@ -376,4 +372,24 @@ INSERT INTO BOOK (TITLE, AUTHOR, GENRE, PAGES, ACTIVE, PUBLICATION_YEAR) VALUES
 ('Teddy', 'J.D. Salinger', 'FICTION', 36, TRUE, 1953),
 ('Doce cuentos peregrinos', 'Gabriel García Márquez', 'FICTION', 224, TRUE, 1992),
 ('Madera de boj', 'Camilo José Cela', 'FICTION', 416, TRUE, 1999),
-('España en los diarios de mi vejez', 'Ernesto Sabato', 'ESSAY', 208, TRUE, 2004);
\ No newline at end of file
+('España en los diarios de mi vejez', 'Ernesto Sabato', 'ESSAY', 208, TRUE, 2004);
+
+
+-- ============================================================
+-- COLUMNAS NORMALIZADAS PARA BÚSQUEDA (minúsculas, sin tildes)
+-- Equivalente a SearchTextNormalizer para los caracteres de estos datos
+-- ============================================================
+
+UPDATE BOOK SET
+    TITLE_NORMALIZED = TRANSLATE(LOWER(TITLE), 'áàâäãéèêëíìîïóòôöõúùûüñç', 'aaaaaeeeeiiiiooooouuuunc'),
+    AUTHOR_NORMALIZED = TRANSLATE(LOWER(AUTHOR), 'áàâäãéèêëíìîïóòôöõúùûüñç', 'aaaaaeeeeiiiiooooouuuunc');
+
+
+-- ============================================================
+-- SECUENCIA DE HIBERNATE
+-- ============================================================
+
+ALTER TABLE BOOK ALTER COLUMN ID DROP DEFAULT;
+DROP SEQUENCE BOOK_SEED_SEQ;
+
+ALTER SEQUENCE BOOK_SEQ RESTART WITH (SELECT COALESCE(MAX(ID), 0) + 1 FROM BOOK);
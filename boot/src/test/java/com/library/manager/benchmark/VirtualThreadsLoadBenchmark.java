@@ -0,0 +1,203 @@
+package com.library.manager.benchmark;
+
+import com.library.manager.Application;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Throughput of {@code GET /v1/books/{id}} under high concurrency with Tomcat's platform thread pool and with the
+ * {@code virtual-threads} profile. Every prepared statement pays a simulated database round trip, so request threads
+ * spend their time blocked in JDBC as they do against a remote database; the connection pool is sized so that the
+ * database is not the limit and the only difference between the runs is the request threading model.
+ * <p>
+ * With platform threads throughput is capped at Tomcat's 200 threads divided by the statement latency; with virtual
+ * threads only by the pool and the CPU. Raise {@code benchmark.latency-ms} on machines with few cores, where the CPU
+ * is reached first. Not part of the regular test run; start it explicitly:
+ * <pre>
+ * mvn -pl boot test -Dtest=VirtualThreadsLoadBenchmark -Dsurefire.failIfNoSpecifiedTests=false \
+ *     -Dbenchmark.clients=1000 -Dbenchmark.requests=10 -Dbenchmark.latency-ms=200
+ * </pre>
+ */
+class VirtualThreadsLoadBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1000);
+
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests", 10);
+
+    private static final Duration STATEMENT_LATENCY = Duration.ofMillis(Long.getLong("benchmark.latency-ms", 200));
+
+    private static final int POOL_SIZE = 600;
+
+    private static final int BOOK_IDS = 300;
+
+    @Test
+    void compareThroughput() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%n%-10s %10s %12s %10s %10s%n", "threads", "requests", "req/s", "p50 ms", "p99 ms");
+        for (Result result : List.of(platform, virtual)) {
+            System.out.printf("%-10s %10d %12.0f %10d %10d%n", result.mode(), result.requests(),
+                    result.throughput(), result.percentile(0.50), result.percentile(0.99));
+        }
+        System.out.printf("virtual / platform throughput: %.2fx%n%n", virtual.throughput() / platform.throughput());
+
+        assertEquals(0, platform.errors());
+        assertEquals(0, virtual.errors());
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(Application.class, SlowJdbcConfiguration.class);
+        if (virtualThreads) {
+            builder.profiles("virtual-threads");
+        }
+
+        // Arguments, so that they also win over the profile's own pool settings
+        try (ConfigurableApplicationContext context = builder.run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark-" + virtualThreads + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.datasource.hikari.connection-timeout=30000")) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            String mode = virtualThreads ? "virtual" : "platform";
+
+            // Warm-up: fills the connection pool and JIT-compiles the request path
+            load(port, CLIENTS, 2);
+
+            return load(port, CLIENTS, REQUESTS_PER_CLIENT).named(mode);
+        }
+    }
+
+    private static Result load(int port, int clients, int requestsPerClient) throws Exception {
+        long[] latencies = new long[clients * requestsPerClient];
+        AtomicLong errors = new AtomicLong();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(executor)
+                     .build()) {
+
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                int offset = c * requestsPerClient;
+                futures.add(executor.submit(() -> {
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        long id = ThreadLocalRandom.current().nextLong(1, BOOK_IDS + 1);
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + port + "/v1/books/" + id)).build();
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            // Some of the seeded books are inactive: a 404 is a valid answer
+                            if (response.statusCode() >= 500) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception ex) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[offset + r] = System.nanoTime() - sent;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            return new Result(null, latencies, elapsed, errors.get());
+        }
+    }
+
+    private record Result(String mode, long[] latencies, long elapsedNanos, long errors) {
+
+        Result named(String name) {
+            return new Result(name, latencies, elapsedNanos, errors);
+        }
+
+        int requests() {
+            return latencies.length;
+        }
+
+        double throughput() {
+            return latencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        long percentile(double percentile) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            return Duration.ofNanos(sorted[(int) Math.ceil(percentile * sorted.length) - 1]).toMillis();
+        }
+    }
+
+    /**
+     * Delays every prepared statement by {@link #STATEMENT_LATENCY}, as a network round trip to the database would.
+     */
+    @Configuration
+    static class SlowJdbcConfiguration {
+
+        @Bean
+        static BeanPostProcessor slowDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new SlowDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static final class SlowDataSource extends DelegatingDataSource {
+
+        private SlowDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection target = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement")) {
+                            Thread.sleep(STATEMENT_LATENCY);
+                        }
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException ex) {
+                            throw ex.getCause();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.library.manager.boot.config;
+
+import com.library.manager.application.exceptions.BookNotFoundException;
+import com.library.manager.application.ports.driven.BookRepositoryPort;
+import com.library.manager.application.ports.driving.BookServicePort;
+import com.library.manager.application.services.BookServiceUseCase;
+import com.library.manager.domain.Book;
+import com.library.manager.domain.valueobjects.BookFacets;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.PaginatedResult;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import com.library.manager.driving.web.controllers.BookWebController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringJUnitConfig(CachingBookServiceTest.CachingConfiguration.class)
+@DisplayName("CachingBookService Tests")
+class CachingBookServiceTest {
+
+    @Autowired
+    private BookServicePort bookServicePort;
+
+    @Autowired
+    private BookRepositoryPort bookRepositoryPort;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Book testBook;
+
+    @BeforeEach
+    void setUp() {
+        reset(bookRepositoryPort);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        testBook = new Book();
+        testBook.setId(1L);
+        testBook.setTitle("Test Book");
+        testBook.setAuthor("Test Author");
+        testBook.setActive(true);
+    }
+
+    @Nested
+    @DisplayName("findActiveById() caching tests")
+    class FindActiveByIdTests {
+
+        @Test
+        @DisplayName("Should read a book from the repository only once")
+        void shouldCacheBook() {
+            // Arrange
+            when(bookRepositoryPort.findActiveById(1L)).thenReturn(Optional.of(testBook));
+
+            // Act
+            bookServicePort.findActiveById(1L);
+            Book result = bookServicePort.findActiveById(1L);
+
+            // Assert
+            assertEquals(testBook, result);
+            verify(bookRepositoryPort, times(1)).findActiveById(1L);
+        }
+
+        @Test
+        @DisplayName("Should not cache missing books")
+        void shouldNotCacheMissingBook() {
+            // Arrange
+            when(bookRepositoryPort.findActiveById(1L)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThrows(BookNotFoundException.class, () -> bookServicePort.findActiveById(1L));
+            assertThrows(BookNotFoundException.class, () -> bookServicePort.findActiveById(1L));
+            verify(bookRepositoryPort, times(2)).findActiveById(1L);
+        }
+
+        @Test
+        @DisplayName("Should evict only the deactivated book")
+        void shouldEvictDeactivatedBook() {
+            // Arrange
+            Book otherBook = new Book();
+            otherBook.setId(2L);
+            when(bookRepositoryPort.findActiveById(1L)).thenReturn(Optional.of(testBook));
+            when(bookRepositoryPort.findActiveById(2L)).thenReturn(Optional.of(otherBook));
+            when(bookRepositoryPort.deactivate(eq(1L), any(LocalDateTime.class))).thenReturn(true);
+            bookServicePort.findActiveById(1L);
+            bookServicePort.findActiveById(2L);
+
+            // Act
+            bookServicePort.deactivate(1L);
+            bookServicePort.findActiveById(1L);
+            bookServicePort.findActiveById(2L);
+
+            // Assert
+            verify(bookRepositoryPort, times(2)).findActiveById(1L);
+            verify(bookRepositoryPort, times(1)).findActiveById(2L);
+        }
+
+        @Test
+        @DisplayName("Should evict the updated book")
+        void shouldEvictUpdatedBook() {
+            // Arrange
+            when(bookRepositoryPort.findActiveById(1L)).thenReturn(Optional.of(testBook));
+            when(bookRepositoryPort.update(any(Book.class))).thenReturn(Optional.of(testBook));
+            bookServicePort.findActiveById(1L);
+
+            Book changes = new Book();
+            changes.setId(1L);
+            changes.setTitle("New Title");
+
+            // Act
+            bookServicePort.update(changes);
+            bookServicePort.findActiveById(1L);
+
+            // Assert
+            verify(bookRepositoryPort, times(2)).findActiveById(1L);
+        }
+
+        @Test
+        @DisplayName("Should keep the cached book when the update fails")
+        void shouldKeepBookWhenUpdateFails() {
+            // Arrange
+            when(bookRepositoryPort.findActiveById(1L)).thenReturn(Optional.of(testBook));
+            when(bookRepositoryPort.update(any(Book.class))).thenReturn(Optional.empty());
+            bookServicePort.findActiveById(1L);
+
+            // Act
+            assertThrows(BookNotFoundException.class, () -> bookServicePort.update(testBook));
+            bookServicePort.findActiveById(1L);
+
+            // Assert
+            verify(bookRepositoryPort, times(1)).findActiveById(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Conditional GET tests")
+    class ConditionalGetTests {
+
+        @Test
+        @DisplayName("Should answer a repeated conditional GET without calling the repository")
+        void shouldAnswerRepeatedConditionalGetFromCache() throws Exception {
+            // Arrange
+            testBook.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+            when(bookRepositoryPort.findActiveById(1L)).thenReturn(Optional.of(testBook));
+            MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new BookWebController(bookServicePort)).build();
+            String etag = mockMvc.perform(get("/ui/books/{id}", 1L))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            clearInvocations(bookRepositoryPort);
+
+            // Act & Assert
+            mockMvc.perform(get("/ui/books/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+            verifyNoInteractions(bookRepositoryPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("getAllWithFilters() caching tests")
+    class GetAllWithFiltersTests {
+
+        private final BookFilter filter = new BookFilter("Test", null, null, true);
+
+        private final PaginatedResult<Book> page = new PaginatedResult<>(List.of(), 0L, 0, 0, 10);
+
+        @Test
+        @DisplayName("Should cache pages by filter and pagination query")
+        void shouldCachePages() {
+            // Arrange
+            when(bookRepositoryPort.findAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(page);
+
+            // Act
+            bookServicePort.getAllWithFilters(filter, new PaginationQuery(0, 10));
+            bookServicePort.getAllWithFilters(new BookFilter("Test", null, null, true), new PaginationQuery(0, 10));
+            bookServicePort.getAllWithFilters(filter, new PaginationQuery(1, 10));
+
+            // Assert
+            verify(bookRepositoryPort, times(1)).findAllWithFilters(filter, new PaginationQuery(0, 10));
+            verify(bookRepositoryPort, times(1)).findAllWithFilters(filter, new PaginationQuery(1, 10));
+        }
+
+        @Test
+        @DisplayName("Should clear pages when a book is created")
+        void shouldClearPagesOnSave() {
+            // Arrange
+            when(bookRepositoryPort.findAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(page);
+            when(bookRepositoryPort.save(any(Book.class))).thenReturn(testBook);
+            bookServicePort.getAllWithFilters(filter, new PaginationQuery(0, 10));
+
+            // Act
+            bookServicePort.save(new Book());
+            bookServicePort.getAllWithFilters(filter, new PaginationQuery(0, 10));
+
+            // Assert
+            verify(bookRepositoryPort, times(2)).findAllWithFilters(filter, new PaginationQuery(0, 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("getFacets() caching tests")
+    class GetFacetsTests {
+
+        private final BookFilter filter = new BookFilter("Test", null, null, true);
+
+        @Test
+        @DisplayName("Should cache facets by filter apart from the pages of the same filter")
+        void shouldCacheFacets() {
+            // Arrange
+            when(bookRepositoryPort.countFacets(any(BookFilter.class))).thenReturn(BookFacets.EMPTY);
+            when(bookRepositoryPort.findAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(new PaginatedResult<>(List.of(), 0L, 0, 0, 10));
+
+            // Act
+            bookServicePort.getFacets(filter);
+            bookServicePort.getFacets(new BookFilter("Test", null, null, true));
+            bookServicePort.getAllWithFilters(filter, new PaginationQuery(0, 10));
+
+            // Assert
+            verify(bookRepositoryPort, times(1)).countFacets(filter);
+            verify(bookRepositoryPort, times(1)).findAllWithFilters(filter, new PaginationQuery(0, 10));
+        }
+
+        @Test
+        @DisplayName("Should clear facets when a book is deactivated")
+        void shouldClearFacetsOnDeactivate() {
+            // Arrange
+            when(bookRepositoryPort.countFacets(any(BookFilter.class))).thenReturn(BookFacets.EMPTY);
+            when(bookRepositoryPort.deactivate(eq(1L), any(LocalDateTime.class))).thenReturn(true);
+            bookServicePort.getFacets(filter);
+
+            // Act
+            bookServicePort.deactivate(1L);
+            bookServicePort.getFacets(filter);
+
+            // Assert
+            verify(bookRepositoryPort, times(2)).countFacets(filter);
+        }
+    }
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfiguration {
+
+        @Bean
+        BookRepositoryPort bookRepositoryPort() {
+            return mock(BookRepositoryPort.class);
+        }
+
+        @Bean
+        BookServicePort bookServicePort(BookRepositoryPort bookRepositoryPort,
+                                        ApplicationEventPublisher eventPublisher) {
+            return new CachingBookService(new BookServiceUseCase(bookRepositoryPort, eventPublisher));
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CachingBookService.BOOKS_CACHE, CachingBookService.BOOK_PAGES_CACHE);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.library.manager.boot.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VirtualThreadPinningMonitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    @DisplayName("Should count virtual threads that block inside synchronized blocks")
+    void shouldCountPinnedThreads() throws InterruptedException {
+        // Arrange
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(5));
+        Object lock = new Object();
+        monitor.start();
+
+        try {
+            // Act: events are delivered in batches, keep pinning until one arrives
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (meterRegistry.counter("jvm.threads.virtual.pinned").count() == 0 && System.nanoTime() < deadline) {
+                Thread.ofVirtual().start(() -> {
+                    synchronized (lock) {
+                        sleep(50);
+                    }
+                }).join();
+                Thread.sleep(100);
+            }
+
+            // Assert
+            assertTrue(meterRegistry.counter("jvm.threads.virtual.pinned").count() > 0);
+        } finally {
+            monitor.stop();
+        }
+        assertFalse(monitor.isRunning());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.library.manager.boot.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.manager.application.exceptions.BookNotFoundException;
+import com.library.manager.application.ports.driven.BookRepositoryPort;
+import com.library.manager.application.ports.driving.BookServicePort;
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookVersion;
+import com.library.manager.domain.valueobjects.CountMode;
+import com.library.manager.domain.valueobjects.PaginatedResult;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import com.library.manager.driven.repositories.mappers.PaginationEntityMapper;
+import com.library.manager.driven.repositories.mappers.PaginationEntityMapperImpl;
+import com.library.manager.driving.controllers.models.BooksResponse;
+import com.library.manager.driving.controllers.models.Pagination;
+import com.library.manager.driving.web.controllers.BookWebController;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.web.context.request.ServletWebRequest;
+
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PipelineEventsAspect Tests")
+class PipelineEventsAspectTest {
+
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        for (Class<? extends BookPipelineEvent> type : List.of(ControllerEvent.class, ServiceEvent.class,
+                RepositoryEvent.class, MappingEvent.class, SerializationEvent.class)) {
+            recording.enable(type).withThreshold(Duration.ZERO);
+        }
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new PipelineEventsAspect());
+        return (T) factory.getProxy();
+    }
+
+    private List<RecordedEvent> events(String name) throws IOException {
+        recording.stop();
+        Path file = Files.createTempFile("pipeline", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(name))
+                    .toList();
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Should record service calls with their filter and page")
+    void shouldRecordServiceCallsWithFilterAndPage() throws IOException {
+        // Arrange
+        BookServicePort service = mock(BookServicePort.class);
+        when(service.getAllWithFilters(any(), any())).thenReturn(new PaginatedResult<>(List.of(), 0, 0, 0, 20));
+        BookFilter filter = new BookFilter("dune", "herbert", BookGenre.FICTION, null);
+        PaginationQuery query = new PaginationQuery(2, 20, "author", "desc", null, CountMode.NONE);
+
+        // Act
+        proxy(service).getAllWithFilters(filter, query);
+
+        // Assert
+        RecordedEvent event = events("com.library.manager.Service").getFirst();
+        assertTrue(event.getString("operation").endsWith(".getAllWithFilters"));
+        assertEquals("success", event.getString("outcome"));
+        assertEquals("dune", event.getString("title"));
+        assertEquals("herbert", event.getString("author"));
+        assertEquals("FICTION", event.getString("genre"));
+        assertEquals("true", event.getString("active"));
+        assertEquals(2, event.getInt("page"));
+        assertEquals(20, event.getInt("pageSize"));
+        assertEquals("author", event.getString("sortBy"));
+        assertEquals("desc", event.getString("sortDirection"));
+        assertEquals("NONE", event.getString("countMode"));
+        assertFalse(event.getBoolean("cursor"));
+    }
+
+    @Test
+    @DisplayName("Should record the exception a repository call ended with")
+    void shouldRecordRepositoryFailures() throws IOException {
+        // Arrange
+        BookRepositoryPort repository = mock(BookRepositoryPort.class);
+        when(repository.findActiveById(7L)).thenThrow(new BookNotFoundException(7L));
+        BookRepositoryPort proxy = proxy(repository);
+
+        // Act
+        assertThrows(BookNotFoundException.class, () -> proxy.findActiveById(7L));
+
+        // Assert
+        RecordedEvent event = events("com.library.manager.Repository").getFirst();
+        assertEquals("BookNotFoundException", event.getString("outcome"));
+        assertEquals(-1, event.getInt("page"));
+    }
+
+    @Test
+    @DisplayName("Should record controller methods with their request parameters")
+    void shouldRecordControllerParameters() throws IOException {
+        // Arrange
+        BookServicePort service = mock(BookServicePort.class);
+        when(service.getCollectionVersion()).thenReturn(BookVersion.ofCollection(1, 1, LocalDateTime.now()));
+        when(service.getAllWithFilters(any(), any())).thenReturn(new PaginatedResult<>(List.of(), 0, 0, 0, 25));
+        BookWebController controller = proxy(new BookWebController(service));
+
+        // Act
+        controller.listBooks("dune", null, BookGenre.FICTION, null, 3, 25, "title", "asc", "cursor",
+                new ServletWebRequest(new MockHttpServletRequest()), new ExtendedModelMap());
+
+        // Assert
+        RecordedEvent event = events("com.library.manager.Controller").getFirst();
+        assertEquals("BookWebController.listBooks", event.getString("operation"));
+        assertEquals("dune", event.getString("title"));
+        assertEquals("FICTION", event.getString("genre"));
+        assertEquals(3, event.getInt("page"));
+        assertEquals(25, event.getInt("pageSize"));
+        assertEquals("asc", event.getString("sortDirection"));
+        assertTrue(event.getBoolean("cursor"));
+    }
+
+    @Test
+    @DisplayName("Should record mapper calls")
+    void shouldRecordMapperCalls() throws IOException {
+        // Act
+        proxy((PaginationEntityMapper) new PaginationEntityMapperImpl()).toPageable(new PaginationQuery(1, 5));
+
+        // Assert
+        RecordedEvent event = events("com.library.manager.Mapping").getFirst();
+        assertEquals("PaginationEntityMapper.toPageable", event.getString("operation"));
+        assertEquals(5, event.getInt("pageSize"));
+    }
+
+    @Test
+    @DisplayName("Should record JSON serialization of listings with their page")
+    void shouldRecordSerialization() throws IOException {
+        // Arrange
+        SerializationEventsConverter converter = new SerializationEventsConverter(new ObjectMapper());
+        BooksResponse response = new BooksResponse().books(List.of()).pagination(new Pagination().number(4).size(50));
+
+        // Act
+        converter.write(response, MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+
+        // Assert
+        RecordedEvent event = events("com.library.manager.Serialization").getFirst();
+        assertEquals("BooksResponse", event.getString("operation"));
+        assertEquals("success", event.getString("outcome"));
+        assertEquals(4, event.getInt("page"));
+        assertEquals(50, event.getInt("pageSize"));
+    }
+
+    @Test
+    @DisplayName("Should leave calls alone when no recording is running")
+    void shouldPassThroughWithoutRecording() throws IOException {
+        // Arrange
+        recording.stop();
+        BookServicePort service = mock(BookServicePort.class);
+        when(service.getCollectionVersion()).thenReturn(BookVersion.ofCollection(1, 1, LocalDateTime.now()));
+        SerializationEventsConverter converter = new SerializationEventsConverter(new ObjectMapper());
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        BookVersion version = proxy(service).getCollectionVersion();
+        converter.write(new Pagination().number(1), MediaType.APPLICATION_JSON, output);
+
+        // Assert
+        assertNotNull(version);
+        assertTrue(output.getBodyAsString().contains("\"number\":1"));
+    }
+}
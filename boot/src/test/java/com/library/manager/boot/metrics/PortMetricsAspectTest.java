@@ -0,0 +1,163 @@
+package com.library.manager.boot.metrics;
+
+import com.library.manager.application.exceptions.BookNotFoundException;
+import com.library.manager.application.ports.driven.BookRepositoryPort;
+import com.library.manager.application.ports.driving.BookServicePort;
+import com.library.manager.domain.Book;
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.PaginatedResult;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import com.library.manager.driven.repositories.mappers.PaginationEntityMapper;
+import com.library.manager.driven.repositories.mappers.PaginationEntityMapperImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PortMetricsAspect Tests")
+class PortMetricsAspectTest {
+
+    private MeterRegistry meterRegistry;
+
+    private PortMetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new PortMetricsAspect(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+    private Timer portTimer(String port, String operation, String filter, String outcome) {
+        return meterRegistry.find(PortMetricsAspect.PORT_CALLS)
+                .tags("port", port, "operation", operation, "filter", filter, "outcome", outcome)
+                .timer();
+    }
+
+    @Nested
+    @DisplayName("Port calls")
+    class PortCalls {
+
+        @Test
+        @DisplayName("Should time successful calls tagged with the filter shape")
+        void shouldTimeSuccessfulCallsWithFilterShape() {
+            // Arrange
+            BookServicePort service = mock(BookServicePort.class);
+            when(service.getAllWithFilters(any(), any())).thenReturn(new PaginatedResult<>(List.of(), 0, 0, 0, 10));
+            BookFilter filter = new BookFilter("dune", null, BookGenre.FICTION, null);
+
+            // Act
+            proxy(service).getAllWithFilters(filter, new PaginationQuery(0, 10));
+
+            // Assert
+            Timer timer = portTimer("BookServicePort", "getAllWithFilters", "title+genre", "success");
+            assertNotNull(timer);
+            assertEquals(1, timer.count());
+        }
+
+        @Test
+        @DisplayName("Should tag calls that throw BookNotFoundException as not found and rethrow")
+        void shouldTagNotFoundExceptions() {
+            // Arrange
+            BookServicePort service = mock(BookServicePort.class);
+            when(service.findActiveById(1L)).thenThrow(new BookNotFoundException(1L));
+            BookServicePort proxy = proxy(service);
+
+            // Act & Assert
+            assertThrows(BookNotFoundException.class, () -> proxy.findActiveById(1L));
+            assertNotNull(portTimer("BookServicePort", "findActiveById", "n/a", "not_found"));
+        }
+
+        @Test
+        @DisplayName("Should tag invalid arguments and unexpected failures apart")
+        void shouldTagInvalidAndErrorOutcomes() {
+            // Arrange
+            BookServicePort service = mock(BookServicePort.class);
+            when(service.findActiveByIds(any())).thenThrow(new IllegalArgumentException("too many"));
+            when(service.getCollectionVersion()).thenThrow(new IllegalStateException("down"));
+            BookServicePort proxy = proxy(service);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> proxy.findActiveByIds(List.of()));
+            assertThrows(IllegalStateException.class, proxy::getCollectionVersion);
+            assertNotNull(portTimer("BookServicePort", "findActiveByIds", "n/a", "invalid"));
+            assertNotNull(portTimer("BookServicePort", "getCollectionVersion", "n/a", "error"));
+        }
+
+        @Test
+        @DisplayName("Should tag empty optionals from the repository as not found")
+        void shouldTagEmptyOptionalsAsNotFound() {
+            // Arrange
+            BookRepositoryPort repository = mock(BookRepositoryPort.class);
+            when(repository.findActiveById(1L)).thenReturn(Optional.empty());
+            when(repository.findActiveById(2L)).thenReturn(Optional.of(new Book()));
+            BookRepositoryPort proxy = proxy(repository);
+
+            // Act
+            proxy.findActiveById(1L);
+            proxy.findActiveById(2L);
+
+            // Assert
+            assertNotNull(portTimer("BookRepositoryPort", "findActiveById", "n/a", "not_found"));
+            assertNotNull(portTimer("BookRepositoryPort", "findActiveById", "n/a", "success"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter shape")
+    class FilterShape {
+
+        @Test
+        @DisplayName("Should list every criterion set on the filter")
+        void shouldListEveryCriterion() {
+            BookFilter filter = new BookFilter("dune", "herbert", BookGenre.FICTION, false);
+
+            assertEquals("title+author+genre+inactive", PortMetricsAspect.filterShape(new Object[]{filter}));
+        }
+
+        @Test
+        @DisplayName("Should tell an empty filter from no filter at all")
+        void shouldTellEmptyFilterFromNoFilter() {
+            BookFilter filter = new BookFilter(" ", null, null, null);
+
+            assertEquals("none", PortMetricsAspect.filterShape(new Object[]{filter, 1L}));
+            assertEquals("n/a", PortMetricsAspect.filterShape(new Object[]{1L}));
+        }
+    }
+
+    @Test
+    @DisplayName("Should time mapper calls tagged with the mapper interface")
+    void shouldTimeMapperCalls() {
+        // Arrange
+        PaginationEntityMapper mapper = proxy(new PaginationEntityMapperImpl());
+
+        // Act
+        mapper.toPageable(new PaginationQuery(0, 10));
+
+        // Assert
+        Timer timer = meterRegistry.find(PortMetricsAspect.MAPPING)
+                .tags("mapper", "PaginationEntityMapper", "operation", "toPageable")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+}
@@ -0,0 +1,125 @@
+package com.library.manager.boot.metrics;
+
+import com.library.manager.driven.repositories.metrics.StatementMetricsListener;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequestStatementMetricsFilter Tests")
+class RequestStatementMetricsFilterTest {
+
+    private final StatementMetricsListener listener = new StatementMetricsListener(Duration.ofMinutes(1));
+
+    private MeterRegistry meterRegistry;
+
+    private RequestStatementMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestStatementMetricsFilter(meterRegistry, 3);
+    }
+
+    private MockHttpServletResponse handle(String uriTemplate, boolean writeBody, String... statements)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/books");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                if (uriTemplate != null) {
+                    req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, uriTemplate);
+                }
+                for (String statement : statements) {
+                    execute(statement);
+                }
+                if (writeBody) {
+                    resp.getWriter().write("{}");
+                    resp.flushBuffer();
+                    execute("select late");
+                }
+            }
+        });
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private void execute(String sql) {
+        ExecutionInfo execution = new ExecutionInfo();
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        listener.beforeQuery(execution, queries);
+        listener.afterQuery(execution, queries);
+    }
+
+    @Test
+    @DisplayName("Should record the statements of each request under its URI template")
+    void shouldRecordStatementsPerRequest() throws Exception {
+        // Act
+        handle("/v1/books", false, "select books", "select count");
+        handle("/v1/books", false, "select books");
+
+        // Assert
+        DistributionSummary statements = meterRegistry.find("library.http.statements")
+                .tags("method", "GET", "uri", "/v1/books")
+                .summary();
+        assertNotNull(statements);
+        assertEquals(2, statements.count());
+        assertEquals(3, statements.totalAmount());
+        assertEquals(2, meterRegistry.find("library.http.statement.time").timer().count());
+        assertNull(meterRegistry.find("library.http.repeated.statements").counter());
+    }
+
+    @Test
+    @DisplayName("Should count requests that repeat a statement as likely N+1")
+    void shouldCountRepeatedStatements() throws Exception {
+        // Act
+        handle(null, false, "select books", "select author", "select author", "select author");
+
+        // Assert
+        assertEquals(1, meterRegistry.find("library.http.repeated.statements")
+                .tags("method", "GET", "uri", "UNKNOWN")
+                .counter()
+                .count());
+    }
+
+    @Test
+    @DisplayName("Should add a Server-Timing header to responses without a body")
+    void shouldAddServerTimingWithoutBody() throws Exception {
+        // Act
+        MockHttpServletResponse response = handle("/v1/books", false, "select books", "select count");
+
+        // Assert
+        assertTrue(response.getHeader(RequestStatementMetricsFilter.SERVER_TIMING)
+                .matches("db;dur=\\d+\\.\\d;desc=\"statements: 2\""));
+    }
+
+    @Test
+    @DisplayName("Should add the Server-Timing header once, before the body is written")
+    void shouldAddServerTimingBeforeBody() throws Exception {
+        // Act
+        MockHttpServletResponse response = handle("/v1/books", true, "select books");
+
+        // Assert
+        assertEquals(1, response.getHeaders(RequestStatementMetricsFilter.SERVER_TIMING).size());
+        assertTrue(response.getHeader(RequestStatementMetricsFilter.SERVER_TIMING).endsWith("desc=\"statements: 1\""));
+        assertEquals(2, meterRegistry.find("library.http.statements").summary().totalAmount());
+    }
+}
@@ -0,0 +1,139 @@
+package com.library.manager.driven.repositories;
+
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.driven.repositories.search.SearchTextNormalizer;
+import jakarta.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WHERE clause of a book query holding only the criteria a filter sets. Each combination of criteria (a filter shape)
+ * gets its own JPQL, so the database plans every shape on its own, using the index that fits it, instead of sharing
+ * one generic plan full of {@code :x IS NULL OR ...} branches.
+ *
+ * <p>The clauses of the 32 possible shapes are built once. A given shape and select therefore always produce the same
+ * JPQL string, which Hibernate keeps parsed in its query plan cache, and the same SQL, which the database keeps
+ * prepared.
+ */
+final class BookFilterQuery {
+
+    private static final int IDS = 1;
+    private static final int ACTIVE = 1 << 1;
+    private static final int TITLE = 1 << 2;
+    private static final int AUTHOR = 1 << 3;
+    private static final int GENRE = 1 << 4;
+
+    private static final String[] WHERE_CLAUSES = new String[GENRE << 1];
+
+    private static final List<List<String>> FIXED_PROPERTIES = new ArrayList<>(WHERE_CLAUSES.length);
+
+    static {
+        for (int shape = 0; shape < WHERE_CLAUSES.length; shape++) {
+            WHERE_CLAUSES[shape] = whereClause(shape);
+            FIXED_PROPERTIES.add(fixedProperties(shape));
+        }
+    }
+
+    private final int shape;
+
+    private final Map<String, Object> parameters;
+
+    private BookFilterQuery(int shape, Map<String, Object> parameters) {
+        this.shape = shape;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Criteria of {@code filter}, restricted to the given IDs when not {@code null}.
+     */
+    static BookFilterQuery of(BookFilter filter, Collection<Long> ids) {
+        int shape = 0;
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        if (ids != null) {
+            shape |= IDS;
+            parameters.put("ids", ids);
+        }
+        if (filter.active() != null) {
+            shape |= ACTIVE;
+            parameters.put("active", filter.active());
+        }
+        if (filter.title() != null) {
+            shape |= TITLE;
+            parameters.put("title", SearchTextNormalizer.normalize(filter.title()));
+        }
+        if (filter.author() != null) {
+            shape |= AUTHOR;
+            parameters.put("author", SearchTextNormalizer.normalize(filter.author()));
+        }
+        if (filter.bookGenre() != null) {
+            shape |= GENRE;
+            parameters.put("bookGenre", filter.bookGenre());
+        }
+
+        return new BookFilterQuery(shape, parameters);
+    }
+
+    /**
+     * {@code " WHERE ..."} with one predicate per criterion set, or an empty string when none is.
+     */
+    String where() {
+        return WHERE_CLAUSES[shape];
+    }
+
+    /**
+     * Prefix for predicates appended after {@link #where()}.
+     */
+    String and() {
+        return shape == 0 ? " WHERE " : " AND ";
+    }
+
+    /**
+     * Properties fixed to one value by the filter, in the column order of the listing indexes that start with them.
+     */
+    List<String> fixedProperties() {
+        return FIXED_PROPERTIES.get(shape);
+    }
+
+    <Q extends Query> Q bind(Q query) {
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    private static String whereClause(int shape) {
+        StringBuilder where = new StringBuilder();
+
+        if ((shape & IDS) != 0) {
+            appendPredicate(where, "b.id IN :ids");
+        }
+        if ((shape & ACTIVE) != 0) {
+            appendPredicate(where, "b.active = :active");
+        }
+        if ((shape & TITLE) != 0) {
+            appendPredicate(where, "b.titleNormalized LIKE CONCAT('%', :title, '%')");
+        }
+        if ((shape & AUTHOR) != 0) {
+            appendPredicate(where, "b.authorNormalized LIKE CONCAT('%', :author, '%')");
+        }
+        if ((shape & GENRE) != 0) {
+            appendPredicate(where, "b.bookGenre = :bookGenre");
+        }
+        return where.toString();
+    }
+
+    private static List<String> fixedProperties(int shape) {
+        // A search index hit list is read by primary key and sorted in memory
+        if ((shape & IDS) != 0 || (shape & ACTIVE) == 0) {
+            return List.of();
+        }
+        return (shape & GENRE) != 0 ? List.of("active", "bookGenre") : List.of("active");
+    }
+
+    private static void appendPredicate(StringBuilder where, String predicate) {
+        where.append(where.isEmpty() ? " WHERE " : " AND ").append(predicate);
+    }
+}
@@ -0,0 +1,190 @@
+package com.library.manager.driven.repositories;
+
+import com.library.manager.driven.repositories.models.BookEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Plain JDBC writes for bulk operations, where going through the persistence context would cost one statement per
+ * entity, and for single-row updates, where a JPQL bulk update would clear the whole {@code book} cache region.
+ * Entity callbacks do not run, so callers must call {@link BookEntity#prepareForWrite()} first.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookJdbcRepository {
+
+    private static final String INSERT = """
+            INSERT INTO BOOK (ID, TITLE, TITLE_NORMALIZED, AUTHOR, AUTHOR_NORMALIZED, GENRE, PAGES, PUBLICATION_YEAR,
+                              ACTIVE, CREATED_AT, UPDATED_AT)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /**
+     * The update, and the stored fields it leaves alone, read back from the updated row in the same statement.
+     */
+    private static final String UPDATE = """
+            SELECT ACTIVE, CREATED_AT FROM FINAL TABLE (
+                UPDATE BOOK
+                SET TITLE = ?, TITLE_NORMALIZED = ?, AUTHOR = ?, AUTHOR_NORMALIZED = ?, GENRE = ?, PAGES = ?,
+                    PUBLICATION_YEAR = ?, UPDATED_AT = ?
+                WHERE ID = ?
+            )
+            """;
+
+    private static final String DEACTIVATE = "UPDATE BOOK SET ACTIVE = FALSE, UPDATED_AT = ? WHERE ID = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EntityManager entityManager;
+
+    /**
+     * Assigns IDs to all entities and inserts them with a single JDBC batch. Must run in a transaction.
+     */
+    public void insertAll(List<BookEntity> books) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        assignIds(session, books);
+        invalidateCachedQueries(session);
+
+        jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                setInsertValues(statement, books.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return books.size();
+            }
+        });
+    }
+
+    /**
+     * Updates the editable fields of a book in one statement, which also reads back its active flag and creation
+     * date into {@code book}. Must run in a transaction.
+     *
+     * @return the number of updated rows
+     */
+    public int update(BookEntity book) {
+        prepareRowWrite(book.getId());
+
+        List<BookEntity> stored = jdbcTemplate.query(UPDATE, statement -> {
+            statement.setString(1, book.getTitle());
+            statement.setString(2, book.getTitleNormalized());
+            statement.setString(3, book.getAuthor());
+            statement.setString(4, book.getAuthorNormalized());
+            statement.setString(5, book.getBookGenre() == null ? null : book.getBookGenre().name());
+            statement.setObject(6, book.getPages(), Types.INTEGER);
+            statement.setObject(7, book.getPublicationYear(), Types.INTEGER);
+            statement.setTimestamp(8, Timestamp.valueOf(book.getUpdatedAt()));
+            statement.setLong(9, book.getId());
+        }, (resultSet, rowNum) -> {
+            book.setActive(resultSet.getBoolean("ACTIVE"));
+            book.setCreatedAt(resultSet.getTimestamp("CREATED_AT").toLocalDateTime());
+            return book;
+        });
+
+        return stored.size();
+    }
+
+    /**
+     * Must run in a transaction.
+     *
+     * @return the number of deactivated rows
+     */
+    public int deactivate(Long id, LocalDateTime updatedAt) {
+        prepareRowWrite(id);
+
+        return jdbcTemplate.update(DEACTIVATE, statement -> {
+            statement.setTimestamp(1, Timestamp.valueOf(updatedAt));
+            statement.setLong(2, id);
+        });
+    }
+
+    /**
+     * Flushes pending changes first and detaches the row's entity, as a JPQL bulk update would, but evicts only this
+     * row from the entity region: before the write, and again once the transaction completes so that a copy cached
+     * by a concurrent reader in between does not outlive it.
+     */
+    private void prepareRowWrite(Long id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        session.flush();
+        detach(session, id);
+        invalidateCachedQueries(session);
+
+        Cache cache = session.getFactory().getCache();
+        cache.evict(BookEntity.class, id);
+        session.getActionQueue().registerProcess((success, completedSession) -> cache.evict(BookEntity.class, id));
+    }
+
+    private static void detach(SessionImplementor session, Long id) {
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(BookEntity.class);
+        Object managed = session.getPersistenceContextInternal().getEntity(session.generateEntityKey(id, persister));
+        if (managed != null) {
+            session.detach(managed);
+        }
+    }
+
+    /**
+     * Takes the IDs from the entity's own generator, so they come out of the same {@code pooled-lo} blocks as those
+     * of {@code persist}: one {@code nextval}, in the dialect's syntax, per {@link BookEntity#ID_ALLOCATION_SIZE}
+     * books, and never an ID Hibernate has handed out or will hand out.
+     */
+    private static void assignIds(SessionImplementor session, List<BookEntity> books) {
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(BookEntity.class).getGenerator();
+
+        for (BookEntity book : books) {
+            book.setId((Long) generator.generate(session, book));
+        }
+    }
+
+    /**
+     * These writes bypass Hibernate, so cached query results over BOOK are invalidated here the way Hibernate does it
+     * for its own bulk statements: pre-invalidated before the write, so that results read meanwhile are not cached
+     * as current, and invalidated once the transaction completes.
+     */
+    private static void invalidateCachedQueries(SessionImplementor session) {
+        if (!session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled()) {
+            return;
+        }
+
+        Object[] querySpaces = session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(BookEntity.class).getQuerySpaces();
+        String[] tables = Arrays.copyOf(querySpaces, querySpaces.length, String[].class);
+        TimestampsCache timestampsCache = session.getFactory().getCache().getTimestampsCache();
+
+        timestampsCache.preInvalidate(tables, session);
+        session.getActionQueue().registerProcess((success, completedSession) ->
+                timestampsCache.invalidate(tables, completedSession));
+    }
+
+    private static void setInsertValues(PreparedStatement statement, BookEntity book) throws SQLException {
+        statement.setLong(1, book.getId());
+        statement.setString(2, book.getTitle());
+        statement.setString(3, book.getTitleNormalized());
+        statement.setString(4, book.getAuthor());
+        statement.setString(5, book.getAuthorNormalized());
+        statement.setString(6, book.getBookGenre() == null ? null : book.getBookGenre().name());
+        statement.setObject(7, book.getPages(), Types.INTEGER);
+        statement.setObject(8, book.getPublicationYear(), Types.INTEGER);
+        statement.setBoolean(9, book.getActive());
+        statement.setTimestamp(10, Timestamp.valueOf(book.getCreatedAt()));
+        statement.setTimestamp(11, Timestamp.valueOf(book.getUpdatedAt()));
+    }
+}
@@ -1,28 +1,62 @@
 package com.library.manager.driven.repositories;
 
-import com.library.manager.domain.valueobjects.BookFilter;
 import com.library.manager.driven.repositories.models.BookEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.library.manager.driven.repositories.search.IndexedBook;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface BookJpaRepository extends JpaRepository<BookEntity, Long> {
+public interface BookJpaRepository extends JpaRepository<BookEntity, Long>, BookJpaRepositoryCustom {
 
+    /**
+     * First page of the change feed: active and inactive books in {@code (updatedAt, id)} order, read from
+     * IDX_BOOK_UPDATED_AT.
+     */
+    @Query("SELECT b FROM BookEntity b WHERE b.updatedAt <= :until ORDER BY b.updatedAt, b.id")
+    List<BookEntity> findChangesUntil(LocalDateTime until, Limit limit);
+
+    /**
+     * Next page of the change feed, strictly after {@code (updatedAt, id)}. The redundant {@code >=} bound lets the
+     * index range scan start at the cursor.
+     */
     @Query("""
         SELECT b
         FROM BookEntity b
-        WHERE (:#{#filter.active} IS NULL OR b.active = :#{#filter.active})
-        AND (:#{#filter.title} IS NULL OR LOWER(b.title) LIKE LOWER(CONCAT('%', :#{#filter.title}, '%')))
-        AND (:#{#filter.author} IS NULL OR LOWER(b.author) LIKE LOWER(CONCAT('%', :#{#filter.author}, '%')))
-        AND (:#{#filter.bookGenre} IS NULL OR b.bookGenre = :#{#filter.bookGenre})
+        WHERE b.updatedAt >= :updatedAt
+        AND (b.updatedAt > :updatedAt OR b.id > :id)
+        AND b.updatedAt <= :until
+        ORDER BY b.updatedAt, b.id
         """)
-    Page<BookEntity> findAllWithFilters(BookFilter filter, Pageable pageable);
+    List<BookEntity> findChangesAfter(LocalDateTime updatedAt, Long id, LocalDateTime until, Limit limit);
+
+    List<BookEntity> findByIdInAndActiveTrue(Collection<Long> ids);
 
-    Optional<BookEntity> findByIdAndActiveTrue(Long id);
+    /**
+     * The searchable fields of every book in ID order, read in chunks. Must be closed, within a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT new com.library.manager.driven.repositories.search.IndexedBook(b.id, b.title, b.author)
+        FROM BookEntity b
+        ORDER BY b.id
+        """)
+    Stream<IndexedBook> streamAllIndexedBooks();
+
+    @Query("""
+        SELECT new com.library.manager.driven.repositories.search.IndexedBook(b.id, b.title, b.author)
+        FROM BookEntity b
+        WHERE b.active = true
+        """)
+    List<IndexedBook> findActiveIndexedBooks();
 
 }
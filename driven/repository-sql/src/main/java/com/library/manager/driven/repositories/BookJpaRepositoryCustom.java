@@ -0,0 +1,78 @@
+package com.library.manager.driven.repositories;
+
+import com.library.manager.domain.valueobjects.BookCursor;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.driven.repositories.models.BookEntity;
+import com.library.manager.driven.repositories.models.BookFacetCount;
+import com.library.manager.driven.repositories.models.BookRow;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Queries built from the criteria a {@link BookFilter} actually sets (see {@link BookFilterQuery}), so that each
+ * combination of criteria runs its own statement instead of one generic statement for all of them.
+ *
+ * <p>Listings return {@link BookRow}s, which bypass the persistence context; only the export stream reads entities.
+ */
+public interface BookJpaRepositoryCustom {
+
+    default Page<BookRow> findAllWithFilters(BookFilter filter, Pageable pageable) {
+        return findAllWithFilters(filter, null, pageable);
+    }
+
+    /**
+     * Page of matching books, restricted to the given IDs when not {@code null}. The COUNT query is skipped when the
+     * page alone tells the total.
+     */
+    Page<BookRow> findAllWithFilters(BookFilter filter, Collection<Long> ids, Pageable pageable);
+
+    default Slice<BookRow> findSliceWithFilters(BookFilter filter, Pageable pageable) {
+        return findSliceWithFilters(filter, null, pageable);
+    }
+
+    /**
+     * Same as {@link #findAllWithFilters(BookFilter, Collection, Pageable)} without the COUNT query: fetches one extra
+     * row to know if there is a next page.
+     */
+    Slice<BookRow> findSliceWithFilters(BookFilter filter, Collection<Long> ids, Pageable pageable);
+
+    /**
+     * Forward-only stream over every matching book ordered by ID, fetched from the database in chunks of the fetch
+     * size. Must be consumed and closed inside a transaction.
+     */
+    Stream<BookEntity> streamAllWithFilters(BookFilter filter);
+
+    /**
+     * Keyset (seek) variant of {@link #findAllWithFilters(BookFilter, Pageable)}: returns at most {@code limit} rows
+     * strictly after the cursor position, ordered by the cursor sort key and ID.
+     */
+    default List<BookRow> findAllWithFiltersAfter(BookFilter filter, BookCursor cursor, int limit) {
+        return findAllWithFiltersAfter(filter, null, cursor, limit);
+    }
+
+    /**
+     * Same as {@link #findAllWithFiltersAfter(BookFilter, BookCursor, int)} restricted to the given IDs, when not
+     * {@code null}.
+     */
+    List<BookRow> findAllWithFiltersAfter(BookFilter filter, Collection<Long> ids, BookCursor cursor, int limit);
+
+    default long countWithFilters(BookFilter filter) {
+        return countWithFilters(filter, null);
+    }
+
+    long countWithFilters(BookFilter filter, Collection<Long> ids);
+
+    /**
+     * Number of matching books per genre and publication year, restricted to the given IDs when not {@code null}.
+     * Each facet is folded from these rows, so one grouped query answers them all; with IDX_BOOK_ACTIVE_GENRE_YEAR
+     * it reads only the index.
+     */
+    List<BookFacetCount> countByGenreAndYearWithFilters(BookFilter filter, Collection<Long> ids);
+
+}
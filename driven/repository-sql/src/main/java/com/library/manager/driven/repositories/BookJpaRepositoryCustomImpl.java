@@ -0,0 +1,233 @@
+package com.library.manager.driven.repositories;
+
+import com.library.manager.domain.valueobjects.BookCursor;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.driven.repositories.models.BookEntity;
+import com.library.manager.driven.repositories.models.BookFacetCount;
+import com.library.manager.driven.repositories.models.BookRow;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class BookJpaRepositoryCustomImpl implements BookJpaRepositoryCustom {
+
+    /**
+     * Query cache region of the listing, count and facet queries. Any write to BOOK made through Hibernate, or
+     * through {@link BookJdbcRepository}, makes every result in it stale.
+     */
+    public static final String QUERY_CACHE_REGION = "book-queries";
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String SELECT_BOOKS = "SELECT b FROM BookEntity b";
+
+    /**
+     * Listings select rows rather than entities: nothing is added to the persistence context or snapshotted.
+     */
+    private static final String SELECT_BOOK_ROWS = "SELECT new " + BookRow.class.getName()
+            + "(b.id, b.title, b.author, b.bookGenre, b.pages, b.publicationYear, b.createdAt, b.updatedAt, b.active)"
+            + " FROM BookEntity b";
+
+    private static final String COUNT_BOOKS = "SELECT COUNT(b) FROM BookEntity b";
+
+    private static final String COUNT_BY_GENRE_AND_YEAR = "SELECT new " + BookFacetCount.class.getName()
+            + "(b.bookGenre, b.publicationYear, COUNT(b)) FROM BookEntity b";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<BookRow> findAllWithFilters(BookFilter filter, Collection<Long> ids, Pageable pageable) {
+        List<BookRow> content = pagedQuery(filter, ids, pageable)
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countWithFilters(filter, ids));
+    }
+
+    @Override
+    public Slice<BookRow> findSliceWithFilters(BookFilter filter, Collection<Long> ids, Pageable pageable) {
+        List<BookRow> content = pagedQuery(filter, ids, pageable)
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public Stream<BookEntity> streamAllWithFilters(BookFilter filter) {
+        BookFilterQuery filterQuery = BookFilterQuery.of(filter, null);
+
+        StringBuilder jpql = new StringBuilder(SELECT_BOOKS).append(filterQuery.where());
+        String separator = appendFixedOrder(jpql, filterQuery, " ORDER BY ", " ASC", List.of("id"));
+        jpql.append(separator).append("b.id");
+
+        return filterQuery.bind(entityManager.createQuery(jpql.toString(), BookEntity.class))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                // An export reads the whole catalogue once; it must not push the hot books out of the cache
+                .setHint(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS)
+                .getResultStream();
+    }
+
+    @Override
+    public List<BookRow> findAllWithFiltersAfter(BookFilter filter, Collection<Long> ids,
+                                                 BookCursor cursor, int limit) {
+        BookSortField sortField = BookSortField.forCursor(cursor);
+        BookFilterQuery filterQuery = BookFilterQuery.of(filter, ids);
+
+        StringBuilder jpql = new StringBuilder(SELECT_BOOK_ROWS).append(filterQuery.where());
+        Map<String, Object> parameters = new HashMap<>();
+
+        appendSeek(jpql, filterQuery.and(), parameters, sortField, cursor);
+        appendOrderBy(jpql, filterQuery, sortField, cursor.isDescending());
+
+        TypedQuery<BookRow> query = cacheable(
+                filterQuery.bind(entityManager.createQuery(jpql.toString(), BookRow.class)));
+        parameters.forEach(query::setParameter);
+
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public long countWithFilters(BookFilter filter, Collection<Long> ids) {
+        BookFilterQuery filterQuery = BookFilterQuery.of(filter, ids);
+
+        return cacheable(filterQuery.bind(entityManager.createQuery(COUNT_BOOKS + filterQuery.where(), Long.class)))
+                .getSingleResult();
+    }
+
+    @Override
+    public List<BookFacetCount> countByGenreAndYearWithFilters(BookFilter filter, Collection<Long> ids) {
+        BookFilterQuery filterQuery = BookFilterQuery.of(filter, ids);
+        String jpql = COUNT_BY_GENRE_AND_YEAR + filterQuery.where() + " GROUP BY b.bookGenre, b.publicationYear";
+
+        return cacheable(filterQuery.bind(entityManager.createQuery(jpql, BookFacetCount.class)))
+                .getResultList();
+    }
+
+    /**
+     * Offset query of a page, sorted as requested. Sort properties are checked against the entity model before they
+     * are written into the JPQL.
+     */
+    private TypedQuery<BookRow> pagedQuery(BookFilter filter, Collection<Long> ids, Pageable pageable) {
+        BookFilterQuery filterQuery = BookFilterQuery.of(filter, ids);
+        StringBuilder jpql = new StringBuilder(SELECT_BOOK_ROWS).append(filterQuery.where());
+
+        String separator = " ORDER BY ";
+        if (pageable.getSort().isSorted()) {
+            Sort.Order first = pageable.getSort().iterator().next();
+            List<String> sortProperties = pageable.getSort().stream().map(Sort.Order::getProperty).toList();
+            separator = appendFixedOrder(jpql, filterQuery, separator, first.isAscending() ? " ASC" : " DESC",
+                    sortProperties);
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            String property = entityManager.getMetamodel().entity(BookEntity.class)
+                    .getSingularAttribute(order.getProperty()).getName();
+            jpql.append(separator).append("b.").append(property).append(order.isAscending() ? " ASC" : " DESC");
+            if (order.getNullHandling() == Sort.NullHandling.NULLS_FIRST) {
+                jpql.append(" NULLS FIRST");
+            } else if (order.getNullHandling() == Sort.NullHandling.NULLS_LAST) {
+                jpql.append(" NULLS LAST");
+            }
+            separator = ", ";
+        }
+
+        return cacheable(filterQuery.bind(entityManager.createQuery(jpql.toString(), BookRow.class)))
+                .setFirstResult((int) pageable.getOffset());
+    }
+
+    /**
+     * Caches the results in {@link #QUERY_CACHE_REGION}, keyed by statement, parameters and page bounds. Ignored
+     * when the query cache is disabled.
+     */
+    private static <T> TypedQuery<T> cacheable(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, QUERY_CACHE_REGION);
+    }
+
+    /**
+     * Expands {@code (sortKey, id) > (:value, :id)} for JPQL. NULL sort values are ordered first
+     * on ascending sorts and last on descending sorts, matching {@link #appendOrderBy}.
+     */
+    private void appendSeek(StringBuilder jpql, String and, Map<String, Object> parameters,
+                            BookSortField sortField, BookCursor cursor) {
+        String idOperator = cursor.isDescending() ? "<" : ">";
+        parameters.put("cursorId", cursor.id());
+
+        if (sortField == BookSortField.ID) {
+            jpql.append(and).append("b.id ").append(idOperator).append(" :cursorId");
+            return;
+        }
+
+        String property = "b." + sortField.getProperty();
+        Object value = sortField.parse(cursor.sortValue());
+
+        if (value == null) {
+            jpql.append(and).append(cursor.isDescending()
+                    ? "(" + property + " IS NULL AND b.id < :cursorId)"
+                    : "(" + property + " IS NOT NULL OR b.id > :cursorId)");
+            return;
+        }
+
+        parameters.put("cursorValue", value);
+        String rangeOperator = cursor.isDescending() ? "<=" : ">=";
+        String strictOperator = cursor.isDescending() ? "<" : ">";
+
+        jpql.append(and).append("((").append(property).append(' ').append(rangeOperator).append(" :cursorValue")
+                .append(" AND (").append(property).append(' ').append(strictOperator).append(" :cursorValue")
+                .append(" OR b.id ").append(idOperator).append(" :cursorId))");
+
+        if (sortField.isNullable() && cursor.isDescending()) {
+            jpql.append(" OR ").append(property).append(" IS NULL");
+        }
+        jpql.append(')');
+    }
+
+    private void appendOrderBy(StringBuilder jpql, BookFilterQuery filterQuery,
+                               BookSortField sortField, boolean descending) {
+        String direction = descending ? " DESC" : " ASC";
+
+        String separator = appendFixedOrder(jpql, filterQuery, " ORDER BY ", direction,
+                List.of(sortField.getProperty(), BookSortField.ID.getProperty()));
+        jpql.append(separator);
+        if (sortField != BookSortField.ID) {
+            jpql.append("b.").append(sortField.getProperty()).append(direction)
+                    .append(descending ? " NULLS LAST" : " NULLS FIRST")
+                    .append(", ");
+        }
+        jpql.append("b.id").append(direction);
+    }
+
+    /**
+     * Sorts by the properties the filter fixes to one value, except those sorted on anyway, so the order matches the
+     * leading columns of the listing index; see {@link BookFilterQuery}. Returns the separator for the next sort
+     * item.
+     */
+    private static String appendFixedOrder(StringBuilder jpql, BookFilterQuery filterQuery, String separator,
+                                           String direction, List<String> sortProperties) {
+        for (String property : filterQuery.fixedProperties()) {
+            if (!sortProperties.contains(property)) {
+                jpql.append(separator).append("b.").append(property).append(direction);
+                separator = ", ";
+            }
+        }
+        return separator;
+    }
+}
@@ -0,0 +1,75 @@
+package com.library.manager.driven.repositories;
+
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookCursor;
+import com.library.manager.driven.repositories.models.BookEntity;
+import com.library.manager.driven.repositories.models.BookRow;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Sortable {@link BookEntity} properties that can be used as a keyset (seek) pagination key.
+ */
+@Getter
+public enum BookSortField {
+
+    ID("id", false, BookRow::id, Long::valueOf),
+    TITLE("title", false, BookRow::title, value -> value),
+    AUTHOR("author", false, BookRow::author, value -> value),
+    BOOK_GENRE("bookGenre", false, BookRow::bookGenre, BookGenre::valueOf),
+    PUBLICATION_YEAR("publicationYear", true, BookRow::publicationYear, Integer::valueOf),
+    ACTIVE("active", false, BookRow::active, Boolean::valueOf);
+
+    private final String property;
+
+    private final boolean nullable;
+
+    private final Function<BookRow, Object> accessor;
+
+    private final Function<String, Object> parser;
+
+    BookSortField(String property, boolean nullable,
+                  Function<BookRow, Object> accessor, Function<String, Object> parser) {
+        this.property = property;
+        this.nullable = nullable;
+        this.accessor = accessor;
+        this.parser = parser;
+    }
+
+    public static Optional<BookSortField> fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst();
+    }
+
+    /**
+     * Resolves the sort field of a cursor received from a client, checking that its value can be parsed.
+     */
+    public static BookSortField forCursor(BookCursor cursor) {
+        BookSortField sortField = fromProperty(cursor.sortBy())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Sort field '" + cursor.sortBy() + "' does not support cursor pagination"));
+        try {
+            sortField.parse(cursor.sortValue());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid pagination cursor value for sort field '" + cursor.sortBy() + "'", ex);
+        }
+        return sortField;
+    }
+
+    public String valueOf(BookRow bookRow) {
+        Object value = accessor.apply(bookRow);
+
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Enum<?> enumValue ? enumValue.name() : value.toString();
+    }
+
+    public Object parse(String value) {
+        return value == null ? null : parser.apply(value);
+    }
+}
@@ -2,20 +2,55 @@ package com.library.manager.driven.repositories.adapters;
 
 import com.library.manager.application.ports.driven.BookRepositoryPort;
 import com.library.manager.domain.Book;
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookChangeCursor;
+import com.library.manager.domain.valueobjects.BookCursor;
+import com.library.manager.domain.valueobjects.BookFacets;
 import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.BookSuggestionField;
+import com.library.manager.domain.valueobjects.BookVersion;
+import com.library.manager.domain.valueobjects.CountMode;
 import com.library.manager.domain.valueobjects.PaginatedResult;
 import com.library.manager.domain.valueobjects.PaginationQuery;
+import com.library.manager.driven.repositories.BookJdbcRepository;
 import com.library.manager.driven.repositories.BookJpaRepository;
+import com.library.manager.driven.repositories.BookSortField;
+import com.library.manager.driven.repositories.cache.BookCollectionVersion;
+import com.library.manager.driven.repositories.cache.BookCountCache;
 import com.library.manager.driven.repositories.mappers.BookEntityMapper;
 import com.library.manager.driven.repositories.mappers.PaginationEntityMapper;
 import com.library.manager.driven.repositories.models.BookEntity;
+import com.library.manager.driven.repositories.models.BookFacetCount;
+import com.library.manager.driven.repositories.models.BookRow;
+import com.library.manager.driven.repositories.search.BookSearchIndex;
+import com.library.manager.driven.repositories.search.BookSuggestionIndex;
+import com.library.manager.driven.repositories.search.IndexedBook;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @RequiredArgsConstructor
@@ -24,25 +59,121 @@ public class BookRepositoryAdapter implements BookRepositoryPort {
 
     private final BookJpaRepository bookJpaRepository;
 
+    private final BookJdbcRepository bookJdbcRepository;
+
     private final BookEntityMapper bookEntityMapper;
 
     private final PaginationEntityMapper paginationEntityMapper;
 
+    private final BookCountCache bookCountCache;
+
+    private final BookCollectionVersion bookCollectionVersion;
+
+    private final BookSearchIndex bookSearchIndex;
+
+    private final BookSuggestionIndex bookSuggestionIndex;
+
+    private final EntityManager entityManager;
+
     @Override
+    @Transactional
     public Book save(Book book) {
 
         BookEntity bookEntity = bookEntityMapper.toEntity(book);
 
-        return bookEntityMapper.toDomain(bookJpaRepository.save(bookEntity));
+        BookEntity savedEntity = bookJpaRepository.save(bookEntity);
+        indexAfterCommit(List.of(savedEntity));
+        collectionChangedAfterCommit();
+
+        return bookEntityMapper.toDomain(savedEntity);
+    }
+
+    @Override
+    @Transactional
+    public List<Book> saveAll(List<Book> books) {
+
+        List<BookEntity> bookEntities = books.stream().map(bookEntityMapper::toEntity).toList();
+        bookEntities.forEach(BookEntity::prepareForWrite);
+
+        bookJdbcRepository.insertAll(bookEntities);
+        indexAfterCommit(bookEntities);
+        collectionChangedAfterCommit();
+
+        return bookEntities.stream().map(bookEntityMapper::toDomain).toList();
+    }
+
+    @Override
+    @Transactional
+    public Optional<Book> update(Book book) {
+
+        BookEntity bookEntity = bookEntityMapper.toEntity(book);
+        bookEntity.prepareForWrite();
+
+        // The update reads back the active flag and creation date, so the entity now holds every stored field
+        if (bookJdbcRepository.update(bookEntity) == 0) {
+            return Optional.empty();
+        }
+        indexAfterCommit(List.of(bookEntity));
+        collectionChangedAfterCommit();
+
+        return Optional.of(bookEntityMapper.toDomain(bookEntity));
+    }
+
+    @Override
+    @Transactional
+    public boolean deactivate(Long bookId, LocalDateTime updatedAt) {
+
+        boolean deactivated = bookJdbcRepository.deactivate(bookId, updatedAt) > 0;
+        if (deactivated) {
+            afterCommit(() -> bookSuggestionIndex.remove(bookId));
+            collectionChangedAfterCommit();
+        }
+
+        return deactivated;
     }
 
+    /**
+     * Loads the search and suggestion indexes once the database has been initialized. Until then, and for good when
+     * the catalogue is too large for it, title and author filters are answered by SQL.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildSearchIndex() {
+        if (bookSearchIndex.canHold(bookJpaRepository.count())) {
+            bookSearchIndex.rebuild(bookJpaRepository::streamAllIndexedBooks);
+        }
+        bookSuggestionIndex.rebuild(bookJpaRepository.findActiveIndexedBooks());
+    }
+
+    /**
+     * Looked up by primary key, so hot books are served from the second-level cache without a query. The read-only
+     * transaction keeps Hibernate from snapshotting the entity for dirty checking.
+     */
     @Override
     @Transactional(readOnly = true)
     public Optional<Book> findActiveById(Long bookId) {
-        return bookJpaRepository.findByIdAndActiveTrue(bookId)
+        return bookJpaRepository.findById(bookId)
+                .filter(bookEntity -> Boolean.TRUE.equals(bookEntity.getActive()))
                 .map(bookEntityMapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findActiveByIds(Collection<Long> bookIds) {
+
+        return bookJpaRepository.findByIdInAndActiveTrue(bookIds).stream()
+                .map(bookEntityMapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * Advanced only after commit: a reader must never pair the new version with data from before the write.
+     */
+    @Override
+    public BookVersion getCollectionVersion() {
+        return bookCollectionVersion.current();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Book> findById(Long bookId) {
@@ -54,10 +185,217 @@ public class BookRepositoryAdapter implements BookRepositoryPort {
     @Transactional(readOnly = true)
     public PaginatedResult<Book> findAllWithFilters(BookFilter filter, PaginationQuery paginationQuery) {
 
+        List<Long> ids = bookSearchIndex.search(filter.title(), filter.author()).orElse(null);
+        if (ids != null && ids.isEmpty()) {
+            return new PaginatedResult<>(List.of(), 0L, 0, paginationQuery.page(), paginationQuery.pageSize(), false, null);
+        }
+
+        if (paginationQuery.hasCursor()) {
+            return findAllWithFiltersAfter(filter, ids, paginationQuery);
+        }
+
         Pageable pageable = paginationEntityMapper.toPageable(paginationQuery);
+        PaginatedResult<Book> result;
+        List<BookRow> pageContent;
+
+        if (paginationQuery.countMode() == CountMode.EXACT) {
+            Page<BookRow> rowPage = ids == null
+                    ? bookJpaRepository.findAllWithFilters(filter, pageable)
+                    : bookJpaRepository.findAllWithFilters(filter, ids, pageable);
+            bookCountCache.put(filter, rowPage.getTotalElements());
+            result = bookEntityMapper.toBookPaginatedResult(rowPage);
+            pageContent = rowPage.getContent();
+        } else {
+            Slice<BookRow> rowSlice = ids == null
+                    ? bookJpaRepository.findSliceWithFilters(filter, pageable)
+                    : bookJpaRepository.findSliceWithFilters(filter, ids, pageable);
+            result = bookEntityMapper.toBookPaginatedResult(rowSlice, countElements(filter, ids, paginationQuery));
+            pageContent = rowSlice.getContent();
+        }
+
+        String nextCursor = result.hasNext()
+                ? nextCursor(pageContent, paginationQuery.sortBy(), paginationQuery.sortDirection())
+                : null;
+
+        return result.withNextCursor(nextCursor);
+    }
+
+    /**
+     * The genre is left out of the query, which groups by genre and year: the genre counts add up every row, the
+     * decade counts only those of the requested genre.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BookFacets countFacets(BookFilter filter) {
+
+        List<Long> ids = bookSearchIndex.search(filter.title(), filter.author()).orElse(null);
+        if (ids != null && ids.isEmpty()) {
+            return BookFacets.EMPTY;
+        }
+
+        BookFilter anyGenre = new BookFilter(filter.title(), filter.author(), null, filter.active());
+        List<BookFacetCount> counts = ids == null
+                ? bookJpaRepository.countByGenreAndYearWithFilters(anyGenre, null)
+                : bookJpaRepository.countByGenreAndYearWithFilters(anyGenre, ids);
+
+        Map<BookGenre, Long> genres = new EnumMap<>(BookGenre.class);
+        SortedMap<Integer, Long> decades = new TreeMap<>();
+        long withoutYear = 0;
+        for (BookFacetCount count : counts) {
+            if (count.bookGenre() != null) {
+                genres.merge(count.bookGenre(), count.count(), Long::sum);
+            }
+            if (filter.bookGenre() != null && filter.bookGenre() != count.bookGenre()) {
+                continue;
+            }
+            if (count.publicationYear() == null) {
+                withoutYear += count.count();
+            } else {
+                decades.merge(BookFacets.decadeOf(count.publicationYear()), count.count(), Long::sum);
+            }
+        }
+
+        return new BookFacets(genres, decades, withoutYear);
+    }
+
+    @Override
+    public List<BookSuggestion> suggest(BookSuggestionField field, String prefix, int limit) {
+        return bookSuggestionIndex.suggest(field, prefix, limit);
+    }
+
+    /**
+     * Each entity is detached once handed over, so the persistence context stays empty however many books are read.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachWithFilters(BookFilter filter, Consumer<Book> action) {
+
+        try (Stream<BookEntity> bookEntities = bookJpaRepository.streamAllWithFilters(filter)) {
+            bookEntities.forEach(bookEntity -> {
+                action.accept(bookEntityMapper.toDomain(bookEntity));
+                entityManager.detach(bookEntity);
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findChangedAfter(BookChangeCursor cursor, LocalDateTime until, int limit) {
+
+        List<BookEntity> bookEntities = cursor == null
+                ? bookJpaRepository.findChangesUntil(until, Limit.of(limit))
+                : bookJpaRepository.findChangesAfter(cursor.updatedAt(), cursor.id(), until, Limit.of(limit));
+
+        return bookEntities.stream()
+                .map(bookEntityMapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * Seek pagination: the cursor carries its own sort criteria, so it takes precedence over the
+     * sort requested in the query. One extra row is fetched to know whether a next page exists.
+     */
+    private PaginatedResult<Book> findAllWithFiltersAfter(BookFilter filter, List<Long> ids,
+                                                          PaginationQuery paginationQuery) {
+
+        BookCursor cursor = BookCursor.decode(paginationQuery.after());
+        // Validated here: once inside the repository proxy the exception would be translated to a DataAccessException
+        BookSortField.forCursor(cursor);
+        int pageSize = paginationQuery.pageSize();
+
+        List<BookRow> rows = ids == null
+                ? bookJpaRepository.findAllWithFiltersAfter(filter, cursor, pageSize + 1)
+                : bookJpaRepository.findAllWithFiltersAfter(filter, ids, cursor, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<BookRow> pageContent = hasNext ? rows.subList(0, pageSize) : rows;
+
+        long totalElements = countElements(filter, ids, paginationQuery);
+        int totalPages = totalElements == PaginatedResult.UNKNOWN_TOTAL
+                ? PaginatedResult.UNKNOWN_TOTAL
+                : (int) ((totalElements + pageSize - 1) / pageSize);
+
+        return new PaginatedResult<>(
+                pageContent.stream().map(bookEntityMapper::toDomain).toList(),
+                totalElements,
+                totalPages,
+                paginationQuery.page(),
+                pageSize,
+                hasNext,
+                hasNext ? nextCursor(pageContent, cursor.sortBy(), cursor.sortDirection()) : null);
+    }
+
+    private long countElements(BookFilter filter, List<Long> ids, PaginationQuery paginationQuery) {
+        ToLongFunction<BookFilter> counter = ids == null
+                ? bookJpaRepository::countWithFilters
+                : countedFilter -> bookJpaRepository.countWithFilters(countedFilter, ids);
+
+        return switch (paginationQuery.countMode()) {
+            case EXACT -> {
+                long count = counter.applyAsLong(filter);
+                bookCountCache.put(filter, count);
+                yield count;
+            }
+            case ESTIMATED -> bookCountCache.get(filter, counter);
+            case NONE -> PaginatedResult.UNKNOWN_TOTAL;
+        };
+    }
+
+    /**
+     * The search index keeps inactive books too; suggestions only come from active ones.
+     */
+    private void indexAfterCommit(List<BookEntity> bookEntities) {
+        Map<Boolean, List<IndexedBook>> indexedBooks = bookEntities.stream()
+                .collect(Collectors.partitioningBy(bookEntity -> Boolean.TRUE.equals(bookEntity.getActive()),
+                        Collectors.mapping(bookEntity -> new IndexedBook(bookEntity.getId(), bookEntity.getTitle(),
+                                bookEntity.getAuthor()), Collectors.toList())));
+        List<IndexedBook> activeBooks = indexedBooks.get(true);
+        List<IndexedBook> inactiveBooks = indexedBooks.get(false);
+
+        afterCommit(() -> {
+            activeBooks.forEach(bookSearchIndex::index);
+            inactiveBooks.forEach(bookSearchIndex::index);
+            activeBooks.forEach(bookSuggestionIndex::index);
+            inactiveBooks.forEach(indexedBook -> bookSuggestionIndex.remove(indexedBook.id()));
+        });
+    }
+
+    /**
+     * Cached counts are dropped together with the version moving forward, once the write is visible: dropped before
+     * the commit, a concurrent listing could count the old rows again and serve that total for the whole TTL.
+     */
+    private void collectionChangedAfterCommit() {
+        afterCommit(() -> {
+            bookCountCache.invalidateAll();
+            bookCollectionVersion.advance();
+        });
+    }
+
+    /**
+     * Runs {@code action} once the current transaction commits, or right away when there is none.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private String nextCursor(List<BookRow> pageContent, String sortBy, String sortDirection) {
+        if (pageContent.isEmpty()) {
+            return null;
+        }
 
-        Page<BookEntity> entityPage = bookJpaRepository.findAllWithFilters(filter, pageable);
+        BookRow last = pageContent.get(pageContent.size() - 1);
 
-        return bookEntityMapper.toBookPaginatedResult(entityPage);
+        return BookSortField.fromProperty(sortBy)
+                .map(sortField -> new BookCursor(sortBy, sortDirection, last.id(), sortField.valueOf(last)).encode())
+                .orElse(null);
     }
 }
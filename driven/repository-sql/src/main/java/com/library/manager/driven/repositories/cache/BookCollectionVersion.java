@@ -0,0 +1,54 @@
+package com.library.manager.driven.repositories.cache;
+
+import com.library.manager.domain.valueobjects.BookVersion;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory revision of the book collection, advanced by the repository adapter once each write has committed, so
+ * listings can be revalidated without running a query. The revision restarts with the application; the startup time
+ * is part of the version so that a restart never repeats a version handed out before.
+ */
+@Component
+public class BookCollectionVersion {
+
+    private final Clock clock;
+
+    private final long epoch;
+
+    private final AtomicReference<Revision> current;
+
+    public BookCollectionVersion() {
+        this(Clock.systemDefaultZone());
+    }
+
+    BookCollectionVersion(Clock clock) {
+        this.clock = clock;
+        this.epoch = clock.millis();
+        this.current = new AtomicReference<>(new Revision(0, now()));
+    }
+
+    public BookVersion current() {
+        Revision revision = current.get();
+        return BookVersion.ofCollection(epoch, revision.number(), revision.modifiedAt());
+    }
+
+    public void advance() {
+        LocalDateTime now = now();
+        current.updateAndGet(revision -> new Revision(revision.number() + 1, now));
+    }
+
+    /**
+     * At the precision of the stored book timestamps, like every other {@code lastModified}.
+     */
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private record Revision(long number, LocalDateTime modifiedAt) {
+    }
+}
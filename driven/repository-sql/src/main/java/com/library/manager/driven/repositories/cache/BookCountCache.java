@@ -0,0 +1,92 @@
+package com.library.manager.driven.repositories.cache;
+
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.driven.repositories.search.SearchTextNormalizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Short-lived cache of COUNT results keyed by normalized {@link BookFilter}, used by
+ * {@link com.library.manager.domain.valueobjects.CountMode#ESTIMATED} listings so page turns do not re-count.
+ * Every write through the repository adapter clears it.
+ */
+@Component
+public class BookCountCache {
+
+    private final Map<BookFilter, Entry> entries = new ConcurrentHashMap<>();
+
+    private final long ttlNanos;
+
+    private final int maxEntries;
+
+    private final LongSupplier ticker;
+
+    @Autowired
+    public BookCountCache(@Value("${library.pagination.count-cache.ttl:30s}") Duration ttl,
+                          @Value("${library.pagination.count-cache.max-entries:1000}") int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    BookCountCache(Duration ttl, int maxEntries, LongSupplier ticker) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.ticker = ticker;
+    }
+
+    public long get(BookFilter filter, ToLongFunction<BookFilter> counter) {
+        BookFilter key = normalize(filter);
+        long now = ticker.getAsLong();
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() - now > 0) {
+            return entry.count();
+        }
+
+        long count = counter.applyAsLong(filter);
+        put(key, count, now);
+        return count;
+    }
+
+    public void put(BookFilter filter, long count) {
+        put(normalize(filter), count, ticker.getAsLong());
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void put(BookFilter key, long count, long now) {
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(count, now + ttlNanos));
+    }
+
+    /**
+     * Title and author are matched ignoring case and accents, so neither must split the cache.
+     */
+    private static BookFilter normalize(BookFilter filter) {
+        return new BookFilter(
+                SearchTextNormalizer.normalize(filter.title()),
+                SearchTextNormalizer.normalize(filter.author()),
+                filter.bookGenre(),
+                filter.active());
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.library.manager.driven.repositories.config;
+
+import com.library.manager.driven.repositories.metrics.StatementMetricsListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the data source so every statement passes through {@link StatementMetricsListener}, whichever API issued it.
+ * The proxy unwraps to the pool, so its metrics and health checks are unaffected.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    /**
+     * Static, so it is registered before the data source is created; {@code @Value} is not resolved that early, hence
+     * the binder.
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(Environment environment) {
+        Duration slowQueryThreshold = Binder.get(environment)
+                .bind("library.sql.slow-query-threshold", Duration.class)
+                .orElse(Duration.ofMillis(100));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new StatementMetricsListener(slowQueryThreshold))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
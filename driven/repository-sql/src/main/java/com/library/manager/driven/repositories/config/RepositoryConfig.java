@@ -1,13 +1,90 @@
 package com.library.manager.driven.repositories.config;
 
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.library.manager.driven.repositories.BookJpaRepositoryCustomImpl;
+import com.library.manager.driven.repositories.models.BookEntity;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
 @Configuration
 @ConfigurationProperties("spring.datasource")
 @EntityScan("com.library.manager.driven.repositories.models")
 @EnableJpaRepositories(basePackages = {"com.library.manager.driven.repositories"})
 public class RepositoryConfig {
+
+    /**
+     * Hibernate second-level and query cache, held in Caffeine through JCache: books by ID in
+     * {@link BookEntity#CACHE_REGION} and the filter queries in {@link BookJpaRepositoryCustomImpl#QUERY_CACHE_REGION}.
+     * With {@code hibernate.generate_statistics}, every region is published as {@code hibernate.second.level.cache.*}
+     * metrics tagged with its name. {@code library.sql.cache.enabled=false} turns both caches off.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            @Value("${library.sql.cache.enabled:true}") boolean enabled,
+            @Value("${library.sql.cache.book.maximum-size:10000}") long bookMaximumSize,
+            @Value("${library.sql.cache.book.expire-after-write:10m}") Duration bookExpireAfterWrite,
+            @Value("${library.sql.cache.queries.maximum-size:1000}") long queryMaximumSize,
+            @Value("${library.sql.cache.queries.expire-after-write:1m}") Duration queryExpireAfterWrite) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            if (!enabled) {
+                return;
+            }
+
+            CacheManager cacheManager = newCacheManager();
+            cacheManager.createCache(BookEntity.CACHE_REGION, bounded(bookMaximumSize, bookExpireAfterWrite));
+            cacheManager.createCache(BookJpaRepositoryCustomImpl.QUERY_CACHE_REGION,
+                    bounded(queryMaximumSize, queryExpireAfterWrite));
+            cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                    bounded(queryMaximumSize, queryExpireAfterWrite));
+            // Never evicted: a query result is only trusted while the last write to its tables is known
+            cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                    unbounded());
+
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        };
+    }
+
+    /**
+     * A manager of its own rather than the provider's default one, which is shared by every session factory in the
+     * JVM: two application contexts over different databases must never see each other's rows. Hibernate closes it
+     * with the session factory.
+     */
+    private static CacheManager newCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("hibernate:" + UUID.randomUUID()),
+                RepositoryConfig.class.getClassLoader());
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = unbounded();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        return configuration;
+    }
+
+    private static CaffeineConfiguration<Object, Object> unbounded() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
 }
@@ -3,8 +3,11 @@ package com.library.manager.driven.repositories.mappers;
 import com.library.manager.domain.Book;
 import com.library.manager.domain.valueobjects.PaginatedResult;
 import com.library.manager.driven.repositories.models.BookEntity;
+import com.library.manager.driven.repositories.models.BookRow;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 
 @Mapper(componentModel = "spring")
@@ -12,16 +15,41 @@ public interface BookEntityMapper {
 
     Book toDomain(BookEntity bookEntity);
 
+    Book toDomain(BookRow bookRow);
+
+    @Mapping(target = "titleNormalized", ignore = true)
+    @Mapping(target = "authorNormalized", ignore = true)
     BookEntity toEntity(Book book);
 
-    default PaginatedResult<Book> toBookPaginatedResult(Page<BookEntity> entityPage) {
-        Page<Book> bookPage = entityPage.map(this::toDomain);
+    default PaginatedResult<Book> toBookPaginatedResult(Page<BookRow> rowPage) {
+        Page<Book> bookPage = rowPage.map(this::toDomain);
 
         return new PaginatedResult<>(
                 bookPage.getContent(),
                 bookPage.getTotalElements(),
                 bookPage.getTotalPages(),
                 bookPage.getNumber(),
-                bookPage.getSize());
+                bookPage.getSize(),
+                bookPage.hasNext(),
+                null);
+    }
+
+    /**
+     * Maps a page fetched without COUNT query; {@code totalElements} is {@link PaginatedResult#UNKNOWN_TOTAL}
+     * when no total is available.
+     */
+    default PaginatedResult<Book> toBookPaginatedResult(Slice<BookRow> rowSlice, long totalElements) {
+        int totalPages = totalElements == PaginatedResult.UNKNOWN_TOTAL
+                ? PaginatedResult.UNKNOWN_TOTAL
+                : (int) ((totalElements + rowSlice.getSize() - 1) / rowSlice.getSize());
+
+        return new PaginatedResult<>(
+                rowSlice.map(this::toDomain).getContent(),
+                totalElements,
+                totalPages,
+                rowSlice.getNumber(),
+                rowSlice.getSize(),
+                rowSlice.hasNext(),
+                null);
     }
 }
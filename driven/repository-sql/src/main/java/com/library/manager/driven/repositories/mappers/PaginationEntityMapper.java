@@ -15,6 +15,11 @@ public interface PaginationEntityMapper {
                 : Sort.Direction.ASC;
         Sort sort = Sort.by(direction, paginationQuery.sortBy());
 
+        // ID as tie-breaker keeps the order stable, so a cursor taken from this page resumes at the right row
+        if (!"id".equals(paginationQuery.sortBy())) {
+            sort = sort.and(Sort.by(direction, "id"));
+        }
+
         return PageRequest.of(
                 paginationQuery.page(),
                 paginationQuery.pageSize(),
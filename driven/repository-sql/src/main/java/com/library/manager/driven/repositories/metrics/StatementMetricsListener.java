@@ -0,0 +1,88 @@
+package com.library.manager.driven.repositories.metrics;
+
+import com.library.manager.application.ports.driven.BookRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Sees every statement that reaches the JDBC driver, whether issued by Hibernate or by {@code JdbcTemplate}: adds it
+ * and its execution time to the {@link StatementScope} of the current thread, and logs it with its bound parameters
+ * and the {@link BookRepositoryPort} method that issued it when it takes longer than the slow-query threshold.
+ */
+@Slf4j
+public class StatementMetricsListener implements QueryExecutionListener {
+
+    private static final String START = StatementMetricsListener.class.getName() + ".start";
+
+    private static final int LOGGED_PARAMETER_SETS = 3;
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final long slowQueryNanos;
+
+    public StatementMetricsListener(Duration slowQueryThreshold) {
+        this.slowQueryNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START, Long.class);
+        long elapsedNanos = start != null ? System.nanoTime() - start : 0;
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+
+        StatementScope.record(sql, elapsedNanos);
+
+        if (elapsedNanos >= slowQueryNanos) {
+            log.warn("Slow query ({} ms) from {}: {} {}", Duration.ofNanos(elapsedNanos).toMillis(), origin(), sql,
+                    parameters(queryInfoList));
+        }
+    }
+
+    /**
+     * The repository port method the statement was issued from, or {@code unknown} when it did not go through one
+     * (schema creation, data initialization).
+     */
+    static String origin() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> BookRepositoryPort.class.isAssignableFrom(frame.getDeclaringClass())
+                        && !frame.getDeclaringClass().getName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+
+    /**
+     * Bound parameters in order, e.g. {@code [%dune%, 20]}; only the first few sets of a batch.
+     */
+    static String parameters(List<QueryInfo> queryInfoList) {
+        List<List<ParameterSetOperation>> sets = queryInfoList.stream()
+                .flatMap(queryInfo -> queryInfo.getParametersList().stream())
+                .toList();
+        String logged = sets.stream()
+                .limit(LOGGED_PARAMETER_SETS)
+                .map(StatementMetricsListener::values)
+                .collect(Collectors.joining(", "));
+        return sets.size() > LOGGED_PARAMETER_SETS
+                ? logged + " (+" + (sets.size() - LOGGED_PARAMETER_SETS) + " more)"
+                : logged;
+    }
+
+    private static String values(List<ParameterSetOperation> operations) {
+        return operations.stream()
+                .map(operation -> "setNull".equals(operation.getMethod().getName())
+                        ? "null" : String.valueOf(operation.getArgs()[1]))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
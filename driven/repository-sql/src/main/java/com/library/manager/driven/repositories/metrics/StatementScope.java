@@ -0,0 +1,74 @@
+package com.library.manager.driven.repositories.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statements executed on the current thread between {@link #begin()} and {@link #end()}, typically one HTTP
+ * request. Statements are grouped by their text before parameters are bound, so the same statement run once per row of
+ * a previous result (an N+1) shows up as one text with a high count. Statements outside a scope are not tracked.
+ */
+public final class StatementScope {
+
+    private static final ThreadLocal<Statements> CURRENT = new ThreadLocal<>();
+
+    private StatementScope() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new Statements());
+    }
+
+    /**
+     * Closes the scope of the current thread.
+     *
+     * @return what ran in the scope, empty when none was open
+     */
+    public static Summary end() {
+        Summary summary = current();
+        CURRENT.remove();
+        return summary;
+    }
+
+    /**
+     * @return what ran so far in the scope of the current thread, empty when none is open
+     */
+    public static Summary current() {
+        Statements statements = CURRENT.get();
+        return statements != null ? statements.summary() : Summary.EMPTY;
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        Statements statements = CURRENT.get();
+        if (statements != null) {
+            statements.executions.merge(sql, 1, Integer::sum);
+            statements.elapsedNanos += elapsedNanos;
+        }
+    }
+
+    private static final class Statements {
+
+        private final Map<String, Integer> executions = new HashMap<>();
+
+        private long elapsedNanos;
+
+        private Summary summary() {
+            return executions.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(top -> new Summary(executions.values().stream().mapToInt(Integer::intValue).sum(),
+                            elapsedNanos, top.getKey(), top.getValue()))
+                    .orElse(Summary.EMPTY);
+        }
+    }
+
+    /**
+     * @param statements   statements executed; a JDBC batch counts once
+     * @param elapsedNanos time spent executing them
+     * @param mostRepeated text of the statement executed most often, null when none ran
+     * @param repetitions  executions of {@code mostRepeated}
+     */
+    public record Summary(int statements, long elapsedNanos, String mostRepeated, int repetitions) {
+
+        public static final Summary EMPTY = new Summary(0, 0, null, 0);
+    }
+}
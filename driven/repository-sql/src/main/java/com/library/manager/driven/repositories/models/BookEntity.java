@@ -1,13 +1,19 @@
 package com.library.manager.driven.repositories.models;
 
 import com.library.manager.domain.BookGenre;
+import com.library.manager.driven.repositories.search.SearchTextNormalizer;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = BookEntity.CACHE_REGION)
 @Data
 @Builder
 @Table(name = "BOOK")
@@ -15,8 +21,24 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class BookEntity {
 
+    /**
+     * IDs come from BOOK_SEQ in blocks of this size, handed out by Hibernate's {@code pooled-lo} optimizer: a
+     * sequence value {@code v} reserves {@code v .. v + ID_ALLOCATION_SIZE - 1}. Unlike IDENTITY, this lets Hibernate
+     * assign IDs without executing the INSERT, so inserts can be batched.
+     */
+    public static final String ID_SEQUENCE = "BOOK_SEQ";
+
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Second-level cache region of the entity. {@code BookJdbcRepository} evicts the rows it updates, and its inserts
+     * never touch existing rows, so cached books cannot outlive a change.
+     */
+    public static final String CACHE_REGION = "book";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookIdGenerator")
+    @SequenceGenerator(name = "bookIdGenerator", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "ID", nullable = false)
     private Long id;
 
@@ -47,4 +69,30 @@ public class BookEntity {
     @Column(name = "ACTIVE", nullable = false)
     private Boolean active;
 
+    /**
+     * {@link #title} folded by {@link SearchTextNormalizer}; maintained on every write and used by the filter queries.
+     */
+    @Column(name = "TITLE_NORMALIZED", nullable = false)
+    private String titleNormalized;
+
+    @Column(name = "AUTHOR_NORMALIZED", nullable = false)
+    private String authorNormalized;
+
+    /**
+     * Fills the normalized search columns and drops the nanoseconds the TIMESTAMP columns would round away, so the
+     * entity holds exactly what is stored. Runs as an entity callback; bulk statements must call it themselves.
+     */
+    @PrePersist
+    @PreUpdate
+    public void prepareForWrite() {
+        titleNormalized = SearchTextNormalizer.normalize(title);
+        authorNormalized = SearchTextNormalizer.normalize(author);
+        createdAt = truncate(createdAt);
+        updatedAt = truncate(updatedAt);
+    }
+
+    private static LocalDateTime truncate(LocalDateTime timestamp) {
+        return timestamp == null ? null : timestamp.truncatedTo(ChronoUnit.MICROS);
+    }
+
 }
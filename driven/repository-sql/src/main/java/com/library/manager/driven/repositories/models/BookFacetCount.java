@@ -0,0 +1,9 @@
+package com.library.manager.driven.repositories.models;
+
+import com.library.manager.domain.BookGenre;
+
+/**
+ * Number of books sharing a genre and publication year, one row of the grouped facet query.
+ */
+public record BookFacetCount(BookGenre bookGenre, Integer publicationYear, Long count) {
+}
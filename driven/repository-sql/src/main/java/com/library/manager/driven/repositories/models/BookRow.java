@@ -0,0 +1,14 @@
+package com.library.manager.driven.repositories.models;
+
+import com.library.manager.domain.BookGenre;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a BOOK row that make up a domain book, selected with a constructor expression. Unlike a
+ * {@link BookEntity}, it is never managed: reading it neither registers it in the persistence context nor keeps a
+ * snapshot for dirty checking.
+ */
+public record BookRow(Long id, String title, String author, BookGenre bookGenre, Integer pages,
+                      Integer publicationYear, LocalDateTime createdAt, LocalDateTime updatedAt, Boolean active) {
+}
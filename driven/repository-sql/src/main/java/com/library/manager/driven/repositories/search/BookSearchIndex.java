@@ -0,0 +1,41 @@
+package com.library.manager.driven.repositories.search;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Secondary index narrowing the title/author part of a {@link com.library.manager.domain.valueobjects.BookFilter}
+ * down to candidate IDs without scanning the BOOK table. The repository adapter reads the candidates with a single
+ * {@code IN} query that also applies the text criteria, in the order the listing asks for.
+ */
+public interface BookSearchIndex {
+
+    /**
+     * Returns the IDs of every book whose title and author may contain the given terms (case-insensitive); books that
+     * do not are filtered out by the caller. A {@code null} term matches every book. An empty {@link Optional} means
+     * the index cannot answer the query and the caller must fall back to SQL.
+     */
+    Optional<List<Long>> search(String title, String author);
+
+    /**
+     * Adds the book or replaces its previous entry.
+     */
+    void index(IndexedBook book);
+
+    /**
+     * Replaces the whole content of the index with the books read from the stream, which is closed afterwards. Books
+     * indexed while the stream is being read are applied on top, so a write the read did not see is not lost.
+     */
+    void rebuild(Supplier<Stream<IndexedBook>> books);
+
+    /**
+     * Whether a catalogue of this many books fits in the index; when it does not, {@link #rebuild} is not worth
+     * loading the books for.
+     */
+    default boolean canHold(long books) {
+        return true;
+    }
+
+}
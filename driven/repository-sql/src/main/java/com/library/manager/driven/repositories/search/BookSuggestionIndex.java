@@ -0,0 +1,114 @@
+package com.library.manager.driven.repositories.search;
+
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.BookSuggestionField;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix completion over the titles and authors of active books, one {@link SuggestionTrie} per field.
+ *
+ * <p>Unlike {@link BookSearchIndex}, which also holds inactive books and leaves them to the SQL filter, only active
+ * books are counted here: the repository adapter removes a book once it is deactivated. The values last indexed for
+ * each book are kept so that an update can take back the old title and author.
+ */
+@Component
+public class BookSuggestionIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, IndexedBook> books = new HashMap<>();
+
+    private SuggestionTrie titles = new SuggestionTrie(BookSuggestion.MAX_SUGGESTIONS);
+
+    private SuggestionTrie authors = new SuggestionTrie(BookSuggestion.MAX_SUGGESTIONS);
+
+    /**
+     * Up to {@code limit} values of the field starting with {@code prefix}, ignoring case and accents, most frequent
+     * first. At most {@link BookSuggestion#MAX_SUGGESTIONS} are kept per prefix.
+     */
+    public List<BookSuggestion> suggest(BookSuggestionField field, String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return trie(field).complete(prefix, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds an active book or replaces its previous values.
+     */
+    public void index(IndexedBook book) {
+        lock.writeLock().lock();
+        try {
+            IndexedBook previous = books.put(book.id(), book);
+            if (previous != null) {
+                titles.remove(previous.title());
+                authors.remove(previous.author());
+            }
+            titles.add(book.title());
+            authors.add(book.author());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forgets a book that is no longer active; unknown IDs are ignored.
+     */
+    public void remove(Long bookId) {
+        lock.writeLock().lock();
+        try {
+            IndexedBook previous = books.remove(bookId);
+            if (previous != null) {
+                titles.remove(previous.title());
+                authors.remove(previous.author());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole content with the given active books.
+     */
+    public void rebuild(List<IndexedBook> activeBooks) {
+        Map<Long, IndexedBook> newBooks = new HashMap<>();
+        activeBooks.forEach(book -> newBooks.put(book.id(), book));
+        SuggestionTrie newTitles = SuggestionTrie.of(newBooks.values().stream().map(IndexedBook::title).toList(),
+                BookSuggestion.MAX_SUGGESTIONS);
+        SuggestionTrie newAuthors = SuggestionTrie.of(newBooks.values().stream().map(IndexedBook::author).toList(),
+                BookSuggestion.MAX_SUGGESTIONS);
+
+        lock.writeLock().lock();
+        try {
+            books = newBooks;
+            titles = newTitles;
+            authors = newAuthors;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return books.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private SuggestionTrie trie(BookSuggestionField field) {
+        return switch (field) {
+            case TITLE -> titles;
+            case AUTHOR -> authors;
+        };
+    }
+}
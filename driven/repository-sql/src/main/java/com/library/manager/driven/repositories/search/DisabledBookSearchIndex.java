@@ -0,0 +1,37 @@
+package com.library.manager.driven.repositories.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Selected with {@code library.search.index.type=none}: every search falls back to the SQL filter query.
+ */
+@Component
+@ConditionalOnProperty(name = "library.search.index.type", havingValue = "none")
+public class DisabledBookSearchIndex implements BookSearchIndex {
+
+    @Override
+    public Optional<List<Long>> search(String title, String author) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void index(IndexedBook book) {
+        // Nothing to maintain
+    }
+
+    @Override
+    public void rebuild(Supplier<Stream<IndexedBook>> books) {
+        // Nothing to maintain
+    }
+
+    @Override
+    public boolean canHold(long books) {
+        return false;
+    }
+}
@@ -0,0 +1,7 @@
+package com.library.manager.driven.repositories.search;
+
+/**
+ * The searchable fields of a book, as loaded into a {@link BookSearchIndex}.
+ */
+public record IndexedBook(Long id, String title, String author) {
+}
@@ -0,0 +1,360 @@
+package com.library.manager.driven.repositories.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * In-memory trigram inverted index over book titles and authors.
+ *
+ * <p>A term is looked up by intersecting the posting lists of its trigrams, so the cost depends on how selective the
+ * term is rather than on the size of the catalogue. The result may hold more books than the term matches: a book can
+ * have every trigram of the term without containing it, and an updated book keeps the trigrams of its previous title
+ * and author until the next rebuild. The repository adapter re-applies the normalized-column {@code LIKE} to these
+ * IDs, which reads only the candidate rows by primary key, so the listing is still exact.
+ *
+ * <p>Candidates are returned by ID rather than ranked by relevance: a listing is always ordered by its
+ * {@code sortBy} field, which the {@code IN} query applies, so a ranking would be thrown away.
+ *
+ * <p>Postings are sorted {@code int} arrays of book IDs, about 150 bytes per book with typical titles and authors, so
+ * some 750 MB for five million books. Catalogues above {@code library.search.index.max-books} books, or with IDs
+ * beyond the {@code int} range, are not loaded and every search falls back to SQL. The index only sees the writes
+ * made through this node: deployments where several nodes write books should set
+ * {@code library.search.index.type=none}.
+ *
+ * <p>Terms shorter than a trigram, and terms with more than {@code library.search.index.max-candidates} candidates,
+ * are left to SQL: the first cannot be narrowed down and the second would only produce a huge {@code IN} list. So is
+ * every search until the index has been loaded.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "library.search.index.type", havingValue = "ngram", matchIfMissing = true)
+public class NGramBookSearchIndex implements BookSearchIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final int maxCandidates;
+
+    private final int maxBooks;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean loaded;
+
+    private Content content = new Content();
+
+    /**
+     * Books indexed while a rebuild is reading the catalogue, replayed on the new content before it is swapped in;
+     * null when no rebuild is running.
+     */
+    private List<IndexedBook> pending;
+
+    public NGramBookSearchIndex(@Value("${library.search.index.max-candidates:1000}") int maxCandidates,
+                                @Value("${library.search.index.max-books:10000000}") int maxBooks) {
+        this.maxCandidates = maxCandidates;
+        this.maxBooks = maxBooks;
+    }
+
+    /**
+     * Candidate IDs in ascending order.
+     */
+    @Override
+    public Optional<List<Long>> search(String title, String author) {
+        String titleTerm = normalize(title);
+        String authorTerm = normalize(author);
+
+        if (!loaded || titleTerm == null && authorTerm == null) {
+            return Optional.empty();
+        }
+        if (isTooShort(titleTerm) || isTooShort(authorTerm)) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (!loaded) {
+                return Optional.empty();
+            }
+
+            int[] candidates = null;
+            if (titleTerm != null) {
+                candidates = candidates(content.titlePostings, titleTerm, null);
+            }
+            if (authorTerm != null) {
+                candidates = candidates(content.authorPostings, authorTerm, candidates);
+            }
+
+            if (candidates.length > maxCandidates) {
+                return Optional.empty();
+            }
+
+            return Optional.of(Arrays.stream(candidates).mapToObj(Long::valueOf).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(IndexedBook book) {
+        IndexedBook document = toDocument(book);
+
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(document);
+            }
+            if (!loaded) {
+                return;
+            }
+            String failure = add(content, document);
+            if (failure != null) {
+                unload(failure);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the books outside the lock, so searches keep being answered from the previous content meanwhile.
+     */
+    @Override
+    public void rebuild(Supplier<Stream<IndexedBook>> books) {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Content newContent = new Content();
+        String failure = null;
+        try (Stream<IndexedBook> stream = books.get()) {
+            Iterator<IndexedBook> iterator = stream.iterator();
+            while (failure == null && iterator.hasNext()) {
+                failure = add(newContent, toDocument(iterator.next()));
+            }
+        } catch (RuntimeException ex) {
+            clear("the books could not be read: " + ex.getMessage());
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Iterator<IndexedBook> missed = pending.iterator();
+            while (failure == null && missed.hasNext()) {
+                failure = add(newContent, missed.next());
+            }
+            pending = null;
+            if (failure != null) {
+                unload(failure);
+                return;
+            }
+            newContent.trim();
+            content = newContent;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean canHold(long books) {
+        return books <= maxBooks;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return content.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clear(String reason) {
+        lock.writeLock().lock();
+        try {
+            pending = null;
+            unload(reason);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Frees the postings and leaves every search to SQL until the next rebuild. Called with the write lock held.
+     */
+    private void unload(String reason) {
+        log.warn("Title/author search index disabled, searches fall back to SQL: {}", reason);
+        loaded = false;
+        content = new Content();
+    }
+
+    /**
+     * Adds the normalized book or replaces its previous entry, unless the content cannot hold it.
+     *
+     * @return why the book cannot be indexed, or null once it has been
+     */
+    private String add(Content target, IndexedBook document) {
+        if (!isIndexable(document.id())) {
+            return "book ID " + document.id() + " is beyond the int range";
+        }
+
+        int id = document.id().intValue();
+        if (!target.documents.get(id)) {
+            if (target.size >= maxBooks) {
+                return "the catalogue has grown beyond " + maxBooks + " books";
+            }
+            target.documents.set(id);
+            target.size++;
+        }
+        addPostings(target.titlePostings, document.title(), id);
+        addPostings(target.authorPostings, document.author(), id);
+        return null;
+    }
+
+    /**
+     * Intersects the posting lists of every trigram of the term, starting from the given candidates if any.
+     */
+    private static int[] candidates(Map<String, Posting> postings, String term, int[] initial) {
+        List<Posting> lists = new ArrayList<>();
+        for (String gram : grams(term)) {
+            Posting posting = postings.get(gram);
+            if (posting == null) {
+                return new int[0];
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Posting::size));
+
+        int[] result = initial != null ? initial : lists.get(0).toArray();
+        for (Posting posting : lists) {
+            result = posting.retain(result);
+            if (result.length == 0) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static void addPostings(Map<String, Posting> postings, String text, int id) {
+        for (String gram : grams(text)) {
+            postings.computeIfAbsent(gram, key -> new Posting()).add(id);
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        if (text == null || text.length() < GRAM_LENGTH) {
+            return Set.of();
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static boolean isIndexable(Long id) {
+        return id != null && id >= 0 && id <= Integer.MAX_VALUE;
+    }
+
+    private static boolean isTooShort(String term) {
+        return term != null && term.length() < GRAM_LENGTH;
+    }
+
+    private static IndexedBook toDocument(IndexedBook book) {
+        return new IndexedBook(book.id(), normalize(book.title()), normalize(book.author()));
+    }
+
+    private static String normalize(String value) {
+        return SearchTextNormalizer.normalize(value);
+    }
+
+    /**
+     * The indexed books and their postings.
+     */
+    private static final class Content {
+
+        private final BitSet documents = new BitSet();
+
+        private int size;
+
+        private final Map<String, Posting> titlePostings = new HashMap<>();
+
+        private final Map<String, Posting> authorPostings = new HashMap<>();
+
+        void trim() {
+            titlePostings.values().forEach(Posting::trim);
+            authorPostings.values().forEach(Posting::trim);
+        }
+    }
+
+    /**
+     * Sorted, duplicate-free book IDs. New books get ever higher IDs, so adding them appends, as does a rebuild
+     * reading the books in ID order.
+     */
+    private static final class Posting {
+
+        private int[] ids = new int[4];
+
+        private int size;
+
+        void add(int id) {
+            int index = size > 0 && ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertion = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, insertion, ids, insertion + 1, size - insertion);
+            ids[insertion] = id;
+            size++;
+        }
+
+        /**
+         * The given sorted IDs that are also in this posting.
+         */
+        int[] retain(int[] candidates) {
+            int[] retained = new int[candidates.length];
+            int count = 0;
+            for (int candidate : candidates) {
+                if (Arrays.binarySearch(ids, 0, size, candidate) >= 0) {
+                    retained[count++] = candidate;
+                }
+            }
+            return count == retained.length ? retained : Arrays.copyOf(retained, count);
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        int size() {
+            return size;
+        }
+
+        void trim() {
+            ids = Arrays.copyOf(ids, size);
+        }
+    }
+}
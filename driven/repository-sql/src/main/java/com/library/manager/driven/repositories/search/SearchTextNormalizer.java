@@ -0,0 +1,26 @@
+package com.library.manager.driven.repositories.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Folds text to the form used for title/author matching: lower case without diacritics, so that
+ * {@code "angeles"} matches {@code "Ángeles"}. The seed data migration ({@code db/seed}) folds its rows with an equivalent
+ * {@code TRANSLATE(LOWER(...))}.
+ */
+public final class SearchTextNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private SearchTextNormalizer() {
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
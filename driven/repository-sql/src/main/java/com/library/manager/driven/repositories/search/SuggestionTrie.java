@@ -0,0 +1,312 @@
+package com.library.manager.driven.repositories.search;
+
+import com.library.manager.domain.valueobjects.BookSuggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distinct values of one book field in a radix tree (edges labelled with whole substrings, so there are at most twice
+ * as many nodes as values), keyed by their normalized form. Every node caches the {@code maxSuggestions} most frequent
+ * values below it, which makes a completion a walk down the prefix followed by a copy of that list, whatever the
+ * number of values sharing the prefix.
+ *
+ * <p>Adding or removing a value recomputes the cached lists on its path only, deepest first, from the node's own value
+ * and its children's lists. Not thread-safe: {@link BookSuggestionIndex} guards it.
+ */
+final class SuggestionTrie {
+
+    private static final Comparator<Entry> BY_COUNT_THEN_KEY = Comparator.comparingLong((Entry entry) -> entry.count)
+            .reversed()
+            .thenComparing(entry -> entry.key);
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final int maxSuggestions;
+
+    private final Node root = new Node("");
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    SuggestionTrie(int maxSuggestions) {
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    /**
+     * Counts one more book with the given value. The first spelling seen of a normalized value is the one suggested.
+     */
+    void add(String text) {
+        add(text, true);
+    }
+
+    /**
+     * Counts one book less with the given value, forgetting the value when no book has it any longer.
+     */
+    void remove(String text) {
+        String key = keyOf(text);
+        Entry entry = key != null ? entries.get(key) : null;
+        if (entry == null) {
+            return;
+        }
+
+        List<Node> path = path(key);
+        if (--entry.count == 0) {
+            entries.remove(key);
+            Node node = path.get(path.size() - 1);
+            node.value = null;
+            // Drop the nodes left with neither a value nor children
+            for (int i = path.size() - 1; i > 0 && path.get(i).value == null && path.get(i).children.length == 0; i--) {
+                path.get(i - 1).removeChild(path.get(i));
+                path.remove(i);
+            }
+        }
+        refresh(path);
+    }
+
+    /**
+     * Values starting with {@code prefix} once normalized, most frequent first and alphabetically on ties.
+     */
+    List<BookSuggestion> complete(String prefix, int limit) {
+        String key = keyOf(prefix);
+        if (key == null) {
+            return List.of();
+        }
+        Node node = root;
+        int position = 0;
+
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null) {
+                return List.of();
+            }
+            int matched = commonPrefixLength(child.label, key, position);
+            if (position + matched == key.length()) {
+                node = child;
+                break;
+            }
+            if (matched < child.label.length()) {
+                return List.of();
+            }
+            node = child;
+            position += matched;
+        }
+
+        int size = Math.min(limit, node.top.length);
+        List<BookSuggestion> suggestions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            suggestions.add(new BookSuggestion(node.top[i].text, node.top[i].count));
+        }
+        return suggestions;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Inserts every value first and computes the cached lists once, bottom-up, instead of after each value.
+     */
+    static SuggestionTrie of(List<String> texts, int maxSuggestions) {
+        SuggestionTrie trie = new SuggestionTrie(maxSuggestions);
+        texts.forEach(text -> trie.add(text, false));
+        trie.refreshAll(trie.root);
+        return trie;
+    }
+
+    private void add(String text, boolean refresh) {
+        String key = keyOf(text);
+        if (key == null) {
+            return;
+        }
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.count++;
+            if (refresh) {
+                refresh(path(key));
+            }
+            return;
+        }
+
+        entry = new Entry(key, text.strip());
+        entries.put(key, entry);
+        List<Node> path = insert(entry);
+        if (refresh) {
+            refresh(path);
+        }
+    }
+
+    /**
+     * Adds the node of a new value, splitting the edge it diverges from, and returns the nodes from the root to it.
+     */
+    private List<Node> insert(Entry entry) {
+        String key = entry.key;
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int position = 0;
+
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null) {
+                child = new Node(key.substring(position));
+                node.addChild(child);
+                path.add(child);
+                node = child;
+                break;
+            }
+
+            int matched = commonPrefixLength(child.label, key, position);
+            if (matched < child.label.length()) {
+                Node split = new Node(child.label.substring(0, matched));
+                node.removeChild(child);
+                child.label = child.label.substring(matched);
+                split.addChild(child);
+                node.addChild(split);
+                child = split;
+            }
+            path.add(child);
+            node = child;
+            position += matched;
+        }
+
+        node.value = entry;
+        return path;
+    }
+
+    /**
+     * Nodes from the root to the node of an existing value.
+     */
+    private List<Node> path(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int position = 0;
+
+        while (position < key.length()) {
+            node = node.child(key.charAt(position));
+            position += node.label.length();
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void refresh(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            path.get(i).top = top(path.get(i));
+        }
+    }
+
+    private void refreshAll(Node node) {
+        for (Node child : node.children) {
+            refreshAll(child);
+        }
+        node.top = top(node);
+    }
+
+    private Entry[] top(Node node) {
+        List<Entry> candidates = new ArrayList<>();
+        if (node.value != null) {
+            candidates.add(node.value);
+        }
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(BY_COUNT_THEN_KEY);
+
+        return candidates.subList(0, Math.min(maxSuggestions, candidates.size())).toArray(NO_ENTRIES);
+    }
+
+    /**
+     * Normalized form of a value, or {@code null} when it is blank.
+     */
+    private static String keyOf(String text) {
+        return text == null || text.isBlank() ? null : SearchTextNormalizer.normalize(text.strip());
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Entry {
+
+        private final String key;
+
+        private final String text;
+
+        private long count = 1;
+
+        private Entry(String key, String text) {
+            this.key = key;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Children are kept sorted by the first character of their label; siblings never share it.
+     */
+    private static final class Node {
+
+        private String label;
+
+        private Node[] children = NO_CHILDREN;
+
+        private Entry value;
+
+        private Entry[] top = NO_ENTRIES;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char first) {
+            int index = indexOf(first);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private void addChild(Node child) {
+            int insertion = -indexOf(child.label.charAt(0)) - 1;
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, insertion);
+            grown[insertion] = child;
+            System.arraycopy(children, insertion, grown, insertion + 1, children.length - insertion);
+            children = grown;
+        }
+
+        private void removeChild(Node child) {
+            int index = indexOf(child.label.charAt(0));
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, index);
+            System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+            children = shrunk;
+        }
+
+        private int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char current = children[middle].label.charAt(0);
+                if (current < first) {
+                    low = middle + 1;
+                } else if (current > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
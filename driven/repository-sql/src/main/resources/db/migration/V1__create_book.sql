@@ -0,0 +1,44 @@
+-- ============================================================
+-- TABLA BOOK
+-- El ID sale de BOOK_SEQ: Hibernate reserva bloques de 50 IDs
+-- (optimizador pooled-lo) y puede agrupar los INSERT en lotes JDBC.
+-- TITLE_NORMALIZED y AUTHOR_NORMALIZED son TITLE y AUTHOR en
+-- minúsculas y sin tildes (SearchTextNormalizer), para los filtros.
+-- No llevan índice: LIKE '%término%' no puede usar un índice B-tree.
+-- ============================================================
+
+CREATE SEQUENCE BOOK_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE BOOK (
+    ID BIGINT NOT NULL PRIMARY KEY,
+    TITLE VARCHAR(255) NOT NULL,
+    AUTHOR VARCHAR(255) NOT NULL,
+    GENRE VARCHAR(150) NOT NULL,
+    PAGES INT NOT NULL DEFAULT 1,
+    ACTIVE BOOLEAN DEFAULT TRUE NOT NULL,
+    CREATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    UPDATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PUBLICATION_YEAR INT,
+    TITLE_NORMALIZED VARCHAR(255) NOT NULL DEFAULT '',
+    AUTHOR_NORMALIZED VARCHAR(255) NOT NULL DEFAULT ''
+);
+
+
+-- ============================================================
+-- ÍNDICE DEL FEED DE CAMBIOS
+-- GET /v1/books/changes recorre los libros por (UPDATED_AT, ID), incluidos
+-- los desactivados; el índice evita ordenar la tabla en cada página.
+-- ============================================================
+
+CREATE INDEX IDX_BOOK_UPDATED_AT ON BOOK (UPDATED_AT, ID);
+
+
+-- ============================================================
+-- ÍNDICE DE FACETAS
+-- GET /v1/books/facets agrupa los libros por (GENRE, PUBLICATION_YEAR)
+-- filtrando por ACTIVE; el índice cubre la consulta sin leer la tabla.
+-- Acabar en ID le sirve también al listado de un género ordenado por
+-- publicationYear.
+-- ============================================================
+
+CREATE INDEX IDX_BOOK_ACTIVE_GENRE_YEAR ON BOOK (ACTIVE, GENRE, PUBLICATION_YEAR, ID);
@@ -0,0 +1,20 @@
+-- ============================================================
+-- ÍNDICES DE LOS LISTADOS
+-- Los listados filtran por ACTIVE y ordenan por uno de los valores de
+-- sortBy (id, title, author, bookGenre, publicationYear) y después por
+-- ID. Cada índice empieza por ACTIVE y sigue el orden de un listado,
+-- así la consulta lee solo los libros activos y la paginación por
+-- cursor (sortKey, ID) > (?, ?) salta directamente a su posición.
+-- (ACTIVE, GENRE, TITLE, ID) sirve al filtro por género con el orden
+-- por defecto (title) y (ACTIVE, GENRE, ID) al orden por id o bookGenre.
+-- Las consultas ordenan primero por las columnas fijadas por el filtro
+-- (ACTIVE, GENRE): H2 solo lee un índice en orden si el ORDER BY empieza
+-- por su primera columna.
+-- ============================================================
+
+CREATE INDEX IDX_BOOK_ACTIVE_ID ON BOOK (ACTIVE, ID);
+CREATE INDEX IDX_BOOK_ACTIVE_TITLE ON BOOK (ACTIVE, TITLE, ID);
+CREATE INDEX IDX_BOOK_ACTIVE_AUTHOR ON BOOK (ACTIVE, AUTHOR, ID);
+CREATE INDEX IDX_BOOK_ACTIVE_GENRE_ID ON BOOK (ACTIVE, GENRE, ID);
+CREATE INDEX IDX_BOOK_ACTIVE_GENRE_TITLE ON BOOK (ACTIVE, GENRE, TITLE, ID);
+CREATE INDEX IDX_BOOK_ACTIVE_YEAR ON BOOK (ACTIVE, PUBLICATION_YEAR, ID);
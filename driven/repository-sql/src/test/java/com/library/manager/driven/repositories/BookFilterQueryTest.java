@@ -0,0 +1,96 @@
+package com.library.manager.driven.repositories;
+
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookFilter;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("BookFilterQuery Tests")
+class BookFilterQueryTest {
+
+    @Nested
+    @DisplayName("where() method tests")
+    class WhereTests {
+
+        @Test
+        @DisplayName("Should hold only the criteria the filter sets")
+        void shouldHoldOnlySetCriteria() {
+            // Act
+            BookFilterQuery byGenre = BookFilterQuery.of(new BookFilter(null, null, BookGenre.FICTION, true), null);
+            BookFilterQuery byIds = BookFilterQuery.of(new BookFilter(null, "Orwell", null, null), List.of(1L));
+
+            // Assert
+            assertEquals(" WHERE b.active = :active AND b.bookGenre = :bookGenre", byGenre.where());
+            assertEquals(" AND ", byGenre.and());
+            assertEquals(" WHERE b.id IN :ids AND b.active = :active AND b.authorNormalized LIKE CONCAT('%', :author, '%')",
+                    byIds.where());
+        }
+
+        @Test
+        @DisplayName("Should reuse the clause of a shape whatever the values")
+        void shouldReuseClausePerShape() {
+            // Act
+            BookFilterQuery first = BookFilterQuery.of(new BookFilter("Cien", null, BookGenre.FICTION, true), null);
+            BookFilterQuery second = BookFilterQuery.of(new BookFilter("Rayuela", null, BookGenre.ESSAY, false), null);
+
+            // Assert
+            assertSame(first.where(), second.where());
+        }
+    }
+
+    @Nested
+    @DisplayName("fixedProperties() method tests")
+    class FixedPropertiesTests {
+
+        @Test
+        @DisplayName("Should list the fixed properties in the column order of the listing indexes")
+        void shouldListFixedPropertiesInIndexOrder() {
+            // Act
+            BookFilterQuery byGenre = BookFilterQuery.of(new BookFilter("Cien", null, BookGenre.FICTION, true), null);
+            BookFilterQuery active = BookFilterQuery.of(new BookFilter(null, null, null, true), null);
+
+            // Assert
+            assertEquals(List.of("active", "bookGenre"), byGenre.fixedProperties());
+            assertEquals(List.of("active"), active.fixedProperties());
+        }
+
+        @Test
+        @DisplayName("Should fix nothing for search index hits, which are read by primary key")
+        void shouldFixNothingForIds() {
+            // Act
+            BookFilterQuery byIds = BookFilterQuery.of(new BookFilter(null, null, BookGenre.FICTION, true), List.of(1L));
+
+            // Assert
+            assertEquals(List.of(), byIds.fixedProperties());
+        }
+    }
+
+    @Nested
+    @DisplayName("bind() method tests")
+    class BindTests {
+
+        @Test
+        @DisplayName("Should bind the normalized text and the other values")
+        void shouldBindParameters() {
+            // Arrange
+            Query query = mock(Query.class);
+
+            // Act
+            BookFilterQuery.of(new BookFilter("Cien Años", null, BookGenre.FICTION, true), List.of(7L)).bind(query);
+
+            // Assert
+            verify(query).setParameter("ids", List.of(7L));
+            verify(query).setParameter("active", true);
+            verify(query).setParameter("title", "cien anos");
+            verify(query).setParameter("bookGenre", BookGenre.FICTION);
+        }
+    }
+}
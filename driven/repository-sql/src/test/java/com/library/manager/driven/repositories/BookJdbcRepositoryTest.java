@@ -0,0 +1,200 @@
+package com.library.manager.driven.repositories;
+
+import com.library.manager.domain.BookGenre;
+import com.library.manager.driven.repositories.config.TestConfiguration;
+import com.library.manager.driven.repositories.models.BookEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo")
+@ContextConfiguration(classes = TestConfiguration.class)
+@Import(BookJdbcRepository.class)
+@DisplayName("BookJdbcRepository Integration Tests")
+class BookJdbcRepositoryTest {
+
+    @Autowired
+    private BookJdbcRepository bookJdbcRepository;
+
+    @Autowired
+    private BookJpaRepository bookJpaRepository;
+
+    private static BookEntity entity(String title, String author) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        BookEntity book = BookEntity.builder()
+                .title(title)
+                .author(author)
+                .bookGenre(BookGenre.FICTION)
+                .pages(120)
+                .publicationYear(null)
+                .active(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        book.prepareForWrite();
+        return book;
+    }
+
+    @Nested
+    @DisplayName("insertAll() method tests")
+    class InsertAllTests {
+
+        @Test
+        @DisplayName("Should insert every book with consecutive sequence IDs")
+        void shouldInsertBooksWithSequenceIds() {
+            // Arrange
+            List<BookEntity> books = List.of(entity("Niebla", "Unamuno"), entity("Marianela", "Pérez Galdós"));
+
+            // Act
+            bookJdbcRepository.insertAll(books);
+
+            // Assert
+            assertNotNull(books.get(0).getId());
+            assertEquals(books.get(0).getId() + 1, books.get(1).getId());
+
+            BookEntity stored = bookJpaRepository.findById(books.get(1).getId()).orElseThrow();
+            assertEquals("Marianela", stored.getTitle());
+            assertEquals("perez galdos", stored.getAuthorNormalized());
+            assertNull(stored.getPublicationYear());
+            assertEquals(BookGenre.FICTION, stored.getBookGenre());
+        }
+    
+        @Test
+        @DisplayName("Should reserve as many ID blocks as the batch needs")
+        void shouldSpanSeveralIdBlocks() {
+            // Arrange
+            List<BookEntity> books = IntStream.range(0, BookEntity.ID_ALLOCATION_SIZE + 1)
+                    .mapToObj(i -> entity("Title " + i, "Author"))
+                    .toList();
+
+            // Act
+            bookJdbcRepository.insertAll(books);
+
+            // Assert
+            assertEquals(books.size(), books.stream().map(BookEntity::getId).distinct().count());
+            assertEquals(books.size(), bookJpaRepository.count());
+        }
+
+        @Test
+        @DisplayName("Should never hand out IDs that Hibernate has reserved")
+        void shouldNotCollideWithHibernateIds() {
+            // Arrange
+            BookEntity first = bookJpaRepository.saveAndFlush(entity("Niebla", "Unamuno"));
+            List<BookEntity> batch = List.of(entity("Marianela", "Galdós"), entity("Tristana", "Galdós"));
+
+            // Act
+            bookJdbcRepository.insertAll(batch);
+            BookEntity last = bookJpaRepository.saveAndFlush(entity("Fortunata y Jacinta", "Galdós"));
+
+            // Assert
+            List<Long> ids = Stream.of(first, batch.get(0), batch.get(1), last).map(BookEntity::getId).toList();
+            assertEquals(4, new HashSet<>(ids).size());
+            assertEquals(4, bookJpaRepository.count());
+        }
+    }
+
+    @Nested
+    @DisplayName("update() method tests")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should update editable fields and keep active flag and creation date")
+        void shouldUpdateBook() {
+            // Arrange
+            BookEntity stored = bookJpaRepository.saveAndFlush(entity("Niebla", "Unamuno"));
+            BookEntity changes = BookEntity.builder()
+                    .id(stored.getId())
+                    .title("Ángeles y demonios")
+                    .author("Dan Brown")
+                    .bookGenre(BookGenre.MYSTERY)
+                    .pages(620)
+                    .publicationYear(2000)
+                    .updatedAt(LocalDateTime.of(2024, 1, 2, 12, 0))
+                    .build();
+            changes.prepareForWrite();
+
+            // Act
+            int updated = bookJdbcRepository.update(changes);
+            BookEntity reloaded = bookJpaRepository.findById(stored.getId()).orElseThrow();
+
+            // Assert
+            assertEquals(1, updated);
+            assertTrue(changes.getActive());
+            assertEquals(stored.getCreatedAt(), changes.getCreatedAt());
+            assertEquals("Ángeles y demonios", reloaded.getTitle());
+            assertEquals("angeles y demonios", reloaded.getTitleNormalized());
+            assertEquals(620, reloaded.getPages());
+            assertEquals(2000, reloaded.getPublicationYear());
+            assertEquals(LocalDateTime.of(2024, 1, 2, 12, 0), reloaded.getUpdatedAt());
+            assertTrue(reloaded.getActive());
+            assertEquals(stored.getCreatedAt(), reloaded.getCreatedAt());
+        }
+
+        @Test
+        @DisplayName("Should update an inactive book and keep it inactive")
+        void shouldUpdateInactiveBook() {
+            // Arrange
+            BookEntity stored = bookJpaRepository.saveAndFlush(entity("Niebla", "Unamuno"));
+            bookJdbcRepository.deactivate(stored.getId(), LocalDateTime.of(2024, 1, 2, 12, 0));
+            BookEntity changes = entity("Ángeles y demonios", "Dan Brown");
+            changes.setId(stored.getId());
+
+            // Act
+            int updated = bookJdbcRepository.update(changes);
+            BookEntity reloaded = bookJpaRepository.findById(stored.getId()).orElseThrow();
+
+            // Assert
+            assertEquals(1, updated);
+            assertFalse(changes.getActive());
+            assertEquals("Ángeles y demonios", reloaded.getTitle());
+            assertFalse(reloaded.getActive());
+        }
+
+        @Test
+        @DisplayName("Should report a missing book")
+        void shouldReportMissingBook() {
+            // Arrange
+            BookEntity changes = entity("Ángeles y demonios", "Dan Brown");
+            changes.setId(999_999L);
+
+            // Act
+            int updated = bookJdbcRepository.update(changes);
+
+            // Assert
+            assertEquals(0, updated);
+        }
+    }
+
+    @Nested
+    @DisplayName("deactivate() method tests")
+    class DeactivateTests {
+
+        @Test
+        @DisplayName("Should deactivate by ID and report missing books")
+        void shouldDeactivateBook() {
+            // Arrange
+            BookEntity stored = bookJpaRepository.saveAndFlush(entity("Niebla", "Unamuno"));
+
+            // Act
+            int deactivated = bookJdbcRepository.deactivate(stored.getId(), LocalDateTime.of(2024, 1, 2, 12, 0));
+            int missing = bookJdbcRepository.deactivate(-1L, LocalDateTime.of(2024, 1, 2, 12, 0));
+
+            // Assert
+            assertEquals(1, deactivated);
+            assertEquals(0, missing);
+            assertFalse(bookJpaRepository.findById(stored.getId()).orElseThrow().getActive());
+        }
+    }
+}
@@ -0,0 +1,500 @@
+package com.library.manager.driven.repositories;
+
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookCursor;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.driven.repositories.config.TestConfiguration;
+import com.library.manager.driven.repositories.models.BookEntity;
+import com.library.manager.driven.repositories.models.BookFacetCount;
+import com.library.manager.driven.repositories.models.BookRow;
+import com.library.manager.driven.repositories.search.IndexedBook;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestConfiguration.class)
+@DisplayName("BookJpaRepositoryCustomImpl Integration Tests")
+class BookJpaRepositoryCustomImplTest {
+
+    @Autowired
+    private BookJpaRepository bookJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        bookJpaRepository.deleteAll();
+        save("Alpha", "Orwell", BookGenre.FICTION, 1950, true);
+        save("Beta", "Austen", BookGenre.CLASSIC, null, true);
+        save("Beta", "Cela", BookGenre.FICTION, 1999, true);
+        save("Delta", "Orwell", BookGenre.ESSAY, null, true);
+        save("Epsilon", "Zafón", BookGenre.MYSTERY, 2001, true);
+        save("Gamma", "Cercas", BookGenre.FICTION, 2014, false);
+    }
+
+    @Nested
+    @DisplayName("findAllWithFiltersAfter() method tests")
+    class FindAllWithFiltersAfterTests {
+
+        @Test
+        @DisplayName("Should walk all active books by title without gaps or duplicates")
+        void shouldWalkByTitleAscending() {
+            // Act
+            List<String> titles = walk(new BookFilter(null, null, null, true), "title", "asc", 2)
+                    .stream().map(BookRow::title).toList();
+
+            // Assert
+            assertEquals(List.of("Alpha", "Beta", "Beta", "Delta", "Epsilon"), titles);
+        }
+
+        @Test
+        @DisplayName("Should walk by title descending")
+        void shouldWalkByTitleDescending() {
+            // Act
+            List<String> titles = walk(new BookFilter(null, null, null, true), "title", "desc", 2)
+                    .stream().map(BookRow::title).toList();
+
+            // Assert
+            assertEquals(List.of("Epsilon", "Delta", "Beta", "Beta", "Alpha"), titles);
+        }
+
+        @Test
+        @DisplayName("Should walk a nullable sort key in both directions")
+        void shouldWalkNullableSortKey() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, null, true);
+
+            // Act
+            List<Integer> ascending = walk(filter, "publicationYear", "asc", 1)
+                    .stream().map(BookRow::publicationYear).toList();
+            List<Integer> descending = walk(filter, "publicationYear", "desc", 1)
+                    .stream().map(BookRow::publicationYear).toList();
+
+            // Assert
+            assertEquals(Arrays.asList(null, null, 1950, 1999, 2001), ascending);
+            assertEquals(Arrays.asList(2001, 1999, 1950, null, null), descending);
+        }
+
+        @Test
+        @DisplayName("Should apply filters to the seek query")
+        void shouldApplyFilters() {
+            // Act
+            List<String> titles = walk(new BookFilter(null, "orw", null, true), "id", "asc", 1)
+                    .stream().map(BookRow::title).toList();
+
+            // Assert
+            assertEquals(List.of("Alpha", "Delta"), titles);
+        }
+    }
+
+    @Nested
+    @DisplayName("countWithFilters() method tests")
+    class CountWithFiltersTests {
+
+        @Test
+        @DisplayName("Should count only matching books")
+        void shouldCountMatchingBooks() {
+            assertEquals(5L, bookJpaRepository.countWithFilters(new BookFilter(null, null, null, true)));
+            assertEquals(1L, bookJpaRepository.countWithFilters(new BookFilter(null, null, null, false)));
+            assertEquals(2L, bookJpaRepository.countWithFilters(new BookFilter(null, null, BookGenre.FICTION, true)));
+            assertEquals(2L, bookJpaRepository.countWithFilters(new BookFilter("BETA", null, null, true)));
+        }
+
+        @Test
+        @DisplayName("Should match titles and authors ignoring accents")
+        void shouldIgnoreAccents() {
+            assertEquals(1L, bookJpaRepository.countWithFilters(new BookFilter(null, "zafon", null, true)));
+            assertEquals(1L, bookJpaRepository.countWithFilters(new BookFilter(null, "ZAFÓN", null, true)));
+            assertEquals(1L, bookJpaRepository.countWithFilters(new BookFilter("épsilon", null, null, true)));
+        }
+    }
+
+    @Nested
+    @DisplayName("countByGenreAndYearWithFilters() method tests")
+    class CountByGenreAndYearWithFiltersTests {
+
+        @Test
+        @DisplayName("Should group matching books by genre and year")
+        void shouldGroupMatchingBooks() {
+            // Act
+            List<BookFacetCount> counts = bookJpaRepository.countByGenreAndYearWithFilters(
+                    new BookFilter(null, null, null, true), null);
+
+            // Assert
+            assertEquals(5, counts.size());
+            assertTrue(counts.contains(new BookFacetCount(BookGenre.FICTION, 1950, 1L)));
+            assertTrue(counts.contains(new BookFacetCount(BookGenre.CLASSIC, null, 1L)));
+            assertFalse(counts.contains(new BookFacetCount(BookGenre.FICTION, 2014, 1L)));
+        }
+
+        @Test
+        @DisplayName("Should apply the text filters")
+        void shouldApplyTextFilters() {
+            // Act
+            List<BookFacetCount> counts = bookJpaRepository.countByGenreAndYearWithFilters(
+                    new BookFilter(null, "orwell", null, true), null);
+
+            // Assert
+            assertEquals(2, counts.size());
+            assertTrue(counts.contains(new BookFacetCount(BookGenre.FICTION, 1950, 1L)));
+            assertTrue(counts.contains(new BookFacetCount(BookGenre.ESSAY, null, 1L)));
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllWithFilters() method tests")
+    class FindAllWithFiltersTests {
+
+        @Test
+        @DisplayName("Should match normalized columns ignoring case and accents")
+        void shouldMatchNormalizedColumns() {
+            // Act
+            Page<BookRow> page = bookJpaRepository.findAllWithFilters(
+                    new BookFilter(null, "Zafon", null, true), PageRequest.of(0, 10));
+
+            // Assert
+            assertEquals(List.of("Epsilon"), page.getContent().stream().map(BookRow::title).toList());
+        }
+
+        @Test
+        @DisplayName("Should maintain normalized columns on insert and update")
+        void shouldMaintainNormalizedColumns() {
+            // Arrange
+            BookEntity book = bookJpaRepository.findAll().stream()
+                    .filter(entity -> "Zafón".equals(entity.getAuthor()))
+                    .findFirst()
+                    .orElseThrow();
+
+            // Act
+            book.setTitle("Ángeles y Demonios");
+            BookEntity updated = bookJpaRepository.saveAndFlush(book);
+
+            // Assert
+            assertEquals("zafon", updated.getAuthorNormalized());
+            assertEquals("angeles y demonios", updated.getTitleNormalized());
+        }
+
+        @Test
+        @DisplayName("Should page every filter shape, counting only when the page does not tell the total")
+        void shouldPageEveryFilterShape() {
+            // Act
+            Page<BookRow> active = bookJpaRepository.findAllWithFilters(
+                    new BookFilter(null, null, null, true), PageRequest.of(0, 4, Sort.by("id")));
+            Page<BookRow> byGenre = bookJpaRepository.findAllWithFilters(
+                    new BookFilter(null, null, BookGenre.FICTION, true), PageRequest.of(0, 10, Sort.by("title")));
+            Page<BookRow> byAll = bookJpaRepository.findAllWithFilters(
+                    new BookFilter("ALP", "orwell", BookGenre.FICTION, true), PageRequest.of(0, 10));
+
+            // Assert
+            assertEquals(5L, active.getTotalElements());
+            assertEquals(4, active.getContent().size());
+            assertEquals(List.of("Alpha", "Beta"), byGenre.getContent().stream().map(BookRow::title).toList());
+            assertEquals(List.of("Alpha"), byAll.getContent().stream().map(BookRow::title).toList());
+        }
+
+        @Test
+        @DisplayName("Should sort descending with nulls last when asked")
+        void shouldSortWithNullHandling() {
+            // Arrange
+            Sort sort = Sort.by(Sort.Order.desc("publicationYear").nullsLast(), Sort.Order.asc("id"));
+
+            // Act
+            Page<BookRow> page = bookJpaRepository.findAllWithFilters(
+                    new BookFilter(null, null, null, true), PageRequest.of(0, 10, sort));
+
+            // Assert
+            assertEquals(Arrays.asList(2001, 1999, 1950, null, null),
+                    page.getContent().stream().map(BookRow::publicationYear).toList());
+        }
+
+        @Test
+        @DisplayName("Should read rows without adding entities to the persistence context")
+        void shouldBypassPersistenceContext() {
+            // Arrange
+            Session session = entityManager.unwrap(Session.class);
+            session.flush();
+            session.clear();
+
+            // Act
+            Page<BookRow> page = bookJpaRepository.findAllWithFilters(
+                    new BookFilter(null, null, null, true), PageRequest.of(0, 10, Sort.by("id")));
+
+            // Assert
+            assertEquals(5, page.getContent().size());
+            assertEquals(0, session.getStatistics().getEntityCount());
+        }
+
+        @Test
+        @DisplayName("Should reject sorting by a property the entity does not have")
+        void shouldRejectUnknownSortProperty() {
+            // Act & Assert
+            assertThrows(InvalidDataAccessApiUsageException.class, () -> bookJpaRepository.findAllWithFilters(
+                    new BookFilter(null, null, null, true), PageRequest.of(0, 10, Sort.by("title; DROP TABLE BOOK"))));
+        }
+    }
+
+    @Nested
+    @DisplayName("findSliceWithFilters() method tests")
+    class FindSliceWithFiltersTests {
+
+        @Test
+        @DisplayName("Should tell whether a next page exists without counting")
+        void shouldDetectNextPage() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, null, true);
+
+            // Act
+            Slice<BookRow> first = bookJpaRepository.findSliceWithFilters(filter, PageRequest.of(0, 3, Sort.by("title")));
+            Slice<BookRow> last = bookJpaRepository.findSliceWithFilters(filter, PageRequest.of(1, 3, Sort.by("title")));
+
+            // Assert
+            assertEquals(List.of("Alpha", "Beta", "Beta"), first.getContent().stream().map(BookRow::title).toList());
+            assertTrue(first.hasNext());
+            assertEquals(List.of("Delta", "Epsilon"), last.getContent().stream().map(BookRow::title).toList());
+            assertFalse(last.hasNext());
+        }
+    }
+
+    @Nested
+    @DisplayName("Entity callback tests")
+    class EntityCallbackTests {
+
+        @Test
+        @DisplayName("Should keep timestamps at the microseconds the column stores")
+        void shouldTruncateTimestampsToMicros() {
+            // Arrange
+            LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_789);
+            BookEntity book = BookEntity.builder()
+                    .title("Niebla")
+                    .author("Unamuno")
+                    .bookGenre(BookGenre.FICTION)
+                    .pages(100)
+                    .active(true)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+
+            // Act
+            BookEntity saved = bookJpaRepository.saveAndFlush(book);
+            entityManager.clear();
+            BookEntity reloaded = bookJpaRepository.findById(saved.getId()).orElseThrow();
+
+            // Assert
+            assertEquals(123_456_000, saved.getUpdatedAt().getNano());
+            assertEquals(saved.getCreatedAt(), reloaded.getCreatedAt());
+            assertEquals(saved.getUpdatedAt(), reloaded.getUpdatedAt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Search index hydration tests")
+    class IdRestrictionTests {
+
+        @Test
+        @DisplayName("Should restrict seek and count queries to the given IDs")
+        void shouldRestrictToIds() {
+            // Arrange
+            List<Long> ids = idsOfAuthor("Orwell");
+            BookFilter filter = new BookFilter(null, null, null, true);
+            BookCursor cursor = new BookCursor("id", "asc", 0L, null);
+
+            // Act
+            List<BookRow> books = bookJpaRepository.findAllWithFiltersAfter(filter, ids, cursor, 10);
+            long count = bookJpaRepository.countWithFilters(new BookFilter(null, null, BookGenre.ESSAY, true), ids);
+
+            // Assert
+            assertEquals(List.of("Alpha", "Delta"), books.stream().map(BookRow::title).toList());
+            assertEquals(1L, count);
+        }
+
+        @Test
+        @DisplayName("Should page through the given IDs applying the remaining criteria")
+        void shouldPageThroughIds() {
+            // Arrange
+            List<Long> ids = bookJpaRepository.findAll().stream().map(BookEntity::getId).toList();
+            BookFilter filter = new BookFilter(null, null, BookGenre.FICTION, true);
+
+            // Act
+            Page<BookRow> page = bookJpaRepository.findAllWithFilters(
+                    filter, ids, PageRequest.of(0, 1, Sort.by("title")));
+
+            // Assert
+            assertEquals(2L, page.getTotalElements());
+            assertEquals("Alpha", page.getContent().get(0).title());
+        }
+
+        @Test
+        @DisplayName("Should load only the active books among the given IDs")
+        void shouldLoadActiveBooksByIds() {
+            // Arrange
+            List<Long> ids = bookJpaRepository.findAll().stream().map(BookEntity::getId).toList();
+
+            // Act
+            List<BookEntity> books = bookJpaRepository.findByIdInAndActiveTrue(ids);
+
+            // Assert
+            assertEquals(5, books.size());
+            assertTrue(books.stream().allMatch(BookEntity::getActive));
+        }
+
+        @Test
+        @DisplayName("Should stream the searchable fields of every book in ID order")
+        void shouldStreamIndexedBooks() {
+            // Act
+            List<IndexedBook> indexedBooks;
+            try (Stream<IndexedBook> books = bookJpaRepository.streamAllIndexedBooks()) {
+                indexedBooks = books.toList();
+            }
+
+            // Assert
+            assertEquals(6, indexedBooks.size());
+            assertTrue(indexedBooks.stream().anyMatch(book -> "Zafón".equals(book.author())));
+            List<Long> ids = indexedBooks.stream().map(IndexedBook::id).toList();
+            assertEquals(ids.stream().sorted().toList(), ids);
+        }
+
+        private List<Long> idsOfAuthor(String author) {
+            return bookJpaRepository.findAll().stream()
+                    .filter(book -> author.equals(book.getAuthor()))
+                    .map(BookEntity::getId)
+                    .toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("Change feed tests")
+    class ChangeFeedTests {
+
+        @Test
+        @DisplayName("Should page through every change, inactive books included, by update time and ID")
+        void shouldPageThroughChanges() {
+            // Arrange
+            LocalDateTime until = LocalDateTime.now().plusMinutes(1);
+            List<BookEntity> expected = bookJpaRepository.findAll(Sort.by("updatedAt", "id"));
+
+            // Act
+            List<BookEntity> seen = new ArrayList<>(bookJpaRepository.findChangesUntil(until, Limit.of(4)));
+            BookEntity last = seen.get(seen.size() - 1);
+            seen.addAll(bookJpaRepository.findChangesAfter(last.getUpdatedAt(), last.getId(), until, Limit.of(4)));
+
+            // Assert
+            assertEquals(expected.stream().map(BookEntity::getId).toList(),
+                    seen.stream().map(BookEntity::getId).toList());
+            assertTrue(seen.stream().anyMatch(book -> !book.getActive()));
+        }
+
+        @Test
+        @DisplayName("Should break update time ties by ID and stop at the upper bound")
+        void shouldBreakTiesAndStopAtUntil() {
+            // Arrange
+            LocalDateTime tie = LocalDateTime.of(2024, 1, 1, 12, 0);
+            List<BookEntity> books = bookJpaRepository.findAll(Sort.by("id"));
+            books.forEach(book -> book.setUpdatedAt(tie));
+            books.get(books.size() - 1).setUpdatedAt(tie.plusHours(1));
+            bookJpaRepository.saveAllAndFlush(books);
+
+            // Act
+            List<BookEntity> afterFirst = bookJpaRepository.findChangesAfter(
+                    tie, books.get(0).getId(), tie.plusMinutes(1), Limit.of(10));
+
+            // Assert
+            assertEquals(books.subList(1, books.size() - 1).stream().map(BookEntity::getId).toList(),
+                    afterFirst.stream().map(BookEntity::getId).toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("streamAllWithFilters() method tests")
+    class StreamAllWithFiltersTests {
+
+        @Test
+        @DisplayName("Should stream every matching book ordered by ID")
+        void shouldStreamMatchingBooksById() {
+            // Act
+            List<BookEntity> books;
+            try (Stream<BookEntity> stream = bookJpaRepository.streamAllWithFilters(
+                    new BookFilter(null, null, BookGenre.FICTION, true))) {
+                books = stream.toList();
+            }
+
+            // Assert
+            assertEquals(List.of("Alpha", "Beta"), books.stream().map(BookEntity::getTitle).toList());
+            assertTrue(books.get(0).getId() < books.get(1).getId());
+        }
+
+        @Test
+        @DisplayName("Should match text filters on the normalized columns")
+        void shouldMatchNormalizedText() {
+            // Act
+            List<String> authors;
+            try (Stream<BookEntity> stream = bookJpaRepository.streamAllWithFilters(
+                    new BookFilter(null, "ZAFON", null, true))) {
+                authors = stream.map(BookEntity::getAuthor).toList();
+            }
+
+            // Assert
+            assertEquals(List.of("Zafón"), authors);
+        }
+    }
+
+    /**
+     * Reads the first page with an offset query, as a client would, then follows cursors until the end.
+     */
+    private List<BookRow> walk(BookFilter filter, String sortBy, String sortDirection, int pageSize) {
+        BookSortField sortField = BookSortField.fromProperty(sortBy).orElseThrow();
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        Sort sort = "id".equals(sortBy)
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+
+        List<BookRow> seen = new ArrayList<>(
+                bookJpaRepository.findAllWithFilters(filter, PageRequest.of(0, pageSize, sort)).getContent());
+
+        while (!seen.isEmpty()) {
+            BookRow last = seen.get(seen.size() - 1);
+            BookCursor cursor = new BookCursor(sortBy, sortDirection, last.id(), sortField.valueOf(last));
+            List<BookRow> page = bookJpaRepository.findAllWithFiltersAfter(filter, cursor, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            seen.addAll(page);
+        }
+        return seen;
+    }
+
+    private void save(String title, String author, BookGenre genre, Integer year, boolean active) {
+        LocalDateTime now = LocalDateTime.now();
+        bookJpaRepository.save(BookEntity.builder()
+                .title(title)
+                .author(author)
+                .bookGenre(genre)
+                .pages(100)
+                .publicationYear(year)
+                .active(active)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+}
@@ -0,0 +1,373 @@
+package com.library.manager.driven.repositories;
+
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookCursor;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.CountMode;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import com.library.manager.driven.repositories.config.TestConfiguration;
+import com.library.manager.driven.repositories.mappers.PaginationEntityMapper;
+import com.library.manager.driven.repositories.models.BookEntity;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs H2's {@code EXPLAIN} on the statements Hibernate actually sends for each query shape, with the parameters it
+ * bound, over a catalogue large enough for the optimizer's cost estimates to matter, and checks the index each shape
+ * is read through.
+ *
+ * <p>Ascending listings must read their page straight from the index that starts with the filtered columns and
+ * follows the sort ({@code index sorted}). H2 does not walk these indexes backwards, so descending listings are only
+ * required not to scan the table. Only shapes that filter on {@code ACTIVE} are covered: every API listing does. A
+ * web listing of active and inactive books sorted by ID walks the primary key, which is a table scan by design.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = TestConfiguration.class)
+@Import(BookQueryPlanTest.StatementRecorderConfig.class)
+@DisplayName("BOOK Query Plan Tests")
+class BookQueryPlanTest {
+
+    private static final List<QueryInfo> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    /**
+     * The access path H2 comments after each table of a plan: an index such as {@code PUBLIC.IDX_BOOK_ACTIVE_TITLE}
+     * or {@code PUBLIC.PRIMARY_KEY_1}, or {@code PUBLIC.BOOK.tableScan}.
+     */
+    private static final Pattern ACCESS_PATH = Pattern.compile("/\\* PUBLIC\\.([A-Z0-9_]+)(\\.tableScan)?");
+
+    private static final int BOOKS = 50_000;
+
+    private static final BookFilter ACTIVE = new BookFilter(null, null, null, true);
+
+    private static final BookFilter ACTIVE_FICTION = new BookFilter(null, null, BookGenre.FICTION, true);
+
+    private static final PaginationEntityMapper PAGINATION = Mappers.getMapper(PaginationEntityMapper.class);
+
+    /**
+     * Every {@code sortBy} value of openapi.yaml, with a cursor value to seek from.
+     */
+    private static final Map<String, String> SORT_VALUES = Map.of(
+            "id", "1",
+            "title", "Dune",
+            "author", "Frank Herbert",
+            "bookGenre", "FICTION",
+            "publicationYear", "1965");
+
+    /**
+     * Index an ascending listing of active books reads, by {@code sortBy}.
+     */
+    private static final Map<String, String> ACTIVE_INDEXES = Map.of(
+            "id", "IDX_BOOK_ACTIVE_ID",
+            "title", "IDX_BOOK_ACTIVE_TITLE",
+            "author", "IDX_BOOK_ACTIVE_AUTHOR",
+            "bookGenre", "IDX_BOOK_ACTIVE_GENRE_ID",
+            "publicationYear", "IDX_BOOK_ACTIVE_YEAR");
+
+    /**
+     * Index an ascending listing of the active books of a genre reads, by {@code sortBy}. There is no index for the
+     * author order within a genre: the genre's books are sorted instead.
+     */
+    private static final Map<String, String> GENRE_INDEXES = Map.of(
+            "id", "IDX_BOOK_ACTIVE_GENRE_ID",
+            "title", "IDX_BOOK_ACTIVE_GENRE_TITLE",
+            "bookGenre", "IDX_BOOK_ACTIVE_GENRE_ID",
+            "publicationYear", "IDX_BOOK_ACTIVE_GENRE_YEAR");
+
+    @Autowired
+    private BookJpaRepository bookJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private static boolean loaded;
+
+    /**
+     * Index read by the last statement checked.
+     */
+    private String lastAccessPath;
+
+    /**
+     * Loads the catalogue once for the whole class, committed on a connection of its own, and has H2 gather its
+     * statistics. Nine books out of ten are active; genres, authors and years repeat, titles do not.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        if (!loaded) {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        INSERT INTO BOOK (ID, TITLE, TITLE_NORMALIZED, AUTHOR, AUTHOR_NORMALIZED, GENRE, PAGES,
+                                          PUBLICATION_YEAR, ACTIVE)
+                        SELECT X, 'Libro ' || MOD(X * 7919, %1$d), 'libro ' || MOD(X * 7919, %1$d),
+                               'Autor ' || MOD(X, 5000), 'autor ' || MOD(X, 5000),
+                               ARRAY_GET(ARRAY['FICTION', 'NON_FICTION', 'CLASSIC', 'MYSTERY', 'HISTORICAL_FICTION',
+                                               'FANTASY', 'ROMANCE', 'SCIENCE_FICTION', 'CHILDREN', 'ESSAY',
+                                               'ADVENTURE', 'OTHER'], MOD(X, 12) + 1),
+                               100 + MOD(X, 900), 1900 + MOD(X, 125), MOD(X, 10) <> 0
+                        FROM SYSTEM_RANGE(1, %1$d)
+                        """.formatted(BOOKS));
+                statement.execute("ANALYZE");
+            }
+            loaded = true;
+        }
+        STATEMENTS.clear();
+    }
+
+    @Nested
+    @DisplayName("Listing queries")
+    class ListingTests {
+
+        @Test
+        @DisplayName("Should read active books in the order of the index of every sort field")
+        void shouldReadActiveBooksThroughIndex() {
+            for (String sortBy : SORT_VALUES.keySet()) {
+                // Act
+                bookJpaRepository.findSliceWithFilters(ACTIVE, listing(sortBy, "asc"));
+
+                // Assert
+                assertEveryStatementReads(ACTIVE_INDEXES.get(sortBy), sortBy);
+            }
+        }
+
+        @Test
+        @DisplayName("Should read active books in descending order through an index")
+        void shouldReadActiveBooksDescendingThroughIndex() {
+            for (String sortBy : SORT_VALUES.keySet()) {
+                // Act
+                bookJpaRepository.findSliceWithFilters(ACTIVE, listing(sortBy, "desc"));
+
+                // Assert
+                assertEveryStatementUsesIndex(sortBy + " desc");
+            }
+        }
+
+        @Test
+        @DisplayName("Should read active books of a genre in the order of the index of every sort field")
+        void shouldReadActiveBooksOfGenreThroughIndex() {
+            for (String sortBy : SORT_VALUES.keySet()) {
+                // Act
+                bookJpaRepository.findSliceWithFilters(ACTIVE_FICTION, listing(sortBy, "asc"));
+
+                // Assert
+                if (GENRE_INDEXES.containsKey(sortBy)) {
+                    assertEveryStatementReads(GENRE_INDEXES.get(sortBy), "bookGenre sorted by " + sortBy);
+                } else {
+                    assertEveryStatementUsesIndex("bookGenre sorted by " + sortBy);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should read active books matching title and author in title order")
+        void shouldReadTextFilteredBooksThroughIndex() {
+            // Act
+            bookJpaRepository.findSliceWithFilters(new BookFilter("dune", "herbert", null, true), listing("title", "asc"));
+
+            // Assert
+            assertEveryStatementReads("IDX_BOOK_ACTIVE_TITLE", "title and author");
+        }
+
+        @Test
+        @DisplayName("Should read search index hits through the primary key")
+        void shouldReadSearchHitsThroughIndex() {
+            // Act
+            bookJpaRepository.findSliceWithFilters(ACTIVE, List.of(1L, 2L, 3L), listing("title", "asc"));
+
+            // Assert
+            assertEveryStatementUsesIndex("ids");
+            assertTrue(lastAccessPath.startsWith("PRIMARY_KEY"), "Search hits read through " + lastAccessPath);
+        }
+    }
+
+    @Nested
+    @DisplayName("Keyset (seek) queries")
+    class SeekTests {
+
+        @Test
+        @DisplayName("Should seek to the cursor in the order of the index of every sort field")
+        void shouldSeekThroughIndex() {
+            for (Map.Entry<String, String> sortValue : SORT_VALUES.entrySet()) {
+                // Arrange
+                BookCursor cursor = new BookCursor(sortValue.getKey(), "asc", 1L, sortValue.getValue());
+
+                // Act
+                bookJpaRepository.findAllWithFiltersAfter(ACTIVE, cursor, 20);
+
+                // Assert
+                assertEveryStatementReads(ACTIVE_INDEXES.get(sortValue.getKey()), sortValue.getKey());
+            }
+        }
+
+        @Test
+        @DisplayName("Should seek to the cursor in descending order through an index")
+        void shouldSeekDescendingThroughIndex() {
+            for (Map.Entry<String, String> sortValue : SORT_VALUES.entrySet()) {
+                // Arrange
+                BookCursor cursor = new BookCursor(sortValue.getKey(), "desc", 1L, sortValue.getValue());
+
+                // Act
+                bookJpaRepository.findAllWithFiltersAfter(ACTIVE, cursor, 20);
+
+                // Assert
+                assertEveryStatementUsesIndex(sortValue.getKey() + " desc");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Aggregate and export queries")
+    class AggregateTests {
+
+        @Test
+        @DisplayName("Should count active books through an index")
+        void shouldCountThroughIndex() {
+            // Act
+            bookJpaRepository.countWithFilters(ACTIVE);
+
+            // Assert
+            assertEveryStatementUsesIndex("count");
+            assertEquals("IDX_BOOK_ACTIVE_ID", lastAccessPath);
+
+            // Act
+            bookJpaRepository.countWithFilters(ACTIVE_FICTION);
+
+            // Assert
+            assertEveryStatementUsesIndex("count of a genre");
+            assertTrue(lastAccessPath.startsWith("IDX_BOOK_ACTIVE_GENRE_"), "Genre count read through " + lastAccessPath);
+        }
+
+        @Test
+        @DisplayName("Should count facets through an index")
+        void shouldCountFacetsThroughIndex() {
+            // Act
+            bookJpaRepository.countByGenreAndYearWithFilters(ACTIVE, null);
+
+            // Assert
+            assertEveryStatementUsesIndex("facets");
+            assertEquals("IDX_BOOK_ACTIVE_GENRE_YEAR", lastAccessPath);
+        }
+
+        @Test
+        @DisplayName("Should export active books through an index")
+        void shouldExportThroughIndex() {
+            // Act
+            try (Stream<BookEntity> books = bookJpaRepository.streamAllWithFilters(ACTIVE)) {
+                assertEquals(1L, books.findFirst().orElseThrow().getId());
+            }
+
+            // Assert
+            assertEveryStatementReads("IDX_BOOK_ACTIVE_ID", "export");
+        }
+    }
+
+    /**
+     * Pages sorted by {@code sortBy}, ID last, as the adapter requests them.
+     */
+    private static Pageable listing(String sortBy, String direction) {
+        return PAGINATION.toPageable(new PaginationQuery(2, 20, sortBy, direction, null, CountMode.NONE));
+    }
+
+    /**
+     * Every statement reads the given index in its own order, so a page stops after its rows instead of sorting all
+     * the matching books.
+     */
+    private void assertEveryStatementReads(String index, String shape) {
+        for (QueryInfo statement : STATEMENTS) {
+            String plan = explain(statement);
+            assertTrue(plan.contains("/* index sorted */"), "Sort for " + shape + ": " + plan);
+        }
+        assertEveryStatementUsesIndex(shape);
+        assertEquals(index, lastAccessPath, "Index of " + shape);
+    }
+
+    private void assertEveryStatementUsesIndex(String shape) {
+        assertFalse(STATEMENTS.isEmpty(), "No statement recorded for " + shape);
+        for (QueryInfo statement : STATEMENTS) {
+            String plan = explain(statement);
+            Matcher accessPath = ACCESS_PATH.matcher(plan);
+            assertTrue(accessPath.find(), "No access path for " + shape + " in " + plan);
+            assertNull(accessPath.group(2), "Table scan for " + shape + ": " + plan);
+            lastAccessPath = accessPath.group(1);
+        }
+        STATEMENTS.clear();
+    }
+
+    /**
+     * Replays the recorded parameters on an {@code EXPLAIN} of the same statement, in the test transaction.
+     */
+    private String explain(QueryInfo statement) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.getQuery())) {
+                for (ParameterSetOperation parameter : statement.getParametersList().get(0)) {
+                    parameter.getMethod().invoke(explain, parameter.getArgs());
+                }
+                try (ResultSet plan = explain.executeQuery()) {
+                    assertTrue(plan.next());
+                    return plan.getString(1);
+                }
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException("Cannot bind " + statement.getQuery(), ex);
+            }
+        });
+    }
+
+    /**
+     * Records the SELECT statements on BOOK, with their parameters, through a data source proxy.
+     */
+    @Configuration
+    static class StatementRecorderConfig {
+
+        @Bean
+        static BeanPostProcessor statementRecorderPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .name(beanName)
+                                .afterQuery((execInfo, queryInfoList) -> queryInfoList.stream()
+                                        .filter(queryInfo -> queryInfo.getQuery().toLowerCase(Locale.ROOT)
+                                                .matches("(?s)select .* from book .*"))
+                                        .forEach(STATEMENTS::add))
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.library.manager.driven.repositories.adapters;
+
+import com.library.manager.domain.Book;
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.PaginatedResult;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import com.library.manager.driven.repositories.BookJdbcRepository;
+import com.library.manager.driven.repositories.BookJpaRepository;
+import com.library.manager.driven.repositories.BookJpaRepositoryCustomImpl;
+import com.library.manager.driven.repositories.cache.BookCollectionVersion;
+import com.library.manager.driven.repositories.cache.BookCountCache;
+import com.library.manager.driven.repositories.config.DataSourceProxyConfig;
+import com.library.manager.driven.repositories.config.RepositoryConfig;
+import com.library.manager.driven.repositories.mappers.BookEntityMapperImpl;
+import com.library.manager.driven.repositories.mappers.PaginationEntityMapperImpl;
+import com.library.manager.driven.repositories.models.BookEntity;
+import com.library.manager.driven.repositories.search.BookSuggestionIndex;
+import com.library.manager.driven.repositories.search.DisabledBookSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.library.manager.driven.repositories.metrics.StatementBudget.assertAtMost;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs outside a test transaction: cache entries are only published or invalidated when a transaction completes.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "library.search.index.type=none"
+})
+@ContextConfiguration(classes = RepositoryConfig.class)
+@Import({BookRepositoryAdapter.class, BookJdbcRepository.class, BookEntityMapperImpl.class,
+        PaginationEntityMapperImpl.class, BookCountCache.class, BookCollectionVersion.class,
+        DisabledBookSearchIndex.class, BookSuggestionIndex.class, DataSourceProxyConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("BookRepositoryAdapter Second-Level Cache Tests")
+class BookRepositoryAdapterSecondLevelCacheTest {
+
+    private static final int BOOKS = 30;
+
+    private static final BookFilter ACTIVE = new BookFilter(null, null, null, true);
+
+    private static final PaginationQuery FIRST_PAGE = new PaginationQuery(0, 5, "title", "asc");
+
+    @Autowired
+    private BookRepositoryAdapter bookRepositoryAdapter;
+
+    @Autowired
+    private BookJpaRepository bookJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private List<Book> books;
+
+    private static List<Book> newBooks(int count) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        return IntStream.range(0, count)
+                .mapToObj(i -> Book.builder()
+                        .title(String.format("Title %02d", i))
+                        .author("Author " + i % 3)
+                        .bookGenre(BookGenre.FICTION)
+                        .pages(100 + i)
+                        .active(true)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build())
+                .toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        books = bookRepositoryAdapter.saveAll(newBooks(BOOKS));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookJpaRepository.deleteAllInBatch();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("Should serve a book read again by ID from the entity region without SQL")
+    void shouldServeBookFromEntityRegion() {
+        // Arrange
+        Long bookId = books.get(0).getId();
+        bookRepositoryAdapter.findActiveById(bookId);
+
+        // Act
+        Book book = assertAtMost(0, () -> bookRepositoryAdapter.findActiveById(bookId)).orElseThrow();
+
+        // Assert
+        assertEquals("Title 00", book.getTitle());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(BookEntity.CACHE_REGION).getHitCount());
+    }
+
+    @Test
+    @DisplayName("Should read a cached book as updated once update() has committed")
+    void shouldReadUpdatedBook() {
+        // Arrange
+        Book book = books.get(0);
+        bookRepositoryAdapter.findActiveById(book.getId());
+        book.setTitle("Renamed");
+        book.setUpdatedAt(book.getUpdatedAt().plusDays(1));
+
+        // Act
+        bookRepositoryAdapter.update(book);
+
+        // Assert
+        assertEquals("Renamed", bookRepositoryAdapter.findActiveById(book.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    @DisplayName("Should keep the other cached books when a book is updated or deactivated")
+    void shouldEvictOnlyWrittenBook() {
+        // Arrange
+        books.forEach(book -> bookRepositoryAdapter.findActiveById(book.getId()));
+        Book updated = books.get(0);
+        updated.setTitle("Renamed");
+        bookRepositoryAdapter.update(updated);
+        bookRepositoryAdapter.deactivate(books.get(1).getId(), LocalDateTime.of(2024, 1, 2, 12, 0));
+
+        // Act
+        List<Book> others = assertAtMost(0, () -> books.subList(2, BOOKS).stream()
+                .map(book -> bookRepositoryAdapter.findActiveById(book.getId()).orElseThrow())
+                .toList());
+
+        // Assert
+        assertEquals(BOOKS - 2, others.size());
+        assertEquals("Renamed", bookRepositoryAdapter.findActiveById(updated.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    @DisplayName("Should not return a cached book once it has been deactivated")
+    void shouldNotReturnDeactivatedBook() {
+        // Arrange
+        Long bookId = books.get(0).getId();
+        bookRepositoryAdapter.findActiveById(bookId);
+
+        // Act
+        bookRepositoryAdapter.deactivate(bookId, LocalDateTime.of(2024, 1, 2, 12, 0));
+
+        // Assert
+        assertTrue(bookRepositoryAdapter.findActiveById(bookId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated listing and its count from the query region without SQL")
+    void shouldServeListingFromQueryRegion() {
+        // Arrange
+        PaginatedResult<Book> first = bookRepositoryAdapter.findAllWithFilters(ACTIVE, FIRST_PAGE);
+
+        // Act
+        PaginatedResult<Book> second = assertAtMost(0,
+                () -> bookRepositoryAdapter.findAllWithFilters(ACTIVE, FIRST_PAGE));
+
+        // Assert
+        assertEquals(first.content(), second.content());
+        assertEquals(BOOKS, second.totalElements());
+        assertEquals(2, statistics.getQueryRegionStatistics(BookJpaRepositoryCustomImpl.QUERY_CACHE_REGION)
+                .getHitCount());
+    }
+
+    @Test
+    @DisplayName("Should see an update in a cached listing")
+    void shouldSeeUpdateInCachedListing() {
+        // Arrange
+        bookRepositoryAdapter.findAllWithFilters(ACTIVE, FIRST_PAGE);
+        Book book = books.get(0);
+        book.setTitle("Title 99");
+
+        // Act
+        bookRepositoryAdapter.update(book);
+
+        // Assert
+        assertEquals("Title 01",
+                bookRepositoryAdapter.findAllWithFilters(ACTIVE, FIRST_PAGE).content().get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("Should see books inserted through JDBC in a cached listing")
+    void shouldSeeJdbcInsertsInCachedListing() {
+        // Arrange
+        bookRepositoryAdapter.findAllWithFilters(ACTIVE, FIRST_PAGE);
+
+        // Act
+        bookRepositoryAdapter.saveAll(newBooks(5));
+
+        // Assert
+        assertEquals(BOOKS + 5, bookRepositoryAdapter.findAllWithFilters(ACTIVE, FIRST_PAGE).totalElements());
+    }
+}
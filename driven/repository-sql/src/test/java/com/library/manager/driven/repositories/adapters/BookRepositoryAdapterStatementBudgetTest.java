@@ -0,0 +1,147 @@
+package com.library.manager.driven.repositories.adapters;
+
+import com.library.manager.domain.Book;
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookFacets;
+import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.CountMode;
+import com.library.manager.domain.valueobjects.PaginatedResult;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import com.library.manager.driven.repositories.BookJdbcRepository;
+import com.library.manager.driven.repositories.cache.BookCollectionVersion;
+import com.library.manager.driven.repositories.cache.BookCountCache;
+import com.library.manager.driven.repositories.config.DataSourceProxyConfig;
+import com.library.manager.driven.repositories.config.TestConfiguration;
+import com.library.manager.driven.repositories.mappers.BookEntityMapperImpl;
+import com.library.manager.driven.repositories.mappers.PaginationEntityMapperImpl;
+import com.library.manager.driven.repositories.search.BookSuggestionIndex;
+import com.library.manager.driven.repositories.search.DisabledBookSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.library.manager.driven.repositories.metrics.StatementBudget.assertAtMost;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo",
+        "library.search.index.type=none"
+})
+@ContextConfiguration(classes = TestConfiguration.class)
+@Import({BookRepositoryAdapter.class, BookJdbcRepository.class, BookEntityMapperImpl.class,
+        PaginationEntityMapperImpl.class, BookCountCache.class, BookCollectionVersion.class,
+        DisabledBookSearchIndex.class, BookSuggestionIndex.class, DataSourceProxyConfig.class})
+@DisplayName("BookRepositoryAdapter Statement Budget Tests")
+class BookRepositoryAdapterStatementBudgetTest {
+
+    private static final int BOOKS = 30;
+
+    @Autowired
+    private BookRepositoryAdapter bookRepositoryAdapter;
+
+    private List<Book> books;
+
+    private static List<Book> newBooks() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        return IntStream.range(0, BOOKS)
+                .mapToObj(i -> Book.builder()
+                        .title("Title " + i)
+                        .author("Author " + i % 3)
+                        .bookGenre(BookGenre.FICTION)
+                        .pages(100 + i)
+                        .active(true)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build())
+                .toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        books = bookRepositoryAdapter.saveAll(newBooks());
+    }
+
+    @Test
+    @DisplayName("Should insert a whole list in one batch after reserving its IDs")
+    void shouldInsertInOneBatch() {
+        // Arrange
+        List<Book> more = newBooks();
+
+        // Act & Assert
+        assertEquals(BOOKS, assertAtMost(2, () -> bookRepositoryAdapter.saveAll(more)).size());
+    }
+
+    @Test
+    @DisplayName("Should update a book in a single statement")
+    void shouldUpdateInOneStatement() {
+        // Arrange
+        Book book = books.get(0);
+        book.setTitle("Renamed");
+
+        // Act
+        Book updated = assertAtMost(1, () -> bookRepositoryAdapter.update(book)).orElseThrow();
+
+        // Assert
+        assertEquals("Renamed", updated.getTitle());
+        assertTrue(updated.getActive());
+    }
+
+    @Test
+    @DisplayName("Should read a page with its exact total in a select and a count")
+    void shouldReadPageWithSelectAndCount() {
+        // Act
+        PaginatedResult<Book> page = assertAtMost(2, () -> bookRepositoryAdapter.findAllWithFilters(
+                new BookFilter(null, "Author 1", null, true), new PaginationQuery(0, 5)));
+
+        // Assert
+        assertEquals(10, page.totalElements());
+    }
+
+    @Test
+    @DisplayName("Should read a page without its total in a single select")
+    void shouldReadPageWithoutCountInOneSelect() {
+        // Act
+        PaginatedResult<Book> page = assertAtMost(1, () -> bookRepositoryAdapter.findAllWithFilters(
+                new BookFilter(null, null, null, true),
+                new PaginationQuery(0, 5, "title", "asc", null, CountMode.NONE)));
+
+        // Assert
+        assertEquals(5, page.content().size());
+    }
+
+    @Test
+    @DisplayName("Should count every facet in a single select")
+    void shouldCountFacetsInOneSelect() {
+        // Act
+        BookFacets facets = assertAtMost(1, () -> bookRepositoryAdapter.countFacets(
+                new BookFilter(null, null, BookGenre.FICTION, true)));
+
+        // Assert
+        assertEquals(BOOKS, facets.genres().get(BookGenre.FICTION).intValue());
+        assertEquals(BOOKS, facets.withoutYear());
+    }
+
+    @Test
+    @DisplayName("Should load several books by ID in a single select")
+    void shouldLoadSeveralBooksInOneSelect() {
+        // Arrange
+        List<Long> ids = books.stream().map(Book::getId).limit(10).toList();
+
+        // Act & Assert
+        assertEquals(10, assertAtMost(1, () -> bookRepositoryAdapter.findActiveByIds(ids)).size());
+    }
+
+    @Test
+    @DisplayName("Should load a single book in a single select")
+    void shouldLoadSingleBookInOneSelect() {
+        assertTrue(assertAtMost(1, () -> bookRepositoryAdapter.findActiveById(books.get(0).getId())).isPresent());
+    }
+}
@@ -2,13 +2,27 @@ package com.library.manager.driven.repositories.adapters;
 
 import com.library.manager.domain.Book;
 import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookChangeCursor;
+import com.library.manager.domain.valueobjects.BookCursor;
+import com.library.manager.domain.valueobjects.BookFacets;
 import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookVersion;
+import com.library.manager.domain.valueobjects.CountMode;
 import com.library.manager.domain.valueobjects.PaginatedResult;
 import com.library.manager.domain.valueobjects.PaginationQuery;
+import com.library.manager.driven.repositories.BookJdbcRepository;
 import com.library.manager.driven.repositories.BookJpaRepository;
+import com.library.manager.driven.repositories.cache.BookCollectionVersion;
+import com.library.manager.driven.repositories.cache.BookCountCache;
 import com.library.manager.driven.repositories.mappers.BookEntityMapper;
 import com.library.manager.driven.repositories.mappers.PaginationEntityMapper;
 import com.library.manager.driven.repositories.models.BookEntity;
+import com.library.manager.driven.repositories.models.BookRow;
+import com.library.manager.driven.repositories.models.BookFacetCount;
+import com.library.manager.driven.repositories.search.BookSearchIndex;
+import com.library.manager.driven.repositories.search.BookSuggestionIndex;
+import com.library.manager.driven.repositories.search.IndexedBook;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,17 +31,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,17 +62,36 @@ class BookRepositoryAdapterTest {
     @Mock
     private BookJpaRepository bookJpaRepository;
 
+    @Mock
+    private BookJdbcRepository bookJdbcRepository;
+
     @Mock
     private BookEntityMapper bookEntityMapper;
 
     @Mock
     private PaginationEntityMapper paginationEntityMapper;
 
+    @Mock
+    private BookCountCache bookCountCache;
+
+    @Mock
+    private BookCollectionVersion bookCollectionVersion;
+
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    @Mock
+    private BookSuggestionIndex bookSuggestionIndex;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private BookRepositoryAdapter bookRepositoryAdapter;
 
     private Book testBook;
     private BookEntity testBookEntity;
+    private BookRow testBookRow;
 
     @BeforeEach
     void setUp() {
@@ -73,6 +117,9 @@ class BookRepositoryAdapterTest {
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
+
+        testBookRow = new BookRow(1L, "Test Book", "Test Author", BookGenre.FICTION, 300, 2024,
+                LocalDateTime.now(), LocalDateTime.now(), true);
     }
 
     @Nested
@@ -98,6 +145,7 @@ class BookRepositoryAdapterTest {
             verify(bookEntityMapper, times(1)).toEntity(testBook);
             verify(bookJpaRepository, times(1)).save(testBookEntity);
             verify(bookEntityMapper, times(1)).toDomain(testBookEntity);
+            verify(bookSuggestionIndex, times(1)).index(new IndexedBook(1L, "Test Book", "Test Author"));
         }
 
         @Test
@@ -131,6 +179,354 @@ class BookRepositoryAdapterTest {
             // Assert
             verify(bookJpaRepository, times(1)).save(testBookEntity);
         }
+
+        @Test
+        @DisplayName("Should update the search index with the saved book")
+        void shouldIndexSavedBook() {
+            // Arrange
+            when(bookEntityMapper.toEntity(testBook)).thenReturn(testBookEntity);
+            when(bookJpaRepository.save(testBookEntity)).thenReturn(testBookEntity);
+            when(bookEntityMapper.toDomain(testBookEntity)).thenReturn(testBook);
+
+            // Act
+            bookRepositoryAdapter.save(testBook);
+
+            // Assert
+            verify(bookSearchIndex, times(1)).index(new IndexedBook(1L, "Test Book", "Test Author"));
+        }
+    }
+
+    @Nested
+    @DisplayName("saveAll() method tests")
+    class SaveAllTests {
+
+        @Test
+        @DisplayName("Should insert all books with one JDBC batch and index them")
+        void shouldInsertBatch() {
+            // Arrange
+            BookEntity secondEntity = BookEntity.builder().title("Second Book").author("Other Author").build();
+            Book secondBook = new Book();
+            when(bookEntityMapper.toEntity(testBook)).thenReturn(testBookEntity);
+            when(bookEntityMapper.toEntity(secondBook)).thenReturn(secondEntity);
+            doAnswer(invocation -> {
+                secondEntity.setId(2L);
+                return null;
+            }).when(bookJdbcRepository).insertAll(List.of(testBookEntity, secondEntity));
+            when(bookEntityMapper.toDomain(any(BookEntity.class))).thenReturn(testBook, secondBook);
+
+            // Act
+            List<Book> result = bookRepositoryAdapter.saveAll(List.of(testBook, secondBook));
+
+            // Assert
+            assertEquals(List.of(testBook, secondBook), result);
+            assertEquals("second book", secondEntity.getTitleNormalized());
+            verify(bookJdbcRepository, times(1)).insertAll(List.of(testBookEntity, secondEntity));
+            verify(bookCountCache, times(1)).invalidateAll();
+            verify(bookSearchIndex, times(1)).index(new IndexedBook(2L, "Second Book", "Other Author"));
+            verify(bookCollectionVersion, times(1)).advance();
+            verifyNoMoreInteractions(bookJpaRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("findActiveByIds() method tests")
+    class FindActiveByIdsTests {
+
+        @Test
+        @DisplayName("Should load all requested books with one query")
+        void shouldLoadBooksWithOneQuery() {
+            // Arrange
+            List<Long> ids = List.of(1L, 2L);
+            when(bookJpaRepository.findByIdInAndActiveTrue(ids)).thenReturn(List.of(testBookEntity));
+            when(bookEntityMapper.toDomain(testBookEntity)).thenReturn(testBook);
+
+            // Act
+            List<Book> result = bookRepositoryAdapter.findActiveByIds(ids);
+
+            // Assert
+            assertEquals(List.of(testBook), result);
+            verify(bookJpaRepository, times(1)).findByIdInAndActiveTrue(ids);
+            verifyNoMoreInteractions(bookJpaRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("forEachWithFilters() method tests")
+    class ForEachWithFiltersTests {
+
+        @Test
+        @DisplayName("Should map, hand over and detach every streamed entity")
+        void shouldStreamAndDetachEntities() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, BookGenre.FICTION, true);
+            List<Book> exported = new ArrayList<>();
+            when(bookJpaRepository.streamAllWithFilters(filter)).thenReturn(Stream.of(testBookEntity));
+            when(bookEntityMapper.toDomain(testBookEntity)).thenReturn(testBook);
+
+            // Act
+            bookRepositoryAdapter.forEachWithFilters(filter, exported::add);
+
+            // Assert
+            assertEquals(List.of(testBook), exported);
+            verify(entityManager, times(1)).detach(testBookEntity);
+        }
+
+        @Test
+        @DisplayName("Should close the stream when the action fails")
+        void shouldCloseStreamOnFailure() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, null, true);
+            AtomicBoolean closed = new AtomicBoolean();
+            when(bookJpaRepository.streamAllWithFilters(filter))
+                    .thenReturn(Stream.of(testBookEntity).onClose(() -> closed.set(true)));
+            when(bookEntityMapper.toDomain(testBookEntity)).thenReturn(testBook);
+
+            // Act & Assert
+            assertThrows(IllegalStateException.class, () -> bookRepositoryAdapter.forEachWithFilters(filter, book -> {
+                throw new IllegalStateException("client went away");
+            }));
+            assertTrue(closed.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("findChangedAfter() method tests")
+    class FindChangedAfterTests {
+
+        @Test
+        @DisplayName("Should read the first page without a cursor")
+        void shouldReadFirstPage() {
+            // Arrange
+            LocalDateTime until = LocalDateTime.of(2024, 1, 1, 12, 0);
+            when(bookJpaRepository.findChangesUntil(until, Limit.of(11))).thenReturn(List.of(testBookEntity));
+            when(bookEntityMapper.toDomain(testBookEntity)).thenReturn(testBook);
+
+            // Act
+            List<Book> result = bookRepositoryAdapter.findChangedAfter(null, until, 11);
+
+            // Assert
+            assertEquals(List.of(testBook), result);
+            verify(bookJpaRepository, never()).findChangesAfter(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should seek past the cursor")
+        void shouldSeekPastCursor() {
+            // Arrange
+            LocalDateTime until = LocalDateTime.of(2024, 1, 2, 12, 0);
+            BookChangeCursor cursor = new BookChangeCursor(LocalDateTime.of(2024, 1, 1, 12, 0), 7L);
+            when(bookJpaRepository.findChangesAfter(cursor.updatedAt(), 7L, until, Limit.of(5))).thenReturn(List.of());
+
+            // Act
+            List<Book> result = bookRepositoryAdapter.findChangedAfter(cursor, until, 5);
+
+            // Assert
+            assertTrue(result.isEmpty());
+            verify(bookJpaRepository, never()).findChangesUntil(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("update() method tests")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should update with a single statement and return the book without reloading it")
+        void shouldUpdateBook() {
+            // Arrange
+            when(bookEntityMapper.toEntity(testBook)).thenReturn(testBookEntity);
+            when(bookJdbcRepository.update(testBookEntity)).thenReturn(1);
+            when(bookEntityMapper.toDomain(testBookEntity)).thenReturn(testBook);
+
+            // Act
+            Optional<Book> result = bookRepositoryAdapter.update(testBook);
+
+            // Assert
+            assertEquals(Optional.of(testBook), result);
+            assertEquals("test book", testBookEntity.getTitleNormalized());
+            assertEquals("test author", testBookEntity.getAuthorNormalized());
+            verify(bookJpaRepository, never()).save(any(BookEntity.class));
+            verify(bookJpaRepository, never()).findById(anyLong());
+            verify(bookCountCache, times(1)).invalidateAll();
+            verify(bookSearchIndex, times(1)).index(new IndexedBook(1L, "Test Book", "Test Author"));
+            verify(bookSuggestionIndex, times(1)).index(new IndexedBook(1L, "Test Book", "Test Author"));
+        }
+
+        @Test
+        @DisplayName("Should keep an updated inactive book out of the suggestions")
+        void shouldNotSuggestInactiveBook() {
+            // Arrange
+            BookEntity changes = BookEntity.builder().id(1L).title("Test Book").author("Test Author").build();
+            when(bookEntityMapper.toEntity(testBook)).thenReturn(changes);
+            when(bookJdbcRepository.update(changes)).thenAnswer(invocation -> {
+                changes.setActive(false);
+                return 1;
+            });
+            when(bookEntityMapper.toDomain(changes)).thenReturn(testBook);
+
+            // Act
+            bookRepositoryAdapter.update(testBook);
+
+            // Assert
+            verify(bookSearchIndex, times(1)).index(new IndexedBook(1L, "Test Book", "Test Author"));
+            verify(bookSuggestionIndex, times(1)).remove(1L);
+            verify(bookSuggestionIndex, never()).index(any());
+        }
+
+        @Test
+        @DisplayName("Should return empty when no row was updated")
+        void shouldReturnEmptyWhenNotFound() {
+            // Arrange
+            when(bookEntityMapper.toEntity(testBook)).thenReturn(testBookEntity);
+            when(bookJdbcRepository.update(testBookEntity)).thenReturn(0);
+
+            // Act
+            Optional<Book> result = bookRepositoryAdapter.update(testBook);
+
+            // Assert
+            assertTrue(result.isEmpty());
+            verify(bookJpaRepository, never()).findById(anyLong());
+            verifyNoInteractions(bookCountCache, bookSearchIndex);
+        }
+    }
+
+    @Nested
+    @DisplayName("countFacets() method tests")
+    class CountFacetsTests {
+
+        private final List<BookFacetCount> counts = List.of(
+                new BookFacetCount(BookGenre.FICTION, 1991, 2L),
+                new BookFacetCount(BookGenre.FICTION, 1999, 3L),
+                new BookFacetCount(BookGenre.FICTION, null, 1L),
+                new BookFacetCount(BookGenre.ESSAY, 2005, 4L));
+
+        @Test
+        @DisplayName("Should count every genre and only the decades of the filtered genre")
+        void shouldFoldCountsIntoFacets() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, BookGenre.FICTION, true);
+            when(bookSearchIndex.search(null, null)).thenReturn(Optional.empty());
+            when(bookJpaRepository.countByGenreAndYearWithFilters(new BookFilter(null, null, null, true), null))
+                    .thenReturn(counts);
+
+            // Act
+            BookFacets facets = bookRepositoryAdapter.countFacets(filter);
+
+            // Assert
+            assertEquals(Map.of(BookGenre.FICTION, 6L, BookGenre.ESSAY, 4L), facets.genres());
+            assertEquals(Map.of(1990, 5L), facets.decades());
+            assertEquals(1L, facets.withoutYear());
+        }
+
+        @Test
+        @DisplayName("Should count the search index hits by ID")
+        void shouldCountSearchHits() {
+            // Arrange
+            BookFilter filter = new BookFilter("test", null, null, true);
+            when(bookSearchIndex.search("test", null)).thenReturn(Optional.of(List.of(1L, 2L)));
+            when(bookJpaRepository.countByGenreAndYearWithFilters(filter, List.of(1L, 2L))).thenReturn(counts);
+
+            // Act
+            BookFacets facets = bookRepositoryAdapter.countFacets(filter);
+
+            // Assert
+            assertEquals(Map.of(1990, 5L, 2000, 4L), facets.decades());
+        }
+
+        @Test
+        @DisplayName("Should not query when the search index finds nothing")
+        void shouldReturnEmptyWithoutHits() {
+            // Arrange
+            when(bookSearchIndex.search("missing", null)).thenReturn(Optional.of(List.of()));
+
+            // Act
+            BookFacets facets = bookRepositoryAdapter.countFacets(new BookFilter("missing", null, null, true));
+
+            // Assert
+            assertEquals(BookFacets.EMPTY, facets);
+            verifyNoInteractions(bookJpaRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("deactivate() method tests")
+    class DeactivateTests {
+
+        @Test
+        @DisplayName("Should deactivate with a single statement")
+        void shouldDeactivateBook() {
+            // Arrange
+            LocalDateTime now = LocalDateTime.now();
+            when(bookJdbcRepository.deactivate(1L, now)).thenReturn(1);
+
+            // Act
+            boolean result = bookRepositoryAdapter.deactivate(1L, now);
+
+            // Assert
+            assertTrue(result);
+            verify(bookCountCache, times(1)).invalidateAll();
+            verify(bookCollectionVersion, times(1)).advance();
+            verify(bookSuggestionIndex, times(1)).remove(1L);
+            verify(bookJpaRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should return false when no row was deactivated")
+        void shouldReturnFalseWhenNotFound() {
+            // Arrange
+            LocalDateTime now = LocalDateTime.now();
+            when(bookJdbcRepository.deactivate(999L, now)).thenReturn(0);
+
+            // Act
+            boolean result = bookRepositoryAdapter.deactivate(999L, now);
+
+            // Assert
+            assertFalse(result);
+            verifyNoInteractions(bookCountCache, bookCollectionVersion, bookSuggestionIndex);
+        }
+    }
+
+    @Nested
+    @DisplayName("getCollectionVersion() method tests")
+    class GetCollectionVersionTests {
+
+        @Test
+        @DisplayName("Should return the current collection version without querying")
+        void shouldReturnCurrentVersion() {
+            // Arrange
+            BookVersion version = BookVersion.ofCollection(1L, 2L, LocalDateTime.of(2024, 1, 1, 12, 0));
+            when(bookCollectionVersion.current()).thenReturn(version);
+
+            // Act
+            BookVersion result = bookRepositoryAdapter.getCollectionVersion();
+
+            // Assert
+            assertEquals(version, result);
+            verifyNoInteractions(bookJpaRepository);
+        }
+
+        @Test
+        @DisplayName("Should advance the version and drop cached counts only once the write has committed")
+        void shouldAdvanceAfterCommit() {
+            // Arrange
+            LocalDateTime now = LocalDateTime.now();
+            when(bookJdbcRepository.deactivate(1L, now)).thenReturn(1);
+            TransactionSynchronizationManager.initSynchronization();
+
+            try {
+                // Act
+                bookRepositoryAdapter.deactivate(1L, now);
+
+                // Assert
+                verify(bookCollectionVersion, never()).advance();
+                verify(bookCountCache, never()).invalidateAll();
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                verify(bookCollectionVersion, times(1)).advance();
+                verify(bookCountCache, times(1)).invalidateAll();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
     }
 
     @Nested
@@ -142,7 +538,7 @@ class BookRepositoryAdapterTest {
         void shouldReturnActiveBookWhenFound() {
             // Arrange
             Long bookId = 1L;
-            when(bookJpaRepository.findByIdAndActiveTrue(bookId)).thenReturn(Optional.of(testBookEntity));
+            when(bookJpaRepository.findById(bookId)).thenReturn(Optional.of(testBookEntity));
             when(bookEntityMapper.toDomain(testBookEntity)).thenReturn(testBook);
 
             // Act
@@ -152,7 +548,7 @@ class BookRepositoryAdapterTest {
             assertTrue(result.isPresent());
             assertEquals(testBook.getId(), result.get().getId());
             assertTrue(result.get().getActive());
-            verify(bookJpaRepository, times(1)).findByIdAndActiveTrue(bookId);
+            verify(bookJpaRepository, times(1)).findById(bookId);
             verify(bookEntityMapper, times(1)).toDomain(testBookEntity);
         }
 
@@ -161,15 +557,15 @@ class BookRepositoryAdapterTest {
         void shouldReturnEmptyWhenNotFound() {
             // Arrange
             Long bookId = 999L;
-            when(bookJpaRepository.findByIdAndActiveTrue(bookId)).thenReturn(Optional.empty());
+            when(bookJpaRepository.findById(bookId)).thenReturn(Optional.empty());
 
             // Act
             Optional<Book> result = bookRepositoryAdapter.findActiveById(bookId);
 
             // Assert
             assertFalse(result.isPresent());
-            verify(bookJpaRepository, times(1)).findByIdAndActiveTrue(bookId);
-            verify(bookEntityMapper, never()).toDomain(any());
+            verify(bookJpaRepository, times(1)).findById(bookId);
+            verify(bookEntityMapper, never()).toDomain(any(BookEntity.class));
         }
 
         @Test
@@ -178,13 +574,14 @@ class BookRepositoryAdapterTest {
             // Arrange
             Long bookId = 1L;
             testBookEntity.setActive(false);
-            when(bookJpaRepository.findByIdAndActiveTrue(bookId)).thenReturn(Optional.empty());
+            when(bookJpaRepository.findById(bookId)).thenReturn(Optional.of(testBookEntity));
 
             // Act
             Optional<Book> result = bookRepositoryAdapter.findActiveById(bookId);
 
             // Assert
             assertFalse(result.isPresent());
+            verify(bookEntityMapper, never()).toDomain(any(BookEntity.class));
         }
 
         @Test
@@ -193,12 +590,12 @@ class BookRepositoryAdapterTest {
             // This test verifies the method has @Transactional(readOnly = true)
             // The annotation is verified through code inspection
             Long bookId = 1L;
-            when(bookJpaRepository.findByIdAndActiveTrue(bookId)).thenReturn(Optional.of(testBookEntity));
+            when(bookJpaRepository.findById(bookId)).thenReturn(Optional.of(testBookEntity));
             when(bookEntityMapper.toDomain(testBookEntity)).thenReturn(testBook);
 
             bookRepositoryAdapter.findActiveById(bookId);
 
-            verify(bookJpaRepository, times(1)).findByIdAndActiveTrue(bookId);
+            verify(bookJpaRepository, times(1)).findById(bookId);
         }
     }
 
@@ -238,7 +635,7 @@ class BookRepositoryAdapterTest {
             // Assert
             assertFalse(result.isPresent());
             verify(bookJpaRepository, times(1)).findById(bookId);
-            verify(bookEntityMapper, never()).toDomain(any());
+            verify(bookEntityMapper, never()).toDomain(any(BookEntity.class));
         }
 
         @Test
@@ -270,8 +667,8 @@ class BookRepositoryAdapterTest {
             PaginationQuery paginationQuery = new PaginationQuery(0, 10, "id", "ASC");
             Pageable pageable = PageRequest.of(0, 10);
 
-            List<BookEntity> entities = List.of(testBookEntity);
-            Page<BookEntity> entityPage = new PageImpl<>(entities, pageable, 1);
+            List<BookRow> rows = List.of(testBookRow);
+            Page<BookRow> rowPage = new PageImpl<>(rows, pageable, 1);
 
             PaginatedResult<Book> expectedResult = new PaginatedResult<>(
                     List.of(testBook),
@@ -282,8 +679,8 @@ class BookRepositoryAdapterTest {
             );
 
             when(paginationEntityMapper.toPageable(paginationQuery)).thenReturn(pageable);
-            when(bookJpaRepository.findAllWithFilters(filter, pageable)).thenReturn(entityPage);
-            when(bookEntityMapper.toBookPaginatedResult(entityPage)).thenReturn(expectedResult);
+            when(bookJpaRepository.findAllWithFilters(filter, pageable)).thenReturn(rowPage);
+            when(bookEntityMapper.toBookPaginatedResult(rowPage)).thenReturn(expectedResult);
 
             // Act
             PaginatedResult<Book> result = bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery);
@@ -295,7 +692,7 @@ class BookRepositoryAdapterTest {
             assertEquals(1, result.pageNumber());
             verify(paginationEntityMapper, times(1)).toPageable(paginationQuery);
             verify(bookJpaRepository, times(1)).findAllWithFilters(filter, pageable);
-            verify(bookEntityMapper, times(1)).toBookPaginatedResult(entityPage);
+            verify(bookEntityMapper, times(1)).toBookPaginatedResult(rowPage);
         }
 
         @Test
@@ -306,7 +703,7 @@ class BookRepositoryAdapterTest {
             PaginationQuery paginationQuery = new PaginationQuery(0, 10, "id", "ASC");
             Pageable pageable = PageRequest.of(0, 10);
 
-            Page<BookEntity> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+            Page<BookRow> emptyPage = new PageImpl<>(List.of(), pageable, 0);
             PaginatedResult<Book> emptyResult = new PaginatedResult<>(List.of(), 0L, 0, 0, 10);
 
             when(paginationEntityMapper.toPageable(paginationQuery)).thenReturn(pageable);
@@ -330,12 +727,12 @@ class BookRepositoryAdapterTest {
             PaginationQuery paginationQuery = new PaginationQuery(2, 20, "title", "DESC");
             Pageable pageable = PageRequest.of(2, 20);
 
-            Page<BookEntity> entityPage = new PageImpl<>(List.of(), pageable, 0);
+            Page<BookRow> rowPage = new PageImpl<>(List.of(), pageable, 0);
             PaginatedResult<Book> result = new PaginatedResult<>(List.of(), 0L, 0, 2, 20);
 
             when(paginationEntityMapper.toPageable(paginationQuery)).thenReturn(pageable);
-            when(bookJpaRepository.findAllWithFilters(filter, pageable)).thenReturn(entityPage);
-            when(bookEntityMapper.toBookPaginatedResult(entityPage)).thenReturn(result);
+            when(bookJpaRepository.findAllWithFilters(filter, pageable)).thenReturn(rowPage);
+            when(bookEntityMapper.toBookPaginatedResult(rowPage)).thenReturn(result);
 
             // Act
             bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery);
@@ -352,12 +749,12 @@ class BookRepositoryAdapterTest {
             PaginationQuery paginationQuery = new PaginationQuery(0, 10, "id", "ASC");
             Pageable pageable = PageRequest.of(0, 10);
 
-            Page<BookEntity> entityPage = new PageImpl<>(List.of(), pageable, 0);
+            Page<BookRow> rowPage = new PageImpl<>(List.of(), pageable, 0);
             PaginatedResult<Book> result = new PaginatedResult<>(List.of(), 0L, 0, 0, 10);
 
             when(paginationEntityMapper.toPageable(paginationQuery)).thenReturn(pageable);
-            when(bookJpaRepository.findAllWithFilters(filter, pageable)).thenReturn(entityPage);
-            when(bookEntityMapper.toBookPaginatedResult(entityPage)).thenReturn(result);
+            when(bookJpaRepository.findAllWithFilters(filter, pageable)).thenReturn(rowPage);
+            when(bookEntityMapper.toBookPaginatedResult(rowPage)).thenReturn(result);
 
             // Act
             bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery);
@@ -374,16 +771,349 @@ class BookRepositoryAdapterTest {
             PaginationQuery paginationQuery = new PaginationQuery(0, 10, "id", "ASC");
             Pageable pageable = PageRequest.of(0, 10);
 
-            Page<BookEntity> entityPage = new PageImpl<>(List.of(), pageable, 0);
+            Page<BookRow> rowPage = new PageImpl<>(List.of(), pageable, 0);
             PaginatedResult<Book> result = new PaginatedResult<>(List.of(), 0L, 0, 0, 10);
 
             when(paginationEntityMapper.toPageable(paginationQuery)).thenReturn(pageable);
-            when(bookJpaRepository.findAllWithFilters(filter, pageable)).thenReturn(entityPage);
-            when(bookEntityMapper.toBookPaginatedResult(entityPage)).thenReturn(result);
+            when(bookJpaRepository.findAllWithFilters(filter, pageable)).thenReturn(rowPage);
+            when(bookEntityMapper.toBookPaginatedResult(rowPage)).thenReturn(result);
 
             bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery);
 
             verify(bookJpaRepository, times(1)).findAllWithFilters(filter, pageable);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("findAllWithFilters() cursor pagination tests")
+    class CursorPaginationTests {
+
+        @Test
+        @DisplayName("Should return next cursor on offset page when more rows exist")
+        void shouldReturnNextCursorOnOffsetPage() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, null, true);
+            PaginationQuery paginationQuery = new PaginationQuery(0, 1, "title", "ASC");
+            Pageable pageable = PageRequest.of(0, 1);
+            Page<BookRow> rowPage = new PageImpl<>(List.of(testBookRow), pageable, 5);
+            PaginatedResult<Book> mapped = new PaginatedResult<>(List.of(testBook), 5L, 5, 0, 1);
+
+            when(paginationEntityMapper.toPageable(paginationQuery)).thenReturn(pageable);
+            when(bookJpaRepository.findAllWithFilters(filter, pageable)).thenReturn(rowPage);
+            when(bookEntityMapper.toBookPaginatedResult(rowPage)).thenReturn(mapped);
+
+            // Act
+            PaginatedResult<Book> result = bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery);
+
+            // Assert
+            assertNotNull(result.nextCursor());
+            assertEquals(new BookCursor("title", "asc", 1L, "Test Book"), BookCursor.decode(result.nextCursor()));
+        }
+
+        @Test
+        @DisplayName("Should not return next cursor on last offset page")
+        void shouldNotReturnNextCursorOnLastPage() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, null, true);
+            PaginationQuery paginationQuery = new PaginationQuery(0, 10, "title", "ASC");
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<BookRow> rowPage = new PageImpl<>(List.of(testBookRow), pageable, 1);
+            PaginatedResult<Book> mapped = new PaginatedResult<>(List.of(testBook), 1L, 1, 0, 10);
+
+            when(paginationEntityMapper.toPageable(paginationQuery)).thenReturn(pageable);
+            when(bookJpaRepository.findAllWithFilters(filter, pageable)).thenReturn(rowPage);
+            when(bookEntityMapper.toBookPaginatedResult(rowPage)).thenReturn(mapped);
+
+            // Act
+            PaginatedResult<Book> result = bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery);
+
+            // Assert
+            assertNull(result.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should seek after cursor instead of using an offset page")
+        void shouldSeekAfterCursor() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, null, true);
+            BookCursor cursor = new BookCursor("title", "asc", 1L, "A");
+            PaginationQuery paginationQuery = new PaginationQuery(0, 1, "title", "ASC", cursor.encode());
+
+            BookRow secondRow = new BookRow(2L, "B", null, null, null, null, null, null, true);
+
+            when(bookJpaRepository.findAllWithFiltersAfter(filter, cursor, 2))
+                    .thenReturn(List.of(testBookRow, secondRow));
+            when(bookJpaRepository.countWithFilters(filter)).thenReturn(3L);
+            when(bookEntityMapper.toDomain(testBookRow)).thenReturn(testBook);
+
+            // Act
+            PaginatedResult<Book> result = bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery);
+
+            // Assert
+            assertEquals(List.of(testBook), result.content());
+            assertEquals(3L, result.totalElements());
+            assertEquals(3, result.totalPages());
+            assertEquals(new BookCursor("title", "asc", 1L, "Test Book"), BookCursor.decode(result.nextCursor()));
+            verify(bookJpaRepository, never()).findAllWithFilters(any(), any());
+            verify(bookEntityMapper, never()).toDomain(secondRow);
+        }
+
+        @Test
+        @DisplayName("Should not return next cursor when seek reaches the end")
+        void shouldNotReturnNextCursorAtEnd() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, null, true);
+            BookCursor cursor = new BookCursor("id", "desc", 5L, "5");
+            PaginationQuery paginationQuery = new PaginationQuery(0, 10, "title", "ASC", cursor.encode());
+
+            when(bookJpaRepository.findAllWithFiltersAfter(filter, cursor, 11)).thenReturn(List.of(testBookRow));
+            when(bookJpaRepository.countWithFilters(filter)).thenReturn(5L);
+            when(bookEntityMapper.toDomain(testBookRow)).thenReturn(testBook);
+
+            // Act
+            PaginatedResult<Book> result = bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery);
+
+            // Assert
+            assertEquals(1, result.content().size());
+            assertNull(result.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should reject cursor on a sort field without keyset support")
+        void shouldRejectUnsupportedSortField() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, null, true);
+            String token = new BookCursor("createdAt", "asc", 1L, "x").encode();
+            PaginationQuery paginationQuery = new PaginationQuery(0, 10, "title", "ASC", token);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                    () -> bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery));
+            verifyNoInteractions(bookJpaRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject cursor whose value does not match the sort field type")
+        void shouldRejectInvalidCursorValue() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, null, true);
+            String token = new BookCursor("publicationYear", "asc", 1L, "not-a-year").encode();
+            PaginationQuery paginationQuery = new PaginationQuery(0, 10, "title", "ASC", token);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                    () -> bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery));
+            verifyNoInteractions(bookJpaRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject malformed cursor")
+        void shouldRejectMalformedCursor() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, null, true);
+            PaginationQuery paginationQuery = new PaginationQuery(0, 10, "title", "ASC", "%%%");
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                    () -> bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery));
+            verifyNoInteractions(bookJpaRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllWithFilters() count mode tests")
+    class CountModeTests {
+
+        private final BookFilter filter = new BookFilter(null, null, null, true);
+
+        private final Pageable pageable = PageRequest.of(0, 10);
+
+        @Test
+        @DisplayName("Should run the COUNT query and refresh the count cache in exact mode")
+        void shouldCountInExactMode() {
+            // Arrange
+            PaginationQuery paginationQuery = new PaginationQuery(0, 10, "id", "ASC", null, CountMode.EXACT);
+            Page<BookRow> rowPage = new PageImpl<>(List.of(testBookRow), pageable, 1);
+
+            when(paginationEntityMapper.toPageable(paginationQuery)).thenReturn(pageable);
+            when(bookJpaRepository.findAllWithFilters(filter, pageable)).thenReturn(rowPage);
+            when(bookEntityMapper.toBookPaginatedResult(rowPage))
+                    .thenReturn(new PaginatedResult<>(List.of(testBook), 1L, 1, 0, 10));
+
+            // Act
+            bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery);
+
+            // Assert
+            verify(bookCountCache, times(1)).put(filter, 1L);
+            verify(bookJpaRepository, never()).findSliceWithFilters(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should fetch a slice and take the total from the count cache in estimated mode")
+        void shouldUseCachedCountInEstimatedMode() {
+            // Arrange
+            PaginationQuery paginationQuery = new PaginationQuery(0, 10, "id", "ASC", null, CountMode.ESTIMATED);
+            SliceImpl<BookRow> rowSlice = new SliceImpl<>(List.of(testBookRow), pageable, false);
+            PaginatedResult<Book> mapped = new PaginatedResult<>(List.of(testBook), 42L, 5, 0, 10, false, null);
+
+            when(paginationEntityMapper.toPageable(paginationQuery)).thenReturn(pageable);
+            when(bookJpaRepository.findSliceWithFilters(filter, pageable)).thenReturn(rowSlice);
+            when(bookCountCache.get(eq(filter), any())).thenReturn(42L);
+            when(bookEntityMapper.toBookPaginatedResult(rowSlice, 42L)).thenReturn(mapped);
+
+            // Act
+            PaginatedResult<Book> result = bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery);
+
+            // Assert
+            assertEquals(42L, result.totalElements());
+            verify(bookJpaRepository, never()).findAllWithFilters(any(), any());
+            verify(bookJpaRepository, never()).countWithFilters(any());
+        }
+
+        @Test
+        @DisplayName("Should skip counting in none mode")
+        void shouldSkipCountInNoneMode() {
+            // Arrange
+            PaginationQuery paginationQuery = new PaginationQuery(0, 1, "title", "ASC", null, CountMode.NONE);
+            Pageable smallPageable = PageRequest.of(0, 1);
+            SliceImpl<BookRow> rowSlice = new SliceImpl<>(List.of(testBookRow), smallPageable, true);
+            PaginatedResult<Book> mapped = new PaginatedResult<>(List.of(testBook),
+                    PaginatedResult.UNKNOWN_TOTAL, PaginatedResult.UNKNOWN_TOTAL, 0, 1, true, null);
+
+            when(paginationEntityMapper.toPageable(paginationQuery)).thenReturn(smallPageable);
+            when(bookJpaRepository.findSliceWithFilters(filter, smallPageable)).thenReturn(rowSlice);
+            when(bookEntityMapper.toBookPaginatedResult(rowSlice, PaginatedResult.UNKNOWN_TOTAL)).thenReturn(mapped);
+
+            // Act
+            PaginatedResult<Book> result = bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery);
+
+            // Assert
+            assertFalse(result.isTotalKnown());
+            assertTrue(result.hasNext());
+            assertNotNull(result.nextCursor());
+            verifyNoInteractions(bookCountCache);
+            verify(bookJpaRepository, never()).countWithFilters(any());
+        }
+
+        @Test
+        @DisplayName("Should clear the count cache after saving")
+        void shouldInvalidateCountCacheOnSave() {
+            // Arrange
+            when(bookEntityMapper.toEntity(testBook)).thenReturn(testBookEntity);
+            when(bookJpaRepository.save(testBookEntity)).thenReturn(testBookEntity);
+            when(bookEntityMapper.toDomain(testBookEntity)).thenReturn(testBook);
+
+            // Act
+            bookRepositoryAdapter.save(testBook);
+
+            // Assert
+            verify(bookCountCache, times(1)).invalidateAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllWithFilters() search index tests")
+    class SearchIndexTests {
+
+        private final BookFilter filter = new BookFilter("book", null, BookGenre.FICTION, true);
+
+        private final Pageable pageable = PageRequest.of(0, 10);
+
+        @Test
+        @DisplayName("Should hydrate search index hits with an ID query")
+        void shouldHydrateSearchHits() {
+            // Arrange
+            PaginationQuery paginationQuery = new PaginationQuery(0, 10, "id", "ASC");
+            Page<BookRow> rowPage = new PageImpl<>(List.of(testBookRow), pageable, 1);
+
+            when(bookSearchIndex.search("book", null)).thenReturn(Optional.of(List.of(1L)));
+            when(paginationEntityMapper.toPageable(paginationQuery)).thenReturn(pageable);
+            // The index only narrows the candidates: the text criteria are applied again in SQL
+            when(bookJpaRepository.findAllWithFilters(filter, List.of(1L), pageable)).thenReturn(rowPage);
+            when(bookEntityMapper.toBookPaginatedResult(rowPage))
+                    .thenReturn(new PaginatedResult<>(List.of(testBook), 1L, 1, 0, 10));
+
+            // Act
+            PaginatedResult<Book> result = bookRepositoryAdapter.findAllWithFilters(filter, paginationQuery);
+
+            // Assert
+            assertEquals(1, result.content().size());
+            verify(bookJpaRepository, never()).findAllWithFilters(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should return an empty page without querying when the index finds nothing")
+        void shouldSkipQueryWithoutHits() {
+            // Arrange
+            when(bookSearchIndex.search("book", null)).thenReturn(Optional.of(List.of()));
+
+            // Act
+            PaginatedResult<Book> result = bookRepositoryAdapter.findAllWithFilters(filter,
+                    new PaginationQuery(0, 10, "id", "ASC"));
+
+            // Assert
+            assertTrue(result.content().isEmpty());
+            assertEquals(0L, result.totalElements());
+            assertFalse(result.hasNext());
+            verifyNoInteractions(bookJpaRepository);
+        }
+
+        @Test
+        @DisplayName("Should seek and count search index hits with the text criteria")
+        void shouldSeekAndCountSearchHits() {
+            // Arrange
+            BookCursor cursor = new BookCursor("id", "asc", 0L, null);
+            PaginationQuery cursorQuery = new PaginationQuery(0, 10, "id", "ASC", cursor.encode(), CountMode.EXACT);
+
+            when(bookSearchIndex.search("book", null)).thenReturn(Optional.of(List.of(1L, 2L)));
+            when(bookJpaRepository.findAllWithFiltersAfter(filter, List.of(1L, 2L), cursor, 11))
+                    .thenReturn(List.of(testBookRow));
+            when(bookJpaRepository.countWithFilters(filter, List.of(1L, 2L))).thenReturn(1L);
+            when(bookEntityMapper.toDomain(testBookRow)).thenReturn(testBook);
+
+            // Act
+            PaginatedResult<Book> result = bookRepositoryAdapter.findAllWithFilters(filter, cursorQuery);
+
+            // Assert
+            assertEquals(1L, result.totalElements());
+            verify(bookCountCache, times(1)).put(filter, 1L);
+        }
+
+        @Test
+        @DisplayName("Should load every book into the search index")
+        void shouldRebuildSearchIndex() {
+            // Arrange
+            IndexedBook indexedBook = new IndexedBook(1L, "Test Book", "Test Author");
+            when(bookJpaRepository.count()).thenReturn(1L);
+            when(bookSearchIndex.canHold(1L)).thenReturn(true);
+            when(bookJpaRepository.streamAllIndexedBooks()).thenReturn(Stream.of(indexedBook));
+            doAnswer(invocation -> {
+                Supplier<Stream<IndexedBook>> books = invocation.getArgument(0);
+                assertEquals(List.of(indexedBook), books.get().toList());
+                return null;
+            }).when(bookSearchIndex).rebuild(any());
+
+            // Act
+            bookRepositoryAdapter.rebuildSearchIndex();
+
+            // Assert
+            verify(bookSearchIndex, times(1)).rebuild(any());
+            verify(bookJpaRepository, times(1)).streamAllIndexedBooks();
+        }
+
+        @Test
+        @DisplayName("Should not load the books when the catalogue is too large for the search index")
+        void shouldSkipRebuildOfTooLargeCatalogue() {
+            // Arrange
+            when(bookJpaRepository.count()).thenReturn(5_000_000L);
+            when(bookSearchIndex.canHold(5_000_000L)).thenReturn(false);
+
+            // Act
+            bookRepositoryAdapter.rebuildSearchIndex();
+
+            // Assert
+            verify(bookJpaRepository, never()).streamAllIndexedBooks();
+            verify(bookSearchIndex, never()).rebuild(any());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.library.manager.driven.repositories.cache;
+
+import com.library.manager.domain.valueobjects.BookVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookCollectionVersion Tests")
+class BookCollectionVersionTest {
+
+    private static final Instant STARTUP = Instant.parse("2024-01-01T12:00:00Z");
+
+    private MutableClock clock;
+
+    private BookCollectionVersion bookCollectionVersion;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(STARTUP);
+        bookCollectionVersion = new BookCollectionVersion(clock);
+    }
+
+    @Test
+    @DisplayName("Should keep the same version until it is advanced")
+    void shouldKeepVersionUntilAdvanced() {
+        // Act
+        BookVersion first = bookCollectionVersion.current();
+        BookVersion second = bookCollectionVersion.current();
+
+        // Assert
+        assertEquals(first, second);
+        assertEquals(LocalDateTime.ofInstant(STARTUP, ZoneOffset.UTC), first.lastModified());
+    }
+
+    @Test
+    @DisplayName("Should change the tag and last modification time when advanced")
+    void shouldChangeWhenAdvanced() {
+        // Arrange
+        BookVersion before = bookCollectionVersion.current();
+        clock.instant = STARTUP.plusSeconds(10);
+
+        // Act
+        bookCollectionVersion.advance();
+
+        // Assert
+        BookVersion after = bookCollectionVersion.current();
+        assertNotEquals(before.tag(), after.tag());
+        assertEquals(before.lastModified().plusSeconds(10), after.lastModified());
+    }
+
+    @Test
+    @DisplayName("Should not repeat versions after a restart")
+    void shouldNotRepeatVersionsAfterRestart() {
+        // Arrange
+        BookVersion beforeRestart = bookCollectionVersion.current();
+
+        // Act
+        BookCollectionVersion restarted = new BookCollectionVersion(new MutableClock(STARTUP.plusSeconds(300)));
+
+        // Assert
+        assertNotEquals(beforeRestart.tag(), restarted.current().tag());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
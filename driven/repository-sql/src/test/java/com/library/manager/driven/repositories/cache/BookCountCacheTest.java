@@ -0,0 +1,129 @@
+package com.library.manager.driven.repositories.cache;
+
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookCountCache Tests")
+class BookCountCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicInteger counterCalls = new AtomicInteger();
+
+    private BookCountCache bookCountCache;
+
+    @BeforeEach
+    void setUp() {
+        bookCountCache = new BookCountCache(Duration.ofSeconds(30), 2, clock::get);
+    }
+
+    private long count(BookFilter filter) {
+        counterCalls.incrementAndGet();
+        return 7L;
+    }
+
+    @Nested
+    @DisplayName("get() method tests")
+    class GetTests {
+
+        @Test
+        @DisplayName("Should count once and reuse the value within the TTL")
+        void shouldReuseValueWithinTtl() {
+            // Arrange
+            BookFilter filter = new BookFilter("Title", null, BookGenre.FICTION, true);
+
+            // Act
+            long first = bookCountCache.get(filter, BookCountCacheTest.this::count);
+            clock.addAndGet(Duration.ofSeconds(29).toNanos());
+            long second = bookCountCache.get(filter, BookCountCacheTest.this::count);
+
+            // Assert
+            assertEquals(7L, first);
+            assertEquals(7L, second);
+            assertEquals(1, counterCalls.get());
+        }
+
+        @Test
+        @DisplayName("Should count again once the TTL expired")
+        void shouldRecountAfterTtl() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, null, true);
+
+            // Act
+            bookCountCache.get(filter, BookCountCacheTest.this::count);
+            clock.addAndGet(Duration.ofSeconds(31).toNanos());
+            bookCountCache.get(filter, BookCountCacheTest.this::count);
+
+            // Assert
+            assertEquals(2, counterCalls.get());
+        }
+
+        @Test
+        @DisplayName("Should share entries between filters differing only in case")
+        void shouldIgnoreCase() {
+            // Act
+            bookCountCache.get(new BookFilter("Marina", "Zafón", null, true), BookCountCacheTest.this::count);
+            bookCountCache.get(new BookFilter("MARINA", "zafÓn", null, true), BookCountCacheTest.this::count);
+
+            // Assert
+            assertEquals(1, counterCalls.get());
+        }
+
+        @Test
+        @DisplayName("Should return value stored with put()")
+        void shouldReturnPutValue() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, "Orwell", null, true);
+            bookCountCache.put(filter, 3L);
+
+            // Act
+            long result = bookCountCache.get(filter, BookCountCacheTest.this::count);
+
+            // Assert
+            assertEquals(3L, result);
+            assertEquals(0, counterCalls.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction tests")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("Should drop every entry on invalidateAll()")
+        void shouldInvalidateAll() {
+            // Arrange
+            BookFilter filter = new BookFilter(null, null, null, true);
+            bookCountCache.put(filter, 3L);
+
+            // Act
+            bookCountCache.invalidateAll();
+            bookCountCache.get(filter, BookCountCacheTest.this::count);
+
+            // Assert
+            assertEquals(1, counterCalls.get());
+        }
+
+        @Test
+        @DisplayName("Should never grow beyond the configured maximum")
+        void shouldRespectMaxEntries() {
+            // Act
+            bookCountCache.put(new BookFilter("a", null, null, true), 1L);
+            bookCountCache.put(new BookFilter("b", null, null, true), 1L);
+            bookCountCache.put(new BookFilter("c", null, null, true), 1L);
+
+            // Assert
+            assertTrue(bookCountCache.size() <= 2);
+        }
+    }
+}
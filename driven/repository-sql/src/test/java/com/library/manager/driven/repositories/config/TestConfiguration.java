@@ -0,0 +1,27 @@
+package com.library.manager.driven.repositories.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan("com.library.manager.driven.repositories.models")
+@EnableJpaRepositories(basePackages = {"com.library.manager.driven.repositories"})
+public class TestConfiguration {
+
+    // Minimal configuration for @DataJpaTest to work in multi-module projects
+
+    /**
+     * Hibernate would otherwise pick up JCache from the classpath on its own; tests of the second-level cache use
+     * {@link RepositoryConfig} instead.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheDisabler() {
+        return properties -> properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+    }
+}
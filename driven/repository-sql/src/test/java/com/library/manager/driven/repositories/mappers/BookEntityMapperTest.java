@@ -4,6 +4,7 @@ import com.library.manager.domain.Book;
 import com.library.manager.domain.BookGenre;
 import com.library.manager.domain.valueobjects.PaginatedResult;
 import com.library.manager.driven.repositories.models.BookEntity;
+import com.library.manager.driven.repositories.models.BookRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,6 +25,7 @@ class BookEntityMapperTest {
     private BookEntityMapper bookEntityMapper;
     private Book testBook;
     private BookEntity testBookEntity;
+    private BookRow testBookRow;
     private LocalDateTime now;
 
     @BeforeEach
@@ -53,6 +55,8 @@ class BookEntityMapperTest {
                 .createdAt(now)
                 .updatedAt(now)
                 .build();
+
+        testBookRow = new BookRow(1L, "Test Book", "Test Author", BookGenre.FICTION, 300, 2024, now, now, true);
     }
 
     @Nested
@@ -217,19 +221,34 @@ class BookEntityMapperTest {
         }
     }
 
+    @Nested
+    @DisplayName("toDomain(BookRow) mapping tests")
+    class RowToDomainTests {
+
+        @Test
+        @DisplayName("Should map every column of a row to Book")
+        void shouldMapRowToDomain() {
+            // Act
+            Book result = bookEntityMapper.toDomain(testBookRow);
+
+            // Assert
+            assertEquals(testBook, result);
+        }
+    }
+
     @Nested
     @DisplayName("toBookPaginatedResult() mapping tests")
     class ToBookPaginatedResultTests {
 
         @Test
-        @DisplayName("Should map Page<BookEntity> to PaginatedResult<Book>")
+        @DisplayName("Should map Page<BookRow> to PaginatedResult<Book>")
         void shouldMapPageToPaginatedResult() {
             // Arrange
-            List<BookEntity> entities = List.of(testBookEntity);
-            Page<BookEntity> entityPage = new PageImpl<>(entities, PageRequest.of(0, 10), 1);
+            List<BookRow> rows = List.of(testBookRow);
+            Page<BookRow> rowPage = new PageImpl<>(rows, PageRequest.of(0, 10), 1);
 
             // Act
-            PaginatedResult<Book> result = bookEntityMapper.toBookPaginatedResult(entityPage);
+            PaginatedResult<Book> result = bookEntityMapper.toBookPaginatedResult(rowPage);
 
             // Assert
             assertNotNull(result);
@@ -244,7 +263,7 @@ class BookEntityMapperTest {
         @DisplayName("Should handle empty page")
         void shouldHandleEmptyPage() {
             // Arrange
-            Page<BookEntity> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
+            Page<BookRow> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
 
             // Act
             PaginatedResult<Book> result = bookEntityMapper.toBookPaginatedResult(emptyPage);
@@ -262,21 +281,13 @@ class BookEntityMapperTest {
         @DisplayName("Should map multiple books correctly")
         void shouldMapMultipleBooks() {
             // Arrange
-            BookEntity entity2 = BookEntity.builder()
-                    .id(2L)
-                    .title("Book 2")
-                    .author("Author 2")
-                    .bookGenre(BookGenre.MYSTERY)
-                    .active(true)
-                    .createdAt(now)
-                    .updatedAt(now)
-                    .build();
-
-            List<BookEntity> entities = List.of(testBookEntity, entity2);
-            Page<BookEntity> entityPage = new PageImpl<>(entities, PageRequest.of(0, 10), 2);
+            BookRow row2 = new BookRow(2L, "Book 2", "Author 2", BookGenre.MYSTERY, null, null, now, now, true);
+
+            List<BookRow> rows = List.of(testBookRow, row2);
+            Page<BookRow> rowPage = new PageImpl<>(rows, PageRequest.of(0, 10), 2);
 
             // Act
-            PaginatedResult<Book> result = bookEntityMapper.toBookPaginatedResult(entityPage);
+            PaginatedResult<Book> result = bookEntityMapper.toBookPaginatedResult(rowPage);
 
             // Assert
             assertEquals(2, result.content().size());
@@ -288,14 +299,14 @@ class BookEntityMapperTest {
         @DisplayName("Should adjust page number from 0-indexed to 1-indexed")
         void shouldAdjustPageNumber() {
             // Arrange
-            Page<BookEntity> entityPage = new PageImpl<>(
-                    List.of(testBookEntity),
+            Page<BookRow> rowPage = new PageImpl<>(
+                    List.of(testBookRow),
                     PageRequest.of(2, 10),
                     30
             );
 
             // Act
-            PaginatedResult<Book> result = bookEntityMapper.toBookPaginatedResult(entityPage);
+            PaginatedResult<Book> result = bookEntityMapper.toBookPaginatedResult(rowPage);
 
             // Assert
             assertEquals(2, result.pageNumber());
@@ -305,14 +316,14 @@ class BookEntityMapperTest {
         @DisplayName("Should handle different page sizes")
         void shouldHandleDifferentPageSizes() {
             // Arrange
-            Page<BookEntity> entityPage = new PageImpl<>(
-                    List.of(testBookEntity),
+            Page<BookRow> rowPage = new PageImpl<>(
+                    List.of(testBookRow),
                     PageRequest.of(0, 20),
                     1
             );
 
             // Act
-            PaginatedResult<Book> result = bookEntityMapper.toBookPaginatedResult(entityPage);
+            PaginatedResult<Book> result = bookEntityMapper.toBookPaginatedResult(rowPage);
 
             // Assert
             assertEquals(20, result.pageSize());
@@ -322,14 +333,14 @@ class BookEntityMapperTest {
         @DisplayName("Should calculate total pages correctly")
         void shouldCalculateTotalPagesCorrectly() {
             // Arrange - 25 total items with page size 10 = 3 pages
-            Page<BookEntity> entityPage = new PageImpl<>(
-                    List.of(testBookEntity),
+            Page<BookRow> rowPage = new PageImpl<>(
+                    List.of(testBookRow),
                     PageRequest.of(0, 10),
                     25
             );
 
             // Act
-            PaginatedResult<Book> result = bookEntityMapper.toBookPaginatedResult(entityPage);
+            PaginatedResult<Book> result = bookEntityMapper.toBookPaginatedResult(rowPage);
 
             // Assert
             assertEquals(25L, result.totalElements());
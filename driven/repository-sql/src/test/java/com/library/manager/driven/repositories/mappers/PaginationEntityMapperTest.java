@@ -264,5 +264,33 @@ class PaginationEntityMapperTest {
             assertEquals(Sort.Direction.ASC, result1.getSort().getOrderFor("id").getDirection());
             assertEquals(Sort.Direction.DESC, result2.getSort().getOrderFor("id").getDirection());
         }
+    
+        @Test
+        @DisplayName("Should add ID as tie-breaker when sorting by another field")
+        void shouldAddIdAsTieBreaker() {
+            // Arrange
+            PaginationQuery query = new PaginationQuery(0, 10, "author", "DESC");
+
+            // Act
+            Pageable result = paginationEntityMapper.toPageable(query);
+
+            // Assert
+            assertEquals(Sort.Direction.DESC, result.getSort().getOrderFor("author").getDirection());
+            assertEquals(Sort.Direction.DESC, result.getSort().getOrderFor("id").getDirection());
+            assertEquals(2, result.getSort().toList().size());
+        }
+
+        @Test
+        @DisplayName("Should not duplicate ID order when sorting by ID")
+        void shouldNotDuplicateIdOrder() {
+            // Arrange
+            PaginationQuery query = new PaginationQuery(0, 10, "id", "ASC");
+
+            // Act
+            Pageable result = paginationEntityMapper.toPageable(query);
+
+            // Assert
+            assertEquals(1, result.getSort().toList().size());
+        }
     }
-}
\ No newline at end of file
+}
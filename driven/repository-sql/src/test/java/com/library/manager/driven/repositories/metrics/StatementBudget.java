@@ -0,0 +1,32 @@
+package com.library.manager.driven.repositories.metrics;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Fails a test when an action runs more SQL statements than it is allowed, so an extra query or an N+1 introduced by a
+ * later change is caught where it happens. Statements are only seen through the data source proxy, so the test context
+ * must import {@code DataSourceProxyConfig}.
+ */
+public final class StatementBudget {
+
+    private StatementBudget() {
+    }
+
+    public static <T> T assertAtMost(int budget, Supplier<T> action) {
+        StatementScope.begin();
+        T result;
+        StatementScope.Summary summary;
+        try {
+            result = action.get();
+        } finally {
+            summary = StatementScope.end();
+        }
+        if (summary.statements() > budget) {
+            fail("Expected at most " + budget + " statements but ran " + summary.statements()
+                    + "; most repeated (" + summary.repetitions() + " times): " + summary.mostRepeated());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package com.library.manager.driven.repositories.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StatementMetricsListener Tests")
+class StatementMetricsListenerTest {
+
+    @AfterEach
+    void tearDown() {
+        StatementScope.end();
+    }
+
+    private static ParameterSetOperation set(String method, Class<?> type, int index, Object value) throws Exception {
+        return new ParameterSetOperation(PreparedStatement.class.getMethod(method, int.class, type),
+                new Object[]{index, value});
+    }
+
+    private static QueryInfo query(String sql, List<List<ParameterSetOperation>> parameterSets) {
+        QueryInfo queryInfo = new QueryInfo(sql);
+        parameterSets.forEach(queryInfo.getParametersList()::add);
+        return queryInfo;
+    }
+
+    @Test
+    @DisplayName("Should record every executed statement with its time in the current scope")
+    void shouldRecordStatementsInScope() {
+        // Arrange
+        StatementMetricsListener listener = new StatementMetricsListener(Duration.ZERO);
+        ExecutionInfo execution = new ExecutionInfo();
+        List<QueryInfo> queries = List.of(query("select * from books where id=?", List.of()));
+        StatementScope.begin();
+
+        // Act
+        listener.beforeQuery(execution, queries);
+        listener.afterQuery(execution, queries);
+        listener.afterQuery(new ExecutionInfo(), queries);
+
+        // Assert
+        StatementScope.Summary summary = StatementScope.end();
+        assertEquals(2, summary.statements());
+        assertEquals("select * from books where id=?", summary.mostRepeated());
+        assertTrue(summary.elapsedNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("Should list the bound parameters of the first sets of a batch")
+    void shouldListBoundParameters() throws Exception {
+        // Arrange
+        List<List<ParameterSetOperation>> sets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            sets.add(List.of(set("setString", String.class, 1, "title " + i),
+                    set("setNull", int.class, 2, Types.INTEGER)));
+        }
+
+        // Act
+        String parameters = StatementMetricsListener.parameters(List.of(query("insert into books", sets)));
+
+        // Assert
+        assertEquals("[title 0, null], [title 1, null], [title 2, null] (+2 more)", parameters);
+    }
+
+    @Test
+    @DisplayName("Should report an unknown origin outside the repository port")
+    void shouldReportUnknownOrigin() {
+        assertEquals("unknown", StatementMetricsListener.origin());
+    }
+}
@@ -0,0 +1,62 @@
+package com.library.manager.driven.repositories.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StatementScope Tests")
+class StatementScopeTest {
+
+    @AfterEach
+    void tearDown() {
+        StatementScope.end();
+    }
+
+    @Test
+    @DisplayName("Should count and time the statements recorded inside a scope and find the most repeated one")
+    void shouldCountStatementsInScope() {
+        // Arrange
+        StatementScope.begin();
+
+        // Act
+        StatementScope.record("select b from books b", 1_000);
+        StatementScope.record("select a from authors a where a.id=?", 200);
+        StatementScope.record("select a from authors a where a.id=?", 200);
+        StatementScope.record("select a from authors a where a.id=?", 200);
+        StatementScope.Summary current = StatementScope.current();
+        StatementScope.Summary summary = StatementScope.end();
+
+        // Assert
+        assertEquals(current, summary);
+        assertEquals(4, summary.statements());
+        assertEquals(1_600, summary.elapsedNanos());
+        assertEquals("select a from authors a where a.id=?", summary.mostRepeated());
+        assertEquals(3, summary.repetitions());
+    }
+
+    @Test
+    @DisplayName("Should return an empty summary when no statement ran")
+    void shouldReturnEmptySummaryWithoutStatements() {
+        // Arrange
+        StatementScope.begin();
+
+        // Act
+        StatementScope.Summary summary = StatementScope.end();
+
+        // Assert
+        assertEquals(StatementScope.Summary.EMPTY, summary);
+    }
+
+    @Test
+    @DisplayName("Should ignore statements outside a scope")
+    void shouldIgnoreStatementsOutsideScope() {
+        // Act
+        StatementScope.record("select b from books b", 1_000);
+
+        // Assert
+        assertEquals(StatementScope.Summary.EMPTY, StatementScope.current());
+        assertEquals(StatementScope.Summary.EMPTY, StatementScope.end());
+    }
+}
@@ -0,0 +1,82 @@
+package com.library.manager.driven.repositories.search;
+
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.BookSuggestionField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookSuggestionIndex Tests")
+class BookSuggestionIndexTest {
+
+    private BookSuggestionIndex suggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        suggestionIndex = new BookSuggestionIndex();
+        suggestionIndex.rebuild(List.of(
+                new IndexedBook(1L, "Cien años de soledad", "Gabriel García Márquez"),
+                new IndexedBook(2L, "El amor en los tiempos del cólera", "Gabriel García Márquez"),
+                new IndexedBook(3L, "La sombra del viento", "Carlos Ruiz Zafón")));
+    }
+
+    @Nested
+    @DisplayName("suggest() method tests")
+    class SuggestTests {
+
+        @Test
+        @DisplayName("Should suggest each author once with its number of books")
+        void shouldSuggestDistinctAuthors() {
+            // Act
+            List<BookSuggestion> suggestions = suggestionIndex.suggest(BookSuggestionField.AUTHOR, "gab", 5);
+
+            // Assert
+            assertEquals(List.of(new BookSuggestion("Gabriel García Márquez", 2)), suggestions);
+        }
+
+        @Test
+        @DisplayName("Should suggest titles from the start of the title")
+        void shouldSuggestTitles() {
+            // Act & Assert
+            assertEquals(List.of(new BookSuggestion("La sombra del viento", 1)),
+                    suggestionIndex.suggest(BookSuggestionField.TITLE, "la s", 5));
+            assertTrue(suggestionIndex.suggest(BookSuggestionField.TITLE, "sombra", 5).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("index() and remove() method tests")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should replace the previous values of an updated book")
+        void shouldReplacePreviousValues() {
+            // Act
+            suggestionIndex.index(new IndexedBook(2L, "Crónica de una muerte anunciada", "Gabriel García Márquez"));
+
+            // Assert
+            assertTrue(suggestionIndex.suggest(BookSuggestionField.TITLE, "el amor", 5).isEmpty());
+            assertEquals(1, suggestionIndex.suggest(BookSuggestionField.TITLE, "cronica", 5).size());
+            assertEquals(List.of(new BookSuggestion("Gabriel García Márquez", 2)),
+                    suggestionIndex.suggest(BookSuggestionField.AUTHOR, "g", 5));
+            assertEquals(3, suggestionIndex.size());
+        }
+
+        @Test
+        @DisplayName("Should stop suggesting a removed book")
+        void shouldRemoveBook() {
+            // Act
+            suggestionIndex.remove(3L);
+            suggestionIndex.remove(99L);
+
+            // Assert
+            assertTrue(suggestionIndex.suggest(BookSuggestionField.AUTHOR, "carlos", 5).isEmpty());
+            assertEquals(2, suggestionIndex.size());
+        }
+    }
+}
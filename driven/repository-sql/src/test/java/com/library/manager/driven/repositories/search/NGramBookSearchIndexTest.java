@@ -0,0 +1,231 @@
+package com.library.manager.driven.repositories.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NGramBookSearchIndex Tests")
+class NGramBookSearchIndexTest {
+
+    private NGramBookSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new NGramBookSearchIndex(3, 100);
+        searchIndex.rebuild(() -> Stream.of(
+                new IndexedBook(1L, "Cien años de soledad", "Gabriel García Márquez"),
+                new IndexedBook(2L, "El amor en los tiempos del cólera", "Gabriel García Márquez"),
+                new IndexedBook(3L, "La sombra del viento", "Carlos Ruiz Zafón"),
+                new IndexedBook(4L, "Soledades", "Antonio Machado"),
+                new IndexedBook(5L, "Tiempo de silencio", "Luis Martín-Santos")));
+    }
+
+    @Nested
+    @DisplayName("search() method tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should find substrings case-insensitively")
+        void shouldFindSubstrings() {
+            // Act
+            Optional<List<Long>> result = searchIndex.search("SOLEDAD", null);
+
+            // Assert
+            assertEquals(Optional.of(List.of(1L, 4L)), result.map(ids -> ids.stream().sorted().toList()));
+        }
+
+        @Test
+        @DisplayName("Should return candidates in ascending ID order")
+        void shouldReturnIdsInOrder() {
+            // Act
+            Optional<List<Long>> result = searchIndex.search("tiempo", null);
+
+            // Assert
+            assertEquals(Optional.of(List.of(2L, 5L)), result);
+        }
+
+        @Test
+        @DisplayName("Should find terms typed without accents")
+        void shouldIgnoreAccents() {
+            // Act
+            Optional<List<Long>> result = searchIndex.search("colera", "garcia marquez");
+
+            // Assert
+            assertEquals(Optional.of(List.of(2L)), result);
+        }
+
+        @Test
+        @DisplayName("Should require both title and author to match")
+        void shouldCombineTitleAndAuthor() {
+            // Act
+            Optional<List<Long>> result = searchIndex.search("del", "zafón");
+
+            // Assert
+            assertEquals(Optional.of(List.of(3L)), result);
+        }
+
+        @Test
+        @DisplayName("Should return books sharing every trigram, left to SQL to check the substring")
+        void shouldReturnCandidatesSharingEveryTrigram() {
+            // Arrange
+            searchIndex.index(new IndexedBook(6L, "abcd bcde", "Anónimo"));
+
+            // Act
+            Optional<List<Long>> result = searchIndex.search("abcde", null);
+
+            // Assert
+            assertEquals(Optional.of(List.of(6L)), result);
+        }
+
+        @Test
+        @DisplayName("Should leave every search to SQL until the index has been loaded")
+        void shouldFallBackBeforeRebuild() {
+            // Arrange
+            NGramBookSearchIndex emptyIndex = new NGramBookSearchIndex(3, 100);
+            emptyIndex.index(new IndexedBook(1L, "Cien años de soledad", "Gabriel García Márquez"));
+
+            // Act
+            Optional<List<Long>> result = emptyIndex.search("soledad", null);
+
+            // Assert
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should leave terms shorter than a trigram to SQL")
+        void shouldFallBackOnShortTerms() {
+            assertTrue(searchIndex.search("so", null).isEmpty());
+            assertTrue(searchIndex.search(null, "").isEmpty());
+            assertTrue(searchIndex.search(null, null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should leave too broad terms to SQL")
+        void shouldFallBackOnTooManyCandidates() {
+            // Act
+            Optional<List<Long>> result = searchIndex.search(" de", null);
+
+            // Assert
+            assertTrue(result.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("index() method tests")
+    class IndexTests {
+
+        @Test
+        @DisplayName("Should add new books")
+        void shouldAddBook() {
+            // Act
+            searchIndex.index(new IndexedBook(6L, "Niebla", "Miguel de Unamuno"));
+
+            // Assert
+            assertEquals(Optional.of(List.of(6L)), searchIndex.search("niebla", null));
+            assertEquals(6, searchIndex.size());
+        }
+
+        @Test
+        @DisplayName("Should find an updated book by its new title without counting it twice")
+        void shouldReindexBook() {
+            // Act
+            searchIndex.index(new IndexedBook(3L, "El juego del ángel", "Carlos Ruiz Zafón"));
+
+            // Assert
+            assertEquals(Optional.of(List.of(3L)), searchIndex.search("ángel", null));
+            assertEquals(5, searchIndex.size());
+        }
+
+        @Test
+        @DisplayName("Should index books without title")
+        void shouldIndexBookWithoutTitle() {
+            // Act
+            searchIndex.index(new IndexedBook(7L, null, "Anónimo"));
+
+            // Assert
+            assertEquals(Optional.of(List.of(7L)), searchIndex.search(null, "anónimo"));
+            assertEquals(Optional.of(List.of()), searchIndex.search("anónimo", null));
+        }
+
+        @Test
+        @DisplayName("Should fall back to SQL once the catalogue grows beyond max-books")
+        void shouldUnloadBeyondMaxBooks() {
+            // Arrange
+            NGramBookSearchIndex smallIndex = new NGramBookSearchIndex(3, 1);
+            smallIndex.rebuild(() -> Stream.of(new IndexedBook(1L, "Niebla", "Miguel de Unamuno")));
+
+            // Act
+            smallIndex.index(new IndexedBook(2L, "Niebla", "Anónimo"));
+
+            // Assert
+            assertTrue(smallIndex.search("niebla", null).isEmpty());
+            assertEquals(0, smallIndex.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild() method tests")
+    class RebuildTests {
+
+        @Test
+        @DisplayName("Should not load a catalogue larger than max-books")
+        void shouldRefuseTooLargeCatalogue() {
+            // Arrange
+            NGramBookSearchIndex smallIndex = new NGramBookSearchIndex(3, 1);
+
+            // Act
+            smallIndex.rebuild(() -> Stream.of(
+                    new IndexedBook(1L, "Niebla", "Miguel de Unamuno"),
+                    new IndexedBook(2L, "Nada", "Carmen Laforet")));
+
+            // Assert
+            assertFalse(smallIndex.canHold(2));
+            assertTrue(smallIndex.search("niebla", null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should load books given in any ID order")
+        void shouldLoadUnsortedBooks() {
+            // Act
+            searchIndex.rebuild(() -> Stream.of(
+                    new IndexedBook(9L, "Niebla", "Miguel de Unamuno"),
+                    new IndexedBook(4L, "Niebla", "Anónimo")));
+
+            // Assert
+            assertEquals(Optional.of(List.of(4L, 9L)), searchIndex.search("niebla", null));
+            assertEquals(2, searchIndex.size());
+        }
+
+        @Test
+        @DisplayName("Should keep the books indexed while the catalogue is being read")
+        void shouldReplayBooksIndexedDuringRebuild() {
+            // Act
+            searchIndex.rebuild(() -> {
+                searchIndex.index(new IndexedBook(8L, "Niebla", "Miguel de Unamuno"));
+                return Stream.of(new IndexedBook(4L, "Niebla", "Anónimo"));
+            });
+
+            // Assert
+            assertEquals(Optional.of(List.of(4L, 8L)), searchIndex.search("niebla", null));
+            assertEquals(2, searchIndex.size());
+        }
+
+        @Test
+        @DisplayName("Should fall back to SQL when the books cannot be read")
+        void shouldUnloadWhenReadFails() {
+            // Act & Assert
+            assertThrows(IllegalStateException.class, () -> searchIndex.rebuild(() -> {
+                throw new IllegalStateException("Connection closed");
+            }));
+            assertTrue(searchIndex.search("soledad", null).isEmpty());
+            assertEquals(0, searchIndex.size());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.library.manager.driven.repositories.search;
+
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SuggestionTrie Tests")
+class SuggestionTrieTest {
+
+    @Nested
+    @DisplayName("complete() method tests")
+    class CompleteTests {
+
+        @Test
+        @DisplayName("Should rank values by number of books, then alphabetically")
+        void shouldRankByCount() {
+            // Arrange
+            SuggestionTrie trie = SuggestionTrie.of(List.of("Soledades", "Sombra", "Soledad", "Soledades", "Sol"), 10);
+
+            // Act
+            List<BookSuggestion> suggestions = trie.complete("sol", 10);
+
+            // Assert
+            assertEquals(List.of(new BookSuggestion("Soledades", 2), new BookSuggestion("Sol", 1),
+                    new BookSuggestion("Soledad", 1)), suggestions);
+        }
+
+        @Test
+        @DisplayName("Should match prefixes ending inside an edge, ignoring case and accents")
+        void shouldMatchInsideEdge() {
+            // Arrange
+            SuggestionTrie trie = SuggestionTrie.of(List.of("Ángeles y demonios", "Angelica"), 10);
+
+            // Act & Assert
+            assertEquals(List.of("Ángeles y demonios", "Angelica"), texts(trie.complete("ANGEL", 10)));
+            assertEquals(List.of("Ángeles y demonios"), texts(trie.complete("angeles y", 10)));
+            assertEquals(List.of(), trie.complete("angelo", 10));
+            assertEquals(List.of(), trie.complete("b", 10));
+            assertEquals(List.of(), trie.complete(" ", 10));
+        }
+
+        @Test
+        @DisplayName("Should keep only the most frequent values per prefix")
+        void shouldTruncate() {
+            // Arrange
+            SuggestionTrie trie = SuggestionTrie.of(List.of("a1", "a2", "a2", "a3", "a3", "a3"), 2);
+
+            // Act & Assert
+            assertEquals(List.of("a3", "a2"), texts(trie.complete("a", 10)));
+            assertEquals(List.of("a3"), texts(trie.complete("a", 1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("add() and remove() method tests")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should forget a value once no book has it")
+        void shouldForgetValue() {
+            // Arrange
+            SuggestionTrie trie = new SuggestionTrie(10);
+            trie.add("Soledad");
+            trie.add("Soledades");
+            trie.add("Soledad");
+
+            // Act
+            trie.remove("soledad");
+            List<BookSuggestion> afterFirst = trie.complete("sole", 10);
+            trie.remove("Soledad");
+            trie.remove("Unknown");
+
+            // Assert
+            assertEquals(List.of(new BookSuggestion("Soledad", 1), new BookSuggestion("Soledades", 1)), afterFirst);
+            assertEquals(List.of(new BookSuggestion("Soledades", 1)), trie.complete("sole", 10));
+            assertEquals(1, trie.size());
+        }
+
+        @Test
+        @DisplayName("Should answer like a scan of every value after random adds and removes")
+        void shouldMatchBruteForce() {
+            // Arrange
+            Random random = new Random(7);
+            String[] words = {"sol", "sole", "soledad", "sombra", "son", "a", "ab", "abc", "b", "ba", "bab", "bad"};
+            SuggestionTrie trie = new SuggestionTrie(3);
+            Map<String, Integer> counts = new HashMap<>();
+            List<String> added = new ArrayList<>();
+
+            for (int step = 0; step < 2000; step++) {
+                if (!added.isEmpty() && random.nextInt(3) == 0) {
+                    String text = added.remove(random.nextInt(added.size()));
+                    trie.remove(text);
+                    counts.merge(text, -1, Integer::sum);
+                    counts.remove(text, 0);
+                } else {
+                    String text = words[random.nextInt(words.length)] + (random.nextBoolean() ? "" : " x");
+                    trie.add(text);
+                    added.add(text);
+                    counts.merge(text, 1, Integer::sum);
+                }
+
+                // Act & Assert
+                for (String prefix : List.of("s", "so", "sol", "a", "ab", "b", "ba", "bad x")) {
+                    List<BookSuggestion> expected = counts.entrySet().stream()
+                            .filter(entry -> entry.getKey().startsWith(prefix))
+                            .map(entry -> new BookSuggestion(entry.getKey(), entry.getValue()))
+                            .sorted(Comparator.comparingLong(BookSuggestion::count).reversed()
+                                    .thenComparing(BookSuggestion::text))
+                            .limit(3)
+                            .toList();
+                    assertEquals(expected, trie.complete(prefix, 3), "prefix " + prefix + " at step " + step);
+                }
+            }
+        }
+    }
+
+    private static List<String> texts(List<BookSuggestion> suggestions) {
+        return suggestions.stream().map(BookSuggestion::text).toList();
+    }
+}
@@ -1,24 +1,51 @@
 package com.library.manager.driving.controllers.adapters;
 
 
+import com.library.manager.application.ports.driving.BookImportServicePort;
 import com.library.manager.application.ports.driving.BookServicePort;
 import com.library.manager.domain.Book;
 import com.library.manager.domain.BookGenre;
 import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookImportResult;
+import com.library.manager.domain.valueobjects.BookImportRow;
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.BookSuggestionField;
+import com.library.manager.domain.valueobjects.BookVersion;
+import com.library.manager.domain.valueobjects.CountMode;
 import com.library.manager.domain.valueobjects.PaginatedResult;
 import com.library.manager.domain.valueobjects.PaginationQuery;
 import com.library.manager.driving.controllers.api.BooksApi;
+import com.library.manager.driving.controllers.exports.BookExportWriter;
+import com.library.manager.driving.controllers.imports.BookImportReader;
 import com.library.manager.driving.controllers.mappers.BookMapper;
+import com.library.manager.driving.controllers.models.BookChangesResponse;
+import com.library.manager.driving.controllers.models.BookFacetsResponse;
+import com.library.manager.driving.controllers.models.BookImportResponse;
+import com.library.manager.driving.controllers.models.BookLookupRequest;
+import com.library.manager.driving.controllers.models.BookLookupResponse;
 import com.library.manager.driving.controllers.models.BookRequest;
 import com.library.manager.driving.controllers.models.BookResponse;
+import com.library.manager.driving.controllers.models.BookSuggestionsResponse;
 import com.library.manager.driving.controllers.models.BooksResponse;
+import com.library.manager.driving.controllers.streams.BookEventBroadcaster;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Slf4j
 @RestController
@@ -29,9 +56,22 @@ public class BookControllerAdapter implements BooksApi {
     private static final int DEFAULT_PAGE_SIZE = 10;
     private static final String DEFAULT_SORT_BY = "id";
     private static final String DEFAULT_SORT_DIRECTION = "ASC";
+    private static final int DEFAULT_CHANGES_LIMIT = 100;
 
     private final BookServicePort bookServicePort;
 
+    private final BookImportServicePort bookImportServicePort;
+
+    private final BookImportReader bookImportReader;
+
+    private final BookExportWriter bookExportWriter;
+
+    private final BookEventBroadcaster bookEventBroadcaster;
+
+    private final HttpServletRequest request;
+
+    private final WebRequest webRequest;
+
     private final BookMapper mapper;
 
     @Override
@@ -47,7 +87,22 @@ public class BookControllerAdapter implements BooksApi {
     @Override
     public ResponseEntity<BookResponse> getBook(Long id) {
 
-        BookResponse response = mapper.toBookResponse(bookServicePort.findActiveById(id));
+        // Served from the books cache: a repeated conditional GET runs no query at all
+        Book book = bookServicePort.findActiveById(id);
+        if (isNotModified(BookVersion.ofBook(book.getId(), book.getUpdatedAt()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        BookResponse response = mapper.toBookResponse(book);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @Override
+    public ResponseEntity<BookLookupResponse> lookupBooks(BookLookupRequest bookLookupRequest) {
+
+        BookLookupResponse response = mapper.toBookLookupResponse(
+                bookServicePort.findActiveByIds(bookLookupRequest.getIds()));
 
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
@@ -78,23 +133,124 @@ public class BookControllerAdapter implements BooksApi {
                                                   Optional<String> sortBy,
                                                   Optional<String> author,
                                                   Optional<String> title,
-                                                  Optional<String> genre) {
+                                                  Optional<String> genre,
+                                                  Optional<String> after,
+                                                  Optional<String> count) {
 
-        String genreFilter = genre.map(String::toUpperCase).orElse(null);
-        BookGenre bookGenre = (genreFilter != null) ? BookGenre.valueOf(genreFilter) : null;
-        BookFilter filter = mapper.toFilter(author.orElse(null), title.orElse(null), bookGenre);
+        BookFilter filter = mapper.toFilter(author.orElse(null), title.orElse(null), toBookGenre(genre));
 
-        PaginatedResult<Book> paginatedResult = bookServicePort.getAllWithFilters(
-                filter,
-                new PaginationQuery(
-                        page.orElse(DEFAULT_PAGE),
-                        pageSize.orElse(DEFAULT_PAGE_SIZE),
-                        sortBy.orElse(DEFAULT_SORT_BY),
-                        sortDirection.orElse(DEFAULT_SORT_DIRECTION)
-                ));
+        PaginationQuery paginationQuery = new PaginationQuery(
+                page.orElse(DEFAULT_PAGE),
+                pageSize.orElse(DEFAULT_PAGE_SIZE),
+                sortBy.orElse(DEFAULT_SORT_BY),
+                sortDirection.orElse(DEFAULT_SORT_DIRECTION),
+                after.orElse(null),
+                CountMode.fromValue(count.orElse(null))
+        );
 
-        BooksResponse response = mapper.toResponse(paginatedResult);
+        if (isNotModified(bookServicePort.getCollectionVersion())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        PaginatedResult<Book> paginatedResult = bookServicePort.getAllWithFilters(filter, paginationQuery);
+
+        BooksResponse response = mapper.toResponse(paginatedResult, filter, paginationQuery);
 
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
+
+    @Override
+    public ResponseEntity<BookFacetsResponse> getBookFacets(Optional<String> author,
+                                                            Optional<String> title,
+                                                            Optional<String> genre) {
+
+        BookFilter filter = mapper.toFilter(author.orElse(null), title.orElse(null), toBookGenre(genre));
+
+        if (isNotModified(bookServicePort.getCollectionVersion())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        BookFacetsResponse response = mapper.toBookFacetsResponse(bookServicePort.getFacets(filter));
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @Override
+    public ResponseEntity<BookSuggestionsResponse> getBookSuggestions(String field,
+                                                                      String prefix,
+                                                                      Optional<Integer> limit) {
+
+        BookSuggestionsResponse response = mapper.toBookSuggestionsResponse(bookServicePort.suggest(
+                BookSuggestionField.fromValue(field), prefix, limit.orElse(BookSuggestion.MAX_SUGGESTIONS)));
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @Override
+    public ResponseEntity<BookChangesResponse> getBookChanges(Optional<String> after, Optional<Integer> limit) {
+
+        BookChangesResponse response = mapper.toBookChangesResponse(
+                bookServicePort.getChanges(after.orElse(null), limit.orElse(DEFAULT_CHANGES_LIMIT)));
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @Override
+    public ResponseEntity<SseEmitter> streamBookEvents(Optional<String> lastEventId) {
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(bookEventBroadcaster.subscribe(lastEventId.orElse(null)));
+    }
+
+    @Override
+    public ResponseEntity<BookImportResponse> importBooks(InputStreamResource body) {
+
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+
+        BookImportResult result;
+        try (Stream<BookImportRow> rows = bookImportReader.read(body.getInputStream(), contentType)) {
+            result = bookImportServicePort.importBooks(rows);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        log.info("Imported {} of {} books ({} failed)", result.imported(), result.processed(), result.failed());
+
+        return new ResponseEntity<>(mapper.toBookImportResponse(result), HttpStatus.OK);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportBooks(Optional<String> author,
+                                                             Optional<String> title,
+                                                             Optional<String> genre) {
+
+        BookFilter filter = mapper.toFilter(author.orElse(null), title.orElse(null), toBookGenre(genre));
+        MediaType mediaType = bookExportWriter.selectMediaType(request.getHeader(HttpHeaders.ACCEPT));
+
+        StreamingResponseBody body = output -> {
+            try (BookExportWriter.Sink sink = bookExportWriter.open(output, mediaType)) {
+                bookServicePort.exportWithFilters(filter, sink);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(bookExportWriter.fileName(mediaType)).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Checks If-None-Match / If-Modified-Since before anything is loaded or mapped, and sets ETag and Last-Modified
+     * on the response either way.
+     */
+    private boolean isNotModified(BookVersion version) {
+        return webRequest.checkNotModified(version.tag(), version.lastModifiedEpochMilli());
+    }
+
+    private static BookGenre toBookGenre(Optional<String> genre) {
+        String genreFilter = genre.map(String::toUpperCase).orElse(null);
+        return (genreFilter != null) ? BookGenre.valueOf(genreFilter) : null;
+    }
 }
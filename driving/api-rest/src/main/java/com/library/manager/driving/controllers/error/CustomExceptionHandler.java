@@ -1,12 +1,14 @@
 package com.library.manager.driving.controllers.error;
 
 import com.library.manager.driving.controllers.models.Error;
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
@@ -115,6 +117,35 @@ public class CustomExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    protected ResponseEntity<Error> handleMissingParameter(MissingServletRequestParameterException ex, WebRequest request) {
+        Error error = new Error();
+        error.setCode(Error.CodeEnum.INVALID_PARAMETER);
+        error.setMessage("Parameter '" + ex.getParameterName() + "' is required");
+        error.setTimestamp(nowToUtcOffsetDateTime());
+
+        Map<String, Object> details = new HashMap<>();
+        details.put("parameter", ex.getParameterName());
+        error.setDetails(details);
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    protected ResponseEntity<Error> handleConstraintViolation(ConstraintViolationException ex, WebRequest request) {
+        Error error = new Error();
+        error.setCode(Error.CodeEnum.INVALID_PARAMETER);
+        error.setMessage("Invalid request parameters");
+        error.setTimestamp(nowToUtcOffsetDateTime());
+
+        Map<String, Object> details = new HashMap<>();
+        ex.getConstraintViolations().forEach(violation ->
+                details.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        error.setDetails(details);
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     protected ResponseEntity<Error> handleRuntimeException(RuntimeException ex, WebRequest request) {
         Error error = new Error();
@@ -0,0 +1,169 @@
+package com.library.manager.driving.controllers.exports;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.manager.domain.Book;
+import com.library.manager.driving.controllers.imports.BookImportReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Writes exported books to the response one at a time, as NDJSON or as CSV that {@link BookImportReader} can read
+ * back. Nothing is buffered beyond the writer's own output buffer.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookExportWriter {
+
+    static final List<String> CSV_COLUMNS = List.of(
+            "id", "title", "author", "bookGenre", "pages", "publicationYear", "createdAt", "updatedAt");
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * CSV when the Accept header asks for it explicitly, NDJSON otherwise.
+     */
+    public MediaType selectMediaType(String accept) {
+        if (accept != null && !accept.isBlank()) {
+            List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            MimeTypeUtils.sortBySpecificity(accepted);
+
+            for (MediaType mediaType : accepted) {
+                if (BookImportReader.TEXT_CSV.equalsTypeAndSubtype(mediaType)) {
+                    return BookImportReader.TEXT_CSV;
+                }
+                if (BookImportReader.APPLICATION_NDJSON.equalsTypeAndSubtype(mediaType)) {
+                    return BookImportReader.APPLICATION_NDJSON;
+                }
+            }
+        }
+        return BookImportReader.APPLICATION_NDJSON;
+    }
+
+    public String fileName(MediaType mediaType) {
+        return BookImportReader.TEXT_CSV.equalsTypeAndSubtype(mediaType) ? "books.csv" : "books.ndjson";
+    }
+
+    public Sink open(OutputStream output, MediaType mediaType) throws IOException {
+        if (BookImportReader.TEXT_CSV.equalsTypeAndSubtype(mediaType)) {
+            return new CsvSink(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+        }
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        return new NdjsonSink(generator);
+    }
+
+    private static String timestamp(LocalDateTime localDateTime) {
+        return localDateTime == null
+                ? null
+                : DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(localDateTime.atOffset(ZoneOffset.UTC));
+    }
+
+    /**
+     * Receives the exported books in order. Closing flushes what is left in the buffer but leaves the response open.
+     */
+    public abstract static class Sink implements Consumer<Book>, Closeable {
+
+        protected abstract void write(Book book) throws IOException;
+
+        @Override
+        public void accept(Book book) {
+            try {
+                write(book);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    private static final class NdjsonSink extends Sink {
+
+        private final JsonGenerator generator;
+
+        private NdjsonSink(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        protected void write(Book book) throws IOException {
+            generator.writeStartObject();
+            generator.writeObjectField("id", book.getId());
+            generator.writeStringField("title", book.getTitle());
+            generator.writeStringField("author", book.getAuthor());
+            generator.writeStringField("bookGenre", book.getBookGenre() == null ? null : book.getBookGenre().name());
+            generator.writeObjectField("pages", book.getPages());
+            generator.writeObjectField("publicationYear", book.getPublicationYear());
+            generator.writeStringField("createdAt", timestamp(book.getCreatedAt()));
+            generator.writeStringField("updatedAt", timestamp(book.getUpdatedAt()));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvSink extends Sink {
+
+        private final Writer writer;
+
+        private CsvSink(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write('\n');
+        }
+
+        @Override
+        protected void write(Book book) throws IOException {
+            writer.write(String.join(",",
+                    field(book.getId()),
+                    field(book.getTitle()),
+                    field(book.getAuthor()),
+                    field(book.getBookGenre() == null ? null : book.getBookGenre().name()),
+                    field(book.getPages()),
+                    field(book.getPublicationYear()),
+                    field(timestamp(book.getCreatedAt())),
+                    field(timestamp(book.getUpdatedAt()))));
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+
+        /**
+         * Quotes the value when it contains a separator, a quote or a line break, doubling any quotes inside.
+         */
+        private static String field(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value.toString();
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                return text;
+            }
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package com.library.manager.driving.controllers.imports;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.manager.domain.valueobjects.BookImportRow;
+import com.library.manager.driving.controllers.mappers.BookMapper;
+import com.library.manager.driving.controllers.models.BookRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Turns an import file into a lazy stream of {@link BookImportRow}s, reading one row at a time so the file is never
+ * held in memory. Every row goes through the same bean validation as {@code POST /v1/books}.
+ *
+ * <p>The returned stream owns the input stream and must be closed.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookImportReader {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    static final List<String> CSV_COLUMNS = List.of("title", "author", "bookGenre", "pages", "publicationYear");
+
+    private static final Set<String> REQUIRED_CSV_COLUMNS = Set.of("title", "author", "bookGenre");
+
+    /**
+     * Longest CSV record read, in characters: an unmatched quote would otherwise pull the rest of the file into one.
+     */
+    static final int MAX_CSV_RECORD_LENGTH = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    private final BookMapper mapper;
+
+    public Stream<BookImportRow> read(InputStream input, MediaType contentType) {
+        Iterator<BookImportRow> rows;
+        try {
+            if (APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+                rows = new NdjsonRows(reader(input));
+            } else if (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)) {
+                rows = new JsonArrayRows(objectMapper.getFactory().createParser(input));
+            } else if (TEXT_CSV.isCompatibleWith(contentType)) {
+                rows = new CsvRows(reader(input));
+            } else {
+                throw new IllegalArgumentException("Unsupported import format: " + contentType);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false)
+                .onClose(() -> close(input));
+    }
+
+    private BookImportRow toRow(long row, BookRequest bookRequest) {
+        Set<ConstraintViolation<BookRequest>> violations = validator.validate(bookRequest);
+        if (!violations.isEmpty()) {
+            return BookImportRow.invalid(row, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return BookImportRow.valid(row, mapper.toBook(bookRequest));
+    }
+
+    private BookImportRow parseJson(long row, Function<ObjectMapper, BookRequest> parser) {
+        try {
+            return toRow(row, parser.apply(objectMapper));
+        } catch (IllegalArgumentException ex) {
+            Throwable cause = ex.getCause() instanceof JsonProcessingException jsonEx ? jsonEx : ex;
+            return BookImportRow.invalid(row, cause instanceof JsonProcessingException jsonEx
+                    ? jsonEx.getOriginalMessage()
+                    : cause.getMessage());
+        }
+    }
+
+    private static BufferedReader reader(InputStream input) {
+        return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    private static void close(InputStream input) {
+        try {
+            input.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Base iterator computing one row ahead, so {@code hasNext()} can tell whether the file has more rows.
+     */
+    private abstract static class LookaheadIterator implements Iterator<BookImportRow> {
+
+        private BookImportRow next;
+
+        private boolean done;
+
+        protected abstract BookImportRow computeNext() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = computeNext();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public BookImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BookImportRow row = next;
+            next = null;
+            return row;
+        }
+    }
+
+    /**
+     * One JSON object per line; rows are numbered by line and blank lines are skipped.
+     */
+    private class NdjsonRows extends LookaheadIterator {
+
+        private final BufferedReader reader;
+
+        private long line;
+
+        NdjsonRows(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        protected BookImportRow computeNext() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+            } while (text != null && text.isBlank());
+
+            if (text == null) {
+                return null;
+            }
+            String json = text;
+            return parseJson(line, mapper -> readValue(mapper, json));
+        }
+
+        private static BookRequest readValue(ObjectMapper mapper, String json) {
+            try {
+                return mapper.readValue(json, BookRequest.class);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalArgumentException(ex);
+            }
+        }
+    }
+
+    /**
+     * A top-level JSON array read element by element; rows are numbered by position. A syntax error ends the file,
+     * since the parser cannot resynchronize after it.
+     */
+    private class JsonArrayRows extends LookaheadIterator {
+
+        private final JsonParser parser;
+
+        private long element;
+
+        private boolean broken;
+
+        JsonArrayRows(JsonParser parser) throws IOException {
+            this.parser = parser;
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Import file must contain a JSON array of books");
+            }
+        }
+
+        @Override
+        protected BookImportRow computeNext() throws IOException {
+            if (broken) {
+                return null;
+            }
+            element++;
+
+            JsonNode node;
+            try {
+                if (parser.nextToken() == JsonToken.END_ARRAY) {
+                    return null;
+                }
+                node = parser.readValueAsTree();
+            } catch (JsonProcessingException ex) {
+                broken = true;
+                return BookImportRow.invalid(element, ex.getOriginalMessage());
+            }
+
+            if (node == null || !node.isObject()) {
+                return BookImportRow.invalid(element, "Element is not a JSON object");
+            }
+            return parseJson(element, mapper -> treeToValue(mapper, node));
+        }
+
+        private static BookRequest treeToValue(ObjectMapper mapper, JsonNode node) {
+            try {
+                return mapper.treeToValue(node, BookRequest.class);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalArgumentException(ex);
+            }
+        }
+    }
+
+    /**
+     * A header row naming the columns in {@link #CSV_COLUMNS} (any order) followed by one book per record, as in
+     * RFC 4180: double-quoted fields may hold commas, {@code ""} escapes and line breaks. Rows are numbered by the line
+     * their record starts on, counting from the first line after the header. A record longer than
+     * {@link #MAX_CSV_RECORD_LENGTH} ends the file, since the end of its quoted field cannot be found.
+     */
+    private class CsvRows extends LookaheadIterator {
+
+        private final BufferedReader reader;
+
+        private final Map<String, Integer> columns;
+
+        private long line;
+
+        private boolean broken;
+
+        CsvRows(BufferedReader reader) throws IOException {
+            this.reader = reader;
+
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("Import file is empty");
+            }
+            List<String> names = parseLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+            this.columns = IntStream.range(0, names.size()).boxed()
+                    .filter(index -> CSV_COLUMNS.contains(names.get(index).trim()))
+                    .collect(Collectors.toMap(index -> names.get(index).trim(), Function.identity(), (a, b) -> a));
+
+            if (!columns.keySet().containsAll(REQUIRED_CSV_COLUMNS)) {
+                throw new IllegalArgumentException("CSV header must contain the columns " + REQUIRED_CSV_COLUMNS);
+            }
+        }
+
+        @Override
+        protected BookImportRow computeNext() throws IOException {
+            if (broken) {
+                return null;
+            }
+
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+            } while (text != null && text.isBlank());
+
+            if (text == null) {
+                return null;
+            }
+            long row = line;
+
+            StringBuilder record = new StringBuilder(text);
+            boolean openQuote = hasOddQuotes(text);
+            String next;
+            while (openQuote && (next = reader.readLine()) != null) {
+                line++;
+                record.append('\n').append(next);
+                openQuote ^= hasOddQuotes(next);
+                if (record.length() > MAX_CSV_RECORD_LENGTH) {
+                    broken = true;
+                    return BookImportRow.invalid(row, "Record longer than " + MAX_CSV_RECORD_LENGTH
+                            + " characters, probably an unterminated quoted field");
+                }
+            }
+
+            try {
+                List<String> fields = parseLine(record.toString());
+                BookRequest bookRequest = new BookRequest()
+                        .title(field(fields, "title"))
+                        .author(field(fields, "author"))
+                        .pages(integer(field(fields, "pages"), "pages"))
+                        .publicationYear(integer(field(fields, "publicationYear"), "publicationYear"));
+                String genre = field(fields, "bookGenre");
+                if (genre != null) {
+                    bookRequest.bookGenre(BookRequest.BookGenreEnum.fromValue(genre.toUpperCase(Locale.ROOT)));
+                }
+                return toRow(row, bookRequest);
+            } catch (IllegalArgumentException ex) {
+                return BookImportRow.invalid(row, ex.getMessage());
+            }
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private static Integer integer(String value, String column) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Integer.valueOf(value);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(column + ": not a number '" + value + "'");
+            }
+        }
+    }
+
+    /**
+     * Whether the text leaves the quoting state it started in: every quote opens or closes a quoted field, and a
+     * {@code ""} escape does both.
+     */
+    private static boolean hasOddQuotes(String text) {
+        return text.chars().filter(c -> c == '"').count() % 2 != 0;
+    }
+
+    /**
+     * Splits one CSV record on commas, honouring double-quoted fields, {@code ""} escapes and line breaks inside
+     * quotes.
+     */
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
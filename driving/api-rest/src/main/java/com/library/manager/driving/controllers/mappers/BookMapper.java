@@ -2,15 +2,27 @@ package com.library.manager.driving.controllers.mappers;
 
 import com.library.manager.domain.Book;
 import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.events.BookEvent;
+import com.library.manager.domain.valueobjects.BookChange;
+import com.library.manager.domain.valueobjects.BookChangePage;
+import com.library.manager.domain.valueobjects.BookFacets;
 import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookImportResult;
+import com.library.manager.domain.valueobjects.BookLookupResult;
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.CountMode;
 import com.library.manager.domain.valueobjects.PaginatedResult;
+import com.library.manager.domain.valueobjects.PaginationQuery;
 import com.library.manager.driving.controllers.models.*;
 import org.mapstruct.*;
 import org.springframework.stereotype.Component;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 @Component
 @Mapper(componentModel = "spring")
@@ -45,34 +57,97 @@ public interface BookMapper {
     @Mapping(source = "pageSize", target = "size")
     Pagination toPagination(PaginatedResult<Book> paginatedResult);
 
+    BookImportResponse toBookImportResponse(BookImportResult bookImportResult);
+
+    BookLookupResponse toBookLookupResponse(BookLookupResult bookLookupResult);
+
+    @Mapping(source = "bookId", target = "id")
+    @Mapping(target = "type", expression = "java(bookChange.isTombstone() "
+            + "? BookChangeResponse.TypeEnum.DELETE : BookChangeResponse.TypeEnum.UPSERT)")
+    @Mapping(source = "changedAt", target = "changedAt", qualifiedByName = "LocalDateTimeToOffsetDateTime")
+    BookChangeResponse toBookChangeResponse(BookChange bookChange);
+
+    BookChangesResponse toBookChangesResponse(BookChangePage bookChangePage);
+
+    @Mapping(source = "bookId", target = "id")
+    @Mapping(source = "occurredAt", target = "occurredAt", qualifiedByName = "LocalDateTimeToOffsetDateTime")
+    BookEventResponse toBookEventResponse(BookEvent bookEvent);
+
     default BookFilter toFilter(String author, String title, BookGenre bookGenre) {
         return new BookFilter(title, author, bookGenre, true);
     }
 
-    default BooksResponse toResponse(PaginatedResult<Book> paginatedResult) {
+    default BookFacetsResponse toBookFacetsResponse(BookFacets bookFacets) {
+        BookFacetsResponse response = new BookFacetsResponse();
+
+        bookFacets.genres().forEach((bookGenre, count) -> {
+            GenreFacet facet = new GenreFacet();
+            facet.setGenre(enumToString(bookGenre));
+            facet.setCount(count);
+            response.addGenresItem(facet);
+        });
+        bookFacets.decades().forEach((decade, count) -> {
+            DecadeFacet facet = new DecadeFacet();
+            facet.setDecade(decade);
+            facet.setCount(count);
+            response.addDecadesItem(facet);
+        });
+        response.setWithoutYear(bookFacets.withoutYear());
+
+        return response;
+    }
+
+    BookSuggestionResponse toBookSuggestionResponse(BookSuggestion bookSuggestion);
+
+    default BookSuggestionsResponse toBookSuggestionsResponse(List<BookSuggestion> bookSuggestions) {
+        BookSuggestionsResponse response = new BookSuggestionsResponse();
+        bookSuggestions.forEach(suggestion -> response.addSuggestionsItem(toBookSuggestionResponse(suggestion)));
+        return response;
+    }
+
+    /**
+     * Page-number links for numbered pages; after a cursor request {@code self} repeats the cursor and there is no
+     * {@code prev}, since a keyset page has no number. {@code next} follows {@code nextCursor} whenever the page has
+     * one, so clients that follow links never fall back to OFFSET. Every link keeps the filters, the sort and the
+     * count mode of the request.
+     */
+    default BooksResponse toResponse(PaginatedResult<Book> paginatedResult, BookFilter filter,
+                                     PaginationQuery paginationQuery) {
         BooksResponse response = new BooksResponse();
 
         response.setBooks(toListBookResponse(paginatedResult.content()));
         response.setPagination(toPagination(paginatedResult));
         response.getPagination().setTimestamp(nowToUtcOffsetDateTime());
+        if (!paginatedResult.isTotalKnown()) {
+            response.getPagination().setTotalElements(null);
+            response.getPagination().setTotalPages(null);
+        }
         List<Link> links = new ArrayList<>();
 
         String baseUrl = "/v1/books";
         int page = paginatedResult.pageNumber();
         int size = paginatedResult.pageSize();
         int total = paginatedResult.totalPages();
+        String parameters = listingParameters(size, filter, paginationQuery);
+        boolean cursorPage = paginationQuery.hasCursor();
 
-        links.add(createLink("self", baseUrl, page, size));
-        links.add(createLink("first", baseUrl, 1, size));
+        if (cursorPage) {
+            links.add(createCursorLink("self", baseUrl, paginationQuery.after(), parameters));
+        } else {
+            links.add(createLink("self", baseUrl, page, parameters));
+        }
+        links.add(createLink("first", baseUrl, 1, parameters));
 
         if (total > 0) {
-            links.add(createLink("last", baseUrl, total, size));
+            links.add(createLink("last", baseUrl, total, parameters));
         }
-        if (page < total) {
-            links.add(createLink("next", baseUrl, page + 1, size));
+        if (cursorPage || !paginatedResult.isTotalKnown() ? paginatedResult.hasNext() : page < total) {
+            links.add(paginatedResult.nextCursor() != null
+                    ? createCursorLink("next", baseUrl, paginatedResult.nextCursor(), parameters)
+                    : createLink("next", baseUrl, page + 1, parameters));
         }
-        if (page > 1) {
-            links.add(createLink("prev", baseUrl, page - 1, size));
+        if (!cursorPage && page > 1) {
+            links.add(createLink("prev", baseUrl, page - 1, parameters));
         }
 
         response.setLinks(links);
@@ -110,8 +185,39 @@ public interface BookMapper {
         return link;
     }
 
-    private Link createLink(String rel, String baseUrl, int page, int size) {
-        String href = baseUrl + "?page=" + page + "&pageSize=" + size;
-        return createLink(rel, href, "GET");
+    private Link createLink(String rel, String baseUrl, int page, String parameters) {
+        return createLink(rel, baseUrl + "?page=" + page + parameters, "GET");
+    }
+
+    private Link createCursorLink(String rel, String baseUrl, String cursor, String parameters) {
+        return createLink(rel, baseUrl + "?after=" + encode(cursor) + parameters, "GET");
+    }
+
+    /**
+     * Every query parameter of the listing but the position ({@code page} or {@code after}).
+     */
+    private String listingParameters(int size, BookFilter filter, PaginationQuery paginationQuery) {
+        StringBuilder parameters = new StringBuilder()
+                .append("&pageSize=").append(size)
+                .append("&sortBy=").append(encode(paginationQuery.sortBy()))
+                .append("&sortDirection=").append(encode(paginationQuery.sortDirection()));
+        if (filter.title() != null) {
+            parameters.append("&title=").append(encode(filter.title()));
+        }
+        if (filter.author() != null) {
+            parameters.append("&author=").append(encode(filter.author()));
+        }
+        if (filter.bookGenre() != null) {
+            parameters.append("&genre=").append(filter.bookGenre().name());
+        }
+        CountMode countMode = paginationQuery.countMode();
+        return parameters.append("&count=").append(countMode.name().toLowerCase(Locale.ROOT)).toString();
+    }
+
+    /**
+     * Form encoding with spaces as {@code %20}: a {@code +} is only read as a space in form bodies.
+     */
+    private String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
     }
 }
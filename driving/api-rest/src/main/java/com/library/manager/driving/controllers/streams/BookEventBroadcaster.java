@@ -0,0 +1,285 @@
+package com.library.manager.driving.controllers.streams;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.manager.domain.events.BookEvent;
+import com.library.manager.domain.events.BookImportEvent;
+import com.library.manager.driving.controllers.mappers.BookMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes {@link BookEvent}s to Server-Sent Events subscribers.
+ * <p>
+ * Publishing only appends the event to a replay buffer and offers it to each subscriber's bounded queue, so a slow
+ * connection never holds up the write that produced the event or the other subscribers. Every subscriber is drained
+ * by its own virtual thread, which also sends a heartbeat comment when the stream has been idle. A subscriber whose
+ * queue is full is disconnected; when it reconnects with {@code Last-Event-ID} the events it missed are replayed from
+ * the last {@code replay-size} kept in memory, or a {@code reset} event tells it to catch up from the change feed.
+ * <p>
+ * A {@code reset} event is also published in place of an event that cannot be serialized, which is logged rather than
+ * failing the write that has already committed, and after an import, whose books are not published one by one.
+ * <p>
+ * Event IDs are the startup time followed by a sequence number, so an ID handed out before a restart is never
+ * mistaken for one of this instance.
+ */
+@Slf4j
+@Component
+public class BookEventBroadcaster {
+
+    static final String RESET_EVENT = "reset";
+
+    static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    /**
+     * Data of the {@code reset} event: where to catch up from.
+     */
+    static final String RESET_DATA = "/v1/books/changes";
+
+    private static final Envelope DISCONNECT = new Envelope(-1, null, null, null);
+
+    private final BookMapper mapper;
+
+    private final ObjectMapper objectMapper;
+
+    private final int bufferSize;
+
+    private final int replaySize;
+
+    private final Duration heartbeat;
+
+    private final Duration timeout;
+
+    private final String idPrefix = System.currentTimeMillis() + "-";
+
+    private final Lock lock = new ReentrantLock();
+
+    private final Deque<Envelope> replay = new ArrayDeque<>();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final ThreadFactory drainThreads = Thread.ofVirtual().name("book-stream-", 1).factory();
+
+    private long sequence;
+
+    public BookEventBroadcaster(BookMapper mapper,
+                                ObjectMapper objectMapper,
+                                @Value("${library.stream.buffer-size:256}") int bufferSize,
+                                @Value("${library.stream.replay-size:1024}") int replaySize,
+                                @Value("${library.stream.heartbeat:15s}") Duration heartbeat,
+                                @Value("${library.stream.timeout:30m}") Duration timeout) {
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        // Registered under the publishing lock so that nothing is replayed twice or falls between replay and live
+        List<Envelope> missed;
+        lock.lock();
+        try {
+            missed = missedSince(lastEventId);
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+        drainThreads.newThread(() -> drain(subscriber, missed)).start();
+
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @EventListener
+    public void onBookEvent(BookEvent event) {
+        String data;
+        try {
+            data = toJson(event);
+        } catch (RuntimeException | JsonProcessingException ex) {
+            log.warn("Cannot serialize {} event of book {}, sending a reset instead", event.type(), event.bookId(), ex);
+            publish(RESET_EVENT, RESET_DATA);
+            return;
+        }
+        publish(event.type().name().toLowerCase(Locale.ROOT), data);
+    }
+
+    @EventListener
+    public void onBookImport(BookImportEvent event) {
+        publish(RESET_EVENT, RESET_DATA);
+    }
+
+    private void publish(String name, String data) {
+        lock.lock();
+        try {
+            sequence++;
+            Envelope envelope = new Envelope(sequence, idPrefix + sequence, name, data);
+            replay.addLast(envelope);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.offer(envelope));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        subscribers.forEach(Subscriber::close);
+    }
+
+    /**
+     * Events after {@code lastEventId}, or null when some of them are no longer retained (or the ID is not from this
+     * instance) and the client has to resynchronize. Called with the lock held.
+     */
+    private List<Envelope> missedSince(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+
+        long last = sequenceOf(lastEventId);
+        long oldest = replay.isEmpty() ? sequence + 1 : replay.peekFirst().sequence();
+        if (last < 0 || last > sequence || last + 1 < oldest) {
+            return null;
+        }
+        return replay.stream()
+                .filter(envelope -> envelope.sequence() > last)
+                .toList();
+    }
+
+    private long sequenceOf(String eventId) {
+        if (!eventId.startsWith(idPrefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(idPrefix.length()));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private void drain(Subscriber subscriber, List<Envelope> missed) {
+        SseEmitter emitter = subscriber.emitter();
+        try {
+            // Also makes the response headers go out right away
+            emitter.send(SseEmitter.event().comment("connected"));
+            if (missed == null) {
+                emitter.send(SseEmitter.event().name(RESET_EVENT).data(RESET_DATA));
+            } else {
+                for (Envelope envelope : missed) {
+                    send(emitter, envelope);
+                }
+            }
+
+            while (!subscriber.isClosed()) {
+                Envelope envelope = subscriber.queue().poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                if (envelope == null) {
+                    emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+                } else if (envelope != DISCONNECT) {
+                    send(emitter, envelope);
+                }
+            }
+            emitter.complete();
+        } catch (IOException | IllegalStateException ex) {
+            // The client has gone away or the emitter has already completed
+            subscriber.close();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            subscriber.close();
+            emitter.complete();
+        }
+    }
+
+    private static void send(SseEmitter emitter, Envelope envelope) throws IOException {
+        emitter.send(SseEmitter.event().id(envelope.id()).name(envelope.name()).data(envelope.data()));
+    }
+
+    /**
+     * Serialized once per event rather than once per subscriber.
+     */
+    private String toJson(BookEvent event) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(mapper.toBookEventResponse(event));
+    }
+
+    private record Envelope(long sequence, String id, String name, String data) {
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final BlockingQueue<Envelope> queue;
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<Envelope> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        BlockingQueue<Envelope> queue() {
+            return queue;
+        }
+
+        boolean isClosed() {
+            return closed.get();
+        }
+
+        void offer(Envelope envelope) {
+            if (!isClosed() && !queue.offer(envelope)) {
+                log.debug("Disconnecting a book stream subscriber {} events behind", bufferSize);
+                close();
+            }
+        }
+
+        /**
+         * Stops delivery and wakes the drain thread, which completes the response.
+         */
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                queue.clear();
+                queue.offer(DISCONNECT);
+            }
+        }
+    }
+}
@@ -1,41 +1,76 @@
 package com.library.manager.driving.controllers.adapters;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.library.manager.application.exceptions.BookNotFoundException;
+import com.library.manager.application.ports.driving.BookImportServicePort;
 import com.library.manager.application.ports.driving.BookServicePort;
 import com.library.manager.domain.Book;
 import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookChange;
+import com.library.manager.domain.valueobjects.BookChangePage;
+import com.library.manager.domain.valueobjects.BookFacets;
 import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookImportError;
+import com.library.manager.domain.valueobjects.BookImportResult;
+import com.library.manager.domain.valueobjects.BookImportRow;
+import com.library.manager.domain.valueobjects.BookLookupResult;
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.BookSuggestionField;
+import com.library.manager.domain.valueobjects.BookVersion;
+import com.library.manager.domain.valueobjects.CountMode;
 import com.library.manager.domain.valueobjects.PaginatedResult;
 import com.library.manager.domain.valueobjects.PaginationQuery;
 import com.library.manager.driving.controllers.config.TestConfiguration;
 import com.library.manager.driving.controllers.error.CustomExceptionHandler;
+import com.library.manager.driving.controllers.exports.BookExportWriter;
+import com.library.manager.driving.controllers.imports.BookImportReader;
 import com.library.manager.driving.controllers.mappers.BookMapper;
+import com.library.manager.driving.controllers.models.BookChangeResponse;
+import com.library.manager.driving.controllers.models.BookChangesResponse;
+import com.library.manager.driving.controllers.models.BookFacetsResponse;
+import com.library.manager.driving.controllers.models.BookImportResponse;
+import com.library.manager.driving.controllers.models.BookLookupResponse;
 import com.library.manager.driving.controllers.models.BookRequest;
 import com.library.manager.driving.controllers.models.BookResponse;
+import com.library.manager.driving.controllers.models.BookSuggestionResponse;
+import com.library.manager.driving.controllers.models.BookSuggestionsResponse;
 import com.library.manager.driving.controllers.models.BooksResponse;
+import com.library.manager.driving.controllers.streams.BookEventBroadcaster;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(BookControllerAdapter.class)
-@ContextConfiguration(classes = {TestConfiguration.class, BookControllerAdapter.class, CustomExceptionHandler.class})
+@ContextConfiguration(classes = {TestConfiguration.class, BookControllerAdapter.class, BookImportReader.class,
+        BookExportWriter.class, CustomExceptionHandler.class})
 @DisplayName("BookControllerAdapter Integration Tests")
 class BookControllerAdapterTest {
 
@@ -48,11 +83,19 @@ class BookControllerAdapterTest {
     @MockitoBean
     private BookServicePort bookServicePort;
 
+    @MockitoBean
+    private BookImportServicePort bookImportServicePort;
+
     @MockitoBean
     private BookMapper bookMapper;
 
+    @MockitoBean
+    private BookEventBroadcaster bookEventBroadcaster;
+
     private Book testBook;
     private BookRequest testBookRequest;
+    private BookVersion bookVersion;
+    private BookVersion collectionVersion;
 
     @BeforeEach
     void setUp() {
@@ -73,6 +116,10 @@ class BookControllerAdapterTest {
         testBookRequest.setBookGenre(BookRequest.BookGenreEnum.FICTION);
         testBookRequest.setPages(300);
         testBookRequest.setPublicationYear(2024);
+
+        bookVersion = BookVersion.ofBook(1L, testBook.getUpdatedAt());
+        collectionVersion = BookVersion.ofCollection(1L, 1L, LocalDateTime.of(2024, 1, 2, 12, 0));
+        when(bookServicePort.getCollectionVersion()).thenReturn(collectionVersion);
     }
 
     @Nested
@@ -181,7 +228,8 @@ class BookControllerAdapterTest {
             when(bookMapper.toFilter(any(), any(), any())).thenReturn(new BookFilter(null, null, null, true));
             when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
                     .thenReturn(result);
-            when(bookMapper.toResponse(any(PaginatedResult.class))).thenReturn(mock(BooksResponse.class));
+            when(bookMapper.toResponse(any(PaginatedResult.class), any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(mock(BooksResponse.class));
 
             // Act & Assert
             mockMvc.perform(get("/v1/books"))
@@ -202,7 +250,8 @@ class BookControllerAdapterTest {
             when(bookMapper.toFilter(any(), any(), any())).thenReturn(new BookFilter(null, null, null, true));
             when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
                     .thenReturn(result);
-            when(bookMapper.toResponse(any(PaginatedResult.class))).thenReturn(mock(BooksResponse.class));
+            when(bookMapper.toResponse(any(PaginatedResult.class), any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(mock(BooksResponse.class));
 
             // Act & Assert
             mockMvc.perform(get("/v1/books")
@@ -225,7 +274,8 @@ class BookControllerAdapterTest {
             when(bookMapper.toFilter(any(), any(), any())).thenReturn(new BookFilter(null, null, null, true));
             when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
                     .thenReturn(result);
-            when(bookMapper.toResponse(any(PaginatedResult.class))).thenReturn(mock(BooksResponse.class));
+            when(bookMapper.toResponse(any(PaginatedResult.class), any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(mock(BooksResponse.class));
 
             // Act & Assert
             mockMvc.perform(get("/v1/books")
@@ -249,7 +299,8 @@ class BookControllerAdapterTest {
                     .thenReturn(new BookFilter(null, "Test Author", null, true));
             when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
                     .thenReturn(result);
-            when(bookMapper.toResponse(any(PaginatedResult.class))).thenReturn(mock(BooksResponse.class));
+            when(bookMapper.toResponse(any(PaginatedResult.class), any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(mock(BooksResponse.class));
 
             // Act & Assert
             mockMvc.perform(get("/v1/books")
@@ -269,7 +320,8 @@ class BookControllerAdapterTest {
                     .thenReturn(new BookFilter("Test Book", null, null, true));
             when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
                     .thenReturn(result);
-            when(bookMapper.toResponse(any(PaginatedResult.class))).thenReturn(mock(BooksResponse.class));
+            when(bookMapper.toResponse(any(PaginatedResult.class), any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(mock(BooksResponse.class));
 
             // Act & Assert
             mockMvc.perform(get("/v1/books")
@@ -289,7 +341,8 @@ class BookControllerAdapterTest {
                     .thenReturn(new BookFilter(null, null, BookGenre.FICTION, true));
             when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
                     .thenReturn(result);
-            when(bookMapper.toResponse(any(PaginatedResult.class))).thenReturn(mock(BooksResponse.class));
+            when(bookMapper.toResponse(any(PaginatedResult.class), any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(mock(BooksResponse.class));
 
             // Act & Assert
             mockMvc.perform(get("/v1/books")
@@ -309,7 +362,8 @@ class BookControllerAdapterTest {
                     .thenReturn(new BookFilter(null, null, BookGenre.SCIENCE_FICTION, true));
             when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
                     .thenReturn(result);
-            when(bookMapper.toResponse(any(PaginatedResult.class))).thenReturn(mock(BooksResponse.class));
+            when(bookMapper.toResponse(any(PaginatedResult.class), any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(mock(BooksResponse.class));
 
             // Act & Assert
             mockMvc.perform(get("/v1/books")
@@ -340,7 +394,8 @@ class BookControllerAdapterTest {
                     .thenReturn(new BookFilter("Title", "Author", BookGenre.MYSTERY, true));
             when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
                     .thenReturn(result);
-            when(bookMapper.toResponse(any(PaginatedResult.class))).thenReturn(mock(BooksResponse.class));
+            when(bookMapper.toResponse(any(PaginatedResult.class), any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(mock(BooksResponse.class));
 
             // Act & Assert
             mockMvc.perform(get("/v1/books")
@@ -362,13 +417,115 @@ class BookControllerAdapterTest {
                     .thenReturn(new BookFilter(null, null, null, true));
             when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
                     .thenReturn(emptyResult);
-            when(bookMapper.toResponse(any(PaginatedResult.class))).thenReturn(mock(BooksResponse.class));
+            when(bookMapper.toResponse(any(PaginatedResult.class), any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(mock(BooksResponse.class));
 
             // Act & Assert
             mockMvc.perform(get("/v1/books"))
                     .andExpect(status().isOk());
         }
 
+        @Test
+        @DisplayName("Should pass cursor to the service in keyset mode")
+        void shouldPassCursor() throws Exception {
+            // Arrange
+            PaginatedResult<Book> result = new PaginatedResult<>(List.of(), 0L, 0, 0, 10);
+
+            when(bookMapper.toFilter(null, null, null))
+                    .thenReturn(new BookFilter(null, null, null, true));
+            when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(result);
+            when(bookMapper.toResponse(any(PaginatedResult.class), any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(mock(BooksResponse.class));
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books")
+                            .param("after", "abc"))
+                    .andExpect(status().isOk());
+
+            verify(bookServicePort, times(1)).getAllWithFilters(
+                    any(BookFilter.class),
+                    argThat(query -> query.hasCursor() && query.after().equals("abc"))
+            );
+        }
+
+        @Test
+        @DisplayName("Should keep the filters and the sort when following the 'next' link of a filtered page")
+        void shouldKeepFiltersWhenFollowingNext() throws Exception {
+            // Arrange
+            BookMapper realMapper = Mappers.getMapper(BookMapper.class);
+            when(bookMapper.toFilter(any(), any(), any())).thenAnswer(invocation -> realMapper.toFilter(
+                    invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+            when(bookMapper.toResponse(any(PaginatedResult.class), any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenAnswer(invocation -> realMapper.toResponse(
+                            invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+            when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(new PaginatedResult<>(List.of(), PaginatedResult.UNKNOWN_TOTAL,
+                            PaginatedResult.UNKNOWN_TOTAL, 1, 5, true, "next-cursor"));
+
+            MvcResult firstPage = mockMvc.perform(get("/v1/books")
+                            .param("title", "la isla")
+                            .param("author", "Stevenson")
+                            .param("genre", "adventure")
+                            .param("sortBy", "publicationYear")
+                            .param("sortDirection", "desc")
+                            .param("pageSize", "5"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            String next = null;
+            for (JsonNode link : objectMapper.readTree(firstPage.getResponse().getContentAsString()).path("links")) {
+                if ("next".equals(link.path("rel").asText())) {
+                    next = link.path("href").asText();
+                }
+            }
+
+            // Act
+            mockMvc.perform(get(URI.create(next)))
+                    .andExpect(status().isOk());
+
+            // Assert
+            verify(bookServicePort, times(1)).getAllWithFilters(
+                    eq(new BookFilter("la isla", "Stevenson", BookGenre.ADVENTURE, true)),
+                    argThat(query -> "next-cursor".equals(query.after()) && query.pageSize() == 5
+                            && query.sortBy().equals("publicationYear") && query.sortDirection().equals("desc"))
+            );
+        }
+
+        @Test
+        @DisplayName("Should pass count mode to the service")
+        void shouldPassCountMode() throws Exception {
+            // Arrange
+            PaginatedResult<Book> result = new PaginatedResult<>(List.of(), 0L, 0, 0, 10);
+
+            when(bookMapper.toFilter(null, null, null))
+                    .thenReturn(new BookFilter(null, null, null, true));
+            when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(result);
+            when(bookMapper.toResponse(any(PaginatedResult.class), any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(mock(BooksResponse.class));
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books")
+                            .param("count", "none"))
+                    .andExpect(status().isOk());
+
+            verify(bookServicePort, times(1)).getAllWithFilters(
+                    any(BookFilter.class),
+                    argThat(query -> query.countMode() == CountMode.NONE)
+            );
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown count mode")
+        void shouldRejectUnknownCountMode() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/v1/books")
+                            .param("count", "approx"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(bookServicePort);
+        }
+
         @Test
         @DisplayName("Should use default sort parameters when not provided")
         void shouldUseDefaultSortParameters() throws Exception {
@@ -379,7 +536,8 @@ class BookControllerAdapterTest {
                     .thenReturn(new BookFilter(null, null, null, true));
             when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
                     .thenReturn(result);
-            when(bookMapper.toResponse(any(PaginatedResult.class))).thenReturn(mock(BooksResponse.class));
+            when(bookMapper.toResponse(any(PaginatedResult.class), any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(mock(BooksResponse.class));
 
             // Act & Assert
             mockMvc.perform(get("/v1/books"))
@@ -464,6 +622,85 @@ class BookControllerAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Conditional GET tests")
+    class ConditionalGetTests {
+
+        @Test
+        @DisplayName("Should send a strong ETag and Last-Modified with the book")
+        void shouldSendValidatorsWithBook() throws Exception {
+            // Arrange
+            when(bookServicePort.findActiveById(1L)).thenReturn(testBook);
+            when(bookMapper.toBookResponse(testBook)).thenReturn(new BookResponse());
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/{id}", 1L))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, '"' + bookVersion.tag() + '"'))
+                    .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, bookVersion.lastModifiedEpochMilli()));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 to a matching If-None-Match from the cached book without mapping it")
+        void shouldAnswerNotModifiedForBook() throws Exception {
+            // Arrange
+            when(bookServicePort.findActiveById(1L)).thenReturn(testBook);
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/{id}", 1L)
+                            .header(HttpHeaders.IF_NONE_MATCH, '"' + bookVersion.tag() + '"'))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, '"' + bookVersion.tag() + '"'))
+                    .andExpect(content().string(""));
+
+            verify(bookServicePort, times(1)).findActiveById(1L);
+            verifyNoInteractions(bookMapper);
+        }
+
+        @Test
+        @DisplayName("Should send the book again when the ETag is stale")
+        void shouldSendBookWhenEtagIsStale() throws Exception {
+            // Arrange
+            when(bookServicePort.findActiveById(1L)).thenReturn(testBook);
+            when(bookMapper.toBookResponse(testBook)).thenReturn(new BookResponse());
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/{id}", 1L)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""))
+                    .andExpect(status().isOk());
+
+            verify(bookServicePort, times(1)).findActiveById(1L);
+        }
+
+        @Test
+        @DisplayName("Should return 404 to a conditional GET of a missing book")
+        void shouldReturn404ForMissingBook() throws Exception {
+            // Arrange
+            when(bookServicePort.findActiveById(999L)).thenThrow(new BookNotFoundException(999L));
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/{id}", 999L)
+                            .header(HttpHeaders.IF_NONE_MATCH, '"' + bookVersion.tag() + '"'))
+                    .andExpect(status().isNotFound());
+
+            verifyNoInteractions(bookMapper);
+        }
+
+        @Test
+        @DisplayName("Should answer 304 to If-Modified-Since on listings without querying them")
+        void shouldAnswerNotModifiedForListing() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/v1/books")
+                            .param("author", "Orwell")
+                            .header(HttpHeaders.IF_MODIFIED_SINCE, collectionVersion.lastModifiedEpochMilli()))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, '"' + collectionVersion.tag() + '"'));
+
+            verify(bookServicePort, never()).getAllWithFilters(any(), any());
+            verify(bookMapper, never()).toResponse(any(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("DELETE /v1/books/{id} - deactivateBook() endpoint tests")
     class DeactivateBookTests {
@@ -710,4 +947,423 @@ class BookControllerAdapterTest {
                     .andExpect(status().isBadRequest());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("POST /v1/books/import - importBooks() endpoint tests")
+    class ImportBooksTests {
+
+        private final List<BookImportRow> importedRows = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            importedRows.clear();
+            when(bookMapper.toBook(any(BookRequest.class))).thenReturn(testBook);
+            when(bookImportServicePort.importBooks(any())).thenAnswer(invocation -> {
+                Stream<BookImportRow> rows = invocation.getArgument(0);
+                rows.forEach(importedRows::add);
+                long failed = importedRows.stream().filter(row -> !row.isValid()).count();
+                return new BookImportResult(importedRows.size(), importedRows.size() - failed, failed,
+                        importedRows.stream()
+                                .filter(row -> !row.isValid())
+                                .map(row -> new BookImportError(row.row(), row.error()))
+                                .toList());
+            });
+            when(bookMapper.toBookImportResponse(any(BookImportResult.class))).thenAnswer(invocation -> {
+                BookImportResult result = invocation.getArgument(0);
+                return new BookImportResponse()
+                        .processed(result.processed())
+                        .imported(result.imported())
+                        .failed(result.failed());
+            });
+        }
+
+        @Test
+        @DisplayName("Should import NDJSON rows and report invalid lines")
+        void shouldImportNdjson() throws Exception {
+            // Arrange
+            String body = objectMapper.writeValueAsString(testBookRequest) + "\n"
+                    + "{\"title\": \"Missing fields\"}\n";
+
+            // Act & Assert
+            mockMvc.perform(post("/v1/books/import")
+                            .contentType("application/x-ndjson")
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.processed").value(2))
+                    .andExpect(jsonPath("$.imported").value(1))
+                    .andExpect(jsonPath("$.failed").value(1));
+
+            verify(bookImportServicePort, times(1)).importBooks(any());
+            assertEquals(testBook, importedRows.get(0).book());
+            assertEquals(2, importedRows.get(1).row());
+        }
+
+        @Test
+        @DisplayName("Should import a JSON array")
+        void shouldImportJsonArray() throws Exception {
+            // Arrange
+            String body = objectMapper.writeValueAsString(List.of(testBookRequest, testBookRequest));
+
+            // Act & Assert
+            mockMvc.perform(post("/v1/books/import")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(2));
+        }
+
+        @Test
+        @DisplayName("Should import CSV rows")
+        void shouldImportCsv() throws Exception {
+            // Arrange
+            String body = "title,author,bookGenre,pages,publicationYear\n"
+                    + "\"Yo, robot\",Isaac Asimov,SCIENCE_FICTION,256,1950\n";
+
+            // Act & Assert
+            mockMvc.perform(post("/v1/books/import")
+                            .contentType("text/csv")
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(1));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the JSON body is not an array")
+        void shouldRejectJsonObject() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/v1/books/import")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testBookRequest)))
+                    .andExpect(status().isBadRequest());
+
+            verify(bookImportServicePort, never()).importBooks(any());
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the CSV header lacks required columns")
+        void shouldRejectCsvWithoutHeader() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/v1/books/import")
+                            .contentType("text/csv")
+                            .content("name,writer\nDune,Frank Herbert\n"))
+                    .andExpect(status().isBadRequest());
+
+            verify(bookImportServicePort, never()).importBooks(any());
+        }
+
+        @Test
+        @DisplayName("Should reject unsupported content types")
+        void shouldRejectUnsupportedContentType() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/v1/books/import")
+                            .contentType(MediaType.APPLICATION_XML)
+                            .content("<books/>"))
+                    .andExpect(status().is4xxClientError());
+
+            verify(bookImportServicePort, never()).importBooks(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/books/facets - getBookFacets() endpoint tests")
+    class GetBookFacetsTests {
+
+        @Test
+        @DisplayName("Should return the facets of the filter")
+        void shouldReturnFacets() throws Exception {
+            // Arrange
+            BookFilter filter = new BookFilter(null, "Author", BookGenre.FICTION, true);
+            BookFacetsResponse response = new BookFacetsResponse();
+            response.setWithoutYear(2L);
+            when(bookMapper.toFilter("Author", null, BookGenre.FICTION)).thenReturn(filter);
+            when(bookServicePort.getFacets(filter)).thenReturn(BookFacets.EMPTY);
+            when(bookMapper.toBookFacetsResponse(BookFacets.EMPTY)).thenReturn(response);
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/facets")
+                            .param("author", "Author")
+                            .param("genre", "fiction"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, '"' + collectionVersion.tag() + '"'))
+                    .andExpect(jsonPath("$.withoutYear").value(2));
+
+            verify(bookServicePort, times(1)).getFacets(filter);
+        }
+
+        @Test
+        @DisplayName("Should answer 304 to a matching If-None-Match without counting")
+        void shouldAnswerNotModified() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/facets")
+                            .header(HttpHeaders.IF_NONE_MATCH, '"' + collectionVersion.tag() + '"'))
+                    .andExpect(status().isNotModified());
+
+            verify(bookServicePort, never()).getFacets(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/books/export - exportBooks() endpoint tests")
+    class ExportBooksTests {
+
+        @BeforeEach
+        void setUp() {
+            testBook.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+            testBook.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 12, 0));
+            doAnswer(invocation -> {
+                Consumer<Book> action = invocation.getArgument(1);
+                action.accept(testBook);
+                return null;
+            }).when(bookServicePort).exportWithFilters(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should stream NDJSON by default")
+        void shouldExportNdjson() throws Exception {
+            // Arrange
+            when(bookMapper.toFilter("Author", null, BookGenre.FICTION))
+                    .thenReturn(new BookFilter(null, "Author", BookGenre.FICTION, true));
+
+            // Act
+            MvcResult result = mockMvc.perform(get("/v1/books/export")
+                            .param("author", "Author")
+                            .param("genre", "fiction"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Assert
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=\"books.ndjson\""))
+                    .andExpect(content().string("{\"id\":1,\"title\":\"Test Book\",\"author\":\"Test Author\","
+                            + "\"bookGenre\":\"FICTION\",\"pages\":300,\"publicationYear\":2024,"
+                            + "\"createdAt\":\"2024-01-01T12:00:00Z\",\"updatedAt\":\"2024-01-02T12:00:00Z\"}\n"));
+
+            verify(bookServicePort, times(1)).exportWithFilters(
+                    argThat(filter -> BookGenre.FICTION.equals(filter.bookGenre())), any());
+        }
+
+        @Test
+        @DisplayName("Should stream CSV when asked for it")
+        void shouldExportCsv() throws Exception {
+            // Act
+            MvcResult result = mockMvc.perform(get("/v1/books/export")
+                            .accept("text/csv"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Assert
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Type", "text/csv"))
+                    .andExpect(content().string("id,title,author,bookGenre,pages,publicationYear,createdAt,updatedAt\n"
+                            + "1,Test Book,Test Author,FICTION,300,2024,2024-01-01T12:00:00Z,2024-01-02T12:00:00Z\n"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown genre before streaming")
+        void shouldRejectUnknownGenre() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/export")
+                            .param("genre", "unknown"))
+                    .andExpect(status().isBadRequest());
+
+            verify(bookServicePort, never()).exportWithFilters(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/books/stream - streamBookEvents() endpoint tests")
+    class StreamBookEventsTests {
+
+        @Test
+        @DisplayName("Should open an event stream resuming after Last-Event-ID")
+        void shouldOpenEventStream() throws Exception {
+            // Arrange
+            when(bookEventBroadcaster.subscribe("1700000000000-5")).thenReturn(new SseEmitter());
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/stream")
+                            .header("Last-Event-ID", "1700000000000-5")
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted());
+
+            verify(bookEventBroadcaster, times(1)).subscribe("1700000000000-5");
+        }
+
+        @Test
+        @DisplayName("Should subscribe from now on without Last-Event-ID")
+        void shouldSubscribeWithoutLastEventId() throws Exception {
+            // Arrange
+            when(bookEventBroadcaster.subscribe(null)).thenReturn(new SseEmitter());
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted());
+
+            verify(bookEventBroadcaster, times(1)).subscribe(null);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/books/suggestions - getBookSuggestions() endpoint tests")
+    class GetBookSuggestionsTests {
+
+        @Test
+        @DisplayName("Should return the suggestions for the field and prefix")
+        void shouldReturnSuggestions() throws Exception {
+            // Arrange
+            List<BookSuggestion> suggestions = List.of(new BookSuggestion("Test Author", 3));
+            when(bookServicePort.suggest(BookSuggestionField.AUTHOR, "tes", 5)).thenReturn(suggestions);
+            when(bookMapper.toBookSuggestionsResponse(suggestions)).thenReturn(new BookSuggestionsResponse()
+                    .suggestions(List.of(new BookSuggestionResponse().text("Test Author").count(3L))));
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/suggestions")
+                            .param("field", "author")
+                            .param("prefix", "tes")
+                            .param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.suggestions[0].text").value("Test Author"))
+                    .andExpect(jsonPath("$.suggestions[0].count").value(3));
+        }
+
+        @Test
+        @DisplayName("Should ask for the maximum number of suggestions by default")
+        void shouldUseDefaultLimit() throws Exception {
+            // Arrange
+            when(bookServicePort.suggest(BookSuggestionField.TITLE, "tes", BookSuggestion.MAX_SUGGESTIONS))
+                    .thenReturn(List.of());
+            when(bookMapper.toBookSuggestionsResponse(List.of())).thenReturn(new BookSuggestionsResponse());
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/suggestions").param("field", "title").param("prefix", "tes"))
+                    .andExpect(status().isOk());
+
+            verify(bookServicePort, times(1)).suggest(BookSuggestionField.TITLE, "tes", BookSuggestion.MAX_SUGGESTIONS);
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown field")
+        void shouldRejectUnknownField() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/suggestions").param("field", "isbn").param("prefix", "97"))
+                    .andExpect(status().isBadRequest());
+
+            verify(bookServicePort, never()).suggest(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the prefix is missing")
+        void shouldRejectMissingPrefix() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/suggestions").param("field", "title"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("INVALID_PARAMETER"));
+
+            verify(bookServicePort, never()).suggest(any(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/books/changes - getBookChanges() endpoint tests")
+    class GetBookChangesTests {
+
+        @Test
+        @DisplayName("Should return changes and the cursor to resume from")
+        void shouldReturnChanges() throws Exception {
+            // Arrange
+            BookChangePage page = new BookChangePage(List.of(BookChange.of(testBook)), "next", false);
+            when(bookServicePort.getChanges("previous", 100)).thenReturn(page);
+            when(bookMapper.toBookChangesResponse(page)).thenReturn(new BookChangesResponse()
+                    .changes(List.of(new BookChangeResponse().id(1L).type(BookChangeResponse.TypeEnum.UPSERT)))
+                    .nextCursor("next")
+                    .hasMore(false));
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/changes").param("after", "previous"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changes[0].type").value("UPSERT"))
+                    .andExpect(jsonPath("$.nextCursor").value("next"));
+        }
+
+        @Test
+        @DisplayName("Should start from the beginning with the requested limit")
+        void shouldStartFromBeginning() throws Exception {
+            // Arrange
+            BookChangePage page = new BookChangePage(List.of(), null, false);
+            when(bookServicePort.getChanges(null, 500)).thenReturn(page);
+            when(bookMapper.toBookChangesResponse(page)).thenReturn(new BookChangesResponse().hasMore(false));
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/changes").param("limit", "500"))
+                    .andExpect(status().isOk());
+
+            verify(bookServicePort, times(1)).getChanges(null, 500);
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an invalid cursor")
+        void shouldRejectInvalidCursor() throws Exception {
+            // Arrange
+            when(bookServicePort.getChanges("garbage", 100))
+                    .thenThrow(new IllegalArgumentException("Invalid change cursor: garbage"));
+
+            // Act & Assert
+            mockMvc.perform(get("/v1/books/changes").param("after", "garbage"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /v1/books/lookup - lookupBooks() endpoint tests")
+    class LookupBooksTests {
+
+        @Test
+        @DisplayName("Should return found books and missing IDs")
+        void shouldLookupBooks() throws Exception {
+            // Arrange
+            BookLookupResult lookupResult = new BookLookupResult(List.of(testBook), List.of(999L));
+            when(bookServicePort.findActiveByIds(List.of(1L, 999L))).thenReturn(lookupResult);
+            when(bookMapper.toBookLookupResponse(lookupResult)).thenReturn(new BookLookupResponse()
+                    .books(List.of(new BookResponse().id(1L).title("Test Book")))
+                    .missingIds(List.of(999L)));
+
+            // Act & Assert
+            mockMvc.perform(post("/v1/books/lookup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\": [1, 999]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.books[0].id").value(1))
+                    .andExpect(jsonPath("$.missingIds[0]").value(999));
+
+            verify(bookServicePort, times(1)).findActiveByIds(List.of(1L, 999L));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when no IDs are sent")
+        void shouldRejectEmptyIds() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/v1/books/lookup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\": []}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(bookServicePort, never()).findActiveByIds(any());
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the service rejects the IDs")
+        void shouldRejectInvalidIds() throws Exception {
+            // Arrange
+            when(bookServicePort.findActiveByIds(any())).thenThrow(new IllegalArgumentException("Book ID cannot be null"));
+
+            // Act & Assert
+            mockMvc.perform(post("/v1/books/lookup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\": [1, null]}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
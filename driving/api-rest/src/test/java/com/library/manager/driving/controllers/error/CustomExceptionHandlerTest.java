@@ -2,6 +2,9 @@ package com.library.manager.driving.controllers.error;
 
 import com.library.manager.application.exceptions.BookNotFoundException;
 import com.library.manager.driving.controllers.models.Error;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Path;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +18,7 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
@@ -22,6 +26,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -455,6 +460,56 @@ class CustomExceptionHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("handleMissingParameter() tests")
+    class HandleMissingParameterTests {
+
+        @Test
+        @DisplayName("Should return 400 INVALID_PARAMETER naming the missing parameter")
+        void shouldReturn400ForMissingParameter() {
+            // Arrange
+            MissingServletRequestParameterException exception =
+                    new MissingServletRequestParameterException("prefix", "String");
+
+            // Act
+            ResponseEntity<Error> response = customExceptionHandler.handleMissingParameter(exception, webRequest);
+
+            // Assert
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertNotNull(response.getBody());
+            assertEquals(Error.CodeEnum.INVALID_PARAMETER, response.getBody().getCode());
+            assertEquals("Parameter 'prefix' is required", response.getBody().getMessage());
+            assertEquals("prefix", response.getBody().getDetails().get("parameter"));
+        }
+    }
+
+    @Nested
+    @DisplayName("handleConstraintViolation() tests")
+    class HandleConstraintViolationTests {
+
+        @Test
+        @DisplayName("Should return 400 INVALID_PARAMETER with the violated constraints")
+        void shouldReturn400ForConstraintViolation() {
+            // Arrange
+            ConstraintViolation<?> violation = mock(ConstraintViolation.class);
+            Path path = mock(Path.class);
+            when(path.toString()).thenReturn("getBookSuggestions.limit");
+            when(violation.getPropertyPath()).thenReturn(path);
+            when(violation.getMessage()).thenReturn("must be less than or equal to 10");
+            ConstraintViolationException exception = new ConstraintViolationException(Set.of(violation));
+
+            // Act
+            ResponseEntity<Error> response = customExceptionHandler.handleConstraintViolation(exception, webRequest);
+
+            // Assert
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertNotNull(response.getBody());
+            assertEquals(Error.CodeEnum.INVALID_PARAMETER, response.getBody().getCode());
+            assertEquals(Map.of("getBookSuggestions.limit", "must be less than or equal to 10"),
+                    response.getBody().getDetails());
+        }
+    }
+
     @Nested
     @DisplayName("handleRuntimeException() tests")
     class HandleRuntimeExceptionTests {
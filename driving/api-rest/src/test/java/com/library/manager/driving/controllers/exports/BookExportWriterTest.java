@@ -0,0 +1,145 @@
+package com.library.manager.driving.controllers.exports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.manager.domain.Book;
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookImportRow;
+import com.library.manager.driving.controllers.imports.BookImportReader;
+import com.library.manager.driving.controllers.mappers.BookMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookExportWriter Tests")
+class BookExportWriterTest {
+
+    private BookExportWriter writer;
+
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        writer = new BookExportWriter(new ObjectMapper());
+
+        book = new Book();
+        book.setId(7L);
+        book.setTitle("Yo, robot");
+        book.setAuthor("Isaac \"Asimov\"");
+        book.setBookGenre(BookGenre.SCIENCE_FICTION);
+    }
+
+    private String export(MediaType mediaType, List<Book> books) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (BookExportWriter.Sink sink = writer.open(output, mediaType)) {
+            books.forEach(sink);
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("selectMediaType() method tests")
+    class SelectMediaTypeTests {
+
+        @Test
+        @DisplayName("Should default to NDJSON")
+        void shouldDefaultToNdjson() {
+            assertEquals(BookImportReader.APPLICATION_NDJSON, writer.selectMediaType(null));
+            assertEquals(BookImportReader.APPLICATION_NDJSON, writer.selectMediaType("*/*"));
+            assertEquals(BookImportReader.APPLICATION_NDJSON, writer.selectMediaType("application/json"));
+        }
+
+        @Test
+        @DisplayName("Should pick CSV when it is explicitly accepted")
+        void shouldPickCsv() {
+            assertEquals(BookImportReader.TEXT_CSV, writer.selectMediaType("text/csv"));
+            assertEquals(BookImportReader.TEXT_CSV, writer.selectMediaType("*/*, text/csv"));
+            assertEquals("books.csv", writer.fileName(BookImportReader.TEXT_CSV));
+        }
+    }
+
+    @Nested
+    @DisplayName("open() method tests")
+    class OpenTests {
+
+        @Test
+        @DisplayName("Should write one JSON object per line with nulls for missing values")
+        void shouldWriteNdjson() throws IOException {
+            // Act
+            String content = export(BookImportReader.APPLICATION_NDJSON, List.of(book, book));
+
+            // Assert
+            String line = "{\"id\":7,\"title\":\"Yo, robot\",\"author\":\"Isaac \\\"Asimov\\\"\","
+                    + "\"bookGenre\":\"SCIENCE_FICTION\",\"pages\":null,\"publicationYear\":null,"
+                    + "\"createdAt\":null,\"updatedAt\":null}\n";
+            assertEquals(line + line, content);
+        }
+
+        @Test
+        @DisplayName("Should quote CSV fields containing separators or quotes")
+        void shouldQuoteCsvFields() throws IOException {
+            // Act
+            String content = export(BookImportReader.TEXT_CSV, List.of(book));
+
+            // Assert
+            assertEquals("id,title,author,bookGenre,pages,publicationYear,createdAt,updatedAt\n"
+                    + "7,\"Yo, robot\",\"Isaac \"\"Asimov\"\"\",SCIENCE_FICTION,,,,\n", content);
+        }
+
+        @Test
+        @DisplayName("Should export CSV that imports back to the same books, line breaks included")
+        void shouldRoundTripCsv() throws IOException {
+            // Arrange
+            book.setTitle("Cuentos de amor,\nde locura y de muerte");
+            book.setPages(192);
+            book.setPublicationYear(1917);
+            Book other = new Book();
+            other.setTitle("Niebla");
+            other.setAuthor("Miguel de Unamuno");
+            other.setBookGenre(BookGenre.FICTION);
+            other.setPages(300);
+            BookImportReader reader = new BookImportReader(new ObjectMapper(),
+                    Validation.buildDefaultValidatorFactory().getValidator(), Mappers.getMapper(BookMapper.class));
+
+            // Act
+            String content = export(BookImportReader.TEXT_CSV, List.of(book, other));
+            List<BookImportRow> rows;
+            try (Stream<BookImportRow> imported = reader.read(
+                    new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), BookImportReader.TEXT_CSV)) {
+                rows = imported.toList();
+            }
+
+            // Assert
+            assertEquals(2, rows.size());
+            Book first = rows.get(0).book();
+            assertEquals(book.getTitle(), first.getTitle());
+            assertEquals(book.getAuthor(), first.getAuthor());
+            assertEquals(book.getBookGenre(), first.getBookGenre());
+            assertEquals(192, first.getPages());
+            assertEquals(1917, first.getPublicationYear());
+            assertEquals("Niebla", rows.get(1).book().getTitle());
+        }
+
+        @Test
+        @DisplayName("Should write only the CSV header when nothing matches")
+        void shouldWriteHeaderOnly() throws IOException {
+            // Act
+            String content = export(BookImportReader.TEXT_CSV, List.of());
+
+            // Assert
+            assertEquals(String.join(",", BookExportWriter.CSV_COLUMNS) + "\n", content);
+        }
+    }
+}
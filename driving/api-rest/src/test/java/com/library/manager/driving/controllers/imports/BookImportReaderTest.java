@@ -0,0 +1,223 @@
+package com.library.manager.driving.controllers.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookImportRow;
+import com.library.manager.driving.controllers.mappers.BookMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookImportReader Tests")
+class BookImportReaderTest {
+
+    private BookImportReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new BookImportReader(new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                Mappers.getMapper(BookMapper.class));
+    }
+
+    private List<BookImportRow> read(String content, MediaType contentType) {
+        try (Stream<BookImportRow> rows = reader.read(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), contentType)) {
+            return rows.toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON tests")
+    class NdjsonTests {
+
+        @Test
+        @DisplayName("Should number rows by line and skip blank lines")
+        void shouldNumberRowsByLine() {
+            // Act
+            List<BookImportRow> rows = read("""
+                    {"title": "Niebla", "author": "Unamuno", "bookGenre": "FICTION"}
+
+                    {"title": "Marianela", "author": "Galdós", "bookGenre": "FICTION", "pages": 220}
+                    """, BookImportReader.APPLICATION_NDJSON);
+
+            // Assert
+            assertEquals(List.of(1L, 3L), rows.stream().map(BookImportRow::row).toList());
+            assertEquals("Marianela", rows.get(1).book().getTitle());
+            assertEquals(BookGenre.FICTION, rows.get(1).book().getBookGenre());
+        }
+
+        @Test
+        @DisplayName("Should report malformed lines and keep reading")
+        void shouldReportMalformedLines() {
+            // Act
+            List<BookImportRow> rows = read("""
+                    {"title": "Niebla",
+                    {"title": "Marianela", "author": "Galdós", "bookGenre": "FICTION"}
+                    """, BookImportReader.APPLICATION_NDJSON);
+
+            // Assert
+            assertFalse(rows.get(0).isValid());
+            assertTrue(rows.get(1).isValid());
+        }
+
+        @Test
+        @DisplayName("Should report bean validation errors")
+        void shouldReportValidationErrors() {
+            // Act
+            List<BookImportRow> rows = read("{\"title\": \"Niebla\"}", BookImportReader.APPLICATION_NDJSON);
+
+            // Assert
+            assertEquals("author: must not be null; bookGenre: must not be null", rows.get(0).error());
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON array tests")
+    class JsonArrayTests {
+
+        @Test
+        @DisplayName("Should report unknown genres by element")
+        void shouldReportInvalidElements() {
+            // Act
+            List<BookImportRow> rows = read("""
+                    [{"title": "Niebla", "author": "Unamuno", "bookGenre": "FICTION"},
+                     {"title": "Marianela", "author": "Galdós", "bookGenre": "NOVELA"}]
+                    """, MediaType.APPLICATION_JSON);
+
+            // Assert
+            assertEquals(2, rows.size());
+            assertTrue(rows.get(0).isValid());
+            assertEquals(2, rows.get(1).row());
+            assertFalse(rows.get(1).isValid());
+        }
+
+        @Test
+        @DisplayName("Should stop at a syntax error")
+        void shouldStopAtSyntaxError() {
+            // Act
+            List<BookImportRow> rows = read("""
+                    [{"title": "Niebla", "author": "Unamuno", "bookGenre": "FICTION"}, {"title": }]
+                    """, MediaType.APPLICATION_JSON);
+
+            // Assert
+            assertEquals(2, rows.size());
+            assertFalse(rows.get(1).isValid());
+        }
+
+        @Test
+        @DisplayName("Should reject a body that is not an array")
+        void shouldRejectNonArray() {
+            assertThrows(IllegalArgumentException.class, () -> read("{}", MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV tests")
+    class CsvTests {
+
+        @Test
+        @DisplayName("Should read columns in any order with quoted fields")
+        void shouldReadQuotedFields() {
+            // Act
+            List<BookImportRow> rows = read("""
+                    author,title,bookGenre,pages
+                    Isaac Asimov,"Yo, robot",science_fiction,256
+                    "Miguel de Cervantes","El ""Quijote""\",CLASSIC,
+                    """, BookImportReader.TEXT_CSV);
+
+            // Assert
+            assertEquals("Yo, robot", rows.get(0).book().getTitle());
+            assertEquals(BookGenre.SCIENCE_FICTION, rows.get(0).book().getBookGenre());
+            assertEquals(256, rows.get(0).book().getPages());
+            assertEquals("El \"Quijote\"", rows.get(1).book().getTitle());
+            assertNull(rows.get(1).book().getPages());
+        }
+
+        @Test
+        @DisplayName("Should report rows with invalid numbers or genres")
+        void shouldReportInvalidRows() {
+            // Act
+            List<BookImportRow> rows = read("""
+                    title,author,bookGenre,pages
+                    Niebla,Unamuno,FICTION,many
+                    Niebla,Unamuno,NOVELA,100
+                    """, BookImportReader.TEXT_CSV);
+
+            // Assert
+            assertEquals("pages: not a number 'many'", rows.get(0).error());
+            assertFalse(rows.get(1).isValid());
+            assertEquals(2, rows.get(1).row());
+        }
+
+        @Test
+        @DisplayName("Should read quoted fields spanning several lines and number rows by their first line")
+        void shouldReadMultiLineFields() {
+            // Act
+            List<BookImportRow> rows = read("""
+                    title,author,bookGenre
+                    "Cuentos de amor,
+                    de locura y de muerte",Horacio Quiroga,FICTION
+                    Niebla,Unamuno,FICTION
+                    """, BookImportReader.TEXT_CSV);
+
+            // Assert
+            assertEquals("Cuentos de amor,\nde locura y de muerte", rows.get(0).book().getTitle());
+            assertEquals("Horacio Quiroga", rows.get(0).book().getAuthor());
+            assertEquals(List.of(1L, 3L), rows.stream().map(BookImportRow::row).toList());
+        }
+
+        @Test
+        @DisplayName("Should stop at a quoted field that is never closed")
+        void shouldStopAtUnterminatedField() {
+            // Arrange
+            String filler = "x".repeat(BookImportReader.MAX_CSV_RECORD_LENGTH) + "\n";
+
+            // Act
+            List<BookImportRow> rows = read("title,author,bookGenre\n"
+                    + "Niebla,Unamuno,FICTION\n"
+                    + "\"Marianela,Galdós,FICTION\n"
+                    + filler + filler, BookImportReader.TEXT_CSV);
+
+            // Assert
+            assertEquals(2, rows.size());
+            assertTrue(rows.get(0).isValid());
+            assertFalse(rows.get(1).isValid());
+            assertEquals(2, rows.get(1).row());
+        }
+
+        @Test
+        @DisplayName("Should report a quoted field left open at the end of the file")
+        void shouldReportOpenFieldAtEndOfFile() {
+            // Act
+            List<BookImportRow> rows = read("title,author,bookGenre\n\"Niebla,Unamuno,FICTION\n",
+                    BookImportReader.TEXT_CSV);
+
+            // Assert
+            assertEquals("Unterminated quoted field", rows.get(0).error());
+        }
+
+        @Test
+        @DisplayName("Should reject a header without the required columns")
+        void shouldRejectMissingColumns() {
+            assertThrows(IllegalArgumentException.class, () -> read("title,pages\n", BookImportReader.TEXT_CSV));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported formats")
+    void shouldRejectUnsupportedFormat() {
+        assertThrows(IllegalArgumentException.class, () -> read("<books/>", MediaType.APPLICATION_XML));
+    }
+}
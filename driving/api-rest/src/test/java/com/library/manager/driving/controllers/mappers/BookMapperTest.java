@@ -2,11 +2,32 @@ package com.library.manager.driving.controllers.mappers;
 
 import com.library.manager.domain.Book;
 import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.events.BookEvent;
+import com.library.manager.domain.valueobjects.BookChange;
+import com.library.manager.domain.valueobjects.BookChangePage;
+import com.library.manager.domain.valueobjects.BookFacets;
 import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookImportError;
+import com.library.manager.domain.valueobjects.BookImportResult;
+import com.library.manager.domain.valueobjects.BookLookupResult;
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.CountMode;
 import com.library.manager.domain.valueobjects.PaginatedResult;
+import com.library.manager.domain.valueobjects.PaginationQuery;
+import com.library.manager.driving.controllers.models.BookChangeResponse;
+import com.library.manager.driving.controllers.models.BookChangesResponse;
+import com.library.manager.driving.controllers.models.BookEventResponse;
+import com.library.manager.driving.controllers.models.BookFacetsResponse;
+import com.library.manager.driving.controllers.models.BookImportResponse;
+import com.library.manager.driving.controllers.models.BookLookupResponse;
 import com.library.manager.driving.controllers.models.BookRequest;
 import com.library.manager.driving.controllers.models.BookResponse;
+import com.library.manager.driving.controllers.models.BookSuggestionResponse;
+import com.library.manager.driving.controllers.models.BookSuggestionsResponse;
 import com.library.manager.driving.controllers.models.BooksResponse;
+import com.library.manager.driving.controllers.models.DecadeFacet;
+import com.library.manager.driving.controllers.models.GenreFacet;
+import com.library.manager.driving.controllers.models.Link;
 import com.library.manager.driving.controllers.models.Pagination;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +39,8 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -238,6 +261,20 @@ class BookMapperTest {
             assertEquals(10, result.getTotalPages());
         }
 
+        @Test
+        @DisplayName("Should map next cursor")
+        void shouldMapNextCursor() {
+            // Arrange
+            PaginatedResult<Book> paginatedResult = new PaginatedResult<>(
+                    List.of(testBook), 100L, 10, 2, 10, true, "cursor-token");
+
+            // Act
+            Pagination result = bookMapper.toPagination(paginatedResult);
+
+            // Assert
+            assertEquals("cursor-token", result.getNextCursor());
+        }
+
         @Test
         @DisplayName("Should handle first page")
         void shouldHandleFirstPage() {
@@ -279,6 +316,175 @@ class BookMapperTest {
         }
     }
 
+    @Nested
+    @DisplayName("toBookLookupResponse() mapping tests")
+    class ToBookLookupResponseTests {
+
+        @Test
+        @DisplayName("Should map found books with links and keep missing IDs")
+        void shouldMapLookupResult() {
+            // Act
+            BookLookupResponse response = bookMapper.toBookLookupResponse(
+                    new BookLookupResult(List.of(testBook), List.of(999L)));
+
+            // Assert
+            assertEquals(1, response.getBooks().size());
+            assertEquals(testBook.getTitle(), response.getBooks().get(0).getTitle());
+            assertFalse(response.getBooks().get(0).getLinks().isEmpty());
+            assertEquals(List.of(999L), response.getMissingIds());
+        }
+    }
+
+    @Nested
+    @DisplayName("toBookFacetsResponse() mapping tests")
+    class ToBookFacetsResponseTests {
+
+        @Test
+        @DisplayName("Should list genres and decades in order")
+        void shouldMapFacets() {
+            // Act
+            BookFacetsResponse response = bookMapper.toBookFacetsResponse(new BookFacets(
+                    Map.of(BookGenre.MYSTERY, 2L, BookGenre.FICTION, 5L),
+                    new TreeMap<>(Map.of(2000, 4L, 1990, 3L)),
+                    1L));
+
+            // Assert
+            assertEquals(List.of("FICTION", "MYSTERY"),
+                    response.getGenres().stream().map(GenreFacet::getGenre).toList());
+            assertEquals(5L, response.getGenres().get(0).getCount());
+            assertEquals(List.of(1990, 2000),
+                    response.getDecades().stream().map(DecadeFacet::getDecade).toList());
+            assertEquals(3L, response.getDecades().get(0).getCount());
+            assertEquals(1L, response.getWithoutYear());
+        }
+
+        @Test
+        @DisplayName("Should map empty facets to empty lists")
+        void shouldMapEmptyFacets() {
+            // Act
+            BookFacetsResponse response = bookMapper.toBookFacetsResponse(BookFacets.EMPTY);
+
+            // Assert
+            assertTrue(response.getGenres().isEmpty());
+            assertTrue(response.getDecades().isEmpty());
+            assertEquals(0L, response.getWithoutYear());
+        }
+    }
+
+    @Nested
+    @DisplayName("toBookSuggestionsResponse() mapping tests")
+    class ToBookSuggestionsResponseTests {
+
+        @Test
+        @DisplayName("Should keep the order and counts of the suggestions")
+        void shouldMapSuggestions() {
+            // Act
+            BookSuggestionsResponse response = bookMapper.toBookSuggestionsResponse(List.of(
+                    new BookSuggestion("Gabriel García Márquez", 4), new BookSuggestion("Gabriela Mistral", 1)));
+
+            // Assert
+            assertEquals(List.of("Gabriel García Márquez", "Gabriela Mistral"),
+                    response.getSuggestions().stream().map(BookSuggestionResponse::getText).toList());
+            assertEquals(4L, response.getSuggestions().get(0).getCount());
+            assertTrue(bookMapper.toBookSuggestionsResponse(List.of()).getSuggestions().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("toBookImportResponse() mapping tests")
+    class ToBookImportResponseTests {
+
+        @Test
+        @DisplayName("Should map counts and reported errors")
+        void shouldMapImportResult() {
+            // Act
+            BookImportResponse response = bookMapper.toBookImportResponse(
+                    new BookImportResult(3, 2, 1, List.of(new BookImportError(2, "Title is required"))));
+
+            // Assert
+            assertEquals(3L, response.getProcessed());
+            assertEquals(2L, response.getImported());
+            assertEquals(1L, response.getFailed());
+            assertEquals(2L, response.getErrors().get(0).getRow());
+            assertEquals("Title is required", response.getErrors().get(0).getMessage());
+            assertNull(bookMapper.toBookImportResponse(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("toBookEventResponse() mapping tests")
+    class ToBookEventResponseTests {
+
+        @Test
+        @DisplayName("Should map an update with the book")
+        void shouldMapUpdate() {
+            // Act
+            BookEventResponse response = bookMapper.toBookEventResponse(BookEvent.updated(testBook));
+
+            // Assert
+            assertEquals(BookEventResponse.TypeEnum.UPDATED, response.getType());
+            assertEquals(1L, response.getId());
+            assertEquals(OffsetDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC), response.getOccurredAt());
+            assertEquals(testBook.getTitle(), response.getBook().getTitle());
+        }
+
+        @Test
+        @DisplayName("Should map a creation")
+        void shouldMapCreation() {
+            // Act
+            BookEventResponse response = bookMapper.toBookEventResponse(BookEvent.created(testBook));
+
+            // Assert
+            assertEquals(BookEventResponse.TypeEnum.CREATED, response.getType());
+            assertEquals(testBook.getAuthor(), response.getBook().getAuthor());
+            assertNull(bookMapper.toBookEventResponse(null));
+        }
+
+        @Test
+        @DisplayName("Should map a deactivation without a book")
+        void shouldMapDeactivation() {
+            // Act
+            BookEventResponse response = bookMapper.toBookEventResponse(
+                    BookEvent.deactivated(2L, LocalDateTime.of(2024, 1, 1, 12, 0)));
+
+            // Assert
+            assertEquals(BookEventResponse.TypeEnum.DEACTIVATED, response.getType());
+            assertEquals(2L, response.getId());
+            assertNull(response.getBook());
+        }
+    }
+
+    @Nested
+    @DisplayName("toBookChangesResponse() mapping tests")
+    class ToBookChangesResponseTests {
+
+        @Test
+        @DisplayName("Should map upserts with the book and tombstones without it")
+        void shouldMapChanges() {
+            // Arrange
+            Book deactivated = new Book();
+            deactivated.setId(2L);
+            deactivated.setActive(false);
+            deactivated.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+
+            // Act
+            BookChangesResponse response = bookMapper.toBookChangesResponse(new BookChangePage(
+                    List.of(BookChange.of(testBook), BookChange.of(deactivated)), "cursor", true));
+
+            // Assert
+            BookChangeResponse upsert = response.getChanges().get(0);
+            BookChangeResponse tombstone = response.getChanges().get(1);
+            assertEquals(BookChangeResponse.TypeEnum.UPSERT, upsert.getType());
+            assertEquals(testBook.getTitle(), upsert.getBook().getTitle());
+            assertEquals(BookChangeResponse.TypeEnum.DELETE, tombstone.getType());
+            assertEquals(2L, tombstone.getId());
+            assertNull(tombstone.getBook());
+            assertEquals(OffsetDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC), tombstone.getChangedAt());
+            assertEquals("cursor", response.getNextCursor());
+            assertTrue(response.getHasMore());
+        }
+    }
+
     @Nested
     @DisplayName("toFilter() method tests")
     class ToFilterTests {
@@ -367,6 +573,10 @@ class BookMapperTest {
     @DisplayName("toResponse() method tests")
     class ToResponseTests {
 
+        private static final PaginationQuery PAGE_QUERY = new PaginationQuery(1, 10);
+
+        private static final BookFilter NO_FILTER = new BookFilter(null, null, null, true);
+
         @Test
         @DisplayName("Should create BooksResponse with content and pagination")
         void shouldCreateBooksResponse() {
@@ -380,7 +590,7 @@ class BookMapperTest {
             );
 
             // Act
-            BooksResponse result = bookMapper.toResponse(paginatedResult);
+            BooksResponse result = bookMapper.toResponse(paginatedResult, NO_FILTER, PAGE_QUERY);
 
             // Assert
             assertNotNull(result);
@@ -402,7 +612,7 @@ class BookMapperTest {
             );
 
             // Act
-            BooksResponse result = bookMapper.toResponse(paginatedResult);
+            BooksResponse result = bookMapper.toResponse(paginatedResult, NO_FILTER, PAGE_QUERY);
 
             // Assert
             assertNotNull(result.getPagination().getTimestamp());
@@ -431,7 +641,7 @@ class BookMapperTest {
             );
 
             // Act
-            BooksResponse result = bookMapper.toResponse(paginatedResult);
+            BooksResponse result = bookMapper.toResponse(paginatedResult, NO_FILTER, PAGE_QUERY);
 
             // Assert
             assertNotNull(result.getBooks());
@@ -451,7 +661,7 @@ class BookMapperTest {
             );
 
             // Act
-            BooksResponse result = bookMapper.toResponse(paginatedResult);
+            BooksResponse result = bookMapper.toResponse(paginatedResult, NO_FILTER, PAGE_QUERY);
 
             // Assert
             assertNotNull(result);
@@ -473,7 +683,7 @@ class BookMapperTest {
             );
 
             // Act
-            BooksResponse result = bookMapper.toResponse(paginatedResult);
+            BooksResponse result = bookMapper.toResponse(paginatedResult, NO_FILTER, PAGE_QUERY);
 
             // Assert
             assertNotNull(result.getLinks(), "Links list should not be null");
@@ -488,6 +698,122 @@ class BookMapperTest {
             assertTrue(hasNext, "Should contain 'next' link pointing to page 3");
             assertTrue(hasPrev, "Should contain 'prev' link pointing to page 1");
         }
+
+        @Test
+        @DisplayName("Should omit totals and 'last' link when the total is unknown")
+        void shouldOmitTotalsWhenUnknown() {
+            // Arrange
+            PaginatedResult<Book> paginatedResult = new PaginatedResult<>(
+                    List.of(testBook),
+                    PaginatedResult.UNKNOWN_TOTAL,
+                    PaginatedResult.UNKNOWN_TOTAL,
+                    1,
+                    10,
+                    true,
+                    null
+            );
+
+            // Act
+            BooksResponse result = bookMapper.toResponse(paginatedResult, NO_FILTER, PAGE_QUERY);
+
+            // Assert
+            assertNull(result.getPagination().getTotalElements());
+            assertNull(result.getPagination().getTotalPages());
+            assertTrue(result.getPagination().getHasNext());
+            assertTrue(result.getLinks().stream().anyMatch(link -> "next".equals(link.getRel())));
+            assertTrue(result.getLinks().stream().noneMatch(link -> "last".equals(link.getRel())));
+        }
+
+        @Test
+        @DisplayName("Should follow the next cursor and keep the count mode on a numbered page")
+        void shouldFollowNextCursorFromNumberedPage() {
+            // Arrange
+            PaginatedResult<Book> paginatedResult = new PaginatedResult<>(
+                    List.of(testBook), 30L, 3, 2, 10, true, "dGl0bGV8YXNj+/");
+            PaginationQuery query = new PaginationQuery(2, 10, "title", "asc", null, CountMode.ESTIMATED);
+
+            // Act
+            BooksResponse result = bookMapper.toResponse(paginatedResult, NO_FILTER, query);
+
+            // Assert
+            assertEquals("/v1/books?page=2&pageSize=10&sortBy=title&sortDirection=asc&count=estimated",
+                    href(result, "self"));
+            assertEquals("/v1/books?after=dGl0bGV8YXNj%2B%2F"
+                            + "&pageSize=10&sortBy=title&sortDirection=asc&count=estimated",
+                    href(result, "next"));
+            assertEquals("/v1/books?page=1&pageSize=10&sortBy=title&sortDirection=asc&count=estimated",
+                    href(result, "prev"));
+            assertEquals("/v1/books?page=3&pageSize=10&sortBy=title&sortDirection=asc&count=estimated",
+                    href(result, "last"));
+        }
+
+        @Test
+        @DisplayName("Should link a cursor page to itself and the next cursor, without 'prev'")
+        void shouldLinkCursorPage() {
+            // Arrange
+            PaginatedResult<Book> paginatedResult = new PaginatedResult<>(
+                    List.of(testBook), PaginatedResult.UNKNOWN_TOTAL, PaginatedResult.UNKNOWN_TOTAL, 1, 10,
+                    true, "next-cursor");
+            PaginationQuery query = new PaginationQuery(1, 10, "title", "asc", "this-cursor", CountMode.NONE);
+
+            // Act
+            BooksResponse result = bookMapper.toResponse(paginatedResult, NO_FILTER, query);
+
+            // Assert
+            assertEquals("/v1/books?after=this-cursor&pageSize=10&sortBy=title&sortDirection=asc&count=none",
+                    href(result, "self"));
+            assertEquals("/v1/books?page=1&pageSize=10&sortBy=title&sortDirection=asc&count=none",
+                    href(result, "first"));
+            assertEquals("/v1/books?after=next-cursor&pageSize=10&sortBy=title&sortDirection=asc&count=none",
+                    href(result, "next"));
+            assertNull(href(result, "prev"));
+            assertNull(href(result, "last"));
+        }
+
+        @Test
+        @DisplayName("Should keep the filters and the sort in every link")
+        void shouldKeepFiltersAndSortInLinks() {
+            // Arrange
+            PaginatedResult<Book> paginatedResult = new PaginatedResult<>(
+                    List.of(testBook), 30L, 3, 2, 10, true, "next-cursor");
+            PaginationQuery query = new PaginationQuery(2, 10, "publicationYear", "desc", null, CountMode.EXACT);
+            BookFilter filter = new BookFilter("el señor", "Tolkien", BookGenre.FANTASY, true);
+
+            // Act
+            BooksResponse result = bookMapper.toResponse(paginatedResult, filter, query);
+
+            // Assert
+            String parameters = "&pageSize=10&sortBy=publicationYear&sortDirection=desc"
+                    + "&title=el%20se%C3%B1or&author=Tolkien&genre=FANTASY&count=exact";
+            assertEquals("/v1/books?page=2" + parameters, href(result, "self"));
+            assertEquals("/v1/books?page=1" + parameters, href(result, "first"));
+            assertEquals("/v1/books?page=3" + parameters, href(result, "last"));
+            assertEquals("/v1/books?after=next-cursor" + parameters, href(result, "next"));
+            assertEquals("/v1/books?page=1" + parameters, href(result, "prev"));
+        }
+
+        @Test
+        @DisplayName("Should omit 'next' on the last cursor page")
+        void shouldOmitNextOnLastCursorPage() {
+            // Arrange
+            PaginatedResult<Book> paginatedResult = new PaginatedResult<>(
+                    List.of(testBook), 30L, 3, 1, 10, false, null);
+            PaginationQuery query = new PaginationQuery(1, 10, "title", "asc", "this-cursor", CountMode.EXACT);
+
+            // Act
+            BooksResponse result = bookMapper.toResponse(paginatedResult, NO_FILTER, query);
+
+            // Assert
+            assertNull(href(result, "next"));
+        }
+
+        private String href(BooksResponse response, String rel) {
+            return response.getLinks().stream()
+                    .filter(link -> rel.equals(link.getRel()))
+                    .map(Link::getHref)
+                    .findFirst()
+                    .orElse(null);
+        }
     }
 
     @Nested
@@ -0,0 +1,243 @@
+package com.library.manager.driving.controllers.streams;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.manager.domain.events.BookEvent;
+import com.library.manager.domain.events.BookImportEvent;
+import com.library.manager.driving.controllers.mappers.BookMapper;
+import com.library.manager.driving.controllers.models.BookEventResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("BookEventBroadcaster Tests")
+class BookEventBroadcasterTest {
+
+    private static final String COMPLETED = "<completed>";
+
+    private BookMapper mapper;
+
+    private BookEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(BookMapper.class);
+        when(mapper.toBookEventResponse(any())).thenAnswer(invocation ->
+                new BookEventResponse().id(invocation.<BookEvent>getArgument(0).bookId()));
+
+        broadcaster = broadcaster(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.closeAll();
+    }
+
+    private BookEventBroadcaster broadcaster(Duration heartbeat) {
+        return new BookEventBroadcaster(mapper, new ObjectMapper(), 2, 3, heartbeat, Duration.ofMinutes(1));
+    }
+
+    private static BookEvent deactivated(long bookId) {
+        return BookEvent.deactivated(bookId, LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+
+    private static String idOf(String frame) {
+        return frame.lines().filter(line -> line.startsWith("id:")).findFirst().orElseThrow().substring(3);
+    }
+
+    @Test
+    @DisplayName("Should push published events with an ID and the event type as name")
+    void shouldPushEvents() throws InterruptedException {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(null, emitter);
+        assertEquals(":connected\n\n", emitter.next());
+
+        // Act
+        broadcaster.onBookEvent(deactivated(7L));
+
+        // Assert
+        String frame = emitter.next();
+        assertTrue(frame.contains("event:deactivated\n"));
+        assertTrue(frame.contains("\"id\":7"));
+        assertTrue(idOf(frame).endsWith("-1"));
+        assertEquals(1, broadcaster.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should replay the events after Last-Event-ID before live ones")
+    void shouldReplayMissedEvents() throws InterruptedException {
+        // Arrange
+        RecordingEmitter first = new RecordingEmitter();
+        broadcaster.subscribe(null, first);
+        first.next();
+        broadcaster.onBookEvent(deactivated(1L));
+        String lastEventId = idOf(first.next());
+        broadcaster.onBookEvent(deactivated(2L));
+        broadcaster.onBookEvent(deactivated(3L));
+
+        // Act
+        RecordingEmitter resumed = new RecordingEmitter();
+        broadcaster.subscribe(lastEventId, resumed);
+        broadcaster.onBookEvent(deactivated(4L));
+
+        // Assert
+        resumed.next();
+        assertTrue(resumed.next().contains("\"id\":2"));
+        assertTrue(resumed.next().contains("\"id\":3"));
+        assertTrue(resumed.next().contains("\"id\":4"));
+    }
+
+    @Test
+    @DisplayName("Should send a reset event when the missed events are no longer retained")
+    void shouldResetWhenEventsAreLost() throws InterruptedException {
+        // Arrange
+        RecordingEmitter first = new RecordingEmitter();
+        broadcaster.subscribe(null, first);
+        first.next();
+        broadcaster.onBookEvent(deactivated(1L));
+        String lastEventId = idOf(first.next());
+        for (long bookId = 2; bookId <= 5; bookId++) {
+            broadcaster.onBookEvent(deactivated(bookId));
+        }
+
+        // Act
+        RecordingEmitter tooOld = new RecordingEmitter();
+        broadcaster.subscribe(lastEventId, tooOld);
+        RecordingEmitter unknown = new RecordingEmitter();
+        broadcaster.subscribe("1-1", unknown);
+
+        // Assert
+        tooOld.next();
+        assertEquals("event:reset\ndata:/v1/books/changes\n\n", tooOld.next());
+        unknown.next();
+        assertEquals("event:reset\ndata:/v1/books/changes\n\n", unknown.next());
+    }
+
+    @Test
+    @DisplayName("Should send a reset event instead of an event that cannot be serialized")
+    void shouldResetWhenEventCannotBeSerialized() throws InterruptedException {
+        // Arrange
+        doThrow(new IllegalStateException("unmapped")).when(mapper).toBookEventResponse(any());
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(null, emitter);
+        emitter.next();
+
+        // Act
+        assertDoesNotThrow(() -> broadcaster.onBookEvent(deactivated(7L)));
+
+        // Assert
+        String frame = emitter.next();
+        assertTrue(frame.contains("event:reset\n"));
+        assertTrue(frame.contains("data:/v1/books/changes\n"));
+    }
+
+    @Test
+    @DisplayName("Should send a reset event after an import")
+    void shouldResetAfterImport() throws InterruptedException {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(null, emitter);
+        emitter.next();
+
+        // Act
+        broadcaster.onBookImport(new BookImportEvent(500, LocalDateTime.of(2024, 1, 1, 12, 0)));
+
+        // Assert
+        String frame = emitter.next();
+        assertTrue(frame.contains("event:reset\n"));
+        assertTrue(idOf(frame).endsWith("-1"));
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose buffer overflows without blocking the publisher")
+    void shouldDisconnectSlowSubscriber() throws InterruptedException {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        broadcaster.subscribe(null, slow);
+
+        // Act
+        for (long bookId = 1; bookId <= 3; bookId++) {
+            broadcaster.onBookEvent(deactivated(bookId));
+        }
+        release.countDown();
+
+        // Assert
+        assertEquals(0, broadcaster.subscriberCount());
+        assertEquals(":connected\n\n", slow.next());
+        assertEquals(COMPLETED, slow.next());
+    }
+
+    @Test
+    @DisplayName("Should send heartbeats while idle")
+    void shouldSendHeartbeats() throws InterruptedException {
+        // Arrange
+        BookEventBroadcaster heartbeating = broadcaster(Duration.ofMillis(20));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // Act
+        heartbeating.subscribe(null, emitter);
+
+        // Assert
+        emitter.next();
+        assertEquals(":heartbeat\n\n", emitter.next());
+        heartbeating.closeAll();
+    }
+
+    /**
+     * Records what would be written to the response, optionally holding the first send until released.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+
+        private final CountDownLatch release;
+
+        private RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            frames.add(builder.build().stream()
+                    .map(part -> part.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            frames.add(COMPLETED);
+        }
+
+        String next() throws InterruptedException {
+            String frame = frames.poll(5, TimeUnit.SECONDS);
+            assertNotNull(frame, "Nothing was sent");
+            return frame;
+        }
+    }
+}
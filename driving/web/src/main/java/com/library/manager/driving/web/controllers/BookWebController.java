@@ -4,12 +4,19 @@ import com.library.manager.application.ports.driving.BookServicePort;
 import com.library.manager.domain.Book;
 import com.library.manager.domain.BookGenre;
 import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.BookSuggestionField;
+import com.library.manager.domain.valueobjects.BookVersion;
+import com.library.manager.domain.valueobjects.CountMode;
 import com.library.manager.domain.valueobjects.PaginatedResult;
 import com.library.manager.domain.valueobjects.PaginationQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @Controller
 @RequestMapping("/ui/books")
@@ -28,11 +35,20 @@ public class BookWebController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String after,
+            WebRequest webRequest,
             Model model
     ) {
+        // Nada ha cambiado desde la copia del cliente: 304 sin consultar ni renderizar
+        BookVersion version = bookServicePort.getCollectionVersion();
+        if (webRequest.checkNotModified(version.tag(), version.lastModifiedEpochMilli())) {
+            return null;
+        }
+
         // Crear filtro y query
         BookFilter filter = new BookFilter(title, author, genre, active);
-        PaginationQuery query = new PaginationQuery(page, size, sortBy, sortDir);
+        // El contador de páginas admite un total de hace unos segundos: sin COUNT en cada cambio de página
+        PaginationQuery query = new PaginationQuery(page, size, sortBy, sortDir, after, CountMode.ESTIMATED);
 
         PaginatedResult<Book> result = bookServicePort.getAllWithFilters(filter, query);
 
@@ -43,10 +59,18 @@ public class BookWebController {
         model.addAttribute("sortDir", sortDir);
         model.addAttribute("reverseSortDir", sortDir.equals("asc") ? "desc" : "asc");
         model.addAttribute("genres", BookGenre.values()); // Para el select de filtro
+        model.addAttribute("facets", bookServicePort.getFacets(filter)); // Recuentos por género y década
 
         return "books/list";
     }
 
+    @GetMapping("/suggestions")
+    @ResponseBody
+    public List<BookSuggestion> suggest(@RequestParam BookSuggestionField field, @RequestParam String prefix) {
+        // Autocompletado de los campos de filtro: se responde desde memoria, sin consultar la base de datos
+        return bookServicePort.suggest(field, prefix, BookSuggestion.MAX_SUGGESTIONS);
+    }
+
     @GetMapping("/new")
     public String createForm(Model model) {
         model.addAttribute("book", new Book());
@@ -61,8 +85,14 @@ public class BookWebController {
     }
 
     @GetMapping("/{id}")
-    public String detail(@PathVariable Long id, Model model) {
+    public String detail(@PathVariable Long id, WebRequest webRequest, Model model) {
+        // El libro sale de la caché: una petición condicional repetida no lanza ninguna consulta
         Book book = bookServicePort.findActiveById(id);
+        BookVersion version = BookVersion.ofBook(book.getId(), book.getUpdatedAt());
+        if (webRequest.checkNotModified(version.tag(), version.lastModifiedEpochMilli())) {
+            return null;
+        }
+
         model.addAttribute("book", book);
         return "books/detail";
     }
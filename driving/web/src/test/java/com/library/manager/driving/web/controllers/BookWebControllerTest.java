@@ -4,7 +4,11 @@ import com.library.manager.application.exceptions.BookNotFoundException;
 import com.library.manager.application.ports.driving.BookServicePort;
 import com.library.manager.domain.Book;
 import com.library.manager.domain.BookGenre;
+import com.library.manager.domain.valueobjects.BookFacets;
 import com.library.manager.domain.valueobjects.BookFilter;
+import com.library.manager.domain.valueobjects.BookSuggestion;
+import com.library.manager.domain.valueobjects.BookSuggestionField;
+import com.library.manager.domain.valueobjects.BookVersion;
 import com.library.manager.domain.valueobjects.PaginatedResult;
 import com.library.manager.domain.valueobjects.PaginationQuery;
 import com.library.manager.driving.web.config.TestConfiguration;
@@ -14,15 +18,19 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -42,6 +50,8 @@ class BookWebControllerTest {
 
     private Book testBook;
     private PaginatedResult<Book> paginatedResult;
+    private BookVersion bookVersion;
+    private BookVersion collectionVersion;
 
     @BeforeEach
     void setUp() {
@@ -63,6 +73,11 @@ class BookWebControllerTest {
                 0,
                 10
         );
+
+        bookVersion = BookVersion.ofBook(1L, testBook.getUpdatedAt());
+        collectionVersion = BookVersion.ofCollection(1L, 1L, LocalDateTime.of(2024, 1, 2, 12, 0));
+        when(bookServicePort.getCollectionVersion()).thenReturn(collectionVersion);
+        when(bookServicePort.getFacets(any())).thenReturn(BookFacets.EMPTY);
     }
 
     @Nested
@@ -93,6 +108,24 @@ class BookWebControllerTest {
             );
         }
 
+        @Test
+        @DisplayName("Should show the facet counts of the filter")
+        void shouldDisplayFacets() throws Exception {
+            // Arrange
+            when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(paginatedResult);
+            when(bookServicePort.getFacets(new BookFilter(null, "Orwell", null, true))).thenReturn(new BookFacets(
+                    Map.of(BookGenre.FICTION, 42L), new TreeMap<>(Map.of(1990, 17L)), 3L));
+
+            // Act & Assert
+            mockMvc.perform(get("/ui/books").param("author", "Orwell"))
+                    .andExpect(status().isOk())
+                    .andExpect(model().attributeExists("facets"))
+                    .andExpect(content().string(containsString("FICTION (42)")))
+                    .andExpect(content().string(containsString("1990s (17)")))
+                    .andExpect(content().string(containsString("No year (3)")));
+        }
+
         @Test
         @DisplayName("Should display books list with custom pagination parameters")
         void shouldDisplayBooksListWithCustomPagination() throws Exception {
@@ -234,6 +267,87 @@ class BookWebControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(model().attribute("genres", BookGenre.values()));
         }
+
+        @Test
+        @DisplayName("Should pass cursor and render cursor based next link")
+        void shouldPassCursorAndRenderNextLink() throws Exception {
+            // Arrange
+            PaginatedResult<Book> pageWithCursor = new PaginatedResult<>(
+                    List.of(testBook), 30L, 3, 1, 10, true, "next-token");
+            when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(pageWithCursor);
+
+            // Act & Assert
+            mockMvc.perform(get("/ui/books")
+                            .param("page", "1")
+                            .param("after", "current-token"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString("after=next-token")));
+
+            verify(bookServicePort, times(1)).getAllWithFilters(
+                    any(BookFilter.class),
+                    argThat(query -> "current-token".equals(query.after()) && query.page() == 1)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /ui/books - Conditional list tests")
+    class ConditionalListTests {
+
+        @Test
+        @DisplayName("Should send the collection version with the list")
+        void shouldSendValidators() throws Exception {
+            // Arrange
+            when(bookServicePort.getAllWithFilters(any(BookFilter.class), any(PaginationQuery.class)))
+                    .thenReturn(paginatedResult);
+
+            // Act & Assert
+            mockMvc.perform(get("/ui/books"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, '"' + collectionVersion.tag() + '"'))
+                    .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, collectionVersion.lastModifiedEpochMilli()));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 without querying when nothing changed")
+        void shouldAnswerNotModified() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/ui/books")
+                            .header(HttpHeaders.IF_NONE_MATCH, '"' + collectionVersion.tag() + '"'))
+                    .andExpect(status().isNotModified());
+
+            verify(bookServicePort, never()).getAllWithFilters(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /ui/books/suggestions - Suggestion tests")
+    class SuggestTests {
+
+        @Test
+        @DisplayName("Should return the suggestions as JSON")
+        void shouldReturnSuggestions() throws Exception {
+            // Arrange
+            when(bookServicePort.suggest(BookSuggestionField.AUTHOR, "orw", BookSuggestion.MAX_SUGGESTIONS))
+                    .thenReturn(List.of(new BookSuggestion("George Orwell", 2)));
+
+            // Act & Assert
+            mockMvc.perform(get("/ui/books/suggestions").param("field", "AUTHOR").param("prefix", "orw"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].text").value("George Orwell"))
+                    .andExpect(jsonPath("$[0].count").value(2));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown field")
+        void shouldRejectUnknownField() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/ui/books/suggestions").param("field", "ISBN").param("prefix", "97"))
+                    .andExpect(status().isBadRequest());
+
+            verify(bookServicePort, never()).suggest(any(), any(), anyInt());
+        }
     }
 
     @Nested
@@ -330,6 +444,20 @@ class BookWebControllerTest {
             verify(bookServicePort, times(1)).findActiveById(1L);
         }
 
+        @Test
+        @DisplayName("Should answer 304 without rendering when the book has not changed")
+        void shouldAnswerNotModified() throws Exception {
+            // Arrange
+            when(bookServicePort.findActiveById(1L)).thenReturn(testBook);
+
+            // Act & Assert
+            mockMvc.perform(get("/ui/books/{id}", 1L)
+                            .header(HttpHeaders.IF_NONE_MATCH, '"' + bookVersion.tag() + '"'))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, '"' + bookVersion.tag() + '"'))
+                    .andExpect(content().string(""));
+        }
+
         @Test
         @DisplayName("Should handle book not found exception")
         void shouldHandleBookNotFound() throws Exception {
@@ -0,0 +1,232 @@
+package com.library.manager.loadtest;
+
+import com.library.manager.domain.BookGenre;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Synthetic book catalogue whose shape resembles a real one, so that filters, counts and the search index see
+ * realistic selectivity: a few prolific authors and a long tail (Zipf), recurring title words (Zipf), genres
+ * weighted by how common they are, publication years skewed towards recent decades and log-normal page counts.
+ * <p>
+ * The same seed always produces the same catalogue. Each {@link #next()} is a handful of array lookups, fast
+ * enough to generate millions of rows per second.
+ */
+class CatalogueGenerator {
+
+    /**
+     * Header row of the CSV accepted by {@code POST /v1/books/import}.
+     */
+    static final String CSV_HEADER = "title,author,bookGenre,pages,publicationYear";
+
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Carlos", "María", "José", "Lucía", "Javier", "Elena", "Miguel", "Sofía", "Pablo", "Laura",
+            "Diego", "Carmen", "Andrés", "Isabel", "Jorge", "Marta", "Raúl", "Paula", "Fernando", "James", "Mary",
+            "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "David", "Elizabeth", "Chinua", "Haruki",
+            "Zoë", "Ngozi", "Olga", "Tomás", "Ursula", "Italo", "Toni", "Gabriel", "Agatha", "Jane", "Isaac",
+            "Octavia", "Kazuo", "Chimamanda", "Orhan", "Wisława", "Yuval", "Naomi"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "García", "Fernández", "González", "Rodríguez", "López", "Martínez", "Sánchez", "Pérez", "Gómez",
+            "Martín", "Jiménez", "Ruiz", "Hernández", "Díaz", "Moreno", "Muñoz", "Álvarez", "Romero", "Alonso",
+            "Gutiérrez", "Smith", "Johnson", "Williams", "Brown", "Jones", "Miller", "Davis", "Wilson", "Anderson",
+            "Taylor", "Achebe", "Murakami", "Le Guin", "Calvino", "Morrison", "Christie", "Austen", "Asimov",
+            "Butler", "Ishiguro", "Adichie", "Pamuk", "Szymborska", "Harari", "Klein", "Zafón", "Allende", "Borges",
+            "Cortázar", "Tokarczuk", "Atwood", "Mantel", "Okri", "Rushdie", "Walker", "Baldwin", "Woolf", "Orwell",
+            "Tolstoy", "Chekhov"
+    };
+
+    private static final String[] ADJECTIVES = {
+            "Silent", "Last", "Lost", "Hidden", "Broken", "Golden", "Dark", "Secret", "Forgotten", "Burning",
+            "Endless", "Little", "Distant", "Red", "Wild", "Quiet", "Frozen", "Invisible", "Bright", "Ancient",
+            "Cruel", "Sleeping", "Wandering", "Hollow", "Bitter", "Sacred", "Final", "Northern", "Paper", "Glass"
+    };
+
+    private static final String[] NOUNS = {
+            "Shadow", "River", "Kingdom", "Garden", "House", "City", "Night", "Sea", "Memory", "Storm", "Crown",
+            "Light", "Fire", "Island", "Mountain", "Road", "Winter", "Summer", "Heart", "Wind", "Empire", "Forest",
+            "Letter", "Mirror", "Stranger", "Daughter", "Son", "Witness", "Promise", "Silence", "Moon", "Star",
+            "Bridge", "Tower", "Library", "Station", "Harbor", "Desert", "Orchard", "Machine", "Dragon", "Clock",
+            "Map", "Song", "War", "Child", "Thief", "Queen", "King", "Voyage"
+    };
+
+    private static final String[] PLACES = {
+            "Madrid", "Lisbon", "Kyoto", "Lagos", "Buenos Aires", "Prague", "Istanbul", "Havana", "Oslo", "Cairo",
+            "Mumbai", "Dublin", "Seville", "Vienna", "Nairobi"
+    };
+
+    /**
+     * Relative frequency of each genre in the catalogue.
+     */
+    private static final Map<BookGenre, Integer> GENRE_WEIGHTS = new EnumMap<>(Map.ofEntries(
+            Map.entry(BookGenre.FICTION, 20),
+            Map.entry(BookGenre.NON_FICTION, 12),
+            Map.entry(BookGenre.MYSTERY, 11),
+            Map.entry(BookGenre.ROMANCE, 11),
+            Map.entry(BookGenre.FANTASY, 9),
+            Map.entry(BookGenre.CHILDREN, 8),
+            Map.entry(BookGenre.SCIENCE_FICTION, 7),
+            Map.entry(BookGenre.HISTORICAL_FICTION, 7),
+            Map.entry(BookGenre.CLASSIC, 5),
+            Map.entry(BookGenre.ADVENTURE, 5),
+            Map.entry(BookGenre.ESSAY, 3),
+            Map.entry(BookGenre.OTHER, 2)));
+
+    private static final int NEWEST_YEAR = 2025;
+
+    private static final int OLDEST_YEAR = 1500;
+
+    private static final double MEAN_BOOK_AGE = 30;
+
+    private final RandomGenerator random;
+
+    private final List<String> authors;
+
+    private final ZipfSampler authorRank;
+
+    private final ZipfSampler adjectiveRank = new ZipfSampler(ADJECTIVES.length, 0.9);
+
+    private final ZipfSampler nounRank = new ZipfSampler(NOUNS.length, 0.9);
+
+    private final BookGenre[] genres;
+
+    private final double[] genreCumulative;
+
+    CatalogueGenerator(long seed) {
+        this(seed, seed + 1);
+    }
+
+    /**
+     * @param catalogueSeed decides which authors are prolific; use the catalogue's seed to search it realistically
+     * @param streamSeed    seed of the values drawn
+     */
+    CatalogueGenerator(long catalogueSeed, long streamSeed) {
+        Random authorOrder = new Random(catalogueSeed);
+        this.random = new Random(streamSeed);
+
+        // Every first/last name pair, in a seeded order so that who is prolific depends on the seed only
+        List<String> names = new ArrayList<>(FIRST_NAMES.length * LAST_NAMES.length);
+        for (String first : FIRST_NAMES) {
+            for (String last : LAST_NAMES) {
+                names.add(first + " " + last);
+            }
+        }
+        Collections.shuffle(names, authorOrder);
+        this.authors = List.copyOf(names);
+        this.authorRank = new ZipfSampler(authors.size(), 1.07);
+
+        this.genres = GENRE_WEIGHTS.keySet().toArray(BookGenre[]::new);
+        this.genreCumulative = new double[genres.length];
+        double total = GENRE_WEIGHTS.values().stream().mapToInt(Integer::intValue).sum();
+        double cumulative = 0;
+        for (int i = 0; i < genres.length; i++) {
+            cumulative += GENRE_WEIGHTS.get(genres[i]) / total;
+            genreCumulative[i] = cumulative;
+        }
+    }
+
+    Row next() {
+        return new Row(title(), author(), genre(), pages(), publicationYear());
+    }
+
+    /**
+     * An author drawn from the same distribution as the catalogue, so filters hit prolific authors most often.
+     */
+    String author() {
+        return authors.get(authorRank.sample(random));
+    }
+
+    /**
+     * A single title word, as typed into a search box.
+     */
+    String titleTerm() {
+        return random.nextInt(3) == 0 ? ADJECTIVES[adjectiveRank.sample(random)] : NOUNS[nounRank.sample(random)];
+    }
+
+    BookGenre genre() {
+        double value = random.nextDouble();
+        for (int i = 0; i < genreCumulative.length - 1; i++) {
+            if (value < genreCumulative[i]) {
+                return genres[i];
+            }
+        }
+        return genres[genres.length - 1];
+    }
+
+    private String title() {
+        String adjective = ADJECTIVES[adjectiveRank.sample(random)];
+        String noun = NOUNS[nounRank.sample(random)];
+        return switch (random.nextInt(5)) {
+            case 0 -> "The " + adjective + " " + noun;
+            case 1 -> "The " + noun + " of " + NOUNS[nounRank.sample(random)];
+            case 2 -> adjective + " " + noun + "s";
+            case 3 -> "A " + noun + " in " + PLACES[random.nextInt(PLACES.length)];
+            default -> noun;
+        };
+    }
+
+    private int pages() {
+        // Log-normal around 285 pages
+        int pages = (int) Math.exp(5.65 + 0.45 * random.nextGaussian());
+        return Math.clamp(pages, 24, 1500);
+    }
+
+    private int publicationYear() {
+        int age = (int) (-MEAN_BOOK_AGE * Math.log(1 - random.nextDouble()));
+        return Math.max(OLDEST_YEAR, NEWEST_YEAR - age);
+    }
+
+    /**
+     * One CSV line in the column order of {@link #CSV_HEADER}. Generated values contain no commas or quotes.
+     */
+    static String toCsv(Row row) {
+        return row.title() + "," + row.author() + "," + row.genre().name() + "," + row.pages() + ","
+                + row.publicationYear();
+    }
+
+    record Row(String title, String author, BookGenre genre, int pages, int publicationYear) {
+    }
+
+    /**
+     * Zipf-distributed ranks in {@code [0, size)}: rank {@code k} is drawn with probability proportional to
+     * {@code 1 / (k + 1)^exponent}. Sampling is a binary search over the precomputed cumulative distribution.
+     */
+    static final class ZipfSampler {
+
+        private final double[] cumulative;
+
+        ZipfSampler(int size, double exponent) {
+            cumulative = new double[size];
+            double sum = 0;
+            for (int rank = 0; rank < size; rank++) {
+                sum += 1 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = sum;
+            }
+            for (int rank = 0; rank < size; rank++) {
+                cumulative[rank] /= sum;
+            }
+        }
+
+        int sample(RandomGenerator random) {
+            double value = random.nextDouble();
+            int low = 0;
+            int high = cumulative.length - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (cumulative[middle] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
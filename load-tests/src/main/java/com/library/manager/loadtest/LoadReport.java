@@ -0,0 +1,115 @@
+package com.library.manager.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of the measured part of a run, per operation. Latencies are recorded in microseconds into
+ * HdrHistograms, which keep every percentile up to the maximum within three significant digits.
+ */
+class LoadReport {
+
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+
+    private final Histogram all = new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3);
+
+    LoadReport(Iterable<Operation> operations) {
+        operations.forEach(operation -> stats.put(operation, new Stats()));
+    }
+
+    /**
+     * @param status HTTP status, or 0 when no response was received
+     */
+    void record(Operation operation, long latencyNanos, int status) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_LATENCY_MICROS);
+        Stats operationStats = stats.get(operation);
+        operationStats.latencies.recordValue(micros);
+        all.recordValue(micros);
+
+        if (status == 0 || status >= 500) {
+            operationStats.errors.increment();
+        } else if (status >= 400) {
+            operationStats.clientErrors.increment();
+        }
+    }
+
+    long errors() {
+        return stats.values().stream().mapToLong(operationStats -> operationStats.errors.sum()).sum();
+    }
+
+    /**
+     * Writes {@code summary.txt} and, for every operation, its full percentile distribution as
+     * {@code <operation>.hgrm} (in milliseconds, the format read by HdrHistogram's plotter).
+     *
+     * @return the summary
+     */
+    String write(Path directory, String header, Duration elapsed) throws IOException {
+        Files.createDirectories(directory);
+
+        StringWriter summary = new StringWriter();
+        PrintWriter out = new PrintWriter(summary);
+        out.println(header);
+        out.printf("%-12s %9s %9s %7s %7s %9s %9s %9s %9s %9s%n", "operation", "requests", "req/s", "4xx", "errors",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        stats.forEach((operation, operationStats) -> {
+            line(out, operation.label(), operationStats.latencies, elapsed, operationStats.clientErrors.sum(),
+                    operationStats.errors.sum());
+            writeDistribution(directory.resolve(operation.label() + ".hgrm"), operationStats.latencies);
+        });
+        line(out, "all", all, elapsed,
+                stats.values().stream().mapToLong(operationStats -> operationStats.clientErrors.sum()).sum(),
+                errors());
+        writeDistribution(directory.resolve("all.hgrm"), all);
+        out.flush();
+
+        Files.writeString(directory.resolve("summary.txt"), summary.toString(), StandardCharsets.UTF_8);
+        return summary.toString();
+    }
+
+    private static void line(PrintWriter out, String name, Histogram latencies, Duration elapsed, long clientErrors,
+                             long errors) {
+        out.printf("%-12s %9d %9.1f %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, latencies.getTotalCount(),
+                latencies.getTotalCount() / (elapsed.toMillis() / 1000.0), clientErrors, errors,
+                millis(latencies, 50), millis(latencies, 90), millis(latencies, 99), millis(latencies, 99.9),
+                latencies.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    private static double millis(Histogram latencies, double percentile) {
+        return latencies.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static void writeDistribution(Path file, Histogram latencies) {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            latencies.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static final class Stats {
+
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3);
+
+        private final LongAdder clientErrors = new LongAdder();
+
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,259 @@
+package com.library.manager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test over HTTP. Unless {@code load.base-url} points at a running instance, starts the application
+ * jar against a fresh in-memory H2 database; then imports a synthetic catalogue of {@code load.rows} books through
+ * {@code POST /v1/books/import}, warms up, and drives the operation mix with {@code load.clients} concurrent clients
+ * for {@code load.duration-seconds}. Latency percentiles per operation are written to {@code load.report-dir}.
+ * <p>
+ * With {@code load.rate} set, each client sends on a fixed schedule and latency is measured from when a request was
+ * due rather than when it was sent, so a stalled server is not hidden by clients that wait for it (coordinated
+ * omission). Fails when any request got a 5xx or no response at all.
+ */
+public final class LoadTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final LoadTestSettings settings;
+
+    private final HttpClient client;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private LoadTest(LoadTestSettings settings, HttpClient client) {
+        this.settings = settings;
+        this.client = client;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Process application = null;
+        String baseUrl = settings.baseUrl();
+        if (baseUrl == null) {
+            int port = freePort();
+            application = startApplication(settings, port);
+            baseUrl = "http://localhost:" + port;
+        }
+
+        long errors;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(executor)
+                     .build()) {
+            errors = new LoadTest(settings, client).run(baseUrl, executor, application);
+        } finally {
+            if (application != null) {
+                application.destroy();
+                application.waitFor();
+            }
+        }
+
+        if (errors > 0) {
+            throw new IllegalStateException(errors + " requests failed; see the report for the operations involved");
+        }
+    }
+
+    private long run(String baseUrl, ExecutorService executor, Process application) throws Exception {
+        awaitStartup(baseUrl, application);
+
+        log("Importing %,d books", settings.rows());
+        long importStart = System.nanoTime();
+        importCatalogue(baseUrl);
+        Duration importTime = Duration.ofNanos(System.nanoTime() - importStart);
+        log("Imported in %.1f s (%,.0f books/s)", importTime.toMillis() / 1000.0,
+                settings.rows() / (importTime.toMillis() / 1000.0));
+
+        long maxBookId = maxBookId(baseUrl);
+
+        log("Warming up for %d s", settings.warmup().toSeconds());
+        drive(baseUrl, maxBookId, executor, settings.warmup(), 1);
+
+        log("Measuring for %d s with %d clients", settings.duration().toSeconds(), settings.clients());
+        LoadReport report = drive(baseUrl, maxBookId, executor, settings.duration(), 2);
+
+        String header = """
+                Load test of %s, %s
+                catalogue: %,d imported books (seed %d), imported in %.1f s
+                clients: %d, rate: %s, warm-up: %d s, measured: %d s
+                mix: %s
+                """.formatted(baseUrl, LocalDateTime.now().withNano(0), settings.rows(), settings.seed(),
+                importTime.toMillis() / 1000.0, settings.clients(),
+                settings.rate() > 0 ? settings.rate() + " req/s" : "unthrottled", settings.warmup().toSeconds(),
+                settings.duration().toSeconds(), settings.mixDescription());
+        System.out.println();
+        System.out.print(report.write(settings.reportDir(), header, settings.duration()));
+        log("Report written to %s", settings.reportDir().toAbsolutePath());
+
+        return report.errors();
+    }
+
+    /**
+     * Sends the generated catalogue as CSV, {@code load.import-chunk} rows per request.
+     */
+    private void importCatalogue(String baseUrl) throws IOException, InterruptedException {
+        CatalogueGenerator generator = new CatalogueGenerator(settings.seed());
+
+        for (int imported = 0; imported < settings.rows(); ) {
+            int chunk = Math.min(settings.importChunk(), settings.rows() - imported);
+            StringBuilder csv = new StringBuilder(chunk * 64).append(CatalogueGenerator.CSV_HEADER).append('\n');
+            for (int i = 0; i < chunk; i++) {
+                csv.append(CatalogueGenerator.toCsv(generator.next())).append('\n');
+            }
+
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/v1/books/import"))
+                    .header("Content-Type", "text/csv")
+                    .POST(HttpRequest.BodyPublishers.ofString(csv.toString(), StandardCharsets.UTF_8))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            JsonNode result = response.statusCode() == 200 ? objectMapper.readTree(response.body()) : null;
+            if (result == null || result.path("failed").asLong() > 0) {
+                throw new IllegalStateException("Import failed with status " + response.statusCode() + ": "
+                        + response.body());
+            }
+            imported += chunk;
+        }
+    }
+
+    private long maxBookId(String baseUrl) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                URI.create(baseUrl + "/v1/books?sortBy=id&sortDirection=desc&pageSize=1&count=none")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body()).path("books").path(0).path("id").asLong();
+    }
+
+    /**
+     * Runs the workload on every client for {@code duration} and returns what was recorded.
+     */
+    private LoadReport drive(String baseUrl, long maxBookId, ExecutorService executor, Duration duration, int phase)
+            throws Exception {
+        LoadReport report = new LoadReport(settings.mix().keySet());
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        // Interval between two requests of the same client when throttled
+        long interval = settings.rate() > 0 ? settings.clients() * 1_000_000_000L / settings.rate() : 0;
+
+        List<Future<?>> clients = new ArrayList<>(settings.clients());
+        for (int c = 0; c < settings.clients(); c++) {
+            Workload workload = new Workload(baseUrl, maxBookId, settings.mix(), settings.seed(),
+                    settings.seed() + phase * 100_000L + c);
+            // Spread the throttled clients evenly over one interval
+            long firstRequest = start + interval * c / settings.clients();
+            clients.add(executor.submit(() -> {
+                long due = firstRequest;
+                while (true) {
+                    long sent;
+                    if (interval > 0) {
+                        LockSupport.parkNanos(due - System.nanoTime());
+                        sent = due;
+                        due += interval;
+                    } else {
+                        sent = System.nanoTime();
+                    }
+                    if (sent >= end) {
+                        return null;
+                    }
+                    Workload.Request request = workload.next();
+                    int status = send(request.httpRequest());
+                    report.record(request.operation(), System.nanoTime() - sent, status);
+                }
+            }));
+        }
+        for (Future<?> future : clients) {
+            future.get();
+        }
+        return report;
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException ex) {
+            return 0;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    private void awaitStartup(String baseUrl, Process application) throws InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (application != null && !application.isAlive()) {
+                throw new IllegalStateException("The application exited with status " + application.exitValue()
+                        + "; see " + settings.reportDir().resolve("application.log"));
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ex) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(baseUrl + " did not become healthy within " + STARTUP_TIMEOUT);
+    }
+
+    /**
+     * Starts the application jar on {@code port} with an empty in-memory database; its output goes to
+     * {@code application.log} in the report directory.
+     */
+    private static Process startApplication(LoadTestSettings settings, int port) throws IOException {
+        if (!Files.isRegularFile(settings.appJar())) {
+            throw new IllegalStateException(settings.appJar() + " not found: build it with mvn install, "
+                    + "or point load.base-url at a running instance");
+        }
+        Files.createDirectories(settings.reportDir());
+
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xmx" + settings.appHeap(),
+                "-jar", settings.appJar().toString(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.main.banner-mode=off",
+                "--spring.output.ansi.enabled=NEVER"));
+        command.addAll(settings.appArgs());
+        log("Starting %s", String.join(" ", command));
+
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(settings.reportDir().resolve("application.log").toFile())
+                .start();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[load-test] " + format + "%n", args);
+    }
+}
@@ -0,0 +1,78 @@
+package com.library.manager.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Settings of a load test run, read from {@code load.*} system properties.
+ *
+ * @param rows        books generated and imported before the run
+ * @param seed        seed of the catalogue and of the workload
+ * @param clients     concurrent clients, each running one request at a time
+ * @param rate        total requests per second the clients aim for; 0 sends the next request as soon as the
+ *                    previous one completes
+ * @param warmup      load applied before measuring, not reported
+ * @param duration    measured part of the run
+ * @param mix         relative weight of each operation
+ * @param importChunk rows per import request
+ * @param baseUrl     application to test; when null, the application jar is started on a free port
+ * @param appJar      executable jar started when no base URL is given
+ * @param appArgs     extra arguments for the started application, e.g. {@code --spring.profiles.active=virtual-threads}
+ * @param appHeap     maximum heap of the started application
+ * @param reportDir   where the summary and the latency histograms are written
+ */
+record LoadTestSettings(int rows, long seed, int clients, int rate, Duration warmup, Duration duration,
+                        Map<Operation, Integer> mix, int importChunk, String baseUrl, Path appJar,
+                        List<String> appArgs, String appHeap, Path reportDir) {
+
+    private static final String DEFAULT_MIX = "api-list:40,api-detail:25,api-update:10,ui-list:25";
+
+    static LoadTestSettings fromSystemProperties() {
+        String appArgs = System.getProperty("load.app-args", "").trim();
+        return new LoadTestSettings(
+                Integer.getInteger("load.rows", 100_000),
+                Long.getLong("load.seed", 42),
+                Integer.getInteger("load.clients", 50),
+                Integer.getInteger("load.rate", 0),
+                Duration.ofSeconds(Long.getLong("load.warmup-seconds", 15)),
+                Duration.ofSeconds(Long.getLong("load.duration-seconds", 60)),
+                parseMix(System.getProperty("load.mix", DEFAULT_MIX)),
+                Integer.getInteger("load.import-chunk", 50_000),
+                System.getProperty("load.base-url"),
+                Path.of(System.getProperty("load.app-jar", "boot/target/library-manager-boot-1.0.0.jar")),
+                appArgs.isEmpty() ? List.of() : List.of(appArgs.split("\\s+")),
+                System.getProperty("load.app-heap", "2g"),
+                Path.of(System.getProperty("load.report-dir", "load-report")));
+    }
+
+    String mixDescription() {
+        return mix.entrySet().stream()
+                .map(entry -> entry.getKey().label() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Parses {@code operation:weight} pairs separated by commas, e.g. {@code api-list:60,api-detail:40}.
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.fromName(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix must give at least one operation a positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,38 @@
+package com.library.manager.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Kinds of request the workload sends; latencies are reported per operation.
+ */
+enum Operation {
+
+    /** {@code GET /v1/books} with author, title or genre filters, pages and count modes. */
+    API_LIST("api-list"),
+
+    /** {@code GET /v1/books/{id}}. */
+    API_DETAIL("api-detail"),
+
+    /** {@code PUT /v1/books/{id}}. */
+    API_UPDATE("api-update"),
+
+    /** {@code GET /ui/books} with filters, rendered by Thymeleaf. */
+    UI_LIST("ui-list");
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.label.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + name));
+    }
+}
@@ -0,0 +1,156 @@
+package com.library.manager.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.StringJoiner;
+
+/**
+ * Requests of one client, drawn from the operation mix. Filter values come from the catalogue's own distributions,
+ * so popular authors and title words are searched most often, as they would be by real users. Not thread-safe: each
+ * client has its own instance.
+ */
+class Workload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final int[] PAGE_SIZES = {10, 10, 10, 20, 20, 50};
+
+    private final String baseUrl;
+
+    private final long maxBookId;
+
+    private final Operation[] operations;
+
+    private final int[] cumulativeWeights;
+
+    private final CatalogueGenerator generator;
+
+    private final Random random;
+
+    Workload(String baseUrl, long maxBookId, Map<Operation, Integer> mix, long catalogueSeed, long seed) {
+        this.baseUrl = baseUrl;
+        this.maxBookId = maxBookId;
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int cumulative = 0;
+        for (int i = 0; i < operations.length; i++) {
+            cumulative += mix.get(operations[i]);
+            cumulativeWeights[i] = cumulative;
+        }
+        this.generator = new CatalogueGenerator(catalogueSeed, seed);
+        this.random = new Random(seed);
+    }
+
+    Request next() {
+        Operation operation = nextOperation();
+        HttpRequest request = switch (operation) {
+            case API_LIST -> get("/v1/books", apiListQuery());
+            case API_DETAIL -> get("/v1/books/" + bookId(), "");
+            case API_UPDATE -> update();
+            case UI_LIST -> get("/ui/books", uiListQuery());
+        };
+        return new Request(operation, request);
+    }
+
+    private Operation nextOperation() {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < operations.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private String apiListQuery() {
+        StringJoiner query = filterQuery();
+        query.add("page=" + page(1));
+        query.add("pageSize=" + PAGE_SIZES[random.nextInt(PAGE_SIZES.length)]);
+        if (random.nextInt(4) == 0) {
+            query.add("sortBy=title");
+        }
+        int count = random.nextInt(10);
+        if (count < 3) {
+            query.add("count=estimated");
+        } else if (count == 3) {
+            query.add("count=none");
+        }
+        return query.toString();
+    }
+
+    private String uiListQuery() {
+        StringJoiner query = filterQuery();
+        query.add("page=" + page(0));
+        return query.toString();
+    }
+
+    /**
+     * Mostly one filter, as typed into a search form: an author, a title word, a genre, or none at all.
+     */
+    private StringJoiner filterQuery() {
+        StringJoiner query = new StringJoiner("&");
+        int filter = random.nextInt(10);
+        if (filter < 3) {
+            query.add("author=" + encode(authorTerm()));
+        } else if (filter < 6) {
+            query.add("title=" + encode(generator.titleTerm().toLowerCase()));
+        } else if (filter < 8) {
+            query.add("genre=" + generator.genre().name());
+        }
+        return query;
+    }
+
+    /**
+     * A full author name, or only the surname, as users often search.
+     */
+    private String authorTerm() {
+        String author = generator.author();
+        return random.nextBoolean() ? author : author.substring(author.indexOf(' ') + 1);
+    }
+
+    /**
+     * Users rarely go past the first pages; one request in twenty jumps deeper.
+     */
+    private int page(int first) {
+        int roll = random.nextInt(20);
+        if (roll < 14) {
+            return first;
+        }
+        return roll < 19 ? first + 1 + random.nextInt(4) : first + 5 + random.nextInt(45);
+    }
+
+    private HttpRequest update() {
+        CatalogueGenerator.Row row = generator.next();
+        String body = """
+                {"title":"%s","author":"%s","bookGenre":"%s","pages":%d,"publicationYear":%d}"""
+                .formatted(row.title(), row.author(), row.genre().name(), row.pages(), row.publicationYear());
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/v1/books/" + bookId()))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private long bookId() {
+        return 1 + (long) (random.nextDouble() * maxBookId);
+    }
+
+    private HttpRequest get(String path, String query) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path + (query.isEmpty() ? "" : "?" + query)))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    record Request(Operation operation, HttpRequest httpRequest) {
+    }
+}